@@ -42,4 +42,17 @@ public class FeudalTactics extends Game {
         gameInitializer.initializeGame();
     }
 
+    @Override
+    public void pause() {
+        super.pause();
+        // the app might be killed without further notice
+        component.getAutoSaveRepository().flushNow();
+    }
+
+    @Override
+    public void dispose() {
+        super.dispose();
+        component.getAutoSaveRepository().flushNow();
+    }
+
 }
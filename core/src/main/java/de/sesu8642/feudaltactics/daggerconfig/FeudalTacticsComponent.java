@@ -8,6 +8,7 @@ import de.sesu8642.feudaltactics.FeudalTactics;
 import de.sesu8642.feudaltactics.GameInitializer;
 import de.sesu8642.feudaltactics.editor.dagger.EditorDaggerModule;
 import de.sesu8642.feudaltactics.gameconfig.dagger.ConfigDaggerModule;
+import de.sesu8642.feudaltactics.ingame.AutoSaveRepository;
 import de.sesu8642.feudaltactics.ingame.dagger.IngameDaggerModule;
 import de.sesu8642.feudaltactics.menu.about.dagger.AboutDaggerModule;
 import de.sesu8642.feudaltactics.menu.changelog.dagger.ChangelogDaggerModule;
@@ -37,6 +38,8 @@ public interface FeudalTacticsComponent {
 
     GameCrasher getGameCrasher();
 
+    AutoSaveRepository getAutoSaveRepository();
+
     FeudalTactics getGameInstance();
 
     @Component.Builder
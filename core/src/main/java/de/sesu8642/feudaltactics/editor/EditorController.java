@@ -67,6 +67,11 @@ public class EditorController {
             final Player newPlayer =
                 gameState.getPlayers().stream()
                     .filter(player -> player.getPlayerIndex() == heldTilePlayerIndex).findAny().get();
+            if (gameState.getMap().get(hexCoords) == null && gameState.getMap().size() >= HexMap.MAX_TILES) {
+                // the save could not be loaded anymore
+                logger.debug("not placing a tile at position {} because the map is full", hexCoords);
+                return;
+            }
             GameStateHelper.placeTile(gameState, hexCoords, newPlayer);
         } else if (heldTileContent != null) {
             final HexTile tile = gameState.getMap().get(hexCoords);
@@ -5,24 +5,40 @@ package de.sesu8642.feudaltactics.ingame;
 import com.badlogic.gdx.Preferences;
 import com.badlogic.gdx.utils.Json;
 import com.badlogic.gdx.utils.JsonWriter.OutputType;
+import de.sesu8642.feudaltactics.ingame.dagger.AutoSaveExecutor;
 import de.sesu8642.feudaltactics.ingame.dagger.FullAutoSavePrefStore;
 import de.sesu8642.feudaltactics.ingame.dagger.IncrementalAutoSavePrefStore;
 import de.sesu8642.feudaltactics.lib.gamestate.GameState;
 import de.sesu8642.feudaltactics.lib.gamestate.GameStateHelper;
 import de.sesu8642.feudaltactics.lib.gamestate.GameStateJsonHelper;
+import de.sesu8642.feudaltactics.lib.gamestate.PlayerMoveDelta;
 import de.sesu8642.feudaltactics.lib.ingame.PlayerMove;
+import de.sesu8642.feudaltactics.lib.ingame.PlayerMove.PlayerMoveType;
 import de.sesu8642.feudaltactics.shared.exceptions.SaveLoadingException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
+import java.util.zip.CRC32;
 
 /**
- * Repository for autosaves.
+ * Repository for autosaves. Changes are applied to an in-memory copy of the saves right away, so that all the
+ * methods reading the saves, e.g. {@link #isUndoPossible()}, reflect them immediately. Writing them happens in the
+ * background: all the changes made within {@link #WRITE_DELAY_MS} are written together. The changes are persisted in
+ * the order they were made. If the game is killed, the changes made since the last write are lost, so
+ * {@link #flushNow()} must be called when the game is paused or closed.
+ *
+ * <p>The full save is stored in the preferences. The incremental saves are stored in a {@link MoveJournal}, so that
+ * writing them only appends or drops the moves that changed instead of rewriting all of them. Incremental saves stored
+ * in the preferences by older versions are moved to the journal. When there are too many incremental saves, the
+ * older ones are merged into the full save while writing.
  */
 @Singleton
 public class AutoSaveRepository {
@@ -31,11 +47,16 @@ public class AutoSaveRepository {
 
     public static final String INCREMENTAL_AUTO_SAVE_PREFERENCES_NAME = "incrementalAutoSavePreferences";
 
+    public static final String MOVE_JOURNAL_FILE_NAME = "incrementalAutoSave.journal";
+
     private static final String FULL_GAME_SAVE_KEY_NAME = "fullGameSave";
 
     private static final String CURRENT_UNDO_DEPTH_NAME = "currentUndoDepth";
 
-    private static final int MAX_UNDOS = 50;
+    /**
+     * Maximum number of moves that can be undone in a row.
+     */
+    public static final int MAX_UNDOS = 50;
 
     /**
      * Number of incremental saves that can be saved before some will be merged into
@@ -44,6 +65,11 @@ public class AutoSaveRepository {
      */
     private static final int MAX_INCREMENTAL_SAVES = 100;
 
+    /**
+     * Time to wait before writing changes, so that quickly following moves are written at once.
+     */
+    private static final long WRITE_DELAY_MS = 500;
+
     private final Logger logger = LoggerFactory.getLogger(getClass().getName());
 
     private final Preferences fullAutoSavePrefStore;
@@ -52,25 +78,109 @@ public class AutoSaveRepository {
 
     private final GameStateJsonHelper gameStateJsonHelper;
 
+    private final ScheduledExecutorService writeExecutor;
+
+    private final MoveJournal moveJournal;
+
     private final Json incrementalSaveJson = new Json(OutputType.json);
 
+    // guards the in-memory saves
     private final ReentrantLock lock = new ReentrantLock(true);
 
+    // makes sure that the changes are written one after another
+    private final ReentrantLock writeLock = new ReentrantLock(true);
+
+    /**
+     * Full save as stored in the preferences or null if there is none.
+     */
+    private String fullSave;
+
+    private final List<PlayerMove> incrementalSaves = new ArrayList<>();
+
     private int currentUndoDepth;
 
-    private long idCounter;
+    private boolean fullSaveChanged = false;
+
+    private boolean incrementalSavesChanged = false;
+
+    private boolean writeScheduled = false;
+
+    /**
+     * Whether the journal has to be rewritten instead of only updating the changed moves, e.g. after a new full save.
+     */
+    private boolean journalOutdated = false;
+
+    /**
+     * Number of incremental saves at the start of the list that are already in the journal.
+     */
+    private int unchangedIncrementalSaveCount;
+
+    /**
+     * Whether there are incremental saves in the preferences written by an older version that need to be deleted.
+     */
+    private boolean legacyIncrementalSavesPresent;
 
     @Inject
     public AutoSaveRepository(@FullAutoSavePrefStore Preferences fullAutoSavePrefStore,
                               @IncrementalAutoSavePrefStore Preferences incrementalAutoSavePrefStore,
-                              GameStateJsonHelper gameStateJsonHelper) {
+                              GameStateJsonHelper gameStateJsonHelper,
+                              @AutoSaveExecutor ScheduledExecutorService writeExecutor,
+                              MoveJournal moveJournal) {
         this.fullAutoSavePrefStore = fullAutoSavePrefStore;
         this.incrementalAutoSavePrefStore = incrementalAutoSavePrefStore;
         this.gameStateJsonHelper = gameStateJsonHelper;
+        this.writeExecutor = writeExecutor;
+        this.moveJournal = moveJournal;
 
         incrementalSaveJson.setIgnoreUnknownFields(true);
-        currentUndoDepth = incrementalAutoSavePrefStore.getInteger(CURRENT_UNDO_DEPTH_NAME, 0);
-        idCounter = getLatestIncrementalSaveKey().map(Long::parseLong).orElse(0L);
+        if (!fullAutoSavePrefStore.get().isEmpty()) {
+            fullSave = fullAutoSavePrefStore.getString(FULL_GAME_SAVE_KEY_NAME);
+        }
+        legacyIncrementalSavesPresent = !incrementalAutoSavePrefStore.get().isEmpty();
+        if (legacyIncrementalSavesPresent) {
+            logger.info("moving the incremental saves from the preferences to the journal");
+            currentUndoDepth = incrementalAutoSavePrefStore.getInteger(CURRENT_UNDO_DEPTH_NAME, 0);
+            incrementalSaves.addAll(loadLegacyIncrementalSavesInOrder());
+            journalOutdated = true;
+            incrementalSavesChanged = true;
+        } else if (fullSave != null && isJournalOfFullSave(moveJournal, fullSave)) {
+            try {
+                incrementalSaves.addAll(moveJournal.getAll());
+                currentUndoDepth = moveJournal.getUndoDepth();
+                if (moveJournal.isLegacyFormat()) {
+                    logger.info("rewriting the journal in the current format");
+                    journalOutdated = true;
+                    incrementalSavesChanged = true;
+                }
+            } catch (SaveLoadingException e) {
+                logger.error("unable to load the incremental saves, continuing from the full save", e);
+                journalOutdated = true;
+                incrementalSavesChanged = true;
+            }
+        } else if (moveJournal.size() > 0) {
+            // the game was killed after writing a new full save but before writing the journal
+            logger.warn("discarding {} incremental saves that do not belong to the full save", moveJournal.size());
+            journalOutdated = true;
+            incrementalSavesChanged = true;
+        }
+        unchangedIncrementalSaveCount = journalOutdated ? 0 : incrementalSaves.size();
+    }
+
+    private static boolean isJournalOfFullSave(MoveJournal moveJournal, String fullSave) {
+        if (moveJournal.isLegacyFormat()) {
+            return moveJournal.getFullSaveKey() == fullSave.hashCode();
+        }
+        return moveJournal.getFullSaveKey() == getJournalKey(fullSave);
+    }
+
+    /**
+     * Returns the key that links the journal to a full save: the CRC32 checksum of the save combined with its length.
+     */
+    private static long getJournalKey(String fullSave) {
+        final byte[] bytes = fullSave.getBytes(StandardCharsets.UTF_8);
+        final CRC32 crc = new CRC32();
+        crc.update(bytes, 0, bytes.length);
+        return crc.getValue() << 32 | bytes.length;
     }
 
     /**
@@ -81,12 +191,12 @@ public class AutoSaveRepository {
         try {
             logger.debug("autosaving full gamestate");
 
-            final String saveString = gameStateJsonHelper.toJsonString(gameState);
-            fullAutoSavePrefStore.putString(FULL_GAME_SAVE_KEY_NAME, saveString);
-            fullAutoSavePrefStore.flush();
-            incrementalAutoSavePrefStore.clear();
-            incrementalAutoSavePrefStore.putInteger(CURRENT_UNDO_DEPTH_NAME, currentUndoDepth);
-            incrementalAutoSavePrefStore.flush();
+            fullSave = gameStateJsonHelper.toCompactString(gameState);
+            incrementalSaves.clear();
+            fullSaveChanged = true;
+            incrementalSavesChanged = true;
+            journalOutdated = true;
+            scheduleWrite();
         } finally {
             lock.unlock();
         }
@@ -97,43 +207,86 @@ public class AutoSaveRepository {
      * save.
      */
     public void autoSaveIncrementalPlayerMove(PlayerMove playerMove) {
+        autoSaveIncrementalPlayerMoves(Collections.singletonList(playerMove));
+    }
+
+    /**
+     * Saves player moves as increments on top of an already existing full game
+     * save. Written at once, e.g. for all the moves of a bot turn.
+     */
+    public void autoSaveIncrementalPlayerMoves(List<PlayerMove> playerMoves) {
         lock.lock();
         try {
             // after undoing sth and doing a new move, the player can undo this new move
             // again
             if (currentUndoDepth > 0) {
-                incrementalAutoSavePrefStore.putInteger(CURRENT_UNDO_DEPTH_NAME, --currentUndoDepth);
+                currentUndoDepth--;
                 logger.info("undo depth decreased to {}", currentUndoDepth);
             }
 
-            // if there are too many incremental saves, merge them into the last full one
-            if (incrementalAutoSavePrefStore.get().size() >= MAX_INCREMENTAL_SAVES) {
-                logger.info("merging incremental saves into full save");
-                final GameState fullSave = getFullSave();
-                final SortedMap<Long, PlayerMove> incrementalSaves = getIncrementalSavesInOrder();
-                // keep enough incremental saves to enable undoing moves
-                final SortedMap<Long, PlayerMove> incrementalSavesToMerge =
-                    incrementalSaves.subMap(incrementalSaves.firstKey(),
-                        new ArrayList<>(incrementalSaves.keySet()).get(MAX_UNDOS + 1));
-                mergeIncrementalSavesIntoFull(fullSave, incrementalSavesToMerge.values());
-                final String saveStringFullSave = gameStateJsonHelper.toJsonString(fullSave);
-                fullAutoSavePrefStore.putString(FULL_GAME_SAVE_KEY_NAME, saveStringFullSave);
-                fullAutoSavePrefStore.flush();
-                for (Long mergedIncrementKey : incrementalSavesToMerge.keySet()) {
-                    logger.info("deleting incremental save with key {}", mergedIncrementKey);
-                    incrementalAutoSavePrefStore.remove(mergedIncrementKey.toString());
-                }
+            incrementalSaves.addAll(playerMoves);
+            incrementalSavesChanged = true;
+            scheduleWrite();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Merges the incremental saves into the full save if there are too many of them. Called before writing, so that
+     * the thread saving the moves doesn't have to wait for the merge.
+     */
+    private void mergeIncrementalSavesIfTooMany() {
+        final String fullSaveToMerge;
+        final List<PlayerMove> incrementalSavesToMerge;
+        lock.lock();
+        try {
+            if (fullSave == null || incrementalSaves.size() < MAX_INCREMENTAL_SAVES) {
+                return;
             }
+            fullSaveToMerge = fullSave;
+            // keep enough incremental saves to enable undoing moves; a single bot turn can be longer than that
+            incrementalSavesToMerge = new ArrayList<>(incrementalSaves.subList(0,
+                incrementalSaves.size() - MAX_UNDOS));
+        } finally {
+            lock.unlock();
+        }
 
-            // using current time as key
-            final String saveStringIncrement = incrementalSaveJson.toJson(playerMove);
-            incrementalAutoSavePrefStore.putString(String.valueOf(++idCounter), saveStringIncrement);
-            incrementalAutoSavePrefStore.flush();
+        logger.info("merging incremental saves into full save");
+        final GameState mergedFullSave = gameStateJsonHelper.fromJson(fullSaveToMerge);
+        mergeIncrementalSavesIntoFull(mergedFullSave, incrementalSavesToMerge);
+        final String mergedFullSaveString = gameStateJsonHelper.toCompactString(mergedFullSave);
+
+        lock.lock();
+        try {
+            // the saves may have been replaced or the merged moves undone in the meantime
+            if (fullSave != fullSaveToMerge || !startsWith(incrementalSaves, incrementalSavesToMerge)) {
+                logger.info("discarding the merged full save because the saves changed while merging");
+                return;
+            }
+            fullSave = mergedFullSaveString;
+            logger.info("deleting {} merged incremental saves", incrementalSavesToMerge.size());
+            incrementalSaves.subList(0, incrementalSavesToMerge.size()).clear();
+            fullSaveChanged = true;
+            incrementalSavesChanged = true;
+            journalOutdated = true;
         } finally {
             lock.unlock();
         }
     }
 
+    private static boolean startsWith(List<PlayerMove> list, List<PlayerMove> prefix) {
+        if (list.size() < prefix.size()) {
+            return false;
+        }
+        for (int i = 0; i < prefix.size(); i++) {
+            if (list.get(i) != prefix.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     private void mergeIncrementalSavesIntoFull(GameState fullSave, Collection<PlayerMove> incrementalSaves) {
         for (PlayerMove increment : incrementalSaves) {
             logger.debug("merging player move {} into full gamestate", increment.getPlayerActionType());
@@ -151,7 +304,6 @@ public class AutoSaveRepository {
         try {
             final GameState lastFullSave = getFullSave();
             // now apply all the incremental saves on top (oldest first)
-            final Collection<PlayerMove> incrementalSaves = getIncrementalSavesInOrder().values();
             mergeIncrementalSavesIntoFull(lastFullSave, incrementalSaves);
             return lastFullSave;
         } finally {
@@ -159,36 +311,71 @@ public class AutoSaveRepository {
         }
     }
 
+    /**
+     * Loads the last autosave (with incremental saves merged) and records the changes made by the moves that can be
+     * undone, so that undoing them does not require loading the autosave again.
+     *
+     * @param undoableMoves deque to fill with the changes made by the undoable moves, latest first
+     * @return loaded game state
+     */
+    public GameState getCombinedAutoSave(Deque<PlayerMoveDelta> undoableMoves) {
+        lock.lock();
+        try {
+            final GameState lastFullSave = getFullSave();
+            // the moves of previous turns cannot be undone
+            int firstUndoableIndex = Math.max(incrementalSaves.size() - MAX_UNDOS, 0);
+            for (int i = incrementalSaves.size() - 1; i >= firstUndoableIndex; i--) {
+                if (incrementalSaves.get(i).getPlayerActionType() == PlayerMoveType.END_TURN) {
+                    firstUndoableIndex = i + 1;
+                    break;
+                }
+            }
+            mergeIncrementalSavesIntoFull(lastFullSave, incrementalSaves.subList(0, firstUndoableIndex));
+            undoableMoves.clear();
+            for (PlayerMove increment : incrementalSaves.subList(firstUndoableIndex, incrementalSaves.size())) {
+                undoableMoves.push(GameStateHelper.applyPlayerMoveReversibly(lastFullSave, increment));
+            }
+            return lastFullSave;
+        } finally {
+            lock.unlock();
+        }
+    }
+
     private GameState getFullSave() {
-        if (fullAutoSavePrefStore.get().isEmpty()) {
+        if (fullSave == null) {
             throw new SaveLoadingException("No full save available");
         }
-        // cannot be empty if there is a save
-        final String loadedString = fullAutoSavePrefStore.getString(FULL_GAME_SAVE_KEY_NAME);
-        return gameStateJsonHelper.fromJson(loadedString);
+        return gameStateJsonHelper.fromJson(fullSave);
     }
 
-    private SortedMap<Long, PlayerMove> getIncrementalSavesInOrder() {
-        return incrementalAutoSavePrefStore.get().entrySet().stream()
+    private List<PlayerMove> loadLegacyIncrementalSavesInOrder() {
+        final SortedMap<Long, PlayerMove> incrementalSavesByKey = incrementalAutoSavePrefStore.get().entrySet()
+            .stream()
             .filter(entry -> !entry.getKey().equals(CURRENT_UNDO_DEPTH_NAME))
             .collect(Collectors.toMap(entry -> Long.parseLong(entry.getKey()),
                 entry -> incrementalSaveJson.fromJson(PlayerMove.class, (String) entry.getValue()),
                 (entry1, entry2) -> entry1, TreeMap::new));
+        return new ArrayList<>(incrementalSavesByKey.values());
     }
 
     /**
      * Returns the last autosave as JSON string.
      *
-     * @return full save as JSON string or "none"
+     * @return full save as JSON string, the stored string if it cannot be converted to JSON or "none"
      */
     public String getFullSaveAsString() {
         lock.lock();
         try {
-            if (fullAutoSavePrefStore.get().isEmpty()) {
+            if (fullSave == null) {
                 return "none";
             }
-            // cannot be empty if there is a save
-            return fullAutoSavePrefStore.getString(FULL_GAME_SAVE_KEY_NAME);
+            try {
+                // the save is stored in the compact format but JSON is more useful for debugging
+                return gameStateJsonHelper.toJsonString(gameStateJsonHelper.fromJson(fullSave));
+            } catch (Exception e) {
+                logger.warn("unable to convert the full save to JSON", e);
+                return fullSave;
+            }
         } finally {
             lock.unlock();
         }
@@ -202,7 +389,8 @@ public class AutoSaveRepository {
     public String getIncrementalSavesAsString() {
         lock.lock();
         try {
-            return incrementalAutoSavePrefStore.get().toString();
+            return CURRENT_UNDO_DEPTH_NAME + "=" + currentUndoDepth + ", " + incrementalSaves.stream()
+                .map(incrementalSaveJson::toJson).collect(Collectors.toList());
         } finally {
             lock.unlock();
         }
@@ -214,43 +402,34 @@ public class AutoSaveRepository {
     public void deleteLatestIncrementalSave() {
         lock.lock();
         try {
-            final Optional<String> latestSaveKeyOptional = getLatestIncrementalSaveKey();
-            latestSaveKeyOptional.ifPresent(latestSaveKey -> {
-                incrementalAutoSavePrefStore.remove(latestSaveKey);
-                incrementalAutoSavePrefStore.putInteger(CURRENT_UNDO_DEPTH_NAME, ++currentUndoDepth);
-                incrementalAutoSavePrefStore.flush();
+            if (!incrementalSaves.isEmpty()) {
+                incrementalSaves.remove(incrementalSaves.size() - 1);
+                unchangedIncrementalSaveCount = Math.min(unchangedIncrementalSaveCount, incrementalSaves.size());
+                currentUndoDepth++;
+                incrementalSavesChanged = true;
+                scheduleWrite();
                 logger.info("undo depth increased to {}", currentUndoDepth);
-            });
+            }
         } finally {
             lock.unlock();
         }
     }
 
     /**
-     * Determines the name (key) of the newest incremental autosave.
-     */
-    private Optional<String> getLatestIncrementalSaveKey() {
-        final Map<String, ?> prefsMap = incrementalAutoSavePrefStore.get();
-        if (prefsMap.isEmpty()) {
-            return Optional.empty();
-        }
-        return prefsMap.keySet().stream().filter(key -> !key.equals(CURRENT_UNDO_DEPTH_NAME))
-            .max((a, b) -> Long.compare(Long.parseLong(a), Long.parseLong(b)));
-    }
-
-    /**
-     * Deletes all autosaves: both full ones and increments.
+     * Deletes all autosaves: both full ones and increments. Written synchronously.
      */
     public void deleteAllAutoSaves() {
         lock.lock();
         try {
-            fullAutoSavePrefStore.clear();
-            fullAutoSavePrefStore.flush();
-            incrementalAutoSavePrefStore.clear();
-            incrementalAutoSavePrefStore.flush();
+            fullSave = null;
+            incrementalSaves.clear();
+            fullSaveChanged = true;
+            incrementalSavesChanged = true;
+            journalOutdated = true;
         } finally {
             lock.unlock();
         }
+        flushNow();
     }
 
     /**
@@ -259,7 +438,7 @@ public class AutoSaveRepository {
     public boolean hasFullAutosave() {
         lock.lock();
         try {
-            return !fullAutoSavePrefStore.get().isEmpty();
+            return fullSave != null;
         } finally {
             lock.unlock();
         }
@@ -271,11 +450,123 @@ public class AutoSaveRepository {
     public boolean isUndoPossible() {
         lock.lock();
         try {
-            // one entry is the undo depth
-            return currentUndoDepth < MAX_UNDOS && incrementalAutoSavePrefStore.get().size() > 1;
+            // the moves of previous turns cannot be undone
+            return currentUndoDepth < MAX_UNDOS && !incrementalSaves.isEmpty()
+                && incrementalSaves.get(incrementalSaves.size() - 1).getPlayerActionType() != PlayerMoveType.END_TURN;
         } finally {
             lock.unlock();
         }
     }
 
+    /**
+     * Writes all the changes that were not written yet and waits until they are. Changes made while writing are only
+     * written by the next call or in the background.
+     */
+    public void flushNow() {
+        writeLock.lock();
+        try {
+            mergeIncrementalSavesIfTooMany();
+            final boolean writeFullSave;
+            final boolean writeIncrementalSaves;
+            final String fullSaveToWrite;
+            final List<PlayerMove> incrementalSavesToWrite;
+            final int undoDepthToWrite;
+            final boolean rewriteJournal;
+            final int unchangedCount;
+            lock.lock();
+            try {
+                writeFullSave = fullSaveChanged;
+                writeIncrementalSaves = incrementalSavesChanged;
+                fullSaveToWrite = fullSave;
+                rewriteJournal = journalOutdated;
+                unchangedCount = unchangedIncrementalSaveCount;
+                // only the moves that are not in the journal yet need to be copied
+                incrementalSavesToWrite = writeIncrementalSaves
+                    ? new ArrayList<>(incrementalSaves.subList(rewriteJournal ? 0 : unchangedCount,
+                    incrementalSaves.size()))
+                    : null;
+                undoDepthToWrite = currentUndoDepth;
+                fullSaveChanged = false;
+                incrementalSavesChanged = false;
+                journalOutdated = false;
+                unchangedIncrementalSaveCount = incrementalSaves.size();
+                writeScheduled = false;
+            } finally {
+                lock.unlock();
+            }
+            try {
+                // the full save first because the incremental saves are applied to it
+                if (writeFullSave) {
+                    writeFullSave(fullSaveToWrite);
+                }
+                if (writeIncrementalSaves) {
+                    writeIncrementalSaves(fullSaveToWrite, rewriteJournal, unchangedCount, incrementalSavesToWrite,
+                        undoDepthToWrite);
+                }
+            } catch (RuntimeException e) {
+                // try again next time
+                lock.lock();
+                try {
+                    fullSaveChanged |= writeFullSave;
+                    incrementalSavesChanged |= writeIncrementalSaves;
+                    // the journal might be partially written
+                    journalOutdated |= writeIncrementalSaves;
+                } finally {
+                    lock.unlock();
+                }
+                throw e;
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void writeFullSave(String fullSaveToWrite) {
+        logger.debug("writing full autosave");
+        if (fullSaveToWrite == null) {
+            fullAutoSavePrefStore.clear();
+        } else {
+            fullAutoSavePrefStore.putString(FULL_GAME_SAVE_KEY_NAME, fullSaveToWrite);
+        }
+        fullAutoSavePrefStore.flush();
+    }
+
+    private void writeIncrementalSaves(String fullSaveToWrite, boolean rewriteJournal, int unchangedCount,
+                                       List<PlayerMove> changedIncrementalSaves, int undoDepthToWrite) {
+        logger.debug("writing {} incremental autosaves", changedIncrementalSaves.size());
+        if (rewriteJournal) {
+            // the key makes it possible to detect a journal that does not belong to the full save when loading
+            moveJournal.reset(fullSaveToWrite != null ? getJournalKey(fullSaveToWrite) : 0);
+        } else {
+            moveJournal.truncate(unchangedCount);
+        }
+        if (fullSaveToWrite != null) {
+            changedIncrementalSaves.forEach(moveJournal::append);
+            moveJournal.setUndoDepth(undoDepthToWrite);
+        }
+        moveJournal.commit();
+        if (legacyIncrementalSavesPresent) {
+            incrementalAutoSavePrefStore.clear();
+            incrementalAutoSavePrefStore.flush();
+            legacyIncrementalSavesPresent = false;
+        }
+    }
+
+    /**
+     * Makes sure that the changes are written in the background soon. Must be called while holding the lock.
+     */
+    private void scheduleWrite() {
+        if (writeScheduled) {
+            return;
+        }
+        writeScheduled = true;
+        writeExecutor.schedule(() -> {
+            try {
+                flushNow();
+            } catch (RuntimeException e) {
+                logger.error("writing the autosaves failed", e);
+            }
+        }, WRITE_DELAY_MS, TimeUnit.MILLISECONDS);
+    }
+
 }
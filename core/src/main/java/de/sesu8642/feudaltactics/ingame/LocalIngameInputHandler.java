@@ -8,6 +8,7 @@ import com.google.common.eventbus.Subscribe;
 import de.sesu8642.feudaltactics.lib.gamestate.*;
 import de.sesu8642.feudaltactics.lib.ingame.GameController;
 import de.sesu8642.feudaltactics.lib.ingame.PlayerMove;
+import de.sesu8642.feudaltactics.shared.events.PreGenerateMapsEvent;
 import de.sesu8642.feudaltactics.shared.events.RegenerateMapEvent;
 import de.sesu8642.feudaltactics.shared.events.TapInputEvent;
 import de.sesu8642.feudaltactics.shared.events.input.BackInputEvent;
@@ -44,7 +45,7 @@ public class LocalIngameInputHandler {
     private void carryOutPlayerMoveIfLegal(PlayerMove move) {
         final Optional<Player> playerOptional =
             GameStateHelper.determineActingLocalPlayer(gameController.getGameState());
-        if (!playerOptional.isPresent()) {
+        if (!playerOptional.isPresent() || gameController.isWaitingForBotTurnPlayback()) {
             return;
         }
         if (inputValidationHelper.checkPlayerMove(gameController.getGameState(), playerOptional.get(), move)) {
@@ -62,7 +63,7 @@ public class LocalIngameInputHandler {
         final Vector2 hexCoords = HexMapHelper.worldCoordsToHexCoords(event.getWorldCoords());
         final Optional<Player> playerOptional =
             GameStateHelper.determineActingLocalPlayer(gameController.getGameState());
-        if (!playerOptional.isPresent()) {
+        if (!playerOptional.isPresent() || gameController.isWaitingForBotTurnPlayback()) {
             return;
         }
         final Player player = playerOptional.get();
@@ -87,6 +88,16 @@ public class LocalIngameInputHandler {
         gameController.generateGameState(event.getGameParams());
     }
 
+    /**
+     * Event handler for map pre-generation events.
+     *
+     * @param event event to handle
+     */
+    @Subscribe
+    public void handlePreGenerateMaps(PreGenerateMapsEvent event) {
+        gameController.preGenerateGameStates(event.getLikelyGameParams());
+    }
+
     /**
      * Event handler for back button input events.
      *
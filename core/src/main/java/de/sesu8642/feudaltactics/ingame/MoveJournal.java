@@ -0,0 +1,443 @@
+// SPDX-License-Identifier: GPL-3.0-or-later
+
+package de.sesu8642.feudaltactics.ingame;
+
+import com.badlogic.gdx.math.Vector2;
+import de.sesu8642.feudaltactics.lib.gamestate.EnumCodes;
+import de.sesu8642.feudaltactics.lib.gamestate.Unit.UnitTypes;
+import de.sesu8642.feudaltactics.lib.ingame.PlayerMove;
+import de.sesu8642.feudaltactics.lib.ingame.PlayerMove.PlayerMoveType;
+import de.sesu8642.feudaltactics.shared.exceptions.SaveLoadingException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * File containing the player moves done since the last full autosave as fixed-size binary records, so that appending a
+ * move, removing the last one and reading any of them only touches a few bytes.
+ *
+ * <p>The file starts with two header slots, each containing the number of records, the undo depth, a 64 bit key of
+ * the full save the moves belong to, a sequence number and a checksum. Headers written by older versions contain a 32
+ * bit hash of the full save instead, see {@link #isLegacyFormat()}. The records follow the header slots. Changes are only
+ * persisted by {@link #commit()}, which writes the records to disk before writing the header to the slot that does not
+ * contain the latest header. Because of that, a crash while writing a header cannot damage the previous one. When
+ * opening the file, the valid header with the highest sequence number is used and records at the end that were not
+ * completely written are dropped. Committed records are never overwritten before a header not containing them is
+ * committed.
+ *
+ * <p>Not thread safe.
+ */
+public class MoveJournal implements Closeable {
+
+    // "FTMJ" followed by the version in the legacy format, "FTM" and the version in one int in the current one
+    private static final int LEGACY_MAGIC = 0x46544D4A;
+    private static final int LEGACY_FORMAT_VERSION = 1;
+    private static final int MAGIC_AND_FORMAT_VERSION = 0x46544D02;
+    private static final int HEADER_SLOT_SIZE = 32;
+    private static final int HEADER_SLOT_COUNT = 2;
+    private static final int RECORDS_OFFSET = HEADER_SLOT_SIZE * HEADER_SLOT_COUNT;
+    private static final int RECORD_SIZE = 16;
+    private static final int INITIAL_CAPACITY = 256;
+
+    private static final int HAS_POSITION_FLAG = 1;
+    private static final int HAS_UNIT_TYPE_FLAG = 2;
+    private static final int HAS_OTHER_UNIT_TYPE_FLAG = 4;
+
+    // codes of the move and unit types stored in the records
+    private static final EnumCodes<PlayerMoveType> MOVE_TYPE_CODES = new EnumCodes<>(PlayerMoveType.class,
+        PlayerMoveType.PICK_UP, PlayerMoveType.PLACE_OWN, PlayerMoveType.COMBINE_UNITS, PlayerMoveType.CONQUER,
+        PlayerMoveType.BUY_PEASANT, PlayerMoveType.BUY_CASTLE, PlayerMoveType.BUY_AND_PLACE_PEASANT,
+        PlayerMoveType.BUY_AND_PLACE_CASTLE, PlayerMoveType.ACTIVATE_KINGDOM, PlayerMoveType.UNDO_LAST_MOVE,
+        PlayerMoveType.END_TURN, PlayerMoveType.PICK_UP_ALL_UNITS, PlayerMoveType.BUY_RESERVE_UNIT,
+        PlayerMoveType.PLACE_RESERVE_UNIT, PlayerMoveType.CONQUER_WITH_RESERVE_UNIT, PlayerMoveType.SELL_CASTLE,
+        PlayerMoveType.COMBINE_RESERVE_UNITS);
+    private static final EnumCodes<UnitTypes> UNIT_TYPE_CODES = new EnumCodes<>(UnitTypes.class, UnitTypes.PEASANT,
+        UnitTypes.SPEARMAN, UnitTypes.KNIGHT, UnitTypes.BARON);
+
+    private final Logger logger = LoggerFactory.getLogger(getClass().getName());
+
+    private final RandomAccessFile file;
+    private final FileChannel channel;
+    private final boolean memoryMapped;
+    private final ByteBuffer headerBuffer = ByteBuffer.allocate(HEADER_SLOT_SIZE);
+    private final ByteBuffer recordBuffer = ByteBuffer.allocate(RECORD_SIZE);
+    private final CRC32 crc = new CRC32();
+
+    private MappedByteBuffer mappedBuffer;
+
+    /**
+     * Number of records the mapped part of the file can hold.
+     */
+    private int mappedCapacity = 0;
+
+    private int size = 0;
+
+    /**
+     * Number of records contained in the latest header written to the file.
+     */
+    private int committedSize = 0;
+    private int undoDepth = 0;
+    private long fullSaveKey = 0;
+    private boolean legacyFormat = false;
+    private long sequence = 0;
+
+    private MoveJournal(File file, boolean memoryMapped) throws IOException {
+        this.file = new RandomAccessFile(file, "rw");
+        channel = this.file.getChannel();
+        this.memoryMapped = memoryMapped;
+        final long fileSize = channel.size();
+        if (memoryMapped) {
+            final long existingRecords = Math.max(fileSize - RECORDS_OFFSET, 0) / RECORD_SIZE;
+            map((int) Math.max(existingRecords, INITIAL_CAPACITY));
+        }
+        recover(fileSize);
+    }
+
+    /**
+     * Opens the journal stored in the given file or creates a new one if the file does not exist.
+     *
+     * @param file         file to use
+     * @param memoryMapped whether to map the file into memory instead of reading and writing it
+     * @return opened journal
+     */
+    public static MoveJournal open(File file, boolean memoryMapped) {
+        try {
+            return new MoveJournal(file, memoryMapped);
+        } catch (IOException e) {
+            throw new SaveLoadingException("Unable to open the move journal " + file, e);
+        }
+    }
+
+    /**
+     * Returns the number of moves in the journal.
+     *
+     * @return number of moves
+     */
+    public int size() {
+        return size;
+    }
+
+    public int getUndoDepth() {
+        return undoDepth;
+    }
+
+    public void setUndoDepth(int undoDepth) {
+        this.undoDepth = undoDepth;
+    }
+
+    /**
+     * Returns the key of the full save the moves belong to.
+     *
+     * @return key passed to {@link #reset(long)}
+     */
+    public long getFullSaveKey() {
+        return fullSaveKey;
+    }
+
+    /**
+     * Returns whether the journal was written by an older version, whose key of the full save is the
+     * {@link String#hashCode()} of the save. The next {@link #reset(long)} switches to the current format.
+     *
+     * @return whether the journal is in the legacy format
+     */
+    public boolean isLegacyFormat() {
+        return legacyFormat;
+    }
+
+    /**
+     * Returns a move.
+     *
+     * @param index index of the move, 0 being the oldest one
+     * @return move
+     */
+    public PlayerMove get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " but size is " + size);
+        }
+        try {
+            readRecord(index);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (!isRecordBufferValid()) {
+            throw new SaveLoadingException("Move journal record " + index + " is damaged.");
+        }
+        return decodeRecord();
+    }
+
+    /**
+     * Returns all the moves.
+     *
+     * @return moves, oldest first
+     */
+    public List<PlayerMove> getAll() {
+        final List<PlayerMove> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            result.add(get(i));
+        }
+        return result;
+    }
+
+    /**
+     * Adds a move at the end. If committed moves were removed before, the removal is committed first.
+     *
+     * @param playerMove move to add
+     */
+    public void append(PlayerMove playerMove) {
+        if (size < committedSize) {
+            // otherwise a crash before the next commit could leave a mix of old and new moves
+            commit();
+        }
+        encodeRecord(playerMove);
+        try {
+            writeRecord(size);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        size++;
+    }
+
+    /**
+     * Removes the newest move.
+     */
+    public void removeLast() {
+        if (size == 0) {
+            throw new IllegalStateException("The move journal is empty.");
+        }
+        size--;
+    }
+
+    /**
+     * Removes all the moves after the given number of moves.
+     *
+     * @param newSize number of moves to keep
+     */
+    public void truncate(int newSize) {
+        if (newSize < 0 || newSize > size) {
+            throw new IllegalArgumentException("Cannot truncate to " + newSize + " moves when there are " + size);
+        }
+        size = newSize;
+    }
+
+    /**
+     * Removes all the moves and resets the undo depth, e.g. because a new full save was made.
+     *
+     * @param fullSaveKey key of the full save the moves that will be added belong to
+     */
+    public void reset(long fullSaveKey) {
+        this.fullSaveKey = fullSaveKey;
+        legacyFormat = false;
+        size = 0;
+        undoDepth = 0;
+    }
+
+    /**
+     * Writes all the changes to disk.
+     */
+    public void commit() {
+        try {
+            force();
+            sequence++;
+            headerBuffer.clear();
+            if (legacyFormat) {
+                headerBuffer.putInt(LEGACY_MAGIC);
+                headerBuffer.putInt(LEGACY_FORMAT_VERSION);
+                headerBuffer.putLong(sequence);
+                headerBuffer.putInt(size);
+                headerBuffer.putInt(undoDepth);
+                headerBuffer.putInt((int) fullSaveKey);
+            } else {
+                headerBuffer.putInt(MAGIC_AND_FORMAT_VERSION);
+                headerBuffer.putLong(sequence);
+                headerBuffer.putInt(size);
+                headerBuffer.putInt(undoDepth);
+                headerBuffer.putLong(fullSaveKey);
+            }
+            headerBuffer.putInt(calculateChecksum(headerBuffer, HEADER_SLOT_SIZE - Integer.BYTES));
+            write((int) (sequence % HEADER_SLOT_COUNT) * HEADER_SLOT_SIZE, headerBuffer);
+            force();
+            committedSize = size;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        file.close();
+    }
+
+    /**
+     * Restores the last committed state from the file.
+     */
+    private void recover(long fileSize) throws IOException {
+        boolean validHeaderFound = false;
+        int headerSize = 0;
+        for (int slot = 0; slot < HEADER_SLOT_COUNT; slot++) {
+            if (!read(slot * HEADER_SLOT_SIZE, headerBuffer) || headerBuffer.getInt(HEADER_SLOT_SIZE - Integer.BYTES)
+                != calculateChecksum(headerBuffer, HEADER_SLOT_SIZE - Integer.BYTES)) {
+                continue;
+            }
+            final boolean slotLegacyFormat;
+            if (headerBuffer.getInt(0) == MAGIC_AND_FORMAT_VERSION) {
+                slotLegacyFormat = false;
+            } else if (headerBuffer.getInt(0) == LEGACY_MAGIC && headerBuffer.getInt(4) == LEGACY_FORMAT_VERSION) {
+                slotLegacyFormat = true;
+            } else {
+                continue;
+            }
+            final long slotSequence = headerBuffer.getLong(slotLegacyFormat ? 8 : 4);
+            if (!validHeaderFound || slotSequence > sequence) {
+                validHeaderFound = true;
+                legacyFormat = slotLegacyFormat;
+                sequence = slotSequence;
+                if (legacyFormat) {
+                    headerSize = headerBuffer.getInt(16);
+                    undoDepth = headerBuffer.getInt(20);
+                    fullSaveKey = headerBuffer.getInt(24);
+                } else {
+                    headerSize = headerBuffer.getInt(12);
+                    undoDepth = headerBuffer.getInt(16);
+                    fullSaveKey = headerBuffer.getLong(20);
+                }
+            }
+        }
+        if (!validHeaderFound) {
+            if (fileSize > 0) {
+                logger.warn("move journal has no valid header, starting with an empty one");
+            }
+            return;
+        }
+        // records that were not completely written before a crash
+        size = (int) Math.min(Math.max(headerSize, 0), Math.max(fileSize - RECORDS_OFFSET, 0) / RECORD_SIZE);
+        while (size > 0) {
+            readRecord(size - 1);
+            if (isRecordBufferValid()) {
+                break;
+            }
+            size--;
+        }
+        committedSize = size;
+        if (size != headerSize) {
+            logger.warn("dropped {} damaged records from the move journal", headerSize - size);
+        }
+    }
+
+    private void encodeRecord(PlayerMove playerMove) {
+        recordBuffer.clear();
+        final Vector2 position = playerMove.getTilePosition();
+        final UnitTypes unitType = playerMove.getUnitType();
+        final UnitTypes otherUnitType = playerMove.getOtherUnitType();
+        recordBuffer.put((byte) MOVE_TYPE_CODES.getCode(playerMove.getPlayerActionType()));
+        recordBuffer.put((byte) ((position != null ? HAS_POSITION_FLAG : 0)
+            | (unitType != null ? HAS_UNIT_TYPE_FLAG : 0) | (otherUnitType != null ? HAS_OTHER_UNIT_TYPE_FLAG : 0)));
+        recordBuffer.put((byte) (unitType != null ? UNIT_TYPE_CODES.getCode(unitType) : 0));
+        recordBuffer.put((byte) (otherUnitType != null ? UNIT_TYPE_CODES.getCode(otherUnitType) : 0));
+        recordBuffer.putInt(position != null ? (int) position.x : 0);
+        recordBuffer.putInt(position != null ? (int) position.y : 0);
+        recordBuffer.putInt(calculateChecksum(recordBuffer, RECORD_SIZE - Integer.BYTES));
+    }
+
+    private PlayerMove decodeRecord() {
+        final PlayerMoveType type = MOVE_TYPE_CODES.getValue(recordBuffer.get(0));
+        final int flags = recordBuffer.get(1);
+        final Vector2 position = (flags & HAS_POSITION_FLAG) != 0
+            ? new Vector2(recordBuffer.getInt(4), recordBuffer.getInt(8)) : null;
+        final UnitTypes unitType =
+            (flags & HAS_UNIT_TYPE_FLAG) != 0 ? UNIT_TYPE_CODES.getValue(recordBuffer.get(2)) : null;
+        final UnitTypes otherUnitType =
+            (flags & HAS_OTHER_UNIT_TYPE_FLAG) != 0 ? UNIT_TYPE_CODES.getValue(recordBuffer.get(3)) : null;
+        return PlayerMove.of(type, position, unitType, otherUnitType);
+    }
+
+    private boolean isRecordBufferValid() {
+        return recordBuffer.getInt(RECORD_SIZE - Integer.BYTES)
+            == calculateChecksum(recordBuffer, RECORD_SIZE - Integer.BYTES)
+            && MOVE_TYPE_CODES.isValid(recordBuffer.get(0)) && UNIT_TYPE_CODES.isValid(recordBuffer.get(2))
+            && UNIT_TYPE_CODES.isValid(recordBuffer.get(3));
+    }
+
+    private void readRecord(int index) throws IOException {
+        if (!read(RECORDS_OFFSET + (long) index * RECORD_SIZE, recordBuffer)) {
+            throw new SaveLoadingException("Move journal record " + index + " is missing.");
+        }
+    }
+
+    private void writeRecord(int index) throws IOException {
+        if (memoryMapped && index >= mappedCapacity) {
+            map(mappedCapacity * 2);
+        }
+        write(RECORDS_OFFSET + (long) index * RECORD_SIZE, recordBuffer);
+    }
+
+    /**
+     * Reads the bytes at the given position into the whole buffer.
+     *
+     * @return false if the file is too short
+     */
+    private boolean read(long position, ByteBuffer buffer) throws IOException {
+        buffer.clear();
+        if (position + buffer.capacity() > channel.size()) {
+            return false;
+        }
+        if (memoryMapped) {
+            final ByteBuffer source = mappedBuffer.duplicate();
+            source.position((int) position);
+            source.limit((int) position + buffer.capacity());
+            buffer.put(source);
+        } else {
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, position + buffer.position()) < 0) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private void write(long position, ByteBuffer buffer) throws IOException {
+        buffer.rewind();
+        if (memoryMapped) {
+            final ByteBuffer target = mappedBuffer.duplicate();
+            target.position((int) position);
+            target.put(buffer);
+        } else {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer, position + buffer.position());
+            }
+        }
+    }
+
+    private void force() throws IOException {
+        if (memoryMapped) {
+            mappedBuffer.force();
+        } else {
+            channel.force(false);
+        }
+    }
+
+    private void map(int capacity) throws IOException {
+        // mapping beyond the end of the file makes it grow
+        mappedBuffer = channel.map(MapMode.READ_WRITE, 0, RECORDS_OFFSET + (long) capacity * RECORD_SIZE);
+        mappedCapacity = capacity;
+    }
+
+    private int calculateChecksum(ByteBuffer buffer, int length) {
+        crc.reset();
+        crc.update(buffer.array(), 0, length);
+        return (int) crc.getValue();
+    }
+
+}
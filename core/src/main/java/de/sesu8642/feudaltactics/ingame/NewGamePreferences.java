@@ -15,6 +15,7 @@ import lombok.extern.slf4j.Slf4j;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.StringReader;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -29,7 +30,7 @@ public class NewGamePreferences {
     private static final List<String> DIFFICULTIES_KEYS =
         ImmutableList.of(TranslationKeys.GAME_PARAMETER_DIFFICULTY_EASY,
             TranslationKeys.GAME_PARAMETER_DIFFICULTY_MEDIUM, TranslationKeys.GAME_PARAMETER_DIFFICULTY_HARD,
-            TranslationKeys.GAME_PARAMETER_DIFFICULTY_VERY_HARD);
+            TranslationKeys.GAME_PARAMETER_DIFFICULTY_VERY_HARD, TranslationKeys.GAME_PARAMETER_DIFFICULTY_EXPERT);
     private static final List<String> MAP_SIZES_KEYS = ImmutableList.of(TranslationKeys.GAME_PARAMETER_SIZE_SMALL,
         TranslationKeys.GAME_PARAMETER_SIZE_MEDIUM, TranslationKeys.GAME_PARAMETER_SIZE_LARGE,
         TranslationKeys.GAME_PARAMETER_SIZE_XLARGE, TranslationKeys.GAME_PARAMETER_SIZE_XXLARGE);
@@ -222,6 +223,32 @@ public class NewGamePreferences {
             botIntelligence, numberOfBotPlayers);
     }
 
+    /**
+     * Returns game parameters for the maps that are most likely to be looked at after the current one: the one with
+     * the next random seed and the ones with a neighboring map size or density.
+     *
+     * @param nextRandomSeed seed that will be used when the user asks for a random one
+     */
+    public List<GameParameters> toLikelyNextGameParameters(long nextRandomSeed) {
+        final List<GameParameters> result = new ArrayList<>();
+        result.add(copyWith(nextRandomSeed, mapSize, density).toGameParameters());
+        for (int offset : new int[]{-1, 1}) {
+            final int mapSizeIndex = mapSize.ordinal() + offset;
+            if (mapSizeIndex >= 0 && mapSizeIndex < MapSizes.values().length) {
+                result.add(copyWith(seed, MapSizes.values()[mapSizeIndex], density).toGameParameters());
+            }
+            final int densityIndex = density.ordinal() + offset;
+            if (densityIndex >= 0 && densityIndex < Densities.values().length) {
+                result.add(copyWith(seed, mapSize, Densities.values()[densityIndex]).toGameParameters());
+            }
+        }
+        return result;
+    }
+
+    private NewGamePreferences copyWith(long seed, MapSizes mapSize, Densities density) {
+        return new NewGamePreferences(seed, botIntelligence, mapSize, density, startingPosition, numberOfBotPlayers);
+    }
+
     /**
      * Converts the preferences to a string for display in the UI.
      * Uses localized keys and values for display.
@@ -2,8 +2,10 @@
 
 package de.sesu8642.feudaltactics.ingame.dagger;
 
+import com.badlogic.gdx.Application.ApplicationType;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Preferences;
+import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
@@ -14,11 +16,15 @@ import dagger.Provides;
 import de.sesu8642.feudaltactics.gameconfig.dagger.EnableDeepWaterRenderingProperty;
 import de.sesu8642.feudaltactics.gameconfig.dagger.PreferencesPrefixProperty;
 import de.sesu8642.feudaltactics.ingame.AutoSaveRepository;
+import de.sesu8642.feudaltactics.ingame.MoveJournal;
 import de.sesu8642.feudaltactics.ingame.NewGamePreferencesDao;
 import de.sesu8642.feudaltactics.lib.gamestate.GameStateJsonHelper;
 import de.sesu8642.feudaltactics.lib.gamestate.ScenarioGameStateLoader;
+import de.sesu8642.feudaltactics.lib.ingame.BotTurnPlayer;
 import de.sesu8642.feudaltactics.lib.ingame.GameController;
+import de.sesu8642.feudaltactics.lib.ingame.MapGenerationService;
 import de.sesu8642.feudaltactics.lib.ingame.botai.BotAi;
+import de.sesu8642.feudaltactics.lib.ingame.botai.BotExecutionEngine;
 import de.sesu8642.feudaltactics.menu.preferences.MainPreferencesDao;
 import de.sesu8642.feudaltactics.renderer.GameStateConverter;
 import de.sesu8642.feudaltactics.renderer.MapRenderer;
@@ -27,6 +33,7 @@ import de.sesu8642.feudaltactics.renderer.TextureAtlasHelper;
 import javax.inject.Singleton;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 
 /**
  * Dagger module for ingame things.
@@ -39,10 +46,24 @@ public class IngameDaggerModule {
         throw new AssertionError();
     }
 
+    @Provides
+    @BotParallelism
+    static int provideBotParallelism() {
+        // leave a core for rendering
+        return Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+    }
+
+    @Provides
+    @Singleton
+    static BotExecutionEngine provideBotExecutionEngine(@BotParallelism int parallelism) {
+        return new BotExecutionEngine(parallelism);
+    }
+
     @Provides
     @Singleton
-    static BotAi provideBoaAi(EventBus eventBus, MainPreferencesDao mainPrefsDao) {
-        return new BotAi(eventBus, mainPrefsDao);
+    static BotAi provideBoaAi(EventBus eventBus, MainPreferencesDao mainPrefsDao,
+                              BotExecutionEngine botExecutionEngine) {
+        return new BotAi(eventBus, mainPrefsDao, botExecutionEngine);
     }
 
     @Provides
@@ -60,9 +81,29 @@ public class IngameDaggerModule {
     @Provides
     @Singleton
     static GameController provideGameController(EventBus eventBus, ExecutorService botTurnExecutor, BotAi botAi,
-                                                AutoSaveRepository autoSaveRepo,
-                                                ScenarioGameStateLoader scenarioGameStateLoader) {
-        return new GameController(eventBus, botTurnExecutor, botAi, autoSaveRepo, scenarioGameStateLoader);
+                                                BotTurnPlayer botTurnPlayer, AutoSaveRepository autoSaveRepo,
+                                                ScenarioGameStateLoader scenarioGameStateLoader,
+                                                MapGenerationService mapGenerationService) {
+        return new GameController(eventBus, botTurnExecutor, botAi, botTurnPlayer, autoSaveRepo,
+            scenarioGameStateLoader, mapGenerationService);
+    }
+
+    @Provides
+    @Singleton
+    static BotTurnPlayer provideBotTurnPlayer(EventBus eventBus, MainPreferencesDao mainPrefsDao) {
+        // separate from the bot executor so that the bots can do the next turn while the previous one is displayed
+        return new BotTurnPlayer(eventBus,
+            () -> mainPrefsDao.getMainPreferences().getEnemyTurnSpeed().tickDelayMs,
+            Executors.newSingleThreadScheduledExecutor(
+                new ThreadFactoryBuilder().setNameFormat("botturnplayback-%d").setDaemon(true).build()));
+    }
+
+    @Provides
+    @Singleton
+    static MapGenerationService provideMapGenerationService() {
+        // separate from the bot executor so that generating maps never waits for a bot turn
+        return new MapGenerationService(Executors
+            .newSingleThreadExecutor(new ThreadFactoryBuilder().setNameFormat("mapgen-%d").setDaemon(true).build()));
     }
 
     @Provides
@@ -108,6 +149,29 @@ public class IngameDaggerModule {
         return Gdx.app.getPreferences(prefix + AutoSaveRepository.INCREMENTAL_AUTO_SAVE_PREFERENCES_NAME);
     }
 
+    @Provides
+    @Singleton
+    static MoveJournal provideMoveJournal(@PreferencesPrefixProperty String prefix) {
+        final String fileName = prefix + AutoSaveRepository.MOVE_JOURNAL_FILE_NAME;
+        if (Gdx.app.getType() == ApplicationType.Android) {
+            // mapping files is comparatively expensive on Android and the journal is small anyway
+            return MoveJournal.open(Gdx.files.local(fileName).file(), false);
+        }
+        // same directory as the preferences on desktop
+        final FileHandle fileHandle = Gdx.files.external(".prefs/" + fileName);
+        fileHandle.parent().mkdirs();
+        return MoveJournal.open(fileHandle.file(), true);
+    }
+
+    @Provides
+    @Singleton
+    @AutoSaveExecutor
+    static ScheduledExecutorService provideAutoSaveExecutor() {
+        // keeps the disk access for the autosaves away from the UI and bot threads
+        return Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder().setNameFormat("autosave-%d").setDaemon(true).build());
+    }
+
     @Provides
     @Singleton
     static ExecutorService provideBotAiExecutor() {
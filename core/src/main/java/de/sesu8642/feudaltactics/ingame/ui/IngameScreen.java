@@ -94,6 +94,10 @@ public class IngameScreen extends GameScreen {
      * Whether local player has elected to spectate the bots after being defeated.
      */
     private boolean isSpectateMode = false;
+    /**
+     * Seed that the random button will use next.
+     */
+    private long nextRandomSeed = System.currentTimeMillis();
 
     /**
      * Constructor.
@@ -221,6 +225,12 @@ public class IngameScreen extends GameScreen {
 
         final boolean objectiveProgressed = cachedGameState != null
             && newGameState.getObjectiveProgress() > cachedGameState.getObjectiveProgress();
+        // maps are generated in the background, so a new one can arrive after the centering for the input
+        final boolean mapChanged = cachedGameState == null
+            || newGameState.getMap().getFingerprint() != cachedGameState.getMap().getFingerprint();
+        if (mapChanged && getActiveStage() == parameterInputStage) {
+            Gdx.app.postRunnable(this::centerMap);
+        }
 
         cachedGameState = newGameState;
         // update the UI
@@ -462,7 +472,9 @@ public class IngameScreen extends GameScreen {
     private void addParameterInputListeners() {
         parameterInputStage.randomButton.addListener(new ExceptionLoggingChangeListener(
             () -> {
-                final long newSeed = System.currentTimeMillis();
+                final long newSeed = nextRandomSeed;
+                // decided in advance so that the map can be generated before it is needed
+                nextRandomSeed = Math.max(System.currentTimeMillis(), newSeed + 1);
                 parameterInputStage.seedTextField.setText(String.valueOf(newSeed));
                 cachedNewGamePreferences.setSeed(newSeed);
                 newGamePrefDao.saveNewGamePreferences(cachedNewGamePreferences);
@@ -500,6 +512,8 @@ public class IngameScreen extends GameScreen {
                 cachedNewGamePreferences.setStartingPosition(parameterInputStage.getStartingPosition());
                 newGamePrefDao.saveNewGamePreferences(cachedNewGamePreferences);
                 eventBus.post(new RegenerateMapEvent(cachedNewGamePreferences.toGameParameters()));
+                eventBus.post(new PreGenerateMapsEvent(
+                    cachedNewGamePreferences.toLikelyNextGameParameters(nextRandomSeed)));
             })));
         // only the settings that visually change the map need to cause centering
         Stream.of(parameterInputStage.seedTextField, parameterInputStage.randomButton, parameterInputStage.sizeSelect,
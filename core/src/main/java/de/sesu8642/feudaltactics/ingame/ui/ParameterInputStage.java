@@ -36,7 +36,7 @@ public class ParameterInputStage extends ResizableResettableStage {
     private static final List<String> DIFFICULTIES_KEYS =
         ImmutableList.of(TranslationKeys.GAME_PARAMETER_DIFFICULTY_EASY,
             TranslationKeys.GAME_PARAMETER_DIFFICULTY_MEDIUM, TranslationKeys.GAME_PARAMETER_DIFFICULTY_HARD,
-            TranslationKeys.GAME_PARAMETER_DIFFICULTY_VERY_HARD);
+            TranslationKeys.GAME_PARAMETER_DIFFICULTY_VERY_HARD, TranslationKeys.GAME_PARAMETER_DIFFICULTY_EXPERT);
     private static final List<String> MAP_SIZES_KEYS = ImmutableList.of(TranslationKeys.GAME_PARAMETER_SIZE_SMALL,
         TranslationKeys.GAME_PARAMETER_SIZE_MEDIUM, TranslationKeys.GAME_PARAMETER_SIZE_LARGE,
         TranslationKeys.GAME_PARAMETER_SIZE_XLARGE, TranslationKeys.GAME_PARAMETER_SIZE_XXLARGE);
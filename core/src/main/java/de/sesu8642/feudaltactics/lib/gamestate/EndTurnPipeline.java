@@ -0,0 +1,231 @@
+// SPDX-License-Identifier: GPL-3.0-or-later
+
+package de.sesu8642.feudaltactics.lib.gamestate;
+
+import com.badlogic.gdx.utils.reflect.ClassReflection;
+import de.sesu8642.feudaltactics.lib.gamestate.EndTurnTimings.Stage;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Ends the turn of the active player in stages. The tiles the stages work on are gathered in a single traversal of
+ * the tiles of the player whose turn begins, which are found via their kingdoms and the tiles without kingdom, instead
+ * of every stage searching the whole map on its own.
+ */
+class EndTurnPipeline {
+
+    private final GameState gameState;
+    // null if the stages are not timed
+    private final EndTurnTimings timings;
+    private long stageStartNanos;
+
+    // gathered from the tiles of the player whose turn begins
+    private final List<Kingdom> playerKingdoms = new ArrayList<>();
+    // unit tiles of the kingdom at the same index
+    private final List<List<HexTile>> playerKingdomUnitTiles = new ArrayList<>();
+    private final List<HexTile> gravestoneTiles = new ArrayList<>();
+    private final List<HexTile> cutOffUnitTiles = new ArrayList<>();
+
+    private EndTurnPipeline(GameState gameState, EndTurnTimings timings) {
+        this.gameState = gameState;
+        this.timings = timings;
+    }
+
+    /**
+     * Ends the turn.
+     *
+     * @param gameState game state to act on
+     * @param timings   timings to add the time spent in the stages to, null if not needed
+     */
+    static void run(GameState gameState, EndTurnTimings timings) {
+        new EndTurnPipeline(gameState, timings).run();
+    }
+
+    private static boolean isUnit(TileContent content) {
+        return ClassReflection.isAssignableFrom(Unit.class, content.getClass());
+    }
+
+    private static boolean isGravestone(TileContent content) {
+        return ClassReflection.isAssignableFrom(Gravestone.class, content.getClass());
+    }
+
+    private void run() {
+        if (timings != null) {
+            stageStartNanos = System.nanoTime();
+        }
+        checkWinner();
+        finishStage(Stage.CHECK_WINNER);
+        final boolean roundEnded = advanceTurn();
+        finishStage(Stage.ADVANCE_TURN);
+        if (roundEnded) {
+            spreadTrees();
+            finishStage(Stage.SPREAD_TREES);
+        }
+        gatherTiles();
+        finishStage(Stage.GATHER_TILES);
+        progressBlockingObjects();
+        finishStage(Stage.PROGRESS_BLOCKING_OBJECTS);
+        checkDefeat();
+        finishStage(Stage.CHECK_DEFEAT);
+        paySalaries();
+        finishStage(Stage.PAY_SALARIES);
+        GameStateHelper.applyScenarioEvents(gameState);
+        finishStage(Stage.APPLY_SCENARIO_EVENTS);
+        if (timings != null) {
+            timings.addTurn();
+        }
+    }
+
+    private void finishStage(Stage stage) {
+        if (timings != null) {
+            final long now = System.nanoTime();
+            timings.addNanos(stage, now - stageStartNanos);
+            stageStartNanos = now;
+        }
+    }
+
+    private void checkWinner() {
+        // the winner can change if a player recovers from a really bad situation
+        // tiles that belong to no kingdom are irrelevant as they help no player
+        final Player player = gameState.getActivePlayer();
+        int noOfKingdomTiles = 0;
+        int biggestKingdomSize = -1;
+        for (Kingdom kingdom : gameState.getKingdoms()) {
+            noOfKingdomTiles += kingdom.getTiles().size();
+            if (kingdom.getPlayer() == player) {
+                biggestKingdomSize = Math.max(biggestKingdomSize, kingdom.getTiles().size());
+            }
+        }
+        if (biggestKingdomSize >= 0
+            && biggestKingdomSize >= noOfKingdomTiles * GameStateHelper.WIN_LANDMASS_PERCENTAGE
+            && gameState.getWinner() != player) {
+            gameState.setWinner(player);
+            gameState.setWinningRound(gameState.getRound());
+        }
+    }
+
+    /**
+     * Makes the next player the active one.
+     *
+     * @return whether a new round began
+     */
+    private boolean advanceTurn() {
+        gameState.setPlayerTurn(gameState.getPlayerTurn() + 1);
+        if (gameState.getPlayerTurn() >= gameState.getPlayers().size()) {
+            gameState.setRound(gameState.getRound() + 1);
+            gameState.setPlayerTurn(0);
+            return true;
+        }
+        return false;
+    }
+
+    private void spreadTrees() {
+        final List<HexTile> tilesToGrowTreesOn = GameStateHelper.getTilesOakTreesWillSpreadTo(gameState);
+        tilesToGrowTreesOn.addAll(GameStateHelper.getTilesPalmTreesWillSpreadTo(gameState));
+        for (HexTile newTreeTile : tilesToGrowTreesOn) {
+            GameStateHelper.spawnTree(gameState, newTreeTile);
+        }
+    }
+
+    private void gatherTiles() {
+        final Player player = gameState.getActivePlayer();
+        for (Kingdom kingdom : gameState.getKingdoms()) {
+            if (kingdom.getPlayer() != player) {
+                continue;
+            }
+            final List<HexTile> unitTiles = new ArrayList<>();
+            for (HexTile tile : kingdom.getTiles()) {
+                final TileContent content = tile.getContent();
+                if (content == null) {
+                    continue;
+                }
+                if (isUnit(content)) {
+                    unitTiles.add(tile);
+                } else if (isGravestone(content)) {
+                    gravestoneTiles.add(tile);
+                }
+            }
+            playerKingdoms.add(kingdom);
+            playerKingdomUnitTiles.add(unitTiles);
+        }
+        final HexMap map = gameState.getMap();
+        final BitSet tileIdsWithoutKingdom = map.getTileIdsWithoutKingdom();
+        for (int id = tileIdsWithoutKingdom.nextSetBit(0); id >= 0; id = tileIdsWithoutKingdom.nextSetBit(id + 1)) {
+            final HexTile tile = map.getById(id);
+            final TileContent content = tile.getContent();
+            if (tile.getPlayer() != player || content == null) {
+                continue;
+            }
+            if (isUnit(content)) {
+                cutOffUnitTiles.add(tile);
+            } else if (isGravestone(content)) {
+                gravestoneTiles.add(tile);
+            }
+        }
+    }
+
+    private void progressBlockingObjects() {
+        // gravestones become trees/palms at the start of the player turn
+        for (HexTile tile : gravestoneTiles) {
+            GameStateHelper.spawnTree(gameState, tile);
+        }
+        // cut off units become gravestones at the start of the player turn
+        for (HexTile tile : cutOffUnitTiles) {
+            tile.setContent(new Gravestone());
+        }
+    }
+
+    private void checkDefeat() {
+        final Set<Player> playersWithKingdoms = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Kingdom kingdom : gameState.getKingdoms()) {
+            playersWithKingdoms.add(kingdom.getPlayer());
+        }
+        for (Player player : gameState.getPlayers()) {
+            if (!player.isDefeated() && !playersWithKingdoms.contains(player)) {
+                // player has no kingdoms --> is defeated
+                player.setRoundOfDefeat(gameState.getRound());
+            }
+        }
+    }
+
+    private void paySalaries() {
+        gameState.setActiveKingdom(null);
+        // units left in the reserve are lost
+        gameState.clearReserve();
+        // the castles can no longer be sold
+        gameState.getCastlesBoughtInCurrentTurn().clear();
+        for (int i = 0; i < playerKingdoms.size(); i++) {
+            final Kingdom kingdom = playerKingdoms.get(i);
+            // no income in the first round, as the savings are already set as desired
+            if (gameState.getRound() != 1) {
+                kingdom.setSavings(kingdom.getSavings() + GameStateHelper.getKingdomIncome(kingdom));
+            }
+            final int salaries = GameStateHelper.getKingdomSalaries(gameState, kingdom);
+            if (kingdom.getSavings() < salaries) {
+                // kill all units if they cannot get paid
+                for (HexTile tile : playerKingdomUnitTiles.get(i)) {
+                    tile.setContent(new Gravestone());
+                }
+            } else {
+                kingdom.setSavings(kingdom.getSavings() - salaries);
+                // reset canAct and hasActed state
+                for (HexTile tile : playerKingdomUnitTiles.get(i)) {
+                    final Unit unit = (Unit) tile.getContent();
+                    if (!unit.isCanAct()) {
+                        // replace the unit instead of modifying it so the tile can update the fingerprint
+                        tile.setContent(new Unit(unit.getUnitType()));
+                    }
+                }
+            }
+        }
+        for (Kingdom kingdom : gameState.getKingdoms()) {
+            kingdom.setWasActiveInCurrentTurn(false);
+        }
+    }
+
+}
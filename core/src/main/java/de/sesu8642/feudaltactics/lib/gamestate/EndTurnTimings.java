@@ -0,0 +1,69 @@
+// SPDX-License-Identifier: GPL-3.0-or-later
+
+package de.sesu8642.feudaltactics.lib.gamestate;
+
+import lombok.Getter;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Time spent in the stages of ending turns, summed up over all the turns it was passed to
+ * {@link GameStateHelper#endTurn(GameState, EndTurnTimings)}.
+ */
+public class EndTurnTimings {
+
+    /**
+     * Stages of ending a turn, in the order they are run in.
+     */
+    public enum Stage {
+        CHECK_WINNER, ADVANCE_TURN, SPREAD_TREES, GATHER_TILES, PROGRESS_BLOCKING_OBJECTS, CHECK_DEFEAT, PAY_SALARIES,
+        APPLY_SCENARIO_EVENTS
+    }
+
+    private final Map<Stage, Long> nanosByStage = new EnumMap<>(Stage.class);
+
+    /**
+     * Number of turns that were ended.
+     */
+    @Getter
+    private int turnCount = 0;
+
+    void addTurn() {
+        turnCount++;
+    }
+
+    void addNanos(Stage stage, long nanos) {
+        nanosByStage.merge(stage, nanos, Long::sum);
+    }
+
+    /**
+     * Returns the time spent in a stage.
+     *
+     * @param stage stage of ending the turn
+     * @return nanoseconds
+     */
+    public long getNanos(Stage stage) {
+        return nanosByStage.getOrDefault(stage, 0L);
+    }
+
+    /**
+     * Returns the time spent in all the stages.
+     *
+     * @return nanoseconds
+     */
+    public long getTotalNanos() {
+        return nanosByStage.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder result = new StringBuilder();
+        result.append(String.format("%d turns, %.3f ms in total", turnCount, getTotalNanos() / 1e6));
+        for (Stage stage : Stage.values()) {
+            result.append(String.format(", %s: %.3f ms", stage, getNanos(stage) / 1e6));
+        }
+        return result.toString();
+    }
+
+}
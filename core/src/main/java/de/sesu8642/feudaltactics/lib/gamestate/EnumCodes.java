@@ -0,0 +1,79 @@
+// SPDX-License-Identifier: GPL-3.0-or-later
+
+package de.sesu8642.feudaltactics.lib.gamestate;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Stable codes for storing the constants of an enum. The code of a constant is its index in the list passed to the
+ * constructor instead of its ordinal, so reordering the constants doesn't change the meaning of stored data. New
+ * constants must be appended to the list.
+ *
+ * @param <T> type of the enum
+ */
+public final class EnumCodes<T extends Enum<T>> {
+
+    private final T[] valuesByCode;
+    private final Map<T, Integer> codesByValue;
+
+    /**
+     * Constructor.
+     *
+     * @param type         type of the enum
+     * @param valuesByCode all the constants of the enum, each one at the index of its code
+     */
+    @SafeVarargs
+    public EnumCodes(Class<T> type, T... valuesByCode) {
+        this.valuesByCode = valuesByCode;
+        codesByValue = new EnumMap<>(type);
+        for (int code = 0; code < valuesByCode.length; code++) {
+            if (codesByValue.put(valuesByCode[code], code) != null) {
+                throw new IllegalArgumentException("Duplicate code for " + valuesByCode[code]);
+            }
+        }
+        if (codesByValue.size() != type.getEnumConstants().length) {
+            throw new IllegalArgumentException("Not all the constants of " + type.getName() + " have a code.");
+        }
+    }
+
+    /**
+     * Returns the code of a constant.
+     *
+     * @param value constant
+     * @return code
+     */
+    public int getCode(T value) {
+        return codesByValue.get(value);
+    }
+
+    /**
+     * Returns the constant with the given code.
+     *
+     * @param code code, see {@link #isValid(long)}
+     * @return constant
+     */
+    public T getValue(int code) {
+        return valuesByCode[code];
+    }
+
+    /**
+     * Returns the number of codes, which are the numbers from 0 to one less than that.
+     *
+     * @return number of codes
+     */
+    public int size() {
+        return valuesByCode.length;
+    }
+
+    /**
+     * Returns whether a constant has the given code.
+     *
+     * @param code code to check
+     * @return whether the code is valid
+     */
+    public boolean isValid(long code) {
+        return code >= 0 && code < valuesByCode.length;
+    }
+
+}
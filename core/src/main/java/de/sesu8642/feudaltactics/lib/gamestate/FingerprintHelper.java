@@ -0,0 +1,166 @@
+// SPDX-License-Identifier: GPL-3.0-or-later
+
+package de.sesu8642.feudaltactics.lib.gamestate;
+
+import com.badlogic.gdx.math.Vector2;
+import de.sesu8642.feudaltactics.lib.gamestate.Unit.UnitTypes;
+
+import java.util.Map.Entry;
+import java.util.function.ToLongFunction;
+
+/**
+ * Helper class for the 64-bit fingerprint of a {@link GameState}. Every tile contributes a key derived from its
+ * position, player and content and the keys are combined with XOR (Zobrist hashing). That way, changing a tile only
+ * requires removing its old key and adding its new one, which {@link HexMap} and {@link Kingdom} do whenever a tile
+ * changes. Everything else, like the players, kingdom savings and turn information, is only a handful of values that
+ * are mixed in when the fingerprint is requested. All the keys are consistent across runs and devices.
+ **/
+public class FingerprintHelper {
+
+    private static final long KINGDOM_TILE_SALT = 0x6A09E667F3BCC908L;
+    private static final long RESERVE_SALT = 0xBB67AE8584CAA73BL;
+    private static final long BOUGHT_CASTLE_SALT = 0x3C6EF372FE94F82BL;
+
+    // prevent instantiation
+    private FingerprintHelper() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Calculates the fingerprint of a game state from scratch without using any of the incrementally maintained
+     * values. Only meant for verification because it needs to look at every tile.
+     *
+     * @param gameState game state to calculate the fingerprint of
+     * @return fingerprint that is equal to {@link GameState#getFingerprint()} if everything was kept up to date
+     */
+    public static long calculateFingerprint(GameState gameState) {
+        long tilesKey = 0;
+        if (gameState.getMap() != null) {
+            for (Entry<Vector2, HexTile> entry : gameState.getMap().entrySet()) {
+                tilesKey ^= getTileKey(entry.getKey(), entry.getValue().getPlayer(), entry.getValue().getContent());
+            }
+        }
+        return combine(gameState, tilesKey, kingdom -> {
+            long kingdomTilesKey = 0;
+            for (HexTile tile : kingdom.getTiles()) {
+                kingdomTilesKey ^= getKingdomTileKey(tile.getPosition());
+            }
+            return kingdomTilesKey;
+        });
+    }
+
+    /**
+     * Combines the keys of the tiles and kingdoms with the rest of the game state.
+     *
+     * @param gameState       game state the keys belong to
+     * @param tilesKey        combined keys of all the tiles in the map
+     * @param kingdomTilesKey provides the combined kingdom tile keys of a kingdom
+     * @return fingerprint
+     */
+    static long combine(GameState gameState, long tilesKey, ToLongFunction<Kingdom> kingdomTilesKey) {
+        long kingdomsKey = 0;
+        long activeKingdomKey = 0;
+        if (gameState.getKingdoms() != null) {
+            for (Kingdom kingdom : gameState.getKingdoms()) {
+                final long kingdomKey = getKingdomKey(kingdomTilesKey.applyAsLong(kingdom), kingdom);
+                kingdomsKey ^= kingdomKey;
+                if (kingdom == gameState.getActiveKingdom()) {
+                    activeKingdomKey = kingdomKey;
+                }
+            }
+        }
+        long result = mix(tilesKey ^ mix(kingdomsKey));
+        result = mix(result + activeKingdomKey);
+        for (Player player : gameState.getPlayers()) {
+            result = mix(result + getPlayerCode(player));
+            result = mix(result + player.getType().toString().hashCode());
+            result = mix(result + (player.getRoundOfDefeat() == null ? -1 : player.getRoundOfDefeat()));
+        }
+        result = mix(result + getPlayerCode(gameState.getWinner()));
+        result = mix(result + (gameState.getWinningRound() == null ? -1 : gameState.getWinningRound()));
+        result = mix(result + gameState.getPlayerTurn());
+        result = mix(result + gameState.getRound());
+        result = mix(result + gameState.getObjectiveProgress());
+        // added to the held object so that the reserve and the castles bought in the current turn do not change the
+        // fingerprints while they are empty
+        result = mix(result + getContentCode(gameState.getHeldObject()) + getReserveKey(gameState)
+            + getBoughtCastlesKey(gameState));
+        result = mix(result + gameState.getBotIntelligence().toString().hashCode());
+        result = mix(result + (gameState.getSeed() == null ? 0 : gameState.getSeed()));
+        return mix(result + gameState.getScenarioMap().toString().hashCode());
+    }
+
+    /**
+     * Calculates the key of a tile in the map.
+     *
+     * @param position hex coordinates of the tile
+     * @param player   owner of the tile
+     * @param content  content of the tile
+     * @return key
+     */
+    static long getTileKey(Vector2 position, Player player, TileContent content) {
+        long key = mix(packPosition(position));
+        key = mix(key + getPlayerCode(player));
+        return mix(key + getContentCode(content));
+    }
+
+    /**
+     * Calculates the key of a tile being part of a kingdom.
+     *
+     * @param position hex coordinates of the tile
+     * @return key
+     */
+    static long getKingdomTileKey(Vector2 position) {
+        return mix(packPosition(position) ^ KINGDOM_TILE_SALT);
+    }
+
+    private static long getKingdomKey(long kingdomTilesKey, Kingdom kingdom) {
+        // doneMoving is left out because it is only used by the bot during its turn and is not saved
+        long key = mix(kingdomTilesKey + getPlayerCode(kingdom.getPlayer()));
+        key = mix(key + kingdom.getSavings());
+        return mix(key + (kingdom.isWasActiveInCurrentTurn() ? 1 : 0));
+    }
+
+    private static long getReserveKey(GameState gameState) {
+        long key = 0;
+        for (UnitTypes unitType : UnitTypes.values()) {
+            key += gameState.getReserveUnitCount(unitType) * mix(RESERVE_SALT + unitType.strength());
+        }
+        return key;
+    }
+
+    private static long getBoughtCastlesKey(GameState gameState) {
+        long key = 0;
+        for (Vector2 position : gameState.getCastlesBoughtInCurrentTurn()) {
+            key ^= mix(packPosition(position) ^ BOUGHT_CASTLE_SALT);
+        }
+        return key;
+    }
+
+    private static long getPlayerCode(Player player) {
+        return player == null ? -1 : player.getPlayerIndex();
+    }
+
+    private static long getContentCode(TileContent content) {
+        if (content == null) {
+            return 0;
+        }
+        // the simple class name is needed because most contents have the same hash code
+        return mix(content.getClass().getSimpleName().hashCode()) ^ content.hashCode();
+    }
+
+    private static long packPosition(Vector2 position) {
+        return ((long) (int) position.x << 32) | ((int) position.y & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Scrambles the bits of a value (SplitMix64 finalizer).
+     */
+    private static long mix(long value) {
+        long result = value;
+        result = (result ^ (result >>> 30)) * 0xBF58476D1CE4E5B9L;
+        result = (result ^ (result >>> 27)) * 0x94D049BB133111EBL;
+        return result ^ (result >>> 31);
+    }
+
+}
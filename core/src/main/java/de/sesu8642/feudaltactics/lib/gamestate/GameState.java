@@ -3,15 +3,20 @@
 package de.sesu8642.feudaltactics.lib.gamestate;
 
 import com.badlogic.gdx.math.Vector2;
+import de.sesu8642.feudaltactics.lib.gamestate.Unit.UnitTypes;
 import de.sesu8642.feudaltactics.lib.ingame.botai.Intelligence;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * Contains all information about a running game.
@@ -33,8 +38,7 @@ public class GameState {
     private int playerTurn = 0;
     // need a map with fix iteration order to avoid randomness
     @Getter
-    @Setter
-    private LinkedHashMap<Vector2, HexTile> map = new LinkedHashMap<>();
+    private HexMap map = new HexMap();
     @Getter
     @Setter
     private List<Kingdom> kingdoms;
@@ -44,12 +48,27 @@ public class GameState {
     @Getter
     @Setter
     private TileContent heldObject;
+    /**
+     * Number of units of every type that the active kingdom picked up or bought without holding them, so that many of
+     * them can be moved at once. Indexed by the ordinal of the unit type. Units in the reserve can be combined but not
+     * split up. Units left in the reserve are lost when another kingdom is activated or the turn ends.
+     */
+    private final int[] reserve = new int[UnitTypes.values().length];
+    /**
+     * Positions of the castles that were bought in the current turn. Only these can be sold again.
+     */
+    @Getter
+    private Set<Vector2> castlesBoughtInCurrentTurn = new LinkedHashSet<>();
     @Getter
     @Setter
     private Intelligence botIntelligence = Intelligence.LEVEL_1;
     @Getter
     @Setter
     private Long seed;
+    // needed for generating the same map from the seed again
+    @Getter
+    @Setter
+    private MapGeneratorVersion mapGeneratorVersion = MapGeneratorVersion.RANDOM_WALK;
     @Getter
     @Setter
     private int objectiveProgress = 0;
@@ -64,6 +83,85 @@ public class GameState {
     @Setter
     private int round = 1;
 
+    // remembers the last snapshot of this game state, not part of the state itself
+    @Getter(AccessLevel.PACKAGE)
+    @Setter(AccessLevel.PACKAGE)
+    private GameStateSnapshotter snapshotter;
+
+    /**
+     * Setter for the map. Maps that are not a {@link HexMap} are copied into one, keeping their iteration order.
+     */
+    public void setMap(Map<Vector2, HexTile> map) {
+        if (map == null || map instanceof HexMap) {
+            this.map = (HexMap) map;
+        } else {
+            this.map = new HexMap(map);
+        }
+    }
+
+    /**
+     * Returns the number of units of a type in the reserve.
+     *
+     * @param unitType type of the units
+     * @return number of units
+     */
+    public int getReserveUnitCount(UnitTypes unitType) {
+        return reserve[unitType.ordinal()];
+    }
+
+    /**
+     * Sets the number of units of a type in the reserve.
+     *
+     * @param unitType type of the units
+     * @param count    number of units
+     */
+    public void setReserveUnitCount(UnitTypes unitType, int count) {
+        reserve[unitType.ordinal()] = count;
+    }
+
+    /**
+     * Returns whether there are no units in the reserve.
+     *
+     * @return whether the reserve is empty
+     */
+    public boolean isReserveEmpty() {
+        for (int count : reserve) {
+            if (count != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Removes all the units from the reserve.
+     */
+    public void clearReserve() {
+        Arrays.fill(reserve, 0);
+    }
+
+    /**
+     * Setter for the castles bought in the current turn. Also copies the positions so that they are not shared with
+     * another game state.
+     */
+    public void setCastlesBoughtInCurrentTurn(Set<Vector2> castlesBoughtInCurrentTurn) {
+        this.castlesBoughtInCurrentTurn = new LinkedHashSet<>();
+        for (Vector2 position : castlesBoughtInCurrentTurn) {
+            this.castlesBoughtInCurrentTurn.add(new Vector2(position));
+        }
+    }
+
+    /**
+     * Returns a 64-bit fingerprint of the game state that is consistent across runs. Unlike {@link #hashCode()}, it
+     * does not need to look at every tile because the tile parts are kept up to date whenever a tile changes.
+     *
+     * @return fingerprint
+     */
+    public long getFingerprint() {
+        return FingerprintHelper.combine(this, map == null ? 0 : map.getFingerprint(),
+            Kingdom::getTilesFingerprint);
+    }
+
     public Player getActivePlayer() {
         return players.get(playerTurn);
     }
@@ -74,14 +172,14 @@ public class GameState {
             return false;
         }
         final GameState gameState = (GameState) o;
-        return playerTurn == gameState.playerTurn && objectiveProgress == gameState.objectiveProgress && round == gameState.round && Objects.equals(players, gameState.players) && Objects.equals(winner, gameState.winner) && Objects.equals(winningRound, gameState.winningRound) && Objects.equals(map, gameState.map) && Objects.equals(kingdoms, gameState.kingdoms) && Objects.equals(activeKingdom, gameState.activeKingdom) && Objects.equals(heldObject, gameState.heldObject) && botIntelligence == gameState.botIntelligence && Objects.equals(seed, gameState.seed) && scenarioMap == gameState.scenarioMap;
+        return playerTurn == gameState.playerTurn && objectiveProgress == gameState.objectiveProgress && round == gameState.round && Objects.equals(players, gameState.players) && Objects.equals(winner, gameState.winner) && Objects.equals(winningRound, gameState.winningRound) && Objects.equals(map, gameState.map) && Objects.equals(kingdoms, gameState.kingdoms) && Objects.equals(activeKingdom, gameState.activeKingdom) && Objects.equals(heldObject, gameState.heldObject) && Arrays.equals(reserve, gameState.reserve) && Objects.equals(castlesBoughtInCurrentTurn, gameState.castlesBoughtInCurrentTurn) && botIntelligence == gameState.botIntelligence && Objects.equals(seed, gameState.seed) && mapGeneratorVersion == gameState.mapGeneratorVersion && scenarioMap == gameState.scenarioMap;
     }
 
     @Override
     public int hashCode() {
         // calculating with enum strings because the hashcode must be consistent across runs
         return Objects.hash(players, winner, winningRound, playerTurn, map, kingdoms, activeKingdom, heldObject,
-            botIntelligence.toString(), seed, objectiveProgress, scenarioMap.toString(), round);
+            Arrays.hashCode(reserve), castlesBoughtInCurrentTurn, botIntelligence.toString(), seed, mapGeneratorVersion.toString(), objectiveProgress, scenarioMap.toString(), round);
     }
 
 }
@@ -0,0 +1,568 @@
+// SPDX-License-Identifier: GPL-3.0-or-later
+
+package de.sesu8642.feudaltactics.lib.gamestate;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.SerializationException;
+import de.sesu8642.feudaltactics.lib.gamestate.Unit.UnitTypes;
+import de.sesu8642.feudaltactics.lib.ingame.botai.Intelligence;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Compact binary format for {@link GameState}s, which is several times smaller and faster than the JSON one of
+ * {@link GameStateSerializer}. A save starts with a header consisting of {@link #MAGIC}, the format version and a CRC32
+ * checksum of the rest of the data. Numbers are stored as variable length integers. Tiles are stored in the iteration
+ * order of the map with their coordinates relative to the previous tile, so references to tiles are small indices.
+ * Kingdoms store their tiles as runs of consecutive tile indices. Enums are stored by the codes of their
+ * {@link EnumCodes} tables, to which new constants must be appended. Any other change requires increasing
+ * {@link #FORMAT_VERSION} and keeping the old versions readable.
+ **/
+public class GameStateBinaryCodec {
+
+    /**
+     * First bytes of every save in this format. Cannot be the beginning of a JSON save.
+     */
+    static final byte[] MAGIC = {'F', 'T', 'G', 'S'};
+    static final int FORMAT_VERSION = 2;
+    // stored the combined strength of the reserve units and no castles bought in the current turn
+    private static final int FORMAT_VERSION_WITH_RESERVE_STRENGTH = 1;
+
+    private static final int HEADER_LENGTH = MAGIC.length + 1 + Integer.BYTES;
+
+    private static final int NO_CONTENT_CODE = 0;
+    private static final int CAPITAL_CODE = 1;
+    private static final int CASTLE_CODE = 2;
+    private static final int TREE_CODE = 3;
+    private static final int PALM_TREE_CODE = 4;
+    private static final int GRAVESTONE_CODE = 5;
+    private static final int UNIT_CODE = 6;
+
+    private static final EnumCodes<UnitTypes> UNIT_TYPE_CODES = new EnumCodes<>(UnitTypes.class, UnitTypes.PEASANT,
+        UnitTypes.SPEARMAN, UnitTypes.KNIGHT, UnitTypes.BARON);
+    private static final EnumCodes<Player.Type> PLAYER_TYPE_CODES = new EnumCodes<>(Player.Type.class,
+        Player.Type.LOCAL_PLAYER, Player.Type.LOCAL_BOT, Player.Type.REMOTE);
+    private static final EnumCodes<Intelligence> INTELLIGENCE_CODES = new EnumCodes<>(Intelligence.class,
+        Intelligence.LEVEL_1, Intelligence.LEVEL_2, Intelligence.LEVEL_3, Intelligence.LEVEL_4, Intelligence.LEVEL_5);
+    private static final EnumCodes<MapGeneratorVersion> MAP_GENERATOR_VERSION_CODES =
+        new EnumCodes<>(MapGeneratorVersion.class, MapGeneratorVersion.RANDOM_WALK,
+            MapGeneratorVersion.WEIGHTED_FRONTIER);
+    private static final EnumCodes<ScenarioMap> SCENARIO_MAP_CODES = new EnumCodes<>(ScenarioMap.class,
+        ScenarioMap.NONE, ScenarioMap.TUTORIAL);
+
+    // prevent instantiation
+    private GameStateBinaryCodec() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Returns whether some data looks like a save in this format.
+     *
+     * @param data data to check
+     * @return whether the data starts with {@link #MAGIC}
+     */
+    public static boolean isBinarySave(byte[] data) {
+        if (data.length < MAGIC.length) {
+            return false;
+        }
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (data[i] != MAGIC[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Encodes a game state.
+     *
+     * @param gameState game state to encode
+     * @return encoded game state including the header
+     */
+    public static byte[] encode(GameState gameState) {
+        final ByteWriter writer = new ByteWriter(HEADER_LENGTH + 16 * gameState.getMap().size());
+        for (byte magicByte : MAGIC) {
+            writer.writeByte(magicByte);
+        }
+        writer.writeByte(FORMAT_VERSION);
+        // placeholder for the checksum
+        writer.writeFixedInt(0);
+
+        final List<Player> players = gameState.getPlayers();
+        writer.writeVarLong(players.size());
+        for (Player player : players) {
+            writer.writeVarLong(player.getPlayerIndex());
+            writer.writeNullableCode(player.getType(), PLAYER_TYPE_CODES);
+            writer.writeNullableInt(player.getRoundOfDefeat());
+        }
+
+        final HexMap map = gameState.getMap();
+        // map tile ids can have gaps, the indices used in the save do not
+        final int[] tileIndicesById = new int[map.getTileIdBound()];
+        writer.writeVarLong(map.size());
+        int tileIndex = 0;
+        int previousX = 0;
+        int previousY = 0;
+        for (int tileId = 0; tileId < map.getTileIdBound(); tileId++) {
+            final HexTile tile = map.getById(tileId);
+            if (tile == null) {
+                continue;
+            }
+            tileIndicesById[tileId] = tileIndex++;
+            final int x = (int) tile.getPosition().x;
+            final int y = (int) tile.getPosition().y;
+            writer.writeZigZagLong(x - previousX);
+            writer.writeZigZagLong(y - previousY);
+            previousX = x;
+            previousY = y;
+            writer.writeVarLong(indexOf(players, tile.getPlayer()) + 1);
+            writeContent(writer, tile.getContent());
+        }
+
+        final List<Kingdom> kingdoms = gameState.getKingdoms();
+        writer.writeVarLong(kingdoms.size());
+        for (Kingdom kingdom : kingdoms) {
+            writer.writeVarLong(indexOf(players, kingdom.getPlayer()) + 1);
+            writer.writeZigZagLong(kingdom.getSavings());
+            writer.writeByte(kingdom.isWasActiveInCurrentTurn() ? 1 : 0);
+            writeTileRuns(writer, kingdom.getTiles(), tileIndicesById);
+        }
+
+        writeContent(writer, gameState.getHeldObject());
+        writer.writeVarLong(UNIT_TYPE_CODES.size());
+        for (int code = 0; code < UNIT_TYPE_CODES.size(); code++) {
+            writer.writeVarLong(gameState.getReserveUnitCount(UNIT_TYPE_CODES.getValue(code)));
+        }
+        writer.writeVarLong(gameState.getCastlesBoughtInCurrentTurn().size());
+        for (Vector2 position : gameState.getCastlesBoughtInCurrentTurn()) {
+            writer.writeVarLong(getTileIndex(map.get(position), tileIndicesById));
+        }
+        writer.writeVarLong(gameState.getPlayerTurn());
+        writer.writeNullableCode(gameState.getBotIntelligence(), INTELLIGENCE_CODES);
+        writer.writeByte(gameState.getSeed() != null ? 1 : 0);
+        if (gameState.getSeed() != null) {
+            writer.writeZigZagLong(gameState.getSeed());
+        }
+        writer.writeNullableCode(gameState.getMapGeneratorVersion(), MAP_GENERATOR_VERSION_CODES);
+        writer.writeVarLong(indexOf(players, gameState.getWinner()) + 1);
+        writer.writeNullableInt(gameState.getWinningRound());
+        writer.writeVarLong(indexOf(kingdoms, gameState.getActiveKingdom()) + 1);
+        writer.writeZigZagLong(gameState.getRound());
+        writer.writeZigZagLong(gameState.getObjectiveProgress());
+        writer.writeNullableCode(gameState.getScenarioMap(), SCENARIO_MAP_CODES);
+        // calculated from scratch so that a mistake in the incremental updates cannot make the save unloadable
+        writer.writeFixedLong(FingerprintHelper.calculateFingerprint(gameState));
+
+        final byte[] result = writer.toByteArray();
+        writeFixedInt(result, MAGIC.length + 1, calculateChecksum(result));
+        return result;
+    }
+
+    /**
+     * Decodes a game state.
+     *
+     * @param data encoded game state including the header
+     * @return decoded game state
+     * @throws SerializationException if the data is not a valid save in a known version of this format
+     */
+    public static GameState decode(byte[] data) {
+        if (!isBinarySave(data) || data.length < HEADER_LENGTH) {
+            throw new SerializationException("The data is not a binary game state.");
+        }
+        final int formatVersion = data[MAGIC.length];
+        if (formatVersion != FORMAT_VERSION && formatVersion != FORMAT_VERSION_WITH_RESERVE_STRENGTH) {
+            throw new SerializationException("Unsupported binary game state format version " + formatVersion + ".");
+        }
+        final ByteReader checksumReader = new ByteReader(data, MAGIC.length + 1);
+        if (checksumReader.readFixedInt() != calculateChecksum(data)) {
+            throw new SerializationException("The binary game state does not match its checksum.");
+        }
+        try {
+            return decodePayload(new ByteReader(data, HEADER_LENGTH), formatVersion);
+        } catch (IndexOutOfBoundsException e) {
+            throw new SerializationException("The binary game state is incomplete.", e);
+        }
+    }
+
+    private static GameState decodePayload(ByteReader reader, int formatVersion) {
+        final GameState result = new GameState();
+
+        final int playerCount = reader.readCount();
+        final List<Player> players = new ArrayList<>(playerCount);
+        for (int i = 0; i < playerCount; i++) {
+            final int playerIndex = (int) reader.readVarLong();
+            final Player.Type type = reader.readNullableEnum(PLAYER_TYPE_CODES);
+            players.add(new Player(playerIndex, type, reader.readNullableInt()));
+        }
+        result.setPlayers(players);
+
+        final int tileCount = reader.readCount();
+        // checked before creating any tiles so that a huge save cannot use up the memory
+        if (tileCount > HexMap.MAX_TILES) {
+            throw new SerializationException("The binary game state has " + tileCount + " tiles, more than the "
+                + "maximum of " + HexMap.MAX_TILES + ".");
+        }
+        final HexTile[] tiles = new HexTile[tileCount];
+        final HexMap map = new HexMap(tileCount);
+        int x = 0;
+        int y = 0;
+        for (int i = 0; i < tileCount; i++) {
+            x += (int) reader.readZigZagLong();
+            y += (int) reader.readZigZagLong();
+            final HexTile tile = new HexTile(getOrNull(players, reader.readVarLong()), new Vector2(x, y));
+            tile.setContent(readContent(reader));
+            tiles[i] = tile;
+            map.put(tile.getPosition(), tile);
+        }
+        result.setMap(map);
+
+        final int kingdomCount = reader.readCount();
+        final List<Kingdom> kingdoms = new ArrayList<>(kingdomCount);
+        for (int i = 0; i < kingdomCount; i++) {
+            final Kingdom kingdom = new Kingdom(getOrNull(players, reader.readVarLong()));
+            kingdom.setSavings((int) reader.readZigZagLong());
+            kingdom.setWasActiveInCurrentTurn(reader.readByte() != 0);
+            readTileRuns(reader, tiles, kingdom.getTiles());
+            kingdoms.add(kingdom);
+        }
+        result.setKingdoms(kingdoms);
+
+        result.setHeldObject(readContent(reader));
+        if (formatVersion == FORMAT_VERSION_WITH_RESERVE_STRENGTH) {
+            // peasants can be combined into any unit
+            result.setReserveUnitCount(UnitTypes.PEASANT, (int) reader.readZigZagLong());
+        } else {
+            readReserve(reader, result);
+            final int boughtCastleCount = reader.readCount();
+            for (int i = 0; i < boughtCastleCount; i++) {
+                result.getCastlesBoughtInCurrentTurn().add(tiles[(int) reader.readVarLong()].getPosition());
+            }
+        }
+        result.setPlayerTurn((int) reader.readVarLong());
+        result.setBotIntelligence(reader.readNullableEnum(INTELLIGENCE_CODES));
+        if (reader.readByte() != 0) {
+            result.setSeed(reader.readZigZagLong());
+        }
+        result.setMapGeneratorVersion(reader.readNullableEnum(MAP_GENERATOR_VERSION_CODES));
+        result.setWinner(getOrNull(players, reader.readVarLong()));
+        result.setWinningRound(reader.readNullableInt());
+        result.setActiveKingdom(getOrNull(kingdoms, reader.readVarLong()));
+        result.setRound((int) reader.readZigZagLong());
+        result.setObjectiveProgress((int) reader.readZigZagLong());
+        result.setScenarioMap(reader.readNullableEnum(SCENARIO_MAP_CODES));
+        final long fingerprint = reader.readFixedLong();
+
+        // add missing references
+        for (Kingdom kingdom : kingdoms) {
+            for (HexTile tile : kingdom.getTiles()) {
+                tile.setKingdom(kingdom);
+            }
+        }
+        if (fingerprint != FingerprintHelper.calculateFingerprint(result)) {
+            throw new SerializationException("The loaded game state does not match its fingerprint.");
+        }
+        return result;
+    }
+
+    private static void readReserve(ByteReader reader, GameState gameState) {
+        final int unitTypeCount = reader.readCount();
+        for (int code = 0; code < unitTypeCount; code++) {
+            final long count = reader.readVarLong();
+            if (!UNIT_TYPE_CODES.isValid(code)) {
+                if (count != 0) {
+                    throw new SerializationException("Unknown unit type code in the reserve: " + code);
+                }
+                continue;
+            }
+            gameState.setReserveUnitCount(UNIT_TYPE_CODES.getValue(code), (int) count);
+        }
+    }
+
+    private static void writeContent(ByteWriter writer, TileContent content) {
+        if (content == null) {
+            writer.writeByte(NO_CONTENT_CODE);
+        } else if (content.getClass() == Unit.class) {
+            final Unit unit = (Unit) content;
+            writer.writeByte(UNIT_CODE);
+            writer.writeByte(UNIT_TYPE_CODES.getCode(unit.getUnitType()) << 1 | (unit.isCanAct() ? 1 : 0));
+        } else if (content.getClass() == Capital.class) {
+            writer.writeByte(CAPITAL_CODE);
+        } else if (content.getClass() == Castle.class) {
+            writer.writeByte(CASTLE_CODE);
+        } else if (content.getClass() == Tree.class) {
+            writer.writeByte(TREE_CODE);
+        } else if (content.getClass() == PalmTree.class) {
+            writer.writeByte(PALM_TREE_CODE);
+        } else if (content.getClass() == Gravestone.class) {
+            writer.writeByte(GRAVESTONE_CODE);
+        } else {
+            throw new IllegalArgumentException("Unknown tile content class: " + content.getClass().getName());
+        }
+    }
+
+    private static TileContent readContent(ByteReader reader) {
+        final int code = reader.readByte();
+        switch (code) {
+            case NO_CONTENT_CODE:
+                return null;
+            case UNIT_CODE:
+                final int unitData = reader.readByte();
+                if (!UNIT_TYPE_CODES.isValid(unitData >> 1)) {
+                    throw new SerializationException("Unknown unit type code: " + (unitData >> 1));
+                }
+                final Unit unit = new Unit(UNIT_TYPE_CODES.getValue(unitData >> 1));
+                unit.setCanAct((unitData & 1) != 0);
+                return unit;
+            case CAPITAL_CODE:
+                return new Capital();
+            case CASTLE_CODE:
+                return new Castle();
+            case TREE_CODE:
+                return new Tree();
+            case PALM_TREE_CODE:
+                return new PalmTree();
+            case GRAVESTONE_CODE:
+                return new Gravestone();
+            default:
+                throw new SerializationException("Unknown tile content code: " + code);
+        }
+    }
+
+    /**
+     * Writes the tiles as runs of consecutive tile indices. The order of the tiles is kept.
+     */
+    private static void writeTileRuns(ByteWriter writer, List<HexTile> tiles, int[] tileIndicesById) {
+        int runCount = 0;
+        for (int i = 0; i < tiles.size(); i++) {
+            if (i == 0 || getTileIndex(tiles.get(i), tileIndicesById)
+                != getTileIndex(tiles.get(i - 1), tileIndicesById) + 1) {
+                runCount++;
+            }
+        }
+        writer.writeVarLong(runCount);
+        int previousRunEnd = 0;
+        int i = 0;
+        while (i < tiles.size()) {
+            final int runStart = getTileIndex(tiles.get(i), tileIndicesById);
+            int runLength = 1;
+            while (i + runLength < tiles.size()
+                && getTileIndex(tiles.get(i + runLength), tileIndicesById) == runStart + runLength) {
+                runLength++;
+            }
+            writer.writeZigZagLong(runStart - previousRunEnd);
+            writer.writeVarLong(runLength);
+            previousRunEnd = runStart + runLength;
+            i += runLength;
+        }
+    }
+
+    private static void readTileRuns(ByteReader reader, HexTile[] tiles, List<HexTile> kingdomTiles) {
+        final int runCount = reader.readCount();
+        int previousRunEnd = 0;
+        for (int i = 0; i < runCount; i++) {
+            final int runStart = previousRunEnd + (int) reader.readZigZagLong();
+            final int runEnd = runStart + (int) reader.readVarLong();
+            for (int tileIndex = runStart; tileIndex < runEnd; tileIndex++) {
+                kingdomTiles.add(tiles[tileIndex]);
+            }
+            previousRunEnd = runEnd;
+        }
+    }
+
+    private static int getTileIndex(HexTile tile, int[] tileIndicesById) {
+        if (tile.getId() == HexMap.NO_TILE) {
+            throw new IllegalArgumentException("Kingdom tile " + tile + " is not part of the map.");
+        }
+        return tileIndicesById[tile.getId()];
+    }
+
+    /**
+     * Returns the index of an object in a list comparing by identity because players and kingdoms can be equal
+     * without being the same.
+     */
+    private static int indexOf(List<?> list, Object object) {
+        if (object != null) {
+            for (int i = 0; i < list.size(); i++) {
+                if (list.get(i) == object) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    private static <T> T getOrNull(List<T> list, long indexPlusOne) {
+        return indexPlusOne == 0 ? null : list.get((int) indexPlusOne - 1);
+    }
+
+    private static int calculateChecksum(byte[] data) {
+        final CRC32 crc = new CRC32();
+        crc.update(data, HEADER_LENGTH, data.length - HEADER_LENGTH);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Maps signed numbers to unsigned ones so that numbers close to 0 are small: 0, -1, 1, -2, 2 ... become 0, 1, 2, 3,
+     * 4 ...
+     */
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeFixedInt(byte[] data, int offset, int value) {
+        for (int i = 0; i < Integer.BYTES; i++) {
+            data[offset + i] = (byte) (value >>> (8 * (Integer.BYTES - 1 - i)));
+        }
+    }
+
+    /**
+     * Growable byte array with methods for writing the types used in the format.
+     */
+    private static class ByteWriter {
+
+        private byte[] bytes;
+        private int length = 0;
+
+        private ByteWriter(int initialCapacity) {
+            bytes = new byte[initialCapacity];
+        }
+
+        private void writeByte(int value) {
+            if (length == bytes.length) {
+                bytes = Arrays.copyOf(bytes, bytes.length * 2);
+            }
+            bytes[length++] = (byte) value;
+        }
+
+        private void writeVarLong(long value) {
+            long remaining = value;
+            while ((remaining & ~0x7FL) != 0) {
+                writeByte((int) (remaining & 0x7F) | 0x80);
+                remaining >>>= 7;
+            }
+            writeByte((int) remaining);
+        }
+
+        private void writeZigZagLong(long value) {
+            writeVarLong(zigZag(value));
+        }
+
+        private void writeNullableInt(Integer value) {
+            writeVarLong(value == null ? 0 : zigZag(value) + 1);
+        }
+
+        private <T extends Enum<T>> void writeNullableCode(T value, EnumCodes<T> codes) {
+            writeVarLong(value == null ? 0 : codes.getCode(value) + 1);
+        }
+
+        private void writeFixedInt(int value) {
+            for (int i = Integer.BYTES - 1; i >= 0; i--) {
+                writeByte(value >>> (8 * i));
+            }
+        }
+
+        private void writeFixedLong(long value) {
+            for (int i = Long.BYTES - 1; i >= 0; i--) {
+                writeByte((int) (value >>> (8 * i)));
+            }
+        }
+
+        private byte[] toByteArray() {
+            return Arrays.copyOf(bytes, length);
+        }
+
+    }
+
+    /**
+     * Reads the types used in the format from a byte array.
+     */
+    private static class ByteReader {
+
+        private final byte[] bytes;
+        private int position;
+
+        private ByteReader(byte[] bytes, int position) {
+            this.bytes = bytes;
+            this.position = position;
+        }
+
+        private int readByte() {
+            if (position >= bytes.length) {
+                throw new IndexOutOfBoundsException("Unexpected end of data at position " + position);
+            }
+            return bytes[position++] & 0xFF;
+        }
+
+        private long readVarLong() {
+            long result = 0;
+            for (int shift = 0; shift < Long.SIZE; shift += 7) {
+                final int currentByte = readByte();
+                result |= (long) (currentByte & 0x7F) << shift;
+                if ((currentByte & 0x80) == 0) {
+                    return result;
+                }
+            }
+            throw new SerializationException("Invalid variable length number at position " + position);
+        }
+
+        private long readZigZagLong() {
+            return unZigZag(readVarLong());
+        }
+
+        /**
+         * Reads a number of elements, making sure that it is plausible to avoid allocating huge arrays for broken data.
+         */
+        private int readCount() {
+            final long count = readVarLong();
+            if (count < 0 || count > bytes.length - position + 1L) {
+                throw new SerializationException("Invalid element count " + count + " at position " + position);
+            }
+            return (int) count;
+        }
+
+        private Integer readNullableInt() {
+            final long value = readVarLong();
+            if (value == 0) {
+                return null;
+            }
+            return (int) unZigZag(value - 1);
+        }
+
+        private <T extends Enum<T>> T readNullableEnum(EnumCodes<T> codes) {
+            final long codePlusOne = readVarLong();
+            if (codePlusOne == 0) {
+                return null;
+            }
+            if (!codes.isValid(codePlusOne - 1)) {
+                throw new SerializationException("Invalid enum code " + (codePlusOne - 1) + " at position "
+                    + position);
+            }
+            return codes.getValue((int) codePlusOne - 1);
+        }
+
+        private int readFixedInt() {
+            int result = 0;
+            for (int i = 0; i < Integer.BYTES; i++) {
+                result = result << 8 | readByte();
+            }
+            return result;
+        }
+
+        private long readFixedLong() {
+            long result = 0;
+            for (int i = 0; i < Long.BYTES; i++) {
+                result = result << 8 | readByte();
+            }
+            return result;
+        }
+
+    }
+
+}
@@ -7,10 +7,12 @@ import com.badlogic.gdx.utils.reflect.ClassReflection;
 import de.sesu8642.feudaltactics.lib.gamestate.Player.Type;
 import de.sesu8642.feudaltactics.lib.gamestate.Unit.UnitTypes;
 import de.sesu8642.feudaltactics.lib.ingame.PlayerMove;
+import de.sesu8642.feudaltactics.lib.ingame.PlayerMove.PlayerMoveType;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.function.Consumer;
 
 /**
  * Helper class that is used to modify a {@link GameState} in a way that
@@ -51,6 +53,8 @@ public class GameStateHelper {
             result.setWinningRound(original.getWinningRound());
         }
         final List<Kingdom> copiedKingdoms = new ArrayList<>();
+        // by identity because comparing kingdoms compares all of their tiles
+        final Map<Kingdom, Kingdom> kingdomMapping = new IdentityHashMap<>();
         for (Kingdom originalKingdom : original.getKingdoms()) {
             final Kingdom newKingdom = new Kingdom(
                 copiedPlayers.get(original.getPlayers().indexOf(originalKingdom.getPlayer())));
@@ -58,40 +62,57 @@ public class GameStateHelper {
             newKingdom.setDoneMoving(originalKingdom.isDoneMoving());
             newKingdom.setWasActiveInCurrentTurn(originalKingdom.isWasActiveInCurrentTurn());
             copiedKingdoms.add(newKingdom);
+            kingdomMapping.put(originalKingdom, newKingdom);
         }
         result.setKingdoms(copiedKingdoms);
 
-        final LinkedHashMap<Vector2, HexTile> copiedMap = new LinkedHashMap<>();
-        // note: this potentially results in a different tile order in the new kingdom
-        // vs the other
+        final HexMap copiedMap = new HexMap(original.getMap().size());
+        final Map<HexTile, HexTile> tileMapping = new IdentityHashMap<>();
         for (Entry<Vector2, HexTile> originalTileEntry : original.getMap().entrySet()) {
             final HexTile originalTile = originalTileEntry.getValue();
             final HexTile newTile =
                 new HexTile(copiedPlayers.get(original.getPlayers().indexOf(originalTile.getPlayer())),
                     new Vector2(originalTileEntry.getKey()));
             if (originalTile.getKingdom() != null) {
-                newTile.setKingdom(copiedKingdoms.get(original.getKingdoms().indexOf(originalTile.getKingdom())));
-                newTile.getKingdom().getTiles().add(newTile);
+                newTile.setKingdom(kingdomMapping.get(originalTile.getKingdom()));
             }
             if (originalTile.getContent() != null) {
                 newTile.setContent(originalTile.getContent().getCopy());
             }
             copiedMap.put(newTile.getPosition(), newTile);
+            tileMapping.put(originalTile, newTile);
         }
         result.setMap(copiedMap);
+        // filled afterwards to keep the tile order of the original kingdoms, which the bots depend on
+        for (Kingdom originalKingdom : original.getKingdoms()) {
+            final List<HexTile> newKingdomTiles = kingdomMapping.get(originalKingdom).getTiles();
+            for (HexTile originalTile : originalKingdom.getTiles()) {
+                final HexTile newTile = tileMapping.get(originalTile);
+                if (newTile != null) {
+                    newKingdomTiles.add(newTile);
+                }
+            }
+        }
 
         if (original.getActiveKingdom() != null) {
-            result.setActiveKingdom(copiedKingdoms.get(original.getKingdoms().indexOf(original.getActiveKingdom())));
+            result.setActiveKingdom(kingdomMapping.get(original.getActiveKingdom()));
         }
 
         if (original.getHeldObject() != null) {
             result.setHeldObject(original.getHeldObject().getCopy());
         }
 
+        for (UnitTypes unitType : UnitTypes.values()) {
+            result.setReserveUnitCount(unitType, original.getReserveUnitCount(unitType));
+        }
+        result.setCastlesBoughtInCurrentTurn(original.getCastlesBoughtInCurrentTurn());
+
         if (original.getSeed() != null) {
             result.setSeed(original.getSeed());
         }
 
+        result.setMapGeneratorVersion(original.getMapGeneratorVersion());
+
         result.setPlayerTurn(original.getPlayerTurn());
 
         result.setRound(original.getRound());
@@ -104,7 +125,23 @@ public class GameStateHelper {
     }
 
     /**
-     * Generates a map on a {@link GameState}.
+     * Creates a snapshot of the game state for displaying it. The snapshot is equal to a copy, but everything that did
+     * not change since the previous snapshot of the same game state is shared with it instead of being copied again.
+     * Therefore, the snapshot must not be modified.
+     *
+     * @param original game state to take the snapshot of
+     * @return snapshot
+     */
+    public static GameState getSnapshot(GameState original) {
+        if (original.getSnapshotter() == null) {
+            original.setSnapshotter(new GameStateSnapshotter());
+        }
+        return original.getSnapshotter().createSnapshot(original);
+    }
+
+    /**
+     * Generates a map on a {@link GameState}. The algorithm depends on the size of the map, see
+     * {@link MapGeneratorVersion#forLandMass(float)}.
      *
      * @param gameState         GameState to generate the map in
      * @param players           players that own tiles on the map
@@ -118,6 +155,27 @@ public class GameStateHelper {
      */
     public static void initializeMap(GameState gameState, List<Player> players, float landMass, float density,
                                      Float vegetationDensity, Long mapSeed) {
+        initializeMap(gameState, players, landMass, density, vegetationDensity, mapSeed,
+            MapGeneratorVersion.forLandMass(landMass));
+    }
+
+    /**
+     * Generates a map on a {@link GameState} using a specific algorithm.
+     *
+     * @param gameState           GameState to generate the map in
+     * @param players             players that own tiles on the map
+     * @param landMass            number of tiles to generate
+     * @param density             Lower density means the map will be more clumpy and
+     *                            higher means it will be more stringy. Values between
+     *                            -3 and 3 produce good results.
+     * @param vegetationDensity   determines how many trees will be generated. 0.5 =
+     *                            50% of empty tiles will have trees
+     * @param mapSeed             map seed to use for generating the map
+     * @param mapGeneratorVersion algorithm for generating the tiles
+     */
+    public static void initializeMap(GameState gameState, List<Player> players, float landMass, float density,
+                                     Float vegetationDensity, Long mapSeed,
+                                     MapGeneratorVersion mapGeneratorVersion) {
         if (mapSeed == null) {
             mapSeed = System.currentTimeMillis();
         }
@@ -125,21 +183,24 @@ public class GameStateHelper {
             vegetationDensity = DEAFULT_INITIAL_TREE_DENSITY;
         }
         gameState.setSeed(mapSeed);
+        gameState.setMapGeneratorVersion(mapGeneratorVersion);
         gameState.setPlayers(players);
-        gameState.setMap(new LinkedHashMap<>());
+        gameState.setMap(new HexMap());
         gameState.setKingdoms(new ArrayList<>());
         if (landMass == 0) {
             return;
         }
         final Random random = new Random(mapSeed);
         generateMap(gameState, players, landMass, density, vegetationDensity, random);
+        assert doKingdomAggregatesMatchTiles(gameState);
     }
 
     private static void generateMap(GameState gameState, List<Player> players, float landMass, float density,
                                     float vegetationDensity, Random random) {
         // if not every player has at least one kingdom, try again
         do {
-            generateTiles(gameState, players, landMass, density, random);
+            MapTileGenerator.generateTiles(gameState.getMap(), players, landMass, density,
+                gameState.getMapGeneratorVersion(), random);
             createInitialKingdoms(gameState);
         } while (!doesEveryPlayerHaveKingdom(gameState));
         createTrees(gameState, vegetationDensity, random);
@@ -167,77 +228,10 @@ public class GameStateHelper {
         });
     }
 
-    private static void generateTiles(GameState gameState, List<Player> players, float landMass, float density,
-                                      Random random) {
-        // distribute the land mass evenly to all players
-        final Map<Player, Integer> tileAmountsToGenerate = new HashMap<>();
-        // if there are tiles left, distribute them to random players
-        Collections.shuffle(players, random);
-        int remainingLandMass = (int) (landMass % players.size());
-        for (Player player : players) {
-            int additionalTiles = 0;
-            if (remainingLandMass > 0) {
-                additionalTiles = 1;
-                remainingLandMass--;
-            }
-            tileAmountsToGenerate.put(player, (int) (landMass / players.size() + additionalTiles));
-        }
-        // keep track of the players that still have tiles left to generate in a list
-        // (because a random one can be selected)
-        final ArrayList<Player> remainingPlayers = new ArrayList<>(players);
-        gameState.getMap().clear();
-        // could be done recursively but stack size is uncertain
-        Vector2 nextTilePos = new Vector2(0, 0);
-        final ArrayList<Vector2> positionHistory = new ArrayList<>(); // for backtracking
-        while (!remainingPlayers.isEmpty()) {
-            Vector2 currentTilePos = nextTilePos;
-            // place tile
-            final Player player = remainingPlayers.get(random.nextInt(remainingPlayers.size()));
-            final HexTile tile = new HexTile(player, currentTilePos);
-            gameState.getMap().put(currentTilePos, tile);
-            // remove player if no tiles are left
-            if (tileAmountsToGenerate.get(player) == 1) {
-                remainingPlayers.remove(player);
-            } else {
-                tileAmountsToGenerate.put(player, tileAmountsToGenerate.get(player) - 1);
-            }
-            // add to history
-            positionHistory.add(currentTilePos);
-            // get next tile position with empty neighboring tiles
-            List<Vector2> usableCoords = HexMapHelper.getUnusedNeighborCoords(gameState.getMap(), currentTilePos);
-            while (usableCoords.isEmpty()) {
-                // backtrack until able to place a tile again
-                positionHistory.remove(positionHistory.size() - 1);
-                currentTilePos = positionHistory.get(positionHistory.size() - 1);
-                usableCoords = new ArrayList<>(
-                    HexMapHelper.getUnusedNeighborCoords(gameState.getMap(), currentTilePos));
-            }
-            // calculate a score for each neighboring tile for choosing the next one
-            final ArrayList<Float> scores = new ArrayList<>();
-            float scoreSum = 0;
-            for (Vector2 candidate : usableCoords) {
-                // factor in density
-                final int usableCoordsCountFromCandidate = HexMapHelper.getUnusedNeighborCoords(gameState.getMap(),
-                        candidate)
-                    .size();
-                final float score = (float) Math.pow(usableCoordsCountFromCandidate, density);
-                scores.add(score);
-                scoreSum += score;
-            }
-            // select tile based on score and random
-            final float randomScore = random.nextFloat() * scoreSum;
-            int index = 0;
-            float countedScore = scores.get(0);
-            while (countedScore < randomScore) {
-                index++;
-                countedScore += scores.get(index);
-            }
-            nextTilePos = usableCoords.get(index);
-        }
-    }
-
     private static void createInitialKingdoms(GameState gameState) {
         gameState.getKingdoms().clear();
+        // removed all at once at the end because removing a single kingdom from the list is slow
+        final Set<Kingdom> mergedKingdoms = Collections.newSetFromMap(new IdentityHashMap<>());
         for (Entry<Vector2, HexTile> tileEntry : gameState.getMap().entrySet()) {
             final HexTile tile = tileEntry.getValue();
             for (HexTile neighborTile : HexMapHelper.getNeighborTiles(gameState.getMap(), tile)) {
@@ -267,14 +261,16 @@ public class GameStateHelper {
                 } else if (tile.getKingdom() != null && neighborTile.getKingdom() != null
                     && tile.getKingdom() != neighborTile.getKingdom()) {
                     // tile and neighbor belong to different kingdoms --> merge kingdoms
-                    gameState.getKingdoms().remove(neighborTile.getKingdom());
-                    for (HexTile neighborKingdomTile : neighborTile.getKingdom().getTiles()) {
+                    final Kingdom neighborKingdom = neighborTile.getKingdom();
+                    mergedKingdoms.add(neighborKingdom);
+                    for (HexTile neighborKingdomTile : neighborKingdom.getTiles()) {
                         neighborKingdomTile.setKingdom(tile.getKingdom());
                         tile.getKingdom().getTiles().add(neighborKingdomTile);
                     }
                 }
             }
         }
+        gameState.getKingdoms().removeIf(mergedKingdoms::contains);
     }
 
     private static void createCapitals(GameState gameState) {
@@ -404,6 +400,8 @@ public class GameStateHelper {
     public static void activateKingdom(GameState gameState, Kingdom kingdom) {
         kingdom.setWasActiveInCurrentTurn(true);
         gameState.setActiveKingdom(kingdom);
+        // the units in the reserve belong to the previous kingdom
+        gameState.clearReserve();
     }
 
     /**
@@ -415,6 +413,7 @@ public class GameStateHelper {
     public static void pickupObject(GameState gameState, HexTile tile) {
         gameState.setHeldObject(tile.getContent());
         tile.setContent(null);
+        assert doKingdomAggregatesMatchTiles(gameState);
     }
 
     /**
@@ -424,12 +423,17 @@ public class GameStateHelper {
      * @param tile      tile to place to object on
      */
     public static void placeOwn(GameState gameState, HexTile tile) {
+        // castles can only be placed right after buying them
+        if (ClassReflection.isAssignableFrom(Castle.class, gameState.getHeldObject().getClass())) {
+            gameState.getCastlesBoughtInCurrentTurn().add(tile.getPosition());
+        }
         // units can't act after removing blocking stuff
         if (tile.getContent() != null
             && ClassReflection.isAssignableFrom(Blocking.class, tile.getContent().getClass())) {
             ((Unit) gameState.getHeldObject()).setCanAct(false);
         }
         placeObject(gameState, tile);
+        assert doKingdomAggregatesMatchTiles(gameState);
     }
 
     /**
@@ -450,6 +454,7 @@ public class GameStateHelper {
         newUnit.setCanAct(tileUnit.isCanAct());
         gameState.setHeldObject(newUnit);
         placeObject(gameState, tile);
+        assert doKingdomAggregatesMatchTiles(gameState);
     }
 
     /**
@@ -468,6 +473,7 @@ public class GameStateHelper {
         mergeConnectedKingdoms(gameState, tile);
 
         placeObject(gameState, tile);
+        assert doKingdomAggregatesMatchTiles(gameState);
     }
 
     private static void removeTileFromItsKingdom(GameState gameState, HexTile tile) {
@@ -490,7 +496,6 @@ public class GameStateHelper {
             kingdom.setSavings(0);
             createCapital(gameState, tile, kingdom);
         }
-        final ArrayList<HexTile> oldKingdomNeighborTiles = new ArrayList<>();
         final List<HexTile> neighborTiles = HexMapHelper.getNeighborTiles(gameState.getMap(), tile);
         for (HexTile neighborTile : neighborTiles) {
             if (neighborTile == null) {
@@ -511,62 +516,17 @@ public class GameStateHelper {
                     combineKingdoms(gameState, kingdom, neighborTile.getKingdom());
                     gameState.setActiveKingdom(neighborTile.getKingdom());
                     neighborTile.getKingdom().setWasActiveInCurrentTurn(true);
-                } else if (neighborTile.getKingdom() == kingdom) {
-                    // remember neighbor tiles of the same kingdom as the old tile
-                    oldKingdomNeighborTiles.add(neighborTile);
                 }
             }
         }
-        // find out whether kingdom was potentially split
-        final boolean potentiallySplit = wasKingdomPotentiallySplit(gameState, tile, oldKingdomNeighborTiles);
-        if (potentiallySplit || kingdom.getTiles().size() < 2) {
-            updateSplitKingdom(gameState, kingdom.getTiles());
-        }
-    }
-
-    private static boolean wasKingdomPotentiallySplit(GameState gameState, HexTile tile,
-                                                      ArrayList<HexTile> oldKingdomNeighborTiles) {
-        boolean potentiallySplit = true;
-        switch (oldKingdomNeighborTiles.size()) {
-            case 2:
-                // both tiles next to to each other --> no split possible
-                if (HexMapHelper.getNeighborTiles(gameState.getMap(), oldKingdomNeighborTiles.get(0))
-                    .contains(oldKingdomNeighborTiles.get(1))) {
-                    potentiallySplit = false;
-                }
-                break;
-            case 3:
-                // if the first or the second tile is next to both of the other ones, they are
-                // all next to each other --> no split possible
-                if (((HexMapHelper.getNeighborTiles(gameState.getMap(), oldKingdomNeighborTiles.get(0))
-                    .contains(oldKingdomNeighborTiles.get(1)))
-                    && (HexMapHelper.getNeighborTiles(gameState.getMap(), oldKingdomNeighborTiles.get(0))
-                    .contains(oldKingdomNeighborTiles.get(2))))
-                    || ((HexMapHelper.getNeighborTiles(gameState.getMap(), oldKingdomNeighborTiles.get(1))
-                    .contains(oldKingdomNeighborTiles.get(0)))
-                    && (HexMapHelper.getNeighborTiles(gameState.getMap(), oldKingdomNeighborTiles.get(1))
-                    .contains(oldKingdomNeighborTiles.get(2))))) {
-                    potentiallySplit = false;
-                }
-                break;
-            case 4:
-                // if the other tiles are next to each other, the 4 oldKingdomNeighborTiles must
-                // also be next to each other --> no split possible
-                final ArrayList<HexTile> notOldKingdomNeighborTiles = new ArrayList<>(
-                    HexMapHelper.getNeighborTiles(gameState.getMap(), tile));
-                notOldKingdomNeighborTiles.removeAll(oldKingdomNeighborTiles);
-                if (notOldKingdomNeighborTiles.get(0) != null && notOldKingdomNeighborTiles.get(1) != null
-                    && HexMapHelper.getNeighborTiles(gameState.getMap(), notOldKingdomNeighborTiles.get(0))
-                    .contains(notOldKingdomNeighborTiles.get(1))) {
-                    potentiallySplit = false;
-                }
-                break;
-            default:
-                // 1 or 5 means no split possible
-                potentiallySplit = false;
-                break;
+        // remember neighbor tiles of the same kingdom as the old tile; the kingdom might have been split between them
+        final List<HexTile> oldKingdomNeighborTiles = new ArrayList<>();
+        for (HexTile neighborTile : neighborTiles) {
+            if (neighborTile != null && neighborTile.getKingdom() == kingdom) {
+                oldKingdomNeighborTiles.add(neighborTile);
+            }
         }
-        return potentiallySplit;
+        updateSplitKingdom(gameState, kingdom, oldKingdomNeighborTiles);
     }
 
     private static void placeObject(GameState gameState, HexTile tile) {
@@ -582,10 +542,10 @@ public class GameStateHelper {
         }
         for (HexTile slaveKingdomTile : slaveKingdom.getTiles()) {
             // add all the absent tiles of the slave kingdom to the master one
-            if (!masterKingdom.getTiles().contains(slaveKingdomTile)) {
+            if (slaveKingdomTile.getKingdom() != masterKingdom) {
+                slaveKingdomTile.setKingdom(masterKingdom);
                 masterKingdom.getTiles().add(slaveKingdomTile);
             }
-            slaveKingdomTile.setKingdom(masterKingdom);
             final TileContent content = slaveKingdomTile.getContent();
             if (content != null && ClassReflection.isAssignableFrom(Capital.class, content.getClass())) {
                 // delete slave capital
@@ -595,75 +555,69 @@ public class GameStateHelper {
         gameState.getKingdoms().remove(slaveKingdom);
     }
 
-    private static void updateSplitKingdom(GameState gameState, List<HexTile> tiles) {
-        if (tiles.isEmpty()) {
+    private static void updateSplitKingdom(GameState gameState, Kingdom kingdom, List<HexTile> oldNeighborTiles) {
+        if (kingdom.getTiles().size() < 2) {
+            dissolveKingdom(gameState, kingdom);
             return;
         }
-        final Kingdom oldKingdom = tiles.get(0).getKingdom();
-        // try to find a capital
-        HexTile capitalTile = null;
-        for (HexTile kingdomTile : tiles) {
-            if (kingdomTile.getContent() != null
-                && ClassReflection.isAssignableFrom(Capital.class, kingdomTile.getContent().getClass())) {
-                capitalTile = kingdomTile;
-                break;
-            }
+        final List<List<HexTile>> separatedParts =
+            KingdomConnectivityHelper.findSeparatedParts(gameState.getMap(), kingdom, oldNeighborTiles);
+        if (separatedParts.isEmpty()) {
+            // still connected
+            return;
         }
-        final HexTile startTile;
-        Kingdom newKingdom = null;
-        if (capitalTile != null) {
-            // capital exists --> keep it's kingdom
-            startTile = capitalTile;
-            newKingdom = startTile.getKingdom();
-            newKingdom.setTiles(new ArrayList<>());
-        } else {
-            // no capital exists --> create new kingdom
-            // start from some other tile
-            startTile = tiles.get(0);
-            newKingdom = new Kingdom(startTile.getPlayer());
-            gameState.getKingdoms().add(newKingdom);
+        // the part that contains the capital keeps the kingdom, the others become new ones
+        final HexTile capitalTile = kingdom.getCapitalTile();
+        for (List<HexTile> part : separatedParts) {
+            if (capitalTile == null || !part.contains(capitalTile)) {
+                splitOffKingdom(gameState, kingdom, part);
+            }
         }
-        // expand outwards from startTile to find connected tiles
-        final LinkedList<HexTile> todoTiles = new LinkedList<>();
-        final HashSet<HexTile> doneTiles = new HashSet<>();
-        todoTiles.add(startTile);
-        while (!todoTiles.isEmpty()) {
-            final HexTile currentTile = todoTiles.removeFirst();
-            newKingdom.getTiles().add(currentTile);
-            currentTile.setKingdom(newKingdom);
-            doneTiles.add(currentTile);
-            for (HexTile expandTile : HexMapHelper.getNeighborTiles(gameState.getMap(), currentTile)) {
-                if (expandTile != null && !doneTiles.contains(expandTile) && !todoTiles.contains(expandTile)
-                    && expandTile.getKingdom() == oldKingdom) {
-                    todoTiles.add(expandTile);
-                }
+        if (kingdom.getCapitalTile() == null) {
+            // no capital anywhere: the rest becomes a new kingdom as well
+            if (!kingdom.getTiles().isEmpty()) {
+                splitOffKingdom(gameState, kingdom, new ArrayList<>(kingdom.getTiles()));
             }
+            gameState.getKingdoms().remove(kingdom);
+        } else if (kingdom.getTiles().size() < 2) {
+            dissolveKingdom(gameState, kingdom);
         }
-        tiles.removeAll(newKingdom.getTiles());
+    }
 
+    /**
+     * Moves connected tiles that got separated from their kingdom to a new kingdom.
+     */
+    private static void splitOffKingdom(GameState gameState, Kingdom oldKingdom, List<HexTile> tiles) {
+        final Kingdom newKingdom = new Kingdom(tiles.get(0).getPlayer());
+        for (HexTile tile : tiles) {
+            tile.setKingdom(newKingdom);
+            // constant time, so the effort only depends on the number of separated tiles
+            oldKingdom.getTiles().remove(tile);
+            newKingdom.getTiles().add(tile);
+        }
         if (newKingdom.getTiles().size() < 2) {
-            // remove contents if kingdom is a single tile
-            for (HexTile tile : newKingdom.getTiles()) {
-                if (tile.getContent() != null) {
-                    if (Capital.class.isAssignableFrom(tile.getContent().getClass())) {
-                        spawnTree(gameState, tile);
-                    } else if (Castle.class.isAssignableFrom(tile.getContent().getClass())) {
-                        tile.setContent(null);
-                    }
-                }
-            }
-            startTile.setKingdom(null);
-            gameState.getKingdoms().remove(newKingdom);
-        } else if (capitalTile == null) {
-            // create capital if necessary
+            dissolveKingdom(gameState, newKingdom);
+        } else {
+            gameState.getKingdoms().add(newKingdom);
             createCapital(newKingdom);
         }
-        // recursive call with the tiles that are not connected
-        updateSplitKingdom(gameState, tiles);
-        // remove old empty kingdom
-        if (oldKingdom.getTiles().isEmpty()) {
-            gameState.getKingdoms().remove(oldKingdom);
+    }
+
+    /**
+     * Removes a kingdom that is too small to exist along with the contents that require one.
+     */
+    private static void dissolveKingdom(GameState gameState, Kingdom kingdom) {
+        for (HexTile tile : kingdom.getTiles()) {
+            if (tile.getContent() != null) {
+                if (Capital.class.isAssignableFrom(tile.getContent().getClass())) {
+                    spawnTree(gameState, tile);
+                } else if (Castle.class.isAssignableFrom(tile.getContent().getClass())) {
+                    tile.setContent(null);
+                }
+            }
+            tile.setKingdom(null);
         }
+        gameState.getKingdoms().remove(kingdom);
     }
 
     /**
@@ -672,178 +626,42 @@ public class GameStateHelper {
      * @param gameState GameState to act on
      */
     public static GameState endTurn(GameState gameState) {
-        // check win condition; the winner can change if a player recovers from
-        // a really bad situation
-        // tiles that belong to no kingdom are irrelevant as they help no player
-        final int noOfKingdomTiles =
-            gameState.getKingdoms().stream().mapToInt(kingdom -> kingdom.getTiles().size()).sum();
-
-        // update winner
-        for (Kingdom kingdom : gameState.getKingdoms()) {
-            if (kingdom.getPlayer() == gameState.getActivePlayer()
-                && kingdom.getTiles().size() >= noOfKingdomTiles * WIN_LANDMASS_PERCENTAGE
-                && gameState.getWinner() != kingdom.getPlayer()) {
-                gameState.setWinner(kingdom.getPlayer());
-                gameState.setWinningRound(gameState.getRound());
-                break;
-            }
-        }
-        // update active player
-        gameState.setPlayerTurn(gameState.getPlayerTurn() + 1);
-        if (gameState.getPlayerTurn() >= gameState.getPlayers().size()) {
-            // round ended
-            gameState.setRound(gameState.getRound() + 1);
-            gameState.setPlayerTurn(0);
-            spreadTrees(gameState);
-        }
-        progressBlockingObjects(gameState, gameState.getActivePlayer());
-        // check defeat condition
-        playerLoop:
-        for (Player player : gameState.getPlayers()) {
-            if (player.isDefeated()) {
-                continue;
-            }
-            for (Kingdom kingdom : gameState.getKingdoms()) {
-                if (kingdom.getPlayer() == player) {
-                    continue playerLoop;
-                }
-            }
-            // player has no kingdoms --> is defeated
-            player.setRoundOfDefeat(gameState.getRound());
-        }
-        // reset active kingdom
-        gameState.setActiveKingdom(null);
-        for (Kingdom kingdom : gameState.getKingdoms()) {
-            // update savings
-            if (kingdom.getPlayer() == gameState.getActivePlayer()) {
-                // no income in the first round, as the savings are already set as desired
-                if (gameState.getRound() != 1) {
-                    kingdom.setSavings(kingdom.getSavings() + getKingdomIncome(kingdom));
-                }
-                if (kingdom.getSavings() < getKingdomSalaries(gameState, kingdom)) {
-                    // kill all units if they cannot get paid
-                    for (HexTile tile : kingdom.getTiles()) {
-                        if (tile.getContent() != null
-                            && ClassReflection.isAssignableFrom(Unit.class, tile.getContent().getClass())) {
-                            // spawn a gravestone
-                            tile.setContent(new Gravestone());
-                        }
-                    }
-                } else {
-                    kingdom.setSavings(kingdom.getSavings() - getKingdomSalaries(gameState, kingdom));
-                    // reset canAct and hasActed state
-                    for (HexTile tile : kingdom.getTiles()) {
-                        if (tile.getContent() != null
-                            && ClassReflection.isAssignableFrom(Unit.class, tile.getContent().getClass())) {
-                            ((Unit) tile.getContent()).setCanAct(true);
-                        }
-                    }
-                }
-            }
-            // reset wasActiveInCurrentTurn
-            kingdom.setWasActiveInCurrentTurn(false);
-        }
-        applyScenarioEvents(gameState);
+        EndTurnPipeline.run(gameState, null);
+        assert doKingdomAggregatesMatchTiles(gameState);
         return gameState;
     }
 
-    private static void spreadTrees(GameState gameState) {
-        final List<HexTile> tilesToGrowTreesOn = getTilesOakTreesWillSpreadTo(gameState);
-        tilesToGrowTreesOn.addAll(getTilesPalmTreesWillSpreadTo(gameState));
-        for (HexTile newTreeTile : tilesToGrowTreesOn) {
-            spawnTree(gameState, newTreeTile);
-        }
+    /**
+     * Ends the turn and measures the time spent in its stages.
+     *
+     * @param gameState GameState to act on
+     * @param timings   timings to add the time spent in the stages to
+     * @return the GameState
+     */
+    public static GameState endTurn(GameState gameState, EndTurnTimings timings) {
+        EndTurnPipeline.run(gameState, timings);
+        assert doKingdomAggregatesMatchTiles(gameState);
+        return gameState;
     }
 
     /**
      * Returns the tiles new oak trees will grow on, if the spreading of trees was triggered on the given game state.
      */
     public static List<HexTile> getTilesOakTreesWillSpreadTo(GameState gameState) {
-        // keep track of the tiles with trees that are new or have already participated
-        // in spreading; those shouldn't spread again in that turn
-        final Set<HexTile> tileBlackList = new HashSet<>();
-        final List<HexTile> tilesToGrowOakTreesOn = new ArrayList<>();
-        for (HexTile tile : gameState.getMap().values()) {
-            if (tileBlackList.contains(tile)) {
-                continue;
-            }
-            if (tile.getContent() != null
-                && ClassReflection.isAssignableFrom(Tree.class, tile.getContent().getClass())) {
-                // regular trees spread if they have another regular tree next to them
-                final List<HexTile> candidates = new ArrayList<>();
-                HexTile neighborTreeTile = null;
-                for (HexTile neighbor : HexMapHelper.getNeighborTiles(gameState.getMap(), tile)) {
-                    if (neighbor == null) {
-                        continue;
-                    }
-                    if (!tileBlackList.contains(neighbor) && neighbor.getContent() == null && !isCoastTile(gameState,
-                        neighbor)) {
-                        candidates.add(neighbor);
-                    } else if (neighbor.getContent() != null
-                        && ClassReflection.isAssignableFrom(Tree.class, neighbor.getContent().getClass())
-                        && !tileBlackList.contains(neighbor)) {
-                        neighborTreeTile = neighbor;
-                    }
-                }
-                if (neighborTreeTile != null && !candidates.isEmpty()) {
-                    final HexTile newTreeTile = candidates.stream().sorted().findFirst().get();
-                    tilesToGrowOakTreesOn.add(newTreeTile);
-                    tileBlackList.add(tile);
-                    tileBlackList.add(newTreeTile);
-                    tileBlackList.add(neighborTreeTile);
-                    candidates.clear();
-                }
-            }
-        }
-        return tilesToGrowOakTreesOn;
+        return gameState.getMap().getTreeSpreadIndex().getTilesOakTreesWillSpreadTo();
     }
 
     /**
      * Returns the tiles new palm trees will grow on, if the spreading of trees was triggered on the given game state.
      */
     public static List<HexTile> getTilesPalmTreesWillSpreadTo(GameState gameState) {
-        // keep track of the tiles with trees that are new or have already participated
-        // in spreading; those shouldn't spread again in that turn
-        final Set<HexTile> tileBlackList = new HashSet<>();
-        final List<HexTile> tilesToGrowPalmTreesOn = new ArrayList<>();
-        for (HexTile tile : gameState.getMap().values()) {
-            if (tileBlackList.contains(tile)) {
-                continue;
-            }
-            if (tile.getContent() != null
-                && ClassReflection.isAssignableFrom(PalmTree.class, tile.getContent().getClass())) {
-                // palm trees always spread to a neighboring coast tile, if any
-                HexMapHelper
-                    .getNeighborTiles(gameState.getMap(), tile).stream().filter(neighbor -> neighbor != null
-                        && !tileBlackList.contains(neighbor) && neighbor.getContent() == null && isCoastTile(gameState, neighbor))
-                    .sorted().limit(1).forEach(newTreeTile -> {
-                        tilesToGrowPalmTreesOn.add(newTreeTile);
-                        tileBlackList.add(newTreeTile);
-                    });
-            }
-        }
-        return tilesToGrowPalmTreesOn;
-    }
-
-    private static void progressBlockingObjects(GameState gameState, Player player) {
-        for (HexTile tile : gameState.getMap().values()) {
-            // gravestones become trees/palms at the start of the player turn
-            if (tile.getPlayer() == player && tile.getContent() != null) {
-                if (ClassReflection.isAssignableFrom(Gravestone.class, tile.getContent().getClass())) {
-                    spawnTree(gameState, tile);
-                } else if (tile.getKingdom() == null
-                    && ClassReflection.isAssignableFrom(Unit.class, tile.getContent().getClass())) {
-                    // cut off units become gravestones at the start of the player turn
-                    tile.setContent(new Gravestone());
-                }
-            }
-        }
+        return gameState.getMap().getTreeSpreadIndex().getTilesPalmTreesWillSpreadTo();
     }
 
     /**
      * Spawns a regular or palm tree depending on the position.
      */
-    private static void spawnTree(GameState gameState, HexTile tile) {
+    static void spawnTree(GameState gameState, HexTile tile) {
         if (isCoastTile(gameState, tile)) {
             tile.setContent(new PalmTree());
         } else {
@@ -885,6 +703,73 @@ public class GameStateHelper {
         gameState.setHeldObject(new Castle());
     }
 
+    /**
+     * Picks up all the units of the active kingdom that can still act and adds them to the reserve.
+     *
+     * @param gameState GameState to act on
+     */
+    public static void pickUpAllUnits(GameState gameState) {
+        for (HexTile tile : gameState.getActiveKingdom().getTiles()) {
+            if (tile.getContent() != null && ClassReflection.isAssignableFrom(Unit.class, tile.getContent().getClass())
+                && ((Unit) tile.getContent()).isCanAct()) {
+                final UnitTypes unitType = ((Unit) tile.getContent()).getUnitType();
+                gameState.setReserveUnitCount(unitType, gameState.getReserveUnitCount(unitType) + 1);
+                tile.setContent(null);
+            }
+        }
+        assert doKingdomAggregatesMatchTiles(gameState);
+    }
+
+    /**
+     * Buys a unit and adds it to the reserve instead of holding it.
+     *
+     * @param gameState GameState to act on
+     * @param unitType  type of the unit to buy, which costs as much as the peasants it consists of
+     */
+    public static void buyReserveUnit(GameState gameState, UnitTypes unitType) {
+        gameState.getActiveKingdom().setSavings(gameState.getActiveKingdom().getSavings()
+            - Unit.COST * unitType.strength());
+        gameState.setReserveUnitCount(unitType, gameState.getReserveUnitCount(unitType) + 1);
+    }
+
+    /**
+     * Combines two units in the reserve.
+     *
+     * @param gameState     GameState to act on
+     * @param unitType      type of the first unit
+     * @param otherUnitType type of the second unit
+     */
+    public static void combineReserveUnits(GameState gameState, UnitTypes unitType, UnitTypes otherUnitType) {
+        gameState.setReserveUnitCount(unitType, gameState.getReserveUnitCount(unitType) - 1);
+        gameState.setReserveUnitCount(otherUnitType, gameState.getReserveUnitCount(otherUnitType) - 1);
+        final UnitTypes newUnitType = UnitTypes.ofStrength(unitType.strength() + otherUnitType.strength());
+        gameState.setReserveUnitCount(newUnitType, gameState.getReserveUnitCount(newUnitType) + 1);
+    }
+
+    /**
+     * Takes a unit from the reserve and holds it.
+     *
+     * @param gameState GameState to act on
+     * @param unitType  type of the unit to take
+     */
+    public static void takeReserveUnit(GameState gameState, UnitTypes unitType) {
+        gameState.setReserveUnitCount(unitType, gameState.getReserveUnitCount(unitType) - 1);
+        gameState.setHeldObject(new Unit(unitType));
+    }
+
+    /**
+     * Removes a castle that was bought in the current turn and gives its cost back to the active kingdom.
+     *
+     * @param gameState GameState to act on
+     * @param tile      tile containing the castle
+     */
+    public static void sellCastle(GameState gameState, HexTile tile) {
+        gameState.getCastlesBoughtInCurrentTurn().remove(tile.getPosition());
+        tile.setContent(null);
+        gameState.getActiveKingdom().setSavings(gameState.getActiveKingdom().getSavings() + Castle.COST);
+        assert doKingdomAggregatesMatchTiles(gameState);
+    }
+
     /**
      * Places a new tile.
      *
@@ -899,7 +784,6 @@ public class GameStateHelper {
         if (existingTile != null) {
             removeTileFromItsKingdom(gameState, existingTile);
         }
-        HexMapHelper.clearNeighborTileCache(gameState.getMap());
         for (HexTile neighborTile : HexMapHelper.getNeighborTiles(gameState.getMap(), newTile)) {
             if (neighborTile == null) {
                 // water
@@ -925,6 +809,7 @@ public class GameStateHelper {
         if (newTile.getKingdom() != null) {
             mergeConnectedKingdoms(gameState, newTile);
         }
+        assert doKingdomAggregatesMatchTiles(gameState);
     }
 
     /**
@@ -936,8 +821,7 @@ public class GameStateHelper {
     public static void deleteTile(GameState gameState, HexTile tile) {
         removeTileFromItsKingdom(gameState, tile);
         gameState.getMap().remove(tile.getPosition());
-        // the old tile might still be cached by the neighbors and must be removed
-        HexMapHelper.clearNeighborTileCache(gameState.getMap());
+        assert doKingdomAggregatesMatchTiles(gameState);
     }
 
     /**
@@ -949,17 +833,10 @@ public class GameStateHelper {
      * @return protection level
      */
     public static int getProtectionLevel(GameState gameState, HexTile tile) {
-        int protectionLevel = 0;
-        if (tile.getContent() != null) {
-            protectionLevel = tile.getContent().getStrength();
+        if (HexMapHelper.isPartOfMap(gameState.getMap(), tile)) {
+            return gameState.getMap().getProtectionLevel(tile.getId());
         }
-        for (HexTile neighbor : HexMapHelper.getNeighborTiles(gameState.getMap(), tile)) {
-            if (neighbor != null && neighbor.getKingdom() != null && tile.getKingdom() == neighbor.getKingdom()
-                && neighbor.getContent() != null && neighbor.getContent().getStrength() > protectionLevel) {
-                protectionLevel = neighbor.getContent().getStrength();
-            }
-        }
-        return protectionLevel;
+        return ProtectionLevelIndex.calculateProtectionLevel(gameState.getMap(), tile);
     }
 
     /**
@@ -970,11 +847,7 @@ public class GameStateHelper {
      */
     public static int getKingdomIncome(Kingdom kingdom) {
         // number of tiles - trees & palms
-        return kingdom.getTiles().size() - (int) kingdom.getTiles().stream()
-            .filter(tile -> tile.getContent() != null
-                && (ClassReflection.isAssignableFrom(Tree.class, tile.getContent().getClass())
-                || ClassReflection.isAssignableFrom(PalmTree.class, tile.getContent().getClass())))
-            .count();
+        return kingdom.getIncome();
     }
 
     /**
@@ -985,10 +858,7 @@ public class GameStateHelper {
      */
     public static int getKingdomSalaries(GameState gameState, Kingdom kingdom) {
         // sum of the salaries of all the units
-        int result = kingdom.getTiles().stream()
-            .filter(tile -> tile.getContent() != null
-                && ClassReflection.isAssignableFrom(Unit.class, tile.getContent().getClass()))
-            .mapToInt(tile -> ((Unit) tile.getContent()).getUnitType().salary()).sum();
+        int result = kingdom.getUnitSalaries();
         // if there is a held unit, subtract their salary
         if (gameState.getActiveKingdom() == kingdom && gameState.getHeldObject() != null
             && ClassReflection.isAssignableFrom(Unit.class, gameState.getHeldObject().getClass())) {
@@ -1006,21 +876,12 @@ public class GameStateHelper {
     public static Optional<Kingdom> getFirstForgottenKingdom(GameState gameState) {
         for (Kingdom kingdom : gameState.getKingdoms()) {
             if (kingdom.getPlayer() == gameState.getActivePlayer() && !kingdom.isWasActiveInCurrentTurn()) {
-                boolean hasRemovableTileContent = false;
-                boolean hasEmptyTile = false;
-                int sumOfUnitStrength = 0;
-                for (HexTile tile : kingdom.getTiles()) {
-                    if (tile.getContent() == null) {
-                        hasEmptyTile = true;
-                    } else if (ClassReflection.isAssignableFrom(Unit.class, tile.getContent().getClass())) {
-                        sumOfUnitStrength += tile.getContent().getStrength();
-                    } else if (!hasRemovableTileContent && (ClassReflection.isAssignableFrom(Tree.class,
-                        tile.getContent().getClass())
-                        || ClassReflection.isAssignableFrom(PalmTree.class, tile.getContent().getClass())
-                        || ClassReflection.isAssignableFrom(Gravestone.class, tile.getContent().getClass()))) {
-                        hasRemovableTileContent = true;
-                    }
-                }
+                final boolean hasEmptyTile = kingdom.getEmptyTileCount() > 0;
+                final int sumOfUnitStrength = kingdom.getTotalUnitStrength();
+                // gravestones are not aggregated, so only look for them if there are no trees
+                final boolean hasRemovableTileContent = kingdom.getTreeCount() > 0
+                    || kingdom.getTiles().stream().anyMatch(tile -> tile.getContent() != null
+                    && ClassReflection.isAssignableFrom(Gravestone.class, tile.getContent().getClass()));
                 final int numberOfPeasantsThatCanBeAfforded = kingdom.getSavings() / Unit.COST;
                 int sumOfTotalPossibleUnitStrength =
                     sumOfUnitStrength + (numberOfPeasantsThatCanBeAfforded * UnitTypes.PEASANT.strength());
@@ -1096,6 +957,7 @@ public class GameStateHelper {
         if (needsNewCapital) {
             createCapital(tile.getKingdom());
         }
+        assert doKingdomAggregatesMatchTiles(gameState);
     }
 
     /**
@@ -1132,13 +994,97 @@ public class GameStateHelper {
             case ACTIVATE_KINGDOM:
                 activateKingdom(gameState, gameState.getMap().get(move.getTilePosition()).getKingdom());
                 break;
+            case PICK_UP_ALL_UNITS:
+                pickUpAllUnits(gameState);
+                break;
+            case BUY_RESERVE_UNIT:
+                buyReserveUnit(gameState, move.getUnitType());
+                break;
+            case COMBINE_RESERVE_UNITS:
+                combineReserveUnits(gameState, move.getUnitType(), move.getOtherUnitType());
+                break;
+            case PLACE_RESERVE_UNIT:
+                takeReserveUnit(gameState, move.getUnitType());
+                placeOwn(gameState, gameState.getMap().get(move.getTilePosition()));
+                break;
+            case CONQUER_WITH_RESERVE_UNIT:
+                takeReserveUnit(gameState, move.getUnitType());
+                conquer(gameState, gameState.getMap().get(move.getTilePosition()));
+                break;
+            case SELL_CASTLE:
+                sellCastle(gameState, gameState.getMap().get(move.getTilePosition()));
+                break;
+            case END_TURN:
+                // applies the scenario events by itself
+                endTurn(gameState);
+                return;
             default:
                 throw new IllegalStateException("Unexpected player move type " + move.getPlayerActionType());
         }
-        applyScenarioEvents(gameState);
+        // the scenarios only react to what the human players do
+        if (gameState.getActivePlayer().getType() != Type.LOCAL_BOT) {
+            applyScenarioEvents(gameState);
+        }
+    }
+
+    /**
+     * Applies the given player action to the given GameState and records what it changed, so that it can be undone
+     * with {@link #undoPlayerMove}.
+     *
+     * @param gameState GameState to act on
+     * @param move      move to apply; ending the turn and undoing a move cannot be undone
+     * @return changes made by the move
+     */
+    public static PlayerMoveDelta applyPlayerMoveReversibly(GameState gameState, PlayerMove move) {
+        // the changes to the turn, the round and the winner are not recorded
+        if (move.getPlayerActionType() == PlayerMoveType.END_TURN
+            || move.getPlayerActionType() == PlayerMoveType.UNDO_LAST_MOVE) {
+            throw new IllegalArgumentException("Player move " + move + " cannot be undone.");
+        }
+        final PlayerMoveDelta delta = new PlayerMoveDelta(gameState, move);
+        gameState.getMap().startRecording(delta);
+        try {
+            applyPlayerMove(gameState, move);
+        } finally {
+            gameState.getMap().stopRecording();
+        }
+        delta.setFingerprintAfterMove(gameState.getFingerprint());
+        return delta;
+    }
+
+    /**
+     * Makes arbitrary changes to the GameState and records them, so that they can be undone with
+     * {@link #undoPlayerMove}. The changes must only modify the tiles via their setters.
+     *
+     * @param gameState GameState to act on
+     * @param changes   changes to make
+     * @return recorded changes
+     */
+    public static PlayerMoveDelta applyChangesReversibly(GameState gameState, Consumer<GameState> changes) {
+        final PlayerMoveDelta delta = new PlayerMoveDelta(gameState, null);
+        gameState.getMap().startRecording(delta);
+        try {
+            changes.accept(gameState);
+        } finally {
+            gameState.getMap().stopRecording();
+        }
+        delta.setFingerprintAfterMove(gameState.getFingerprint());
+        return delta;
     }
 
-    private static void applyScenarioEvents(GameState gameState) {
+    /**
+     * Restores the GameState to what it was before a move. Moves need to be undone in the reverse order they were
+     * applied in.
+     *
+     * @param gameState GameState the move was applied to
+     * @param delta     changes made by the move
+     */
+    public static void undoPlayerMove(GameState gameState, PlayerMoveDelta delta) {
+        delta.undo(gameState);
+        assert doKingdomAggregatesMatchTiles(gameState);
+    }
+
+    static void applyScenarioEvents(GameState gameState) {
         switch (gameState.getScenarioMap()) {
             case TUTORIAL:
                 ScenarioRuleEnforcerTutorial.updateGameState(gameState);
@@ -1151,6 +1097,19 @@ public class GameStateHelper {
         }
     }
 
+    /**
+     * Recalculates the aggregates of all the kingdoms. Only used in assertions after the methods that change tiles
+     * because it is too slow for the game itself.
+     */
+    private static boolean doKingdomAggregatesMatchTiles(GameState gameState) {
+        for (Kingdom kingdom : gameState.getKingdoms()) {
+            if (!kingdom.doAggregatesMatchTiles()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     private static void mergeConnectedKingdoms(GameState gameState, HexTile tile) {
         final Kingdom kingdom = tile.getKingdom();
 
@@ -2,6 +2,7 @@
 
 package de.sesu8642.feudaltactics.lib.gamestate;
 
+import com.badlogic.gdx.utils.Base64Coder;
 import com.badlogic.gdx.utils.Json;
 import com.badlogic.gdx.utils.JsonReader;
 import com.badlogic.gdx.utils.JsonValue;
@@ -10,7 +11,8 @@ import com.badlogic.gdx.utils.JsonWriter;
 import javax.inject.Inject;
 
 /**
- * Helper class to convert a GameState to JSON and vice versa with a simple API.
+ * Helper class to convert a GameState to JSON or the compact format of {@link GameStateBinaryCodec} and vice versa
+ * with a simple API.
  */
 public class GameStateJsonHelper {
 
@@ -23,10 +25,16 @@ public class GameStateJsonHelper {
     }
 
     /**
-     * Takes a JSON string representing a game state and returns the parsed game state.
+     * Takes a string representing a game state and returns the parsed game state. The string can be either JSON or
+     * created by {@link #toCompactString}.
      */
     public GameState fromJson(String jsonString) {
-        final JsonValue jsonValue = jsonReader.parse(jsonString);
+        final String trimmedString = jsonString.trim();
+        // JSON saves are objects, everything else must be the compact format
+        if (!trimmedString.startsWith("{")) {
+            return GameStateBinaryCodec.decode(Base64Coder.decode(trimmedString));
+        }
+        final JsonValue jsonValue = jsonReader.parse(trimmedString);
         return json.readValue(GameState.class, jsonValue);
     }
 
@@ -37,4 +45,12 @@ public class GameStateJsonHelper {
       return json.toJson(gameState, GameState.class);
     };
 
+    /**
+     * Takes a game state object and returns its representation in the compact binary format, encoded as Base64 so it
+     * can be stored as a string. Much smaller and faster than JSON but not human-readable.
+     */
+    public String toCompactString(GameState gameState) {
+        return new String(Base64Coder.encode(GameStateBinaryCodec.encode(gameState)));
+    }
+
 }
@@ -2,15 +2,18 @@
 
 package de.sesu8642.feudaltactics.lib.gamestate;
 
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.IntMap;
 import com.badlogic.gdx.utils.Json;
 import com.badlogic.gdx.utils.Json.Serializer;
 import com.badlogic.gdx.utils.JsonValue;
-import com.badlogic.gdx.utils.JsonWriter.OutputType;
+import com.badlogic.gdx.utils.SerializationException;
+import de.sesu8642.feudaltactics.lib.gamestate.Unit.UnitTypes;
 import de.sesu8642.feudaltactics.lib.ingame.botai.Intelligence;
 
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -18,8 +21,6 @@ import java.util.Map;
  **/
 public class GameStateSerializer implements Serializer<GameState> {
 
-    private static final String KINGDOM_FIELD_NAME = "kingdom";
-    private static final String MAPOBJECTS_CLASS_BASE_NAME = "de.sesu8642.feudaltactics.lib.gamestate.";
     private static final String ACTIVE_KINGDOM_ID_NAME = "active_kingdom_id";
     private static final String WINNER_ID_NAME = "winner_id";
     private static final String WINNING_ROUND_NAME = "winning_round";
@@ -28,6 +29,9 @@ public class GameStateSerializer implements Serializer<GameState> {
     private static final String PLAYER_TURN_FIELD_NAME = "playerTurn";
     private static final String PLAYER_TURN_NAME = "player_turn";
     private static final String HELD_OBJ_NAME = "held_obj";
+    private static final String RESERVE_NAME = "reserve";
+    private static final String RESERVE_UNITS_NAME = "reserve_units";
+    private static final String BOUGHT_CASTLE_TILE_IDS_NAME = "bought_castle_tile_ids";
     private static final String TILE_IDS_NAME = "tile_ids";
     private static final String SAVINGS_NAME = "savings";
     private static final String WAS_ACTIVE_IN_CURRENT_TURN_NAME = "wasActiveInCurrentTurn";
@@ -41,12 +45,22 @@ public class GameStateSerializer implements Serializer<GameState> {
     private static final String PLAYERS_NAME = "players";
     private static final String SEED_FIELD_NAME = "seed";
     private static final String SEED_NAME = "seed";
+    private static final String MAP_GENERATOR_VERSION_FIELD_NAME = "mapGeneratorVersion";
+    private static final String MAP_GENERATOR_VERSION_NAME = "map_generator_version";
     private static final String ROUND_FIELD_NAME = "round";
     private static final String ROUND_NAME = "round";
     private static final String OBJECTIVE_PROGRESS_FIELD_NAME = "objectiveProgress";
     private static final String OBJECTIVE_PROGRESS_NAME = "objective_progress";
     private static final String SCENARIO_MAP_FIELD_NAME = "scenarioMap";
     private static final String SCENARIO_MAP_NAME = "scenario_map";
+    private static final String FINGERPRINT_NAME = "fingerprint";
+    private static final String PLAYER_INDEX_NAME = "playerIndex";
+    private static final String TYPE_NAME = "type";
+    private static final String ROUND_OF_DEFEAT_NAME = "roundOfDefeat";
+    private static final String X_NAME = "x";
+    private static final String Y_NAME = "y";
+    private static final String UNIT_TYPE_NAME = "unitType";
+    private static final String CAN_ACT_NAME = "canAct";
 
     Integer lastId = 0;
 
@@ -111,9 +125,26 @@ public class GameStateSerializer implements Serializer<GameState> {
             json.writeFields(object.getHeldObject());
             json.writeObjectEnd();
         }
+        if (!object.isReserveEmpty()) {
+            json.writeObjectStart(RESERVE_UNITS_NAME);
+            for (UnitTypes unitType : UnitTypes.values()) {
+                if (object.getReserveUnitCount(unitType) != 0) {
+                    json.writeValue(unitType.name(), object.getReserveUnitCount(unitType));
+                }
+            }
+            json.writeObjectEnd();
+        }
+        if (!object.getCastlesBoughtInCurrentTurn().isEmpty()) {
+            json.writeArrayStart(BOUGHT_CASTLE_TILE_IDS_NAME);
+            for (Vector2 position : object.getCastlesBoughtInCurrentTurn()) {
+                json.writeValue(getId(idMap, object.getMap().get(position)));
+            }
+            json.writeArrayEnd();
+        }
         json.writeField(object, PLAYER_TURN_FIELD_NAME, PLAYER_TURN_NAME);
         json.writeField(object, BOT_INTELLIGENCE_FIELD_NAME, BOT_INTELLIGENCE_NAME);
         json.writeField(object, SEED_FIELD_NAME, SEED_NAME);
+        json.writeField(object, MAP_GENERATOR_VERSION_FIELD_NAME, MAP_GENERATOR_VERSION_NAME);
         if (object.getWinner() != null) {
             json.writeValue(WINNER_ID_NAME, getId(idMap, object.getWinner()));
         }
@@ -126,85 +157,81 @@ public class GameStateSerializer implements Serializer<GameState> {
         json.writeField(object, ROUND_FIELD_NAME, ROUND_NAME);
         json.writeField(object, OBJECTIVE_PROGRESS_FIELD_NAME, OBJECTIVE_PROGRESS_NAME);
         json.writeField(object, SCENARIO_MAP_FIELD_NAME, SCENARIO_MAP_NAME);
+        // calculated from scratch so that a mistake in the incremental updates cannot make the save unloadable
+        json.writeValue(FINGERPRINT_NAME, FingerprintHelper.calculateFingerprint(object));
         json.writeObjectEnd();
     }
 
     @Override
     public GameState read(Json json, JsonValue jsonData, Class type) {
-        final Map<Integer, Object> reverseIdMap = new HashMap<>();
+        // the objects are created directly from the parsed JSON tree instead of using reflection because that is
+        // much faster for big maps
+        final IntMap<Player> playersById = new IntMap<>();
+        final IntMap<HexTile> tilesById = new IntMap<>();
+        final IntMap<Kingdom> kingdomsById = new IntMap<>();
 
         final GameState result = new GameState();
-        result.setPlayers(new ArrayList<>());
         final JsonValue playersJson = jsonData.get(PLAYERS_NAME);
-        playersJson.forEach(playerJson -> {
-            final int id = playerJson.getInt(ID_NAME);
-            playerJson.remove(ID_NAME);
-            final Player player = json.fromJson(Player.class, playerJson.toString());
-            reverseIdMap.put(id, player);
+        result.setPlayers(new ArrayList<>(playersJson.size));
+        for (JsonValue playerJson = playersJson.child; playerJson != null; playerJson = playerJson.next) {
+            final Player player = readPlayer(playerJson);
+            playersById.put(playerJson.getInt(ID_NAME), player);
             result.getPlayers().add(player);
-        });
-        result.setMap(new LinkedHashMap<>());
+        }
         final JsonValue tilesJson = jsonData.get(TILES_NAME);
-        tilesJson.forEach(tileJson -> {
-            final int id = tileJson.getInt(ID_NAME);
-            final int playerId = tileJson.getInt(PLAYER_ID_NAME);
-            tileJson.remove(ID_NAME);
-            tileJson.remove(PLAYER_ID_NAME);
-            final JsonValue contentJson = tileJson.get(CONTENT_NAME);
-            int contentId = -1;
-            if (contentJson != null) {
-                contentId = contentJson.getInt(ID_NAME);
-                contentJson.remove(ID_NAME);
-                // replace short class name with full one
-                final String shortClassName = contentJson.getString(CLASS_NAME);
-                contentJson.remove(CLASS_NAME);
-                contentJson.addChild(CLASS_NAME, new JsonValue(MAPOBJECTS_CLASS_BASE_NAME + shortClassName));
-            }
-            final HexTile tile = json.fromJson(HexTile.class, tileJson.toString());
-            if (tile.getContent() != null) {
-                reverseIdMap.put(contentId, tile.getContent());
-            }
-            tile.setPlayer((Player) reverseIdMap.get(playerId));
-            reverseIdMap.put(id, tile);
+        // checked before creating any tiles so that a huge save cannot use up the memory
+        if (tilesJson.size > HexMap.MAX_TILES) {
+            throw new SerializationException("The game state has " + tilesJson.size + " tiles, more than the maximum "
+                + "of " + HexMap.MAX_TILES + ".");
+        }
+        result.setMap(new HexMap(tilesJson.size));
+        for (JsonValue tileJson = tilesJson.child; tileJson != null; tileJson = tileJson.next) {
+            final HexTile tile = readTile(tileJson, playersById);
+            tilesById.put(tileJson.getInt(ID_NAME), tile);
             result.getMap().put(tile.getPosition(), tile);
-        });
-        result.setKingdoms(new ArrayList<>());
+        }
         final JsonValue kingdomsJson = jsonData.get(KINGDOMS_NAME);
-        kingdomsJson.forEach(kingdomJson -> {
-            final int id = kingdomJson.getInt(ID_NAME);
-            final int playerId = kingdomJson.getInt(PLAYER_ID_NAME);
-            final JsonValue tileIdsJson = kingdomJson.get(TILE_IDS_NAME);
-            final ArrayList<HexTile> kingdomTiles = new ArrayList<>();
-            tileIdsJson.forEach(tileIdJson -> {
-                final int tileId = tileIdJson.asInt();
-                kingdomTiles.add((HexTile) reverseIdMap.get(tileId));
-            });
-            kingdomJson.remove(TILE_IDS_NAME);
-            kingdomJson.remove(ID_NAME);
-            kingdomJson.remove(PLAYER_ID_NAME);
-            final Kingdom kingdom = json.fromJson(Kingdom.class, kingdomJson.toString());
-            kingdom.setPlayer((Player) reverseIdMap.get(playerId));
-            kingdom.setTiles(kingdomTiles);
-            reverseIdMap.put(id, kingdom);
+        result.setKingdoms(new ArrayList<>(kingdomsJson.size));
+        for (JsonValue kingdomJson = kingdomsJson.child; kingdomJson != null; kingdomJson = kingdomJson.next) {
+            final Kingdom kingdom = readKingdom(kingdomJson, playersById, tilesById);
+            kingdomsById.put(kingdomJson.getInt(ID_NAME), kingdom);
             result.getKingdoms().add(kingdom);
-        });
-        if (jsonData.has(HELD_OBJ_NAME)) {
-            final JsonValue heldObjJson = jsonData.get(HELD_OBJ_NAME);
-            // replace short class name with full one
-            final String shortClassName = heldObjJson.getString(CLASS_NAME);
-            heldObjJson.remove(CLASS_NAME);
-            heldObjJson.addChild(CLASS_NAME, new JsonValue(MAPOBJECTS_CLASS_BASE_NAME + shortClassName));
-            heldObjJson.remove(KINGDOM_FIELD_NAME);
-            // toString causes an error here... maybe because of the enum?
-            final TileContent heldObject = json.fromJson(TileContent.class, heldObjJson.prettyPrint(OutputType.json,
-                1));
-            result.setHeldObject(heldObject);
+        }
+        final JsonValue heldObjJson = jsonData.get(HELD_OBJ_NAME);
+        if (heldObjJson != null) {
+            result.setHeldObject(readTileContent(heldObjJson));
+        }
+        final JsonValue reserveUnitsJson = jsonData.get(RESERVE_UNITS_NAME);
+        if (reserveUnitsJson != null) {
+            for (JsonValue countJson = reserveUnitsJson.child; countJson != null; countJson = countJson.next) {
+                result.setReserveUnitCount(UnitTypes.valueOf(countJson.name), countJson.asInt());
+            }
+        } else if (jsonData.has(RESERVE_NAME)) {
+            // for backwards compatibility: only the combined strength was saved, peasants can be combined into any unit
+            result.setReserveUnitCount(UnitTypes.PEASANT, jsonData.getInt(RESERVE_NAME));
+        }
+        final JsonValue boughtCastleTileIdsJson = jsonData.get(BOUGHT_CASTLE_TILE_IDS_NAME);
+        if (boughtCastleTileIdsJson != null) {
+            for (JsonValue idJson = boughtCastleTileIdsJson.child; idJson != null; idJson = idJson.next) {
+                final HexTile tile = tilesById.get(idJson.asInt());
+                if (tile == null) {
+                    throw new SerializationException("The bought castle tile " + idJson.asInt() + " does not exist.");
+                }
+                result.getCastlesBoughtInCurrentTurn().add(tile.getPosition());
+            }
         }
         result.setPlayerTurn(jsonData.getInt(PLAYER_TURN_NAME));
         final JsonValue botIntelligenceJson = jsonData.get(BOT_INTELLIGENCE_NAME);
         result.setBotIntelligence(Intelligence.valueOf(botIntelligenceJson.asString()));
         final JsonValue seedJson = jsonData.get(SEED_NAME);
         result.setSeed(seedJson.asLong());
+        final JsonValue mapGeneratorVersionJson = jsonData.get(MAP_GENERATOR_VERSION_NAME);
+        if (mapGeneratorVersionJson != null) {
+            result.setMapGeneratorVersion(MapGeneratorVersion.valueOf(mapGeneratorVersionJson.asString()));
+        } else {
+            // for backwards compatibility
+            result.setMapGeneratorVersion(MapGeneratorVersion.RANDOM_WALK);
+        }
         final JsonValue roundJson = jsonData.get(ROUND_NAME);
         result.setRound(roundJson.asInt());
         final JsonValue objectiveProgessJson = jsonData.get(OBJECTIVE_PROGRESS_NAME);
@@ -223,7 +250,7 @@ public class GameStateSerializer implements Serializer<GameState> {
         }
         if (jsonData.has(WINNER_ID_NAME)) {
             final Integer winnerId = jsonData.getInt(WINNER_ID_NAME);
-            final Player winner = (Player) reverseIdMap.get(winnerId);
+            final Player winner = playersById.get(winnerId);
             result.setWinner(winner);
         }
         if (jsonData.has(WINNING_ROUND_NAME)) {
@@ -232,7 +259,7 @@ public class GameStateSerializer implements Serializer<GameState> {
         }
         if (jsonData.has(ACTIVE_KINGDOM_ID_NAME)) {
             final Integer activeKingdomId = jsonData.getInt(ACTIVE_KINGDOM_ID_NAME);
-            final Kingdom activeKingdom = (Kingdom) reverseIdMap.get(activeKingdomId);
+            final Kingdom activeKingdom = kingdomsById.get(activeKingdomId);
             result.setActiveKingdom(activeKingdom);
         }
         // add missing references
@@ -241,7 +268,69 @@ public class GameStateSerializer implements Serializer<GameState> {
                 tile.setKingdom(kingdom);
             }
         }
+        // older saves don't have a fingerprint
+        if (jsonData.has(FINGERPRINT_NAME)
+            && jsonData.getLong(FINGERPRINT_NAME) != FingerprintHelper.calculateFingerprint(result)) {
+            throw new SerializationException("The loaded game state does not match its fingerprint.");
+        }
         return result;
     }
 
+    private static Player readPlayer(JsonValue playerJson) {
+        final int playerIndex = playerJson.getInt(PLAYER_INDEX_NAME, 0);
+        final Player.Type type = Player.Type.valueOf(playerJson.getString(TYPE_NAME));
+        final JsonValue roundOfDefeatJson = playerJson.get(ROUND_OF_DEFEAT_NAME);
+        final Integer roundOfDefeat = roundOfDefeatJson == null || roundOfDefeatJson.isNull() ? null
+            : roundOfDefeatJson.asInt();
+        return new Player(playerIndex, type, roundOfDefeat);
+    }
+
+    private static HexTile readTile(JsonValue tileJson, IntMap<Player> playersById) {
+        final Player player = playersById.get(tileJson.getInt(PLAYER_ID_NAME));
+        final JsonValue positionJson = tileJson.get(POSITION_NAME);
+        // the JSON writer omits coordinates that are 0
+        final Vector2 position = new Vector2(positionJson.getFloat(X_NAME, 0), positionJson.getFloat(Y_NAME, 0));
+        final HexTile tile = new HexTile(player, position);
+        final JsonValue contentJson = tileJson.get(CONTENT_NAME);
+        if (contentJson != null) {
+            tile.setContent(readTileContent(contentJson));
+        }
+        return tile;
+    }
+
+    private static TileContent readTileContent(JsonValue contentJson) {
+        final String shortClassName = contentJson.getString(CLASS_NAME);
+        switch (shortClassName) {
+            case "Unit":
+                final Unit unit = new Unit(UnitTypes.valueOf(contentJson.getString(UNIT_TYPE_NAME)));
+                unit.setCanAct(contentJson.getBoolean(CAN_ACT_NAME, true));
+                return unit;
+            case "Castle":
+                return new Castle();
+            case "Capital":
+                return new Capital();
+            case "Tree":
+                return new Tree();
+            case "PalmTree":
+                return new PalmTree();
+            case "Gravestone":
+                return new Gravestone();
+            default:
+                throw new SerializationException("Unknown tile content class: " + shortClassName);
+        }
+    }
+
+    private static Kingdom readKingdom(JsonValue kingdomJson, IntMap<Player> playersById,
+                                       IntMap<HexTile> tilesById) {
+        final Kingdom kingdom = new Kingdom(playersById.get(kingdomJson.getInt(PLAYER_ID_NAME)));
+        kingdom.setSavings(kingdomJson.getInt(SAVINGS_NAME, 0));
+        kingdom.setWasActiveInCurrentTurn(kingdomJson.getBoolean(WAS_ACTIVE_IN_CURRENT_TURN_NAME, false));
+        final JsonValue tileIdsJson = kingdomJson.get(TILE_IDS_NAME);
+        final List<HexTile> kingdomTiles = kingdom.getTiles();
+        for (JsonValue tileIdJson = tileIdsJson.child; tileIdJson != null; tileIdJson = tileIdJson.next) {
+            kingdomTiles.add(tilesById.get(tileIdJson.asInt()));
+        }
+        return kingdom;
+    }
+
 }
@@ -0,0 +1,185 @@
+// SPDX-License-Identifier: GPL-3.0-or-later
+
+package de.sesu8642.feudaltactics.lib.gamestate;
+
+import com.badlogic.gdx.math.Vector2;
+import de.sesu8642.feudaltactics.lib.gamestate.Unit.UnitTypes;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Creates snapshots of a game state for displaying it. Every game state that snapshots are taken of gets its own
+ * snapshotter that remembers the previous snapshot. Only the tiles the map reports as changed since then and the
+ * kingdoms containing them are copied again; everything else is shared with the previous snapshot. This only works
+ * because snapshots are never modified.
+ **/
+class GameStateSnapshotter {
+
+    private List<Player> playerCopies = null;
+    // map of the previous snapshot's original and its number of structural modifications back then
+    private HexMap previousOriginalMap = null;
+    private int previousModCount;
+    // indexed by the id of the original tile; belongs to the map of the previous snapshot, so it must not be changed
+    private HexTile[] tileCopies = new HexTile[0];
+    private Map<Kingdom, Kingdom> kingdomCopies = new IdentityHashMap<>();
+    private GameState previousSnapshot = null;
+    private long previousFingerprint;
+
+    /**
+     * Creates a snapshot of the game state.
+     *
+     * @param original game state to take the snapshot of
+     * @return snapshot that must not be modified
+     */
+    GameState createSnapshot(GameState original) {
+        final long fingerprint = original.getFingerprint();
+        if (previousSnapshot != null && fingerprint == previousFingerprint) {
+            // nothing changed, e.g. a bot preview step that didn't do anything
+            return previousSnapshot;
+        }
+        final HexMap originalMap = original.getMap();
+        final BitSet changedTileIds = originalMap.getChangedTileIds();
+        if (!original.getPlayers().equals(playerCopies)) {
+            // everything references the players, so nothing can be shared
+            final List<Player> newPlayerCopies = new ArrayList<>(original.getPlayers().size());
+            for (Player originalPlayer : original.getPlayers()) {
+                newPlayerCopies.add(Player.copyOf(originalPlayer));
+            }
+            playerCopies = Collections.unmodifiableList(newPlayerCopies);
+            tileCopies = new HexTile[0];
+            kingdomCopies = new IdentityHashMap<>();
+        }
+        if (originalMap != previousOriginalMap || originalMap.getModCount() != previousModCount) {
+            // the ids of the tiles might have changed
+            tileCopies = new HexTile[0];
+            kingdomCopies = new IdentityHashMap<>();
+        }
+        if (tileCopies.length == 0) {
+            changedTileIds.set(0, originalMap.getTileIdBound());
+        }
+        final Map<Player, Player> playerMapping = new IdentityHashMap<>();
+        for (int i = 0; i < playerCopies.size(); i++) {
+            playerMapping.put(original.getPlayers().get(i), playerCopies.get(i));
+        }
+
+        // the copies of the kingdoms a changed tile was part of or is part of now
+        final Set<Kingdom> outdatedKingdomCopies = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int id = changedTileIds.nextSetBit(0); id >= 0 && id < originalMap.getTileIdBound();
+             id = changedTileIds.nextSetBit(id + 1)) {
+            if (id < tileCopies.length && tileCopies[id] != null && tileCopies[id].getKingdom() != null) {
+                outdatedKingdomCopies.add(tileCopies[id].getKingdom());
+            }
+            final HexTile originalTile = originalMap.getById(id);
+            if (originalTile != null && originalTile.getKingdom() != null
+                && kingdomCopies.containsKey(originalTile.getKingdom())) {
+                outdatedKingdomCopies.add(kingdomCopies.get(originalTile.getKingdom()));
+            }
+        }
+
+        final Map<Kingdom, Kingdom> newKingdomCopies = new IdentityHashMap<>();
+        final List<Kingdom> changedKingdoms = new ArrayList<>();
+        final List<Kingdom> snapshotKingdoms = new ArrayList<>(original.getKingdoms().size());
+        for (Kingdom originalKingdom : original.getKingdoms()) {
+            Kingdom kingdomCopy = kingdomCopies.get(originalKingdom);
+            if (kingdomCopy == null || outdatedKingdomCopies.contains(kingdomCopy)
+                || !isKingdomReusable(originalKingdom, kingdomCopy, playerMapping)) {
+                kingdomCopy = new Kingdom(playerMapping.get(originalKingdom.getPlayer()));
+                kingdomCopy.setSavings(originalKingdom.getSavings());
+                kingdomCopy.setDoneMoving(originalKingdom.isDoneMoving());
+                kingdomCopy.setWasActiveInCurrentTurn(originalKingdom.isWasActiveInCurrentTurn());
+                changedKingdoms.add(originalKingdom);
+            }
+            newKingdomCopies.put(originalKingdom, kingdomCopy);
+            snapshotKingdoms.add(kingdomCopy);
+        }
+
+        final HexTile[] newTileCopies = Arrays.copyOf(tileCopies, originalMap.getTileIdBound());
+        for (int id = changedTileIds.nextSetBit(0); id >= 0 && id < originalMap.getTileIdBound();
+             id = changedTileIds.nextSetBit(id + 1)) {
+            final HexTile originalTile = originalMap.getById(id);
+            newTileCopies[id] = originalTile == null ? null : copyTile(originalTile, newKingdomCopies, playerMapping);
+        }
+        for (Kingdom originalKingdom : changedKingdoms) {
+            final List<HexTile> tiles = new ArrayList<>(originalKingdom.getTiles().size());
+            for (HexTile originalTile : originalKingdom.getTiles()) {
+                if (!HexMapHelper.isPartOfMap(originalMap, originalTile)) {
+                    continue;
+                }
+                final int id = originalTile.getId();
+                if (!changedTileIds.get(id)) {
+                    // unchanged tile that needs to reference the new kingdom copy
+                    newTileCopies[id] = copyTile(originalTile, newKingdomCopies, playerMapping);
+                }
+                tiles.add(newTileCopies[id]);
+            }
+            newKingdomCopies.get(originalKingdom).setTiles(Collections.unmodifiableList(tiles));
+        }
+        changedTileIds.clear();
+        final HexMap snapshotMap = originalMap.createReadOnlyCopy(newTileCopies);
+
+        tileCopies = newTileCopies;
+        kingdomCopies = newKingdomCopies;
+        previousOriginalMap = originalMap;
+        previousModCount = originalMap.getModCount();
+
+        final GameState result = new GameState();
+        result.setPlayers(playerCopies);
+        if (original.getWinner() != null) {
+            result.setWinner(playerMapping.get(original.getWinner()));
+        }
+        result.setWinningRound(original.getWinningRound());
+        result.setBotIntelligence(original.getBotIntelligence());
+        result.setKingdoms(Collections.unmodifiableList(snapshotKingdoms));
+        result.setMap(snapshotMap);
+        if (original.getActiveKingdom() != null) {
+            result.setActiveKingdom(newKingdomCopies.get(original.getActiveKingdom()));
+        }
+        if (original.getHeldObject() != null) {
+            result.setHeldObject(original.getHeldObject().getCopy());
+        }
+        for (UnitTypes unitType : UnitTypes.values()) {
+            result.setReserveUnitCount(unitType, original.getReserveUnitCount(unitType));
+        }
+        result.setCastlesBoughtInCurrentTurn(original.getCastlesBoughtInCurrentTurn());
+        result.setSeed(original.getSeed());
+        result.setMapGeneratorVersion(original.getMapGeneratorVersion());
+        result.setPlayerTurn(original.getPlayerTurn());
+        result.setRound(original.getRound());
+        result.setObjectiveProgress(original.getObjectiveProgress());
+        result.setScenarioMap(original.getScenarioMap());
+        previousSnapshot = result;
+        previousFingerprint = fingerprint;
+        return result;
+    }
+
+    private static HexTile copyTile(HexTile originalTile, Map<Kingdom, Kingdom> kingdomCopies,
+                                    Map<Player, Player> playerMapping) {
+        final HexTile tileCopy = new HexTile(playerMapping.get(originalTile.getPlayer()),
+            new Vector2(originalTile.getPosition()));
+        if (originalTile.getKingdom() != null) {
+            tileCopy.setKingdom(kingdomCopies.get(originalTile.getKingdom()));
+        }
+        if (originalTile.getContent() != null) {
+            tileCopy.setContent(originalTile.getContent().getCopy());
+        }
+        tileCopy.setId(originalTile.getId());
+        return tileCopy;
+    }
+
+    private static boolean isKingdomReusable(Kingdom originalKingdom, Kingdom kingdomCopy,
+                                             Map<Player, Player> playerMapping) {
+        return kingdomCopy.getSavings() == originalKingdom.getSavings()
+            && kingdomCopy.isDoneMoving() == originalKingdom.isDoneMoving()
+            && kingdomCopy.isWasActiveInCurrentTurn() == originalKingdom.isWasActiveInCurrentTurn()
+            && kingdomCopy.getPlayer() == playerMapping.get(originalKingdom.getPlayer())
+            && kingdomCopy.getTiles().size() == originalKingdom.getTiles().size();
+    }
+
+}
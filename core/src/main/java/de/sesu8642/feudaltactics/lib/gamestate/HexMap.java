@@ -0,0 +1,956 @@
+// SPDX-License-Identifier: GPL-3.0-or-later
+
+package de.sesu8642.feudaltactics.lib.gamestate;
+
+import com.badlogic.gdx.math.Vector2;
+import de.sesu8642.feudaltactics.ingame.NewGamePreferences.MapSizes;
+
+import java.util.AbstractCollection;
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+
+/**
+ * Map of all the tiles in a game. Tiles are stored in a dense array and are identified by an integer id that stays
+ * the same for as long as the tile is part of the map. The ids are handed out in insertion order, so iterating
+ * over them gives the same fixed order a {@link java.util.LinkedHashMap} would. Looking up a tile by its hex
+ * coordinates goes through a primitive index on the packed integer coordinates and does not allocate. The world
+ * coordinates of every tile are calculated once when it is added. The ids of the neighbors and the neighbors'
+ * neighbors of every tile are kept in adjacency tables that are patched locally whenever a tile is added or removed.
+ * The trees and the protection levels of the tiles are tracked as well, see {@link TreeSpreadIndex} and
+ * {@link ProtectionLevelIndex}.
+ **/
+public class HexMap extends AbstractMap<Vector2, HexTile> {
+
+    /**
+     * Returned by {@link #getTileId} if there is no tile at the given position.
+     */
+    public static final int NO_TILE = -1;
+
+    /**
+     * Number of neighbors every tile has.
+     */
+    public static final int NEIGHBOR_COUNT = 6;
+
+    /**
+     * Number of tiles that are 2 tiles away from every tile.
+     */
+    public static final int NEIGHBORS_NEIGHBOR_COUNT = 12;
+
+    /**
+     * Maximum number of tiles of a map that is generated, loaded or edited. Maps with more tiles than the largest size
+     * in the new game menu are generated with {@link MapGeneratorVersion#WEIGHTED_FRONTIER}.
+     */
+    public static final int MAX_TILES = 100 * MapSizes.XXLARGE.getAmountOfTiles();
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * Compaction is only worth it once there is a certain amount of removed tiles.
+     */
+    private static final int MIN_HOLES_TO_COMPACT = 32;
+
+    private HexTile[] tiles;
+    private Vector2[] keys;
+    private float[] worldX;
+    private float[] worldY;
+    // ids above this one were never used
+    private int tileIdBound = 0;
+    private int size = 0;
+
+    // open addressing index: packed coordinates -> tile id + 1 (0 meaning the slot is free)
+    private long[] indexKeys;
+    private int[] indexValues;
+
+    // adjacency tables: ids of the neighbors of tile i are at [i * NEIGHBOR_COUNT, (i + 1) * NEIGHBOR_COUNT)
+    private int[] neighborIds;
+    private int[] neighborsNeighborIds;
+    // lazily created list views on the adjacency tables
+    private List<HexTile>[] neighborTileLists;
+    private List<HexTile>[] neighborsNeighborTileLists;
+
+    // structural modifications, for detecting them during iteration
+    private int modCount = 0;
+    // combined keys of all the tiles, see FingerprintHelper
+    private long fingerprint = 0;
+    private TreeSpreadIndex treeSpreadIndex = new TreeSpreadIndex(this);
+    private ProtectionLevelIndex protectionLevelIndex;
+    // ids of the tiles that belong to no kingdom; the others can be found via the kingdoms
+    private BitSet tileIdsWithoutKingdom = new BitSet();
+    // records the changes of a player move while it is being applied, null otherwise
+    private PlayerMoveDelta recordingDelta;
+    // told the ids of the tiles that are about to change, null if there is nobody to tell
+    private IntConsumer tileChangeListener;
+    // ids of the tiles that were added, removed or changed since the last snapshot, see GameStateSnapshotter
+    private BitSet changedTileIds = new BitSet();
+    // whether the layout arrays (keys, world coordinates, coordinate index and adjacency tables) are shared with
+    // read-only copies and need to be copied before they are changed
+    private boolean layoutShared = false;
+    // read-only copies share the layout of the map they were created from and don't keep any indexes
+    private boolean readOnly = false;
+
+    private Set<Entry<Vector2, HexTile>> entrySet;
+    private Set<Vector2> keySet;
+    private Collection<HexTile> values;
+
+    public HexMap() {
+        this(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param expectedSize amount of tiles the map is expected to hold
+     */
+    public HexMap(int expectedSize) {
+        final int capacity = Math.max(INITIAL_CAPACITY, expectedSize);
+        tiles = new HexTile[capacity];
+        keys = new Vector2[capacity];
+        worldX = new float[capacity];
+        worldY = new float[capacity];
+        neighborIds = new int[capacity * NEIGHBOR_COUNT];
+        neighborsNeighborIds = new int[capacity * NEIGHBORS_NEIGHBOR_COUNT];
+        neighborTileLists = createListArray(capacity);
+        neighborsNeighborTileLists = createListArray(capacity);
+        final int indexCapacity = Integer.highestOneBit(capacity - 1) << 2;
+        indexKeys = new long[indexCapacity];
+        indexValues = new int[indexCapacity];
+        protectionLevelIndex = new ProtectionLevelIndex(this, capacity);
+    }
+
+    /**
+     * Constructor that copies all the entries of another map, keeping their iteration order.
+     *
+     * @param map map to copy
+     */
+    public HexMap(Map<Vector2, HexTile> map) {
+        this(map.size());
+        putAll(map);
+    }
+
+    /**
+     * Creates a read-only map with the same layout as this one, meaning the same keys, ids, iteration order and
+     * adjacency tables, but holding other tiles. The layout is shared with this map until it adds or removes tiles.
+     * The copy doesn't keep any indexes; it calculates the protection levels when they are requested.
+     *
+     * @param tilesById tiles of the copy indexed by id; they must have the same ids, contents and kingdoms as the ones
+     *                  in this map and are not changed, so they can be part of other copies as well
+     * @return new map
+     */
+    HexMap createReadOnlyCopy(HexTile[] tilesById) {
+        if (tilesById.length < tileIdBound) {
+            throw new IllegalArgumentException("Expected tiles for " + tileIdBound + " ids but got "
+                + tilesById.length);
+        }
+        final HexMap result = new HexMap(0);
+        result.readOnly = true;
+        result.tiles = tilesById;
+        result.keys = keys;
+        result.worldX = worldX;
+        result.worldY = worldY;
+        result.indexKeys = indexKeys;
+        result.indexValues = indexValues;
+        result.neighborIds = neighborIds;
+        result.neighborsNeighborIds = neighborsNeighborIds;
+        // the views are created when they are first needed
+        result.neighborTileLists = null;
+        result.neighborsNeighborTileLists = null;
+        result.tileIdBound = tileIdBound;
+        result.size = size;
+        result.fingerprint = fingerprint;
+        result.treeSpreadIndex = treeSpreadIndex.copyPredictionFor(result);
+        result.protectionLevelIndex = null;
+        result.tileIdsWithoutKingdom = null;
+        layoutShared = true;
+        return result;
+    }
+
+    /**
+     * Copies the layout arrays if they are shared with read-only copies, so that they can be changed.
+     */
+    private void unshareLayout() {
+        if (readOnly) {
+            throw new UnsupportedOperationException("Read-only maps can't be changed.");
+        }
+        if (layoutShared) {
+            keys = keys.clone();
+            worldX = worldX.clone();
+            worldY = worldY.clone();
+            indexKeys = indexKeys.clone();
+            indexValues = indexValues.clone();
+            neighborIds = neighborIds.clone();
+            neighborsNeighborIds = neighborsNeighborIds.clone();
+            layoutShared = false;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<HexTile>[] createListArray(int length) {
+        return (List<HexTile>[]) new List[length];
+    }
+
+    private static long packCoords(int x, int y) {
+        return ((long) x << 32) | (y & 0xFFFFFFFFL);
+    }
+
+    private static boolean isIntegral(float value) {
+        return (int) value == value;
+    }
+
+    private static int indexSlot(long packedCoords, int mask) {
+        long hash = packedCoords * 0x9E3779B97F4A7C15L;
+        hash ^= hash >>> 32;
+        return (int) hash & mask;
+    }
+
+    /**
+     * Returns the tile at the given hex coordinates without allocating anything.
+     *
+     * @param x x hex coordinate
+     * @param y y hex coordinate
+     * @return tile or null if there is none
+     */
+    public HexTile get(int x, int y) {
+        final int id = getTileId(x, y);
+        return id == NO_TILE ? null : tiles[id];
+    }
+
+    /**
+     * Returns the id of the tile at the given hex coordinates.
+     *
+     * @param x x hex coordinate
+     * @param y y hex coordinate
+     * @return tile id or {@link #NO_TILE} if there is none
+     */
+    public int getTileId(int x, int y) {
+        final long packedCoords = packCoords(x, y);
+        final int mask = indexKeys.length - 1;
+        int slot = indexSlot(packedCoords, mask);
+        while (indexValues[slot] != 0) {
+            if (indexKeys[slot] == packedCoords) {
+                return indexValues[slot] - 1;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return NO_TILE;
+    }
+
+    /**
+     * Returns the tile with the given id.
+     *
+     * @param tileId id of the tile
+     * @return tile or null if the tile was removed
+     */
+    public HexTile getById(int tileId) {
+        return tiles[tileId];
+    }
+
+    /**
+     * Returns an exclusive upper bound for the ids of the tiles in this map. Can be used for sizing arrays indexed by
+     * tile id.
+     *
+     * @return tile id bound
+     */
+    public int getTileIdBound() {
+        return tileIdBound;
+    }
+
+    /**
+     * Returns the world x coordinate of the center of the tile with the given id.
+     *
+     * @param tileId id of the tile
+     * @return world x coordinate
+     */
+    public float getWorldX(int tileId) {
+        return worldX[tileId];
+    }
+
+    /**
+     * Returns the world y coordinate of the center of the tile with the given id.
+     *
+     * @param tileId id of the tile
+     * @return world y coordinate
+     */
+    public float getWorldY(int tileId) {
+        return worldY[tileId];
+    }
+
+    /**
+     * Returns the id of a neighbor of the tile with the given id.
+     *
+     * @param tileId    id of the center tile
+     * @param direction index of the neighbor, in the order of {@link HexMapHelper#getNeighborCoords}
+     * @return neighbor tile id or {@link #NO_TILE} if there is none
+     */
+    public int getNeighborId(int tileId, int direction) {
+        return neighborIds[tileId * NEIGHBOR_COUNT + direction];
+    }
+
+    /**
+     * Returns the id of a tile that is 2 tiles away from the tile with the given id.
+     *
+     * @param tileId id of the center tile
+     * @param index  index of the tile, in the order of {@link HexMapHelper#getNeighborsNeighborCoords}
+     * @return tile id or {@link #NO_TILE} if there is none
+     */
+    public int getNeighborsNeighborId(int tileId, int index) {
+        return neighborsNeighborIds[tileId * NEIGHBORS_NEIGHBOR_COUNT + index];
+    }
+
+    /**
+     * Returns an unmodifiable list view of the neighbors of the tile with the given id. Contains null for empty
+     * neighbor positions. The view is cached and always reflects the current state of the map.
+     *
+     * @param tileId id of the center tile
+     * @return neighbor tiles
+     */
+    public List<HexTile> getNeighborTiles(int tileId) {
+        if (neighborTileLists == null) {
+            neighborTileLists = createListArray(tiles.length);
+        }
+        List<HexTile> neighborTiles = neighborTileLists[tileId];
+        if (neighborTiles == null) {
+            neighborTiles = new NeighborTileList(tileId, false);
+            neighborTileLists[tileId] = neighborTiles;
+        }
+        return neighborTiles;
+    }
+
+    /**
+     * Returns an unmodifiable list view of the tiles that are 2 tiles away from the tile with the given id. Contains
+     * null for empty positions. The view is cached and always reflects the current state of the map.
+     *
+     * @param tileId id of the center tile
+     * @return neighbors' neighbor tiles
+     */
+    public List<HexTile> getNeighborsNeighborTiles(int tileId) {
+        if (neighborsNeighborTileLists == null) {
+            neighborsNeighborTileLists = createListArray(tiles.length);
+        }
+        List<HexTile> neighborsNeighborTiles = neighborsNeighborTileLists[tileId];
+        if (neighborsNeighborTiles == null) {
+            neighborsNeighborTiles = new NeighborTileList(tileId, true);
+            neighborsNeighborTileLists[tileId] = neighborsNeighborTiles;
+        }
+        return neighborsNeighborTiles;
+    }
+
+    /**
+     * Returns the combined fingerprint keys of all the tiles in the map. Kept up to date while tiles are added,
+     * removed or changed.
+     *
+     * @return combined tile keys
+     */
+    public long getFingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * Adds the key of a tile of this map to the fingerprint or removes it again. Used by the tiles themselves to
+     * replace their key when they change.
+     *
+     * @param tile tile of this map
+     */
+    void flipTileInFingerprint(HexTile tile) {
+        fingerprint ^= FingerprintHelper.getTileKey(keys[tile.getId()], tile.getPlayer(), tile.getContent());
+    }
+
+    /**
+     * Starts recording the changes to the tiles into the given delta.
+     *
+     * @param delta delta to record into
+     */
+    void startRecording(PlayerMoveDelta delta) {
+        if (recordingDelta != null) {
+            throw new IllegalStateException("Already recording a player move.");
+        }
+        recordingDelta = delta;
+    }
+
+    /**
+     * Stops recording the changes to the tiles.
+     */
+    void stopRecording() {
+        recordingDelta = null;
+    }
+
+    /**
+     * Sets the listener that is told the id of every tile that is about to change its player, content or kingdom.
+     * Not copied along with the map.
+     *
+     * @param listener listener, null to remove the current one
+     */
+    public void setTileChangeListener(IntConsumer listener) {
+        if (listener != null && tileChangeListener != null) {
+            throw new IllegalStateException("There is already a tile change listener.");
+        }
+        tileChangeListener = listener;
+    }
+
+    /**
+     * Notifies the map that one of its tiles is about to change its player or content.
+     *
+     * @param tile tile of this map that still has its old values
+     */
+    void tileChanging(HexTile tile) {
+        changedTileIds.set(tile.getId());
+        if (recordingDelta != null) {
+            recordingDelta.recordTile(tile);
+        }
+        if (tileChangeListener != null) {
+            tileChangeListener.accept(tile.getId());
+        }
+    }
+
+    /**
+     * Notifies the map that the savings or flags of the kingdom of some of its tiles are about to change.
+     *
+     * @param kingdom kingdom that still has its old values
+     */
+    void kingdomValuesChanging(Kingdom kingdom) {
+        if (recordingDelta != null) {
+            recordingDelta.recordKingdomValues(kingdom);
+        }
+    }
+
+    /**
+     * Notifies the map that one of its tiles is about to change its kingdom.
+     *
+     * @param tile       tile of this map that still has its old values
+     * @param newKingdom kingdom the tile is going to be part of
+     */
+    void kingdomChanging(HexTile tile, Kingdom newKingdom) {
+        changedTileIds.set(tile.getId());
+        if (recordingDelta != null) {
+            recordingDelta.recordTile(tile);
+            recordingDelta.recordKingdomTiles(newKingdom);
+        }
+        if (tileChangeListener != null) {
+            tileChangeListener.accept(tile.getId());
+        }
+    }
+
+    /**
+     * Returns the ids of the tiles that were added, removed or changed since the last snapshot. The
+     * {@link GameStateSnapshotter} clears them after taking a snapshot.
+     *
+     * @return tile ids
+     */
+    BitSet getChangedTileIds() {
+        return changedTileIds;
+    }
+
+    /**
+     * Returns the number of structural modifications, meaning tiles being added or removed. Those can change the
+     * ids of the other tiles as well.
+     *
+     * @return number of modifications
+     */
+    int getModCount() {
+        return modCount;
+    }
+
+    /**
+     * Notifies the map that the content of one of its tiles changed.
+     *
+     * @param tile            tile of this map
+     * @param previousContent content the tile had before
+     */
+    void contentChanged(HexTile tile, TileContent previousContent) {
+        treeSpreadIndex.contentChanged(tile.getId(), previousContent, tile.getContent());
+        protectionLevelIndex.tileChanged(tile.getId());
+    }
+
+    /**
+     * Notifies the map that one of its tiles changed its kingdom.
+     *
+     * @param tile tile of this map
+     */
+    void kingdomChanged(HexTile tile) {
+        protectionLevelIndex.tileChanged(tile.getId());
+        tileIdsWithoutKingdom.set(tile.getId(), tile.getKingdom() == null);
+    }
+
+    /**
+     * Returns the protection level of a tile, which is the highest strength of its own content and the contents of
+     * the neighbors in the same kingdom. Kept up to date while tiles are added, removed or changed.
+     *
+     * @param tileId id of the tile
+     * @return protection level
+     */
+    public int getProtectionLevel(int tileId) {
+        if (readOnly) {
+            // the tiles of read-only maps never change, so there is no need to keep all the levels
+            return tiles[tileId] == null ? 0 : ProtectionLevelIndex.calculateProtectionLevel(this, tiles[tileId]);
+        }
+        return protectionLevelIndex.getProtectionLevel(tileId);
+    }
+
+    /**
+     * Returns the index of the trees in this map.
+     *
+     * @return tree spread index
+     */
+    TreeSpreadIndex getTreeSpreadIndex() {
+        return treeSpreadIndex;
+    }
+
+    /**
+     * Returns the ids of the tiles that belong to no kingdom. Kept up to date while tiles are added, removed or
+     * changed.
+     *
+     * @return tile ids, must not be modified
+     */
+    BitSet getTileIdsWithoutKingdom() {
+        if (readOnly) {
+            final BitSet result = new BitSet();
+            for (int id = 0; id < tileIdBound; id++) {
+                result.set(id, tiles[id] != null && tiles[id].getKingdom() == null);
+            }
+            return result;
+        }
+        return tileIdsWithoutKingdom;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public HexTile get(Object key) {
+        if (!(key instanceof Vector2)) {
+            return null;
+        }
+        final Vector2 coords = (Vector2) key;
+        if (!isIntegral(coords.x) || !isIntegral(coords.y)) {
+            return null;
+        }
+        return get((int) coords.x, (int) coords.y);
+    }
+
+    @Override
+    public HexTile put(Vector2 key, HexTile value) {
+        if (!isIntegral(key.x) || !isIntegral(key.y)) {
+            throw new IllegalArgumentException("Hex coordinates must be integers but are " + key);
+        }
+        if (value == null) {
+            throw new IllegalArgumentException("Tile must not be null.");
+        }
+        final int x = (int) key.x;
+        final int y = (int) key.y;
+        if (readOnly) {
+            throw new UnsupportedOperationException("Read-only maps can't be changed.");
+        }
+        final int existingId = getTileId(x, y);
+        if (existingId != NO_TILE) {
+            // like a LinkedHashMap, keep the original key and the position in the iteration order
+            final HexTile previous = tiles[existingId];
+            flipTileInFingerprint(previous);
+            previous.setId(NO_TILE);
+            previous.setMap(null);
+            tiles[existingId] = value;
+            value.setId(existingId);
+            value.setMap(this);
+            flipTileInFingerprint(value);
+            treeSpreadIndex.tileRemoved(existingId);
+            treeSpreadIndex.tileAdded(existingId, value);
+            protectionLevelIndex.tileChanged(existingId);
+            tileIdsWithoutKingdom.set(existingId, value.getKingdom() == null);
+            changedTileIds.set(existingId);
+            return previous;
+        }
+        unshareLayout();
+        if (tileIdBound == tiles.length) {
+            if (tileIdBound - size >= MIN_HOLES_TO_COMPACT && tileIdBound - size >= size) {
+                compact();
+            } else {
+                grow();
+            }
+        }
+        final int id = tileIdBound++;
+        tiles[id] = value;
+        keys[id] = key;
+        final Vector2 worldCoords = HexMapHelper.hexCoordsToWorldCoords(key);
+        worldX[id] = worldCoords.x;
+        worldY[id] = worldCoords.y;
+        value.setId(id);
+        value.setMap(this);
+        flipTileInFingerprint(value);
+        insertIntoIndex(packCoords(x, y), id);
+        linkNeighbors(id, x, y);
+        treeSpreadIndex.tileAdded(id, value);
+        protectionLevelIndex.tileChanged(id);
+        tileIdsWithoutKingdom.set(id, value.getKingdom() == null);
+        changedTileIds.set(id);
+        size++;
+        modCount++;
+        return null;
+    }
+
+    @Override
+    public HexTile remove(Object key) {
+        if (!(key instanceof Vector2)) {
+            return null;
+        }
+        final Vector2 coords = (Vector2) key;
+        if (!isIntegral(coords.x) || !isIntegral(coords.y)) {
+            return null;
+        }
+        if (get(coords) == null) {
+            return null;
+        }
+        unshareLayout();
+        final int id = removeFromIndex(packCoords((int) coords.x, (int) coords.y));
+        if (id == NO_TILE) {
+            return null;
+        }
+        final HexTile removed = tiles[id];
+        flipTileInFingerprint(removed);
+        unlinkNeighbors(id);
+        treeSpreadIndex.tileRemoved(id);
+        tiles[id] = null;
+        keys[id] = null;
+        removed.setId(NO_TILE);
+        removed.setMap(null);
+        protectionLevelIndex.tileChanged(id);
+        tileIdsWithoutKingdom.clear(id);
+        changedTileIds.set(id);
+        size--;
+        modCount++;
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+        unshareLayout();
+        for (int id = 0; id < tileIdBound; id++) {
+            if (tiles[id] != null) {
+                tiles[id].setId(NO_TILE);
+                tiles[id].setMap(null);
+            }
+        }
+        Arrays.fill(tiles, 0, tileIdBound, null);
+        Arrays.fill(keys, 0, tileIdBound, null);
+        Arrays.fill(neighborTileLists, 0, tileIdBound, null);
+        Arrays.fill(neighborsNeighborTileLists, 0, tileIdBound, null);
+        Arrays.fill(indexValues, 0);
+        tileIdBound = 0;
+        size = 0;
+        fingerprint = 0;
+        treeSpreadIndex = new TreeSpreadIndex(this);
+        protectionLevelIndex = new ProtectionLevelIndex(this, tiles.length);
+        tileIdsWithoutKingdom = new BitSet();
+        changedTileIds = new BitSet();
+        modCount++;
+    }
+
+    private void insertIntoIndex(long packedCoords, int id) {
+        final int mask = indexKeys.length - 1;
+        int slot = indexSlot(packedCoords, mask);
+        while (indexValues[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        indexKeys[slot] = packedCoords;
+        indexValues[slot] = id + 1;
+    }
+
+    private int removeFromIndex(long packedCoords) {
+        final int mask = indexKeys.length - 1;
+        int slot = indexSlot(packedCoords, mask);
+        while (indexValues[slot] != 0 && indexKeys[slot] != packedCoords) {
+            slot = (slot + 1) & mask;
+        }
+        if (indexValues[slot] == 0) {
+            return NO_TILE;
+        }
+        final int id = indexValues[slot] - 1;
+        // shift back following entries of the same probe sequence so that no tombstones are needed
+        int freeSlot = slot;
+        int currentSlot = slot;
+        while (true) {
+            currentSlot = (currentSlot + 1) & mask;
+            if (indexValues[currentSlot] == 0) {
+                break;
+            }
+            final int desiredSlot = indexSlot(indexKeys[currentSlot], mask);
+            if (((currentSlot - desiredSlot) & mask) >= ((currentSlot - freeSlot) & mask)) {
+                indexKeys[freeSlot] = indexKeys[currentSlot];
+                indexValues[freeSlot] = indexValues[currentSlot];
+                freeSlot = currentSlot;
+            }
+        }
+        indexValues[freeSlot] = 0;
+        return id;
+    }
+
+    private void grow() {
+        final int newCapacity = tiles.length * 2;
+        tiles = Arrays.copyOf(tiles, newCapacity);
+        keys = Arrays.copyOf(keys, newCapacity);
+        worldX = Arrays.copyOf(worldX, newCapacity);
+        worldY = Arrays.copyOf(worldY, newCapacity);
+        neighborIds = Arrays.copyOf(neighborIds, newCapacity * NEIGHBOR_COUNT);
+        neighborsNeighborIds = Arrays.copyOf(neighborsNeighborIds, newCapacity * NEIGHBORS_NEIGHBOR_COUNT);
+        neighborTileLists = Arrays.copyOf(neighborTileLists, newCapacity);
+        neighborsNeighborTileLists = Arrays.copyOf(neighborsNeighborTileLists, newCapacity);
+        indexKeys = new long[indexKeys.length * 2];
+        indexValues = new int[indexValues.length * 2];
+        rebuildIndex();
+    }
+
+    /**
+     * Closes the gaps left by removed tiles. Changes the ids of the tiles but keeps their order.
+     */
+    private void compact() {
+        int newId = 0;
+        for (int id = 0; id < tileIdBound; id++) {
+            if (tiles[id] != null) {
+                tiles[newId] = tiles[id];
+                keys[newId] = keys[id];
+                worldX[newId] = worldX[id];
+                worldY[newId] = worldY[id];
+                tiles[newId].setId(newId);
+                newId++;
+            }
+        }
+        Arrays.fill(tiles, newId, tileIdBound, null);
+        Arrays.fill(keys, newId, tileIdBound, null);
+        // the views are bound to the old ids
+        Arrays.fill(neighborTileLists, 0, tileIdBound, null);
+        Arrays.fill(neighborsNeighborTileLists, 0, tileIdBound, null);
+        tileIdBound = newId;
+        rebuildIndex();
+        for (int id = 0; id < tileIdBound; id++) {
+            linkNeighbors(id, (int) keys[id].x, (int) keys[id].y);
+        }
+        treeSpreadIndex.rebuild();
+        protectionLevelIndex.rebuild();
+        tileIdsWithoutKingdom.clear();
+        for (int id = 0; id < tileIdBound; id++) {
+            tileIdsWithoutKingdom.set(id, tiles[id].getKingdom() == null);
+        }
+    }
+
+    /**
+     * Fills the adjacency table rows of a new tile and adds it to the rows of the tiles around it.
+     */
+    private void linkNeighbors(int id, int x, int y) {
+        for (int i = 0; i < NEIGHBOR_COUNT; i++) {
+            final int neighborId = getTileId(x + HexMapHelper.NEIGHBOR_OFFSETS_X[i],
+                y + HexMapHelper.NEIGHBOR_OFFSETS_Y[i]);
+            neighborIds[id * NEIGHBOR_COUNT + i] = neighborId;
+            if (neighborId != NO_TILE) {
+                // the opposite direction is always 3 positions further
+                neighborIds[neighborId * NEIGHBOR_COUNT + (i + NEIGHBOR_COUNT / 2) % NEIGHBOR_COUNT] = id;
+            }
+        }
+        for (int i = 0; i < NEIGHBORS_NEIGHBOR_COUNT; i++) {
+            final int neighborsNeighborId = getTileId(x + HexMapHelper.NEIGHBORS_NEIGHBOR_OFFSETS_X[i],
+                y + HexMapHelper.NEIGHBORS_NEIGHBOR_OFFSETS_Y[i]);
+            neighborsNeighborIds[id * NEIGHBORS_NEIGHBOR_COUNT + i] = neighborsNeighborId;
+            if (neighborsNeighborId != NO_TILE) {
+                neighborsNeighborIds[neighborsNeighborId * NEIGHBORS_NEIGHBOR_COUNT
+                    + (i + NEIGHBORS_NEIGHBOR_COUNT / 2) % NEIGHBORS_NEIGHBOR_COUNT] = id;
+            }
+        }
+    }
+
+    /**
+     * Removes a tile from the adjacency table rows of the tiles around it.
+     */
+    private void unlinkNeighbors(int id) {
+        for (int i = 0; i < NEIGHBOR_COUNT; i++) {
+            final int neighborId = neighborIds[id * NEIGHBOR_COUNT + i];
+            if (neighborId != NO_TILE) {
+                neighborIds[neighborId * NEIGHBOR_COUNT + (i + NEIGHBOR_COUNT / 2) % NEIGHBOR_COUNT] = NO_TILE;
+            }
+        }
+        for (int i = 0; i < NEIGHBORS_NEIGHBOR_COUNT; i++) {
+            final int neighborsNeighborId = neighborsNeighborIds[id * NEIGHBORS_NEIGHBOR_COUNT + i];
+            if (neighborsNeighborId != NO_TILE) {
+                neighborsNeighborIds[neighborsNeighborId * NEIGHBORS_NEIGHBOR_COUNT
+                    + (i + NEIGHBORS_NEIGHBOR_COUNT / 2) % NEIGHBORS_NEIGHBOR_COUNT] = NO_TILE;
+            }
+        }
+        neighborTileLists[id] = null;
+        neighborsNeighborTileLists[id] = null;
+    }
+
+    private void rebuildIndex() {
+        Arrays.fill(indexValues, 0);
+        for (int id = 0; id < tileIdBound; id++) {
+            if (keys[id] != null) {
+                insertIntoIndex(packCoords((int) keys[id].x, (int) keys[id].y), id);
+            }
+        }
+    }
+
+    @Override
+    public Set<Entry<Vector2, HexTile>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new AbstractSet<Entry<Vector2, HexTile>>() {
+                @Override
+                public Iterator<Entry<Vector2, HexTile>> iterator() {
+                    return new HexMapIterator<Entry<Vector2, HexTile>>() {
+                        @Override
+                        Entry<Vector2, HexTile> element(int id) {
+                            return new SimpleImmutableEntry<>(keys[id], tiles[id]);
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return size;
+                }
+            };
+        }
+        return entrySet;
+    }
+
+    @Override
+    public Set<Vector2> keySet() {
+        if (keySet == null) {
+            keySet = new AbstractSet<Vector2>() {
+                @Override
+                public Iterator<Vector2> iterator() {
+                    return new HexMapIterator<Vector2>() {
+                        @Override
+                        Vector2 element(int id) {
+                            return keys[id];
+                        }
+                    };
+                }
+
+                @Override
+                public boolean contains(Object o) {
+                    return containsKey(o);
+                }
+
+                @Override
+                public int size() {
+                    return size;
+                }
+            };
+        }
+        return keySet;
+    }
+
+    @Override
+    public Collection<HexTile> values() {
+        if (values == null) {
+            values = new AbstractCollection<HexTile>() {
+                @Override
+                public Iterator<HexTile> iterator() {
+                    return new HexMapIterator<HexTile>() {
+                        @Override
+                        HexTile element(int id) {
+                            return tiles[id];
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return size;
+                }
+            };
+        }
+        return values;
+    }
+
+    /**
+     * Read-only view on a row of one of the adjacency tables.
+     */
+    private class NeighborTileList extends AbstractList<HexTile> implements RandomAccess {
+
+        private final int tileId;
+        private final boolean neighborsNeighbors;
+
+        NeighborTileList(int tileId, boolean neighborsNeighbors) {
+            this.tileId = tileId;
+            this.neighborsNeighbors = neighborsNeighbors;
+        }
+
+        @Override
+        public HexTile get(int index) {
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException("Index: " + index);
+            }
+            final int neighborId = neighborsNeighbors ? getNeighborsNeighborId(tileId, index)
+                : getNeighborId(tileId, index);
+            return neighborId == NO_TILE ? null : tiles[neighborId];
+        }
+
+        @Override
+        public int size() {
+            return neighborsNeighbors ? NEIGHBORS_NEIGHBOR_COUNT : NEIGHBOR_COUNT;
+        }
+
+    }
+
+    /**
+     * Iterates over the tiles in id order, skipping the ones that were removed.
+     */
+    private abstract class HexMapIterator<T> implements Iterator<T> {
+
+        private int nextId = 0;
+        private int lastId = NO_TILE;
+        private int expectedModCount = modCount;
+
+        abstract T element(int id);
+
+        @Override
+        public boolean hasNext() {
+            while (nextId < tileIdBound && tiles[nextId] == null) {
+                nextId++;
+            }
+            return nextId < tileIdBound;
+        }
+
+        @Override
+        public T next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            lastId = nextId++;
+            return element(lastId);
+        }
+
+        @Override
+        public void remove() {
+            if (lastId == NO_TILE) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            HexMap.this.remove(keys[lastId]);
+            lastId = NO_TILE;
+            expectedModCount = modCount;
+        }
+
+    }
+
+}
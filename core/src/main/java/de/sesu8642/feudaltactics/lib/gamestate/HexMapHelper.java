@@ -12,7 +12,6 @@ import com.badlogic.gdx.math.Vector2;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 
 /**
@@ -26,6 +25,14 @@ public class HexMapHelper {
 
     public static final float HEX_OUTER_RADIUS = 5;
 
+    // offsets of the neighbors in the same order as returned by getNeighborCoords
+    static final int[] NEIGHBOR_OFFSETS_X = {-1, 0, 1, 1, 0, -1};
+    static final int[] NEIGHBOR_OFFSETS_Y = {0, -1, -1, 0, 1, 1};
+
+    // offsets of the neighbors' neighbors in the same order as returned by getNeighborsNeighborCoords
+    static final int[] NEIGHBORS_NEIGHBOR_OFFSETS_X = {0, 1, 2, 2, 2, 1, 0, -1, -2, -2, -2, -1};
+    static final int[] NEIGHBORS_NEIGHBOR_OFFSETS_Y = {-2, -2, -2, -1, 0, 1, 2, 2, 2, 1, 0, -1};
+
     // prevent instantiation
     private HexMapHelper() {
         throw new AssertionError();
@@ -138,51 +145,48 @@ public class HexMapHelper {
      * @param tile center tile
      * @return neighbor tiles
      */
-    public static List<HexTile> getNeighborTiles(Map<Vector2, HexTile> map, HexTile tile) {
-        List<HexTile> cachedNeighbors = tile.getCachedNeighborTiles();
-        if (cachedNeighbors == null) {
-            cachedNeighbors = getNeighborTiles(map, tile.getPosition());
-            tile.setCachedNeighborTiles(cachedNeighbors);
-        }
-        return cachedNeighbors;
-    }
-
-    /**
-     * Clears neighbor tile cache for the whole map.
-     */
-    public static void clearNeighborTileCache(Map<Vector2, HexTile> map) {
-        for (HexTile tile : map.values()) {
-            tile.setCachedNeighborTiles(null);
+    public static List<HexTile> getNeighborTiles(HexMap map, HexTile tile) {
+        if (isPartOfMap(map, tile)) {
+            return map.getNeighborTiles(tile.getId());
         }
+        return getTilesAtOffsets(map, tile.getPosition(), NEIGHBOR_OFFSETS_X, NEIGHBOR_OFFSETS_Y);
     }
 
     /**
-     * Returns all neighbor tiles for the given tile coordinates. May contain null
-     * if there are empty neighbor positions.
+     * Returns all tiles that are 2 tiles away from the given tile (neighbors'
+     * neighbors). May contain null if there are empty positions.
      *
-     * @param tileCoords coordinates of the center tile
-     * @return neighbor tiles
+     * @param tile center tile
+     * @return neighbors' neighbor tiles
      */
-    private static List<HexTile> getNeighborTiles(Map<Vector2, HexTile> map, Vector2 tileCoords) {
-        final List<Vector2> neighborCoords = getNeighborCoords(tileCoords);
-        final List<HexTile> neighborTiles = new ArrayList<>();
-        for (Vector2 coord : neighborCoords) {
-            neighborTiles.add(map.get(coord));
+    public static List<HexTile> getNeighborsNeighborTiles(HexMap map, HexTile tile) {
+        if (isPartOfMap(map, tile)) {
+            return map.getNeighborsNeighborTiles(tile.getId());
         }
-        return neighborTiles;
+        return getTilesAtOffsets(map, tile.getPosition(), NEIGHBORS_NEIGHBOR_OFFSETS_X,
+            NEIGHBORS_NEIGHBOR_OFFSETS_Y);
     }
 
-    public static List<HexTile> getNeighborsNeighborTiles(Map<Vector2, HexTile> map, HexTile tile) {
-        return getNeighborsNeighborTiles(map, tile.getPosition());
+    static boolean isPartOfMap(HexMap map, HexTile tile) {
+        // tiles that were just replaced or removed are no longer part of the map but their surroundings can still be
+        // looked up by position
+        return tile.getId() != HexMap.NO_TILE && tile.getId() < map.getTileIdBound()
+            && map.getById(tile.getId()) == tile;
     }
 
-    private static List<HexTile> getNeighborsNeighborTiles(Map<Vector2, HexTile> map, Vector2 tileCoords) {
-        final List<Vector2> neighborsNeighborCoords = getNeighborsNeighborCoords(tileCoords);
-        final List<HexTile> neighborsNeighborTiles = new ArrayList<>();
-        for (Vector2 coord : neighborsNeighborCoords) {
-            neighborsNeighborTiles.add(map.get(coord));
+    /**
+     * Returns the tiles at the given offsets from the given tile coordinates. Uses integer lookups, so no coordinate
+     * objects need to be created. May contain null if there are empty positions.
+     */
+    private static List<HexTile> getTilesAtOffsets(HexMap map, Vector2 tileCoords, int[] offsetsX,
+                                                   int[] offsetsY) {
+        final int x = (int) tileCoords.x;
+        final int y = (int) tileCoords.y;
+        final List<HexTile> tiles = new ArrayList<>(offsetsX.length);
+        for (int i = 0; i < offsetsX.length; i++) {
+            tiles.add(map.get(x + offsetsX[i], y + offsetsY[i]));
         }
-        return neighborsNeighborTiles;
+        return tiles;
     }
 
     /**
@@ -192,12 +196,14 @@ public class HexMapHelper {
      * @param tileCoords coordinates of the center tile
      * @return empty neighbors' coordinates
      */
-    public static List<Vector2> getUnusedNeighborCoords(Map<Vector2, HexTile> map, Vector2 tileCoords) {
-        final List<Vector2> neighbors = getNeighborCoords(tileCoords);
+    public static List<Vector2> getUnusedNeighborCoords(HexMap map, Vector2 tileCoords) {
+        final int x = (int) tileCoords.x;
+        final int y = (int) tileCoords.y;
         final List<Vector2> unusedNeighbors = new ArrayList<>();
-        for (Vector2 neighbor : neighbors) {
-            if (!map.containsKey(neighbor)) {
-                unusedNeighbors.add(neighbor);
+        for (int i = 0; i < NEIGHBOR_OFFSETS_X.length; i++) {
+            if (map.getTileId(x + NEIGHBOR_OFFSETS_X[i], y + NEIGHBOR_OFFSETS_Y[i]) == HexMap.NO_TILE) {
+                unusedNeighbors.add(new Vector2(tileCoords.x + NEIGHBOR_OFFSETS_X[i],
+                    tileCoords.y + NEIGHBOR_OFFSETS_Y[i]));
             }
         }
         return unusedNeighbors;
@@ -4,12 +4,12 @@ package de.sesu8642.feudaltactics.lib.gamestate;
 
 import com.badlogic.gdx.math.Vector2;
 import com.google.common.annotations.VisibleForTesting;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
 
-import java.util.List;
 import java.util.Objects;
 
 /**
@@ -20,20 +20,36 @@ import java.util.Objects;
 public class HexTile implements Comparable<HexTile> {
 
     @Getter
-    @Setter
     private Player player;
     @Getter
-    @Setter
     private TileContent content;
     @Getter
     private Kingdom kingdom;
     @Getter
     @Setter(onMethod_ = @VisibleForTesting)
     private Vector2 position;
+    /**
+     * Id of the tile in the {@link HexMap} it is part of.
+     */
     @Getter
-    @Setter
+    @Setter(AccessLevel.PACKAGE)
     @ToString.Exclude
-    private List<HexTile> cachedNeighborTiles;
+    private int id = HexMap.NO_TILE;
+    /**
+     * The {@link HexMap} this tile is part of. Needs to be notified about changes to keep its fingerprint and indexes
+     * up to date and to record them for undoing.
+     */
+    @Getter(AccessLevel.PACKAGE)
+    @Setter(AccessLevel.PACKAGE)
+    @ToString.Exclude
+    private HexMap map;
+    /**
+     * Index of the tile in the tile list of the kingdom it was last added to, see {@link KingdomTileList}.
+     */
+    @Getter(AccessLevel.PACKAGE)
+    @Setter(AccessLevel.PACKAGE)
+    @ToString.Exclude
+    private int kingdomTileIndex = -1;
 
     public HexTile(Player player, Vector2 position) {
         this.player = player;
@@ -41,12 +57,64 @@ public class HexTile implements Comparable<HexTile> {
     }
 
     /**
-     * Setter for kingdom. Also sets the player to the kingdom's owner.
+     * Setter for player. Also updates the fingerprint of the map.
+     */
+    public void setPlayer(Player player) {
+        if (map != null) {
+            map.tileChanging(this);
+            map.flipTileInFingerprint(this);
+        }
+        this.player = player;
+        if (map != null) {
+            map.flipTileInFingerprint(this);
+        }
+    }
+
+    /**
+     * Setter for content. Also updates the aggregates of the kingdom as well as the fingerprint and tree index of the
+     * map.
+     */
+    public void setContent(TileContent content) {
+        final TileContent previousContent = this.content;
+        if (map != null) {
+            map.tileChanging(this);
+        }
+        if (kingdom != null) {
+            kingdom.replaceContentInAggregates(this, this.content, content);
+        }
+        if (map != null) {
+            map.flipTileInFingerprint(this);
+        }
+        this.content = content;
+        if (map != null) {
+            map.flipTileInFingerprint(this);
+            map.contentChanged(this, previousContent);
+        }
+    }
+
+    /**
+     * Setter for kingdom. Also sets the player to the kingdom's owner, moves the tile between the kingdoms'
+     * aggregates and updates the protection levels in the map.
      */
     public void setKingdom(Kingdom kingdom) {
+        final boolean kingdomChanged = this.kingdom != kingdom;
+        if (kingdomChanged) {
+            if (map != null) {
+                map.kingdomChanging(this, kingdom);
+            }
+            if (this.kingdom != null) {
+                this.kingdom.removeTileFromAggregates(this);
+            }
+            if (kingdom != null) {
+                kingdom.addTileToAggregates(this);
+            }
+        }
         this.kingdom = kingdom;
+        if (kingdomChanged && map != null) {
+            map.kingdomChanged(this);
+        }
         if (kingdom != null) {
-            player = kingdom.getPlayer();
+            setPlayer(kingdom.getPlayer());
         }
     }
 
@@ -256,15 +256,19 @@ public class InputValidationHelper {
         if (gameState.getHeldObject() == null) {
             return false;
         }
-        if (tile.getPlayer() == player) {
-            return false;
-        }
         if (!ClassReflection.isAssignableFrom(Unit.class, gameState.getHeldObject().getClass())) {
             // not a unit
             return false;
         }
-        if (tile.getContent() != null && tile.getContent().getStrength() >= gameState.getHeldObject().getStrength()) {
-            // too strong object on the tile
+        return isConquerableWithStrength(gameState, player, tile, gameState.getHeldObject().getStrength());
+    }
+
+    private static boolean isConquerableWithStrength(GameState gameState, Player player, HexTile tile, int strength) {
+        if (tile.getPlayer() == player) {
+            return false;
+        }
+        if (GameStateHelper.getProtectionLevel(gameState, tile) >= strength) {
+            // too strong object on the tile or next to it protecting it
             return false;
         }
         boolean isNextoToOwnKingdom = false;
@@ -277,17 +281,177 @@ public class InputValidationHelper {
             if (neighborTile.getKingdom() == gameState.getActiveKingdom()) {
                 isNextoToOwnKingdom = true;
             }
-            final TileContent neighborContent = neighborTile.getContent();
-            // check if there is no stronger object next to it protecting it
-            if (tile.getKingdom() != null && neighborTile.getKingdom() == tile.getKingdom() && neighborContent != null
-                && neighborContent.getStrength() >= gameState.getHeldObject().getStrength()) {
-                return false;
-            }
         }
         // not next to the unit's kingdom
         return isNextoToOwnKingdom;
     }
 
+    /**
+     * Checks whether a player is allowed to pick up all the units of the active kingdom into the reserve. At least
+     * one of them must still be able to act.
+     *
+     * @param gameState game state of the current game
+     * @param player    player attempting the action
+     * @return whether the action is allowed
+     */
+    public static boolean checkPickUpAllUnits(GameState gameState, Player player) {
+        if (!isCorrectPlayersTurn(gameState, player)) {
+            return false;
+        }
+        if (gameState.getActiveKingdom() == null) {
+            return false;
+        }
+        if (gameState.getHeldObject() != null) {
+            return false;
+        }
+        for (HexTile tile : gameState.getActiveKingdom().getTiles()) {
+            if (tile.getContent() != null && ClassReflection.isAssignableFrom(Unit.class, tile.getContent().getClass())
+                && ((Unit) tile.getContent()).isCanAct()) {
+                return true;
+            }
+        }
+        // nothing to pick up
+        return false;
+    }
+
+    /**
+     * Checks whether a player is allowed to buy a unit for the reserve.
+     *
+     * @param gameState game state of the current game
+     * @param player    player attempting the action
+     * @param unitType  type of the unit to buy
+     * @return whether the action is allowed
+     */
+    public static boolean checkBuyReserveUnit(GameState gameState, Player player, UnitTypes unitType) {
+        if (!isCorrectPlayersTurn(gameState, player)) {
+            return false;
+        }
+        final Kingdom activeKingdom = gameState.getActiveKingdom();
+        if (activeKingdom == null) {
+            return false;
+        }
+        if (unitType == null) {
+            return false;
+        }
+        return activeKingdom.getSavings() >= Unit.COST * unitType.strength();
+    }
+
+    /**
+     * Checks whether a player is allowed to combine two units in the reserve.
+     *
+     * @param gameState     game state of the current game
+     * @param player        player attempting the action
+     * @param unitType      type of the first unit
+     * @param otherUnitType type of the second unit
+     * @return whether the action is allowed
+     */
+    public static boolean checkCombineReserveUnits(GameState gameState, Player player, UnitTypes unitType,
+                                                   UnitTypes otherUnitType) {
+        if (!isReserveUnitAvailable(gameState, player, unitType)
+            || !isReserveUnitAvailable(gameState, player, otherUnitType)) {
+            return false;
+        }
+        if (unitType == otherUnitType && gameState.getReserveUnitCount(unitType) < 2) {
+            return false;
+        }
+        return unitType.strength() + otherUnitType.strength() <= UnitTypes.strongest().strength();
+    }
+
+    /**
+     * Checks whether a player is allowed to place a unit from the reserve.
+     *
+     * @param gameState game state of the current game
+     * @param player    player attempting the action
+     * @param tile      tile to place the unit on
+     * @param unitType  type of the unit to take from the reserve
+     * @return whether the action is allowed
+     */
+    public static boolean checkPlaceReserveUnit(GameState gameState, Player player, HexTile tile,
+                                                UnitTypes unitType) {
+        if (!isReserveUnitAvailable(gameState, player, unitType)) {
+            return false;
+        }
+        if (isWater(tile)) {
+            return false;
+        }
+        if (player != tile.getPlayer()) {
+            return false;
+        }
+        if (tile.getKingdom() == null) {
+            return false;
+        }
+        if (gameState.getActiveKingdom() != tile.getKingdom()) {
+            return false;
+        }
+        // not empty or blocking object
+        return tile.getContent() == null
+            || ClassReflection.isAssignableFrom(Blocking.class, tile.getContent().getClass());
+    }
+
+    /**
+     * Checks whether a player is allowed to conquer a tile with a unit from the reserve.
+     *
+     * @param gameState game state of the current game
+     * @param player    player attempting the action
+     * @param tile      tile to conquer
+     * @param unitType  type of the unit to take from the reserve
+     * @return whether the action is allowed
+     */
+    public static boolean checkConquerWithReserveUnit(GameState gameState, Player player, HexTile tile,
+                                                      UnitTypes unitType) {
+        if (!isReserveUnitAvailable(gameState, player, unitType)) {
+            return false;
+        }
+        if (isWater(tile)) {
+            return false;
+        }
+        return isConquerableWithStrength(gameState, player, tile, unitType.strength());
+    }
+
+    private static boolean isReserveUnitAvailable(GameState gameState, Player player, UnitTypes unitType) {
+        if (!isCorrectPlayersTurn(gameState, player)) {
+            return false;
+        }
+        if (gameState.getHeldObject() != null) {
+            return false;
+        }
+        if (unitType == null) {
+            return false;
+        }
+        return gameState.getReserveUnitCount(unitType) > 0;
+    }
+
+    /**
+     * Checks whether a player is allowed to sell a castle of the active kingdom that was bought in the current turn.
+     *
+     * @param gameState game state of the current game
+     * @param player    player attempting the action
+     * @param tile      tile containing the castle
+     * @return whether the action is allowed
+     */
+    public static boolean checkSellCastle(GameState gameState, Player player, HexTile tile) {
+        if (!isCorrectPlayersTurn(gameState, player)) {
+            return false;
+        }
+        if (isWater(tile)) {
+            return false;
+        }
+        if (gameState.getHeldObject() != null) {
+            return false;
+        }
+        if (tile.getKingdom() == null) {
+            return false;
+        }
+        if (gameState.getActiveKingdom() != tile.getKingdom()) {
+            return false;
+        }
+        if (!gameState.getCastlesBoughtInCurrentTurn().contains(tile.getPosition())) {
+            return false;
+        }
+        return tile.getContent() != null
+            && ClassReflection.isAssignableFrom(Castle.class, tile.getContent().getClass());
+    }
+
     /**
      * Checks whether the player is allowed to end the current turn.
      *
@@ -381,6 +545,20 @@ public class InputValidationHelper {
             case ACTIVATE_KINGDOM:
                 return checkChangeActiveKingdom(gameState, player, findTileAtPosition(gameState,
                     move.getTilePosition()));
+            case PICK_UP_ALL_UNITS:
+                return checkPickUpAllUnits(gameState, player);
+            case BUY_RESERVE_UNIT:
+                return checkBuyReserveUnit(gameState, player, move.getUnitType());
+            case COMBINE_RESERVE_UNITS:
+                return checkCombineReserveUnits(gameState, player, move.getUnitType(), move.getOtherUnitType());
+            case PLACE_RESERVE_UNIT:
+                return checkPlaceReserveUnit(gameState, player, findTileAtPosition(gameState, move.getTilePosition()),
+                    move.getUnitType());
+            case CONQUER_WITH_RESERVE_UNIT:
+                return checkConquerWithReserveUnit(gameState, player,
+                    findTileAtPosition(gameState, move.getTilePosition()), move.getUnitType());
+            case SELL_CASTLE:
+                return checkSellCastle(gameState, player, findTileAtPosition(gameState, move.getTilePosition()));
             case END_TURN:
                 return checkEndTurn(gameState, player);
             case UNDO_LAST_MOVE:
@@ -2,12 +2,16 @@
 
 package de.sesu8642.feudaltactics.lib.gamestate;
 
+import com.badlogic.gdx.utils.reflect.ClassReflection;
+import de.sesu8642.feudaltactics.lib.gamestate.Unit.UnitTypes;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 
@@ -19,30 +23,199 @@ import java.util.Objects;
 public class Kingdom {
 
     // need a list to have consistent iteration order; LinkedHashSet doesn't work
-    // because the tiles can change
+    // because the tiles can change; removing a tile from the default list takes constant time but changes the order
     @Getter
     @Setter
     @ToString.Exclude
-    private List<HexTile> tiles = new ArrayList<>();
+    private List<HexTile> tiles = new KingdomTileList();
     @Getter
     @Setter
     private Player player;
     @Getter
-    @Setter
     private int savings = 0;
     // only used by ai
     @Getter
-    @Setter
     private boolean doneMoving = false;
     // for displaying a hint when the player forgets the kingdom
     @Getter
-    @Setter
     private boolean wasActiveInCurrentTurn = false;
 
+    // aggregates over all the tiles that reference this kingdom; kept up to date by the tiles themselves so they
+    // don't need to be recalculated from all the tiles every time
+    @Getter
+    @ToString.Exclude
+    private int tileCount = 0;
+    @Getter
+    @ToString.Exclude
+    private int treeCount = 0;
+    @Getter
+    @ToString.Exclude
+    private int emptyTileCount = 0;
+    @Getter
+    @ToString.Exclude
+    private int unitSalaries = 0;
+    // number of units indexed by their strength
+    @ToString.Exclude
+    private final int[] unitCountsByStrength = new int[UnitTypes.strongest().strength() + 1];
+    // tiles containing a capital; there can be more than one while kingdoms are being combined
+    @ToString.Exclude
+    private final List<HexTile> capitalTiles = new ArrayList<>(1);
+    // combined kingdom tile keys of all the tiles, see FingerprintHelper
+    @Getter(AccessLevel.PACKAGE)
+    @ToString.Exclude
+    private long tilesFingerprint = 0;
+
     public Kingdom(Player player) {
         this.player = player;
     }
 
+    /**
+     * Setter for savings. Also lets the map record the old value for undoing.
+     */
+    public void setSavings(int savings) {
+        valuesChanging();
+        this.savings = savings;
+    }
+
+    /**
+     * Setter for doneMoving. Also lets the map record the old value for undoing.
+     */
+    public void setDoneMoving(boolean doneMoving) {
+        valuesChanging();
+        this.doneMoving = doneMoving;
+    }
+
+    /**
+     * Setter for wasActiveInCurrentTurn. Also lets the map record the old value for undoing.
+     */
+    public void setWasActiveInCurrentTurn(boolean wasActiveInCurrentTurn) {
+        valuesChanging();
+        this.wasActiveInCurrentTurn = wasActiveInCurrentTurn;
+    }
+
+    private void valuesChanging() {
+        // the kingdom only knows the map via its tiles; once it has none, its values were recorded with its tiles
+        if (!tiles.isEmpty()) {
+            final HexMap map = tiles.get(0).getMap();
+            if (map != null) {
+                map.kingdomValuesChanging(this);
+            }
+        }
+    }
+
+    /**
+     * Returns the income of the kingdom, which is one per tile that is not covered by a tree.
+     *
+     * @return income
+     */
+    public int getIncome() {
+        return tileCount - treeCount;
+    }
+
+    /**
+     * Returns the number of units of the given type in the kingdom.
+     *
+     * @param unitType type of unit to count
+     * @return number of units
+     */
+    public int getUnitCount(UnitTypes unitType) {
+        return unitCountsByStrength[unitType.strength()];
+    }
+
+    /**
+     * Returns the tile containing the capital of the kingdom.
+     *
+     * @return capital tile or null if the kingdom has no capital
+     */
+    public HexTile getCapitalTile() {
+        return capitalTiles.isEmpty() ? null : capitalTiles.get(0);
+    }
+
+    /**
+     * Returns the sum of the strength of all the units in the kingdom.
+     *
+     * @return total unit strength
+     */
+    public int getTotalUnitStrength() {
+        int result = 0;
+        for (int strength = 1; strength < unitCountsByStrength.length; strength++) {
+            result += strength * unitCountsByStrength[strength];
+        }
+        return result;
+    }
+
+    /**
+     * Adds a tile that now references this kingdom to the aggregates.
+     *
+     * @param tile tile that was added
+     */
+    void addTileToAggregates(HexTile tile) {
+        tileCount++;
+        tilesFingerprint ^= FingerprintHelper.getKingdomTileKey(tile.getPosition());
+        updateContentAggregates(tile, tile.getContent(), 1);
+    }
+
+    /**
+     * Removes a tile that no longer references this kingdom from the aggregates.
+     *
+     * @param tile tile that was removed
+     */
+    void removeTileFromAggregates(HexTile tile) {
+        tileCount--;
+        tilesFingerprint ^= FingerprintHelper.getKingdomTileKey(tile.getPosition());
+        updateContentAggregates(tile, tile.getContent(), -1);
+    }
+
+    /**
+     * Updates the aggregates after the content of one of the kingdom's tiles changed.
+     *
+     * @param tile       tile whose content changed
+     * @param oldContent previous content of the tile
+     * @param newContent new content of the tile
+     */
+    void replaceContentInAggregates(HexTile tile, TileContent oldContent, TileContent newContent) {
+        updateContentAggregates(tile, oldContent, -1);
+        updateContentAggregates(tile, newContent, 1);
+    }
+
+    /**
+     * Recalculates the aggregates from all the tiles to catch mistakes in the incremental updates. Too slow to be
+     * used outside of assertions.
+     *
+     * @return whether the aggregates match the tiles
+     */
+    boolean doAggregatesMatchTiles() {
+        final Kingdom recalculated = new Kingdom();
+        for (HexTile tile : tiles) {
+            recalculated.addTileToAggregates(tile);
+        }
+        return tileCount == recalculated.tileCount && treeCount == recalculated.treeCount
+            && emptyTileCount == recalculated.emptyTileCount && unitSalaries == recalculated.unitSalaries
+            && Arrays.equals(unitCountsByStrength, recalculated.unitCountsByStrength)
+            && capitalTiles.size() == recalculated.capitalTiles.size()
+            && capitalTiles.containsAll(recalculated.capitalTiles)
+            && tilesFingerprint == recalculated.tilesFingerprint;
+    }
+
+    private void updateContentAggregates(HexTile tile, TileContent content, int delta) {
+        if (content == null) {
+            emptyTileCount += delta;
+        } else if (ClassReflection.isAssignableFrom(Capital.class, content.getClass())) {
+            if (delta > 0) {
+                capitalTiles.add(tile);
+            } else {
+                capitalTiles.remove(tile);
+            }
+        } else if (ClassReflection.isAssignableFrom(Tree.class, content.getClass())
+            || ClassReflection.isAssignableFrom(PalmTree.class, content.getClass())) {
+            treeCount += delta;
+        } else if (ClassReflection.isAssignableFrom(Unit.class, content.getClass())) {
+            final UnitTypes unitType = ((Unit) content).getUnitType();
+            unitSalaries += delta * unitType.salary();
+            unitCountsByStrength[unitType.strength()] += delta;
+        }
+    }
+
     @Override
     public int hashCode() {
         return Objects.hash(doneMoving, player, savings, tiles, wasActiveInCurrentTurn);
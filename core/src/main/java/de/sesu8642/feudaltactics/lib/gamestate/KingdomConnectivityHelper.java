@@ -0,0 +1,143 @@
+// SPDX-License-Identifier: GPL-3.0-or-later
+
+package de.sesu8642.feudaltactics.lib.gamestate;
+
+import com.badlogic.gdx.utils.reflect.ClassReflection;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Helper class for finding out whether and how a kingdom fell apart after one of its tiles was removed. Instead of
+ * flood filling the whole kingdom, a search is started from every remaining neighbor of the removed tile. The
+ * searches take turns expanding one tile at a time and are united (union-find) as soon as they meet. Everything
+ * stops once only a single search is still running, so the effort is proportional to the parts that got cut off
+ * rather than to the size of the kingdom.
+ **/
+class KingdomConnectivityHelper {
+
+    // prevent instantiation
+    private KingdomConnectivityHelper() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Finds the parts of a kingdom that are no longer connected to each other.
+     *
+     * @param map        map containing the kingdom
+     * @param kingdom    kingdom that lost a tile
+     * @param startTiles tiles of the kingdom that were next to the removed tile
+     * @return parts that were completely explored, each part with at least one tile. If the search stopped early,
+     * the part that was still being explored is not included. If the capital was found in one of the explored parts,
+     * all the parts are explored and returned. An empty result means that the kingdom is still connected.
+     */
+    static List<List<HexTile>> findSeparatedParts(HexMap map, Kingdom kingdom, List<HexTile> startTiles) {
+        final int searchCount = startTiles.size();
+        // search index + 1 that reached a tile first, indexed by tile id
+        final int[] tileSearches = new int[map.getTileIdBound()];
+        final int[] parents = new int[searchCount];
+        final List<ArrayDeque<HexTile>> frontiers = new ArrayList<>(searchCount);
+        final List<List<HexTile>> reachedTiles = new ArrayList<>(searchCount);
+        final boolean[] finished = new boolean[searchCount];
+        HexTile capitalTile = null;
+        for (int i = 0; i < searchCount; i++) {
+            final HexTile startTile = startTiles.get(i);
+            parents[i] = i;
+            frontiers.add(new ArrayDeque<>());
+            reachedTiles.add(new ArrayList<>());
+            if (tileSearches[startTile.getId()] != 0) {
+                // duplicate start tile
+                parents[i] = find(parents, tileSearches[startTile.getId()] - 1);
+                finished[i] = true;
+                continue;
+            }
+            tileSearches[startTile.getId()] = i + 1;
+            frontiers.get(i).add(startTile);
+            reachedTiles.get(i).add(startTile);
+            if (isCapital(startTile)) {
+                capitalTile = startTile;
+            }
+        }
+        int runningSearches = 0;
+        for (int i = 0; i < searchCount; i++) {
+            if (!finished[i]) {
+                runningSearches++;
+            }
+        }
+        boolean capitalInFinishedPart = false;
+
+        while (runningSearches > 1 || (runningSearches == 1 && capitalInFinishedPart)) {
+            for (int search = 0; search < searchCount; search++) {
+                if (finished[search] || parents[search] != search) {
+                    continue;
+                }
+                final ArrayDeque<HexTile> frontier = frontiers.get(search);
+                final HexTile currentTile = frontier.poll();
+                if (currentTile == null) {
+                    // nothing left to explore: this part is separated from the others
+                    finished[search] = true;
+                    runningSearches--;
+                    if (capitalTile != null && find(parents, tileSearches[capitalTile.getId()] - 1) == search) {
+                        capitalInFinishedPart = true;
+                    }
+                    continue;
+                }
+                for (HexTile neighborTile : map.getNeighborTiles(currentTile.getId())) {
+                    if (neighborTile == null || neighborTile.getKingdom() != kingdom) {
+                        continue;
+                    }
+                    final int neighborSearch = tileSearches[neighborTile.getId()];
+                    if (neighborSearch == 0) {
+                        tileSearches[neighborTile.getId()] = search + 1;
+                        frontier.add(neighborTile);
+                        reachedTiles.get(search).add(neighborTile);
+                        if (isCapital(neighborTile)) {
+                            capitalTile = neighborTile;
+                        }
+                    } else {
+                        final int otherSearch = find(parents, neighborSearch - 1);
+                        if (otherSearch != search) {
+                            // the searches met: continue as one
+                            parents[otherSearch] = search;
+                            frontier.addAll(frontiers.get(otherSearch));
+                            frontiers.get(otherSearch).clear();
+                            reachedTiles.get(search).addAll(reachedTiles.get(otherSearch));
+                            reachedTiles.get(otherSearch).clear();
+                            runningSearches--;
+                        }
+                    }
+                }
+            }
+        }
+
+        final List<List<HexTile>> result = new ArrayList<>();
+        for (int search = 0; search < searchCount; search++) {
+            if (finished[search] && parents[search] == search) {
+                result.add(reachedTiles.get(search));
+            }
+        }
+        return result;
+    }
+
+    private static int find(int[] parents, int search) {
+        int root = search;
+        while (parents[root] != root) {
+            root = parents[root];
+        }
+        // path compression
+        int current = search;
+        while (parents[current] != root) {
+            final int next = parents[current];
+            parents[current] = root;
+            current = next;
+        }
+        return root;
+    }
+
+    static boolean isCapital(HexTile tile) {
+        return tile.getContent() != null
+            && ClassReflection.isAssignableFrom(Capital.class, tile.getContent().getClass());
+    }
+
+}
@@ -0,0 +1,126 @@
+// SPDX-License-Identifier: GPL-3.0-or-later
+
+package de.sesu8642.feudaltactics.lib.gamestate;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * List of the tiles of a kingdom. Every tile remembers its index in the list, so removing a tile with
+ * {@link #remove(Object)} takes constant time: the last tile is moved to the index of the removed one. Because of that,
+ * removing a tile that way changes the order of the remaining tiles. Removing by index keeps the order like any other
+ * list. A tile only remembers its index in the list it was added to last, so removing it from another list falls back
+ * to searching it.
+ **/
+class KingdomTileList extends AbstractList<HexTile> implements RandomAccess {
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private HexTile[] elements = new HexTile[INITIAL_CAPACITY];
+    private int size = 0;
+
+    @Override
+    public HexTile get(int index) {
+        checkIndex(index, size);
+        return elements[index];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public HexTile set(int index, HexTile tile) {
+        checkIndex(index, size);
+        final HexTile previousTile = elements[index];
+        elements[index] = tile;
+        tile.setKingdomTileIndex(index);
+        return previousTile;
+    }
+
+    @Override
+    public void add(int index, HexTile tile) {
+        checkIndex(index, size + 1);
+        if (size == elements.length) {
+            elements = Arrays.copyOf(elements, elements.length * 2);
+        }
+        System.arraycopy(elements, index, elements, index + 1, size - index);
+        elements[index] = tile;
+        size++;
+        modCount++;
+        for (int i = index; i < size; i++) {
+            elements[i].setKingdomTileIndex(i);
+        }
+    }
+
+    @Override
+    public HexTile remove(int index) {
+        checkIndex(index, size);
+        final HexTile removedTile = elements[index];
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        size--;
+        elements[size] = null;
+        modCount++;
+        for (int i = index; i < size; i++) {
+            elements[i].setKingdomTileIndex(i);
+        }
+        return removedTile;
+    }
+
+    /**
+     * Removes a tile in constant time by moving the last tile to its index.
+     *
+     * @param o tile to remove
+     * @return whether the tile was part of the list
+     */
+    @Override
+    public boolean remove(Object o) {
+        int index = getRememberedIndex(o);
+        if (index < 0) {
+            index = indexOf(o);
+            if (index < 0) {
+                return false;
+            }
+        }
+        size--;
+        if (index != size) {
+            elements[index] = elements[size];
+            elements[index].setKingdomTileIndex(index);
+        }
+        elements[size] = null;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return getRememberedIndex(o) >= 0 || indexOf(o) >= 0;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(elements, 0, size, null);
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Returns the index the given tile remembers if it is really at that index in this list.
+     */
+    private int getRememberedIndex(Object o) {
+        if (!(o instanceof HexTile)) {
+            return -1;
+        }
+        final int index = ((HexTile) o).getKingdomTileIndex();
+        return index >= 0 && index < size && elements[index] == o ? index : -1;
+    }
+
+    private static void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException("Index " + index + " but bound is " + bound);
+        }
+    }
+
+}
@@ -0,0 +1,355 @@
+// SPDX-License-Identifier: GPL-3.0-or-later
+
+package de.sesu8642.feudaltactics.lib.gamestate;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.reflect.ClassReflection;
+import de.sesu8642.feudaltactics.lib.gamestate.Unit.UnitTypes;
+import de.sesu8642.feudaltactics.lib.ingame.PlayerMove;
+import de.sesu8642.feudaltactics.lib.ingame.PlayerMove.PlayerMoveType;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * All the moves a player is allowed to make in a game state, generated in a single pass over the map. The moves that
+ * target a tile are stored as bit sets over the tile ids, so looking up whether a move is allowed on a tile is cheap.
+ * The moves with reserve units are stored per unit type. Gives the same answers as the checks in
+ * {@link InputValidationHelper}, except for undoing, which depends on the auto saves and is never contained. Only valid
+ * as long as the game state is not modified.
+ */
+public class LegalMoves {
+
+    private static final Set<PlayerMoveType> TILE_MOVE_TYPES = EnumSet.of(PlayerMoveType.PICK_UP,
+        PlayerMoveType.PLACE_OWN, PlayerMoveType.COMBINE_UNITS, PlayerMoveType.CONQUER,
+        PlayerMoveType.BUY_AND_PLACE_PEASANT, PlayerMoveType.BUY_AND_PLACE_CASTLE, PlayerMoveType.ACTIVATE_KINGDOM,
+        PlayerMoveType.SELL_CASTLE);
+
+    private static final Set<PlayerMoveType> RESERVE_TILE_MOVE_TYPES = EnumSet.of(PlayerMoveType.PLACE_RESERVE_UNIT,
+        PlayerMoveType.CONQUER_WITH_RESERVE_UNIT);
+
+    private static final Set<PlayerMoveType> UNIT_TYPE_MOVE_TYPES = EnumSet.of(PlayerMoveType.BUY_RESERVE_UNIT,
+        PlayerMoveType.COMBINE_RESERVE_UNITS, PlayerMoveType.PLACE_RESERVE_UNIT,
+        PlayerMoveType.CONQUER_WITH_RESERVE_UNIT);
+
+    private final HexMap map;
+    private final Map<PlayerMoveType, BitSet> tileIdsByMoveType = new EnumMap<>(PlayerMoveType.class);
+    private final Map<PlayerMoveType, Map<UnitTypes, BitSet>> reserveTileIdsByMoveType =
+        new EnumMap<>(PlayerMoveType.class);
+    private final Set<PlayerMoveType> otherMoveTypes = EnumSet.noneOf(PlayerMoveType.class);
+    private final Set<UnitTypes> buyableReserveUnitTypes = EnumSet.noneOf(UnitTypes.class);
+    // indexed by the ordinals of both unit types
+    private final boolean[][] combinableReserveUnitTypes =
+        new boolean[UnitTypes.values().length][UnitTypes.values().length];
+
+    private LegalMoves(HexMap map) {
+        this.map = map;
+        for (PlayerMoveType moveType : TILE_MOVE_TYPES) {
+            tileIdsByMoveType.put(moveType, new BitSet(map.getTileIdBound()));
+        }
+        for (PlayerMoveType moveType : RESERVE_TILE_MOVE_TYPES) {
+            final Map<UnitTypes, BitSet> tileIdsByUnitType = new EnumMap<>(UnitTypes.class);
+            for (UnitTypes unitType : UnitTypes.values()) {
+                tileIdsByUnitType.put(unitType, new BitSet(map.getTileIdBound()));
+            }
+            reserveTileIdsByMoveType.put(moveType, tileIdsByUnitType);
+        }
+    }
+
+    /**
+     * Generates all the moves a player is allowed to make.
+     *
+     * @param gameState game state of the current game
+     * @param player    player to generate the moves for
+     * @return legal moves
+     */
+    public static LegalMoves generate(GameState gameState, Player player) {
+        final LegalMoves result = new LegalMoves(gameState.getMap());
+        if (gameState.getActivePlayer() != player) {
+            return result;
+        }
+        final TileContent heldObject = gameState.getHeldObject();
+        final Kingdom activeKingdom = gameState.getActiveKingdom();
+        final boolean isHoldingUnit = heldObject != null
+            && ClassReflection.isAssignableFrom(Unit.class, heldObject.getClass());
+        final boolean canBuyUnit = InputValidationHelper.checkBuyObject(gameState, player, Unit.class);
+        final boolean canBuyAndPlaceCastle = activeKingdom != null && activeKingdom.getSavings() >= Castle.COST
+            && heldObject == null;
+        if (canBuyUnit) {
+            result.otherMoveTypes.add(PlayerMoveType.BUY_PEASANT);
+        }
+        if (InputValidationHelper.checkBuyObject(gameState, player, Castle.class)) {
+            result.otherMoveTypes.add(PlayerMoveType.BUY_CASTLE);
+        }
+        if (heldObject == null) {
+            result.otherMoveTypes.add(PlayerMoveType.END_TURN);
+        }
+        // units in the reserve can only be used while not holding anything
+        final Set<UnitTypes> reserveUnitTypes = EnumSet.noneOf(UnitTypes.class);
+        for (UnitTypes unitType : UnitTypes.values()) {
+            if (heldObject == null && gameState.getReserveUnitCount(unitType) > 0) {
+                reserveUnitTypes.add(unitType);
+            }
+            if (InputValidationHelper.checkBuyReserveUnit(gameState, player, unitType)) {
+                result.buyableReserveUnitTypes.add(unitType);
+            }
+        }
+        for (UnitTypes unitType : reserveUnitTypes) {
+            for (UnitTypes otherUnitType : reserveUnitTypes) {
+                result.combinableReserveUnitTypes[unitType.ordinal()][otherUnitType.ordinal()] =
+                    (unitType != otherUnitType || gameState.getReserveUnitCount(unitType) >= 2)
+                        && unitType.strength() + otherUnitType.strength() <= UnitTypes.strongest().strength();
+            }
+        }
+
+        final HexMap map = gameState.getMap();
+        for (int id = 0; id < map.getTileIdBound(); id++) {
+            final HexTile tile = map.getById(id);
+            if (tile == null) {
+                continue;
+            }
+            final TileContent content = tile.getContent();
+            final Kingdom kingdom = tile.getKingdom();
+            if (tile.getPlayer() != player) {
+                if (isHoldingUnit && map.getProtectionLevel(id) < heldObject.getStrength()
+                    && isNextToKingdom(map, id, activeKingdom)) {
+                    result.add(PlayerMoveType.CONQUER, id);
+                }
+                if (!reserveUnitTypes.isEmpty() && isNextToKingdom(map, id, activeKingdom)) {
+                    final int protectionLevel = map.getProtectionLevel(id);
+                    for (UnitTypes unitType : reserveUnitTypes) {
+                        if (protectionLevel < unitType.strength()) {
+                            result.addReserve(PlayerMoveType.CONQUER_WITH_RESERVE_UNIT, unitType, id);
+                        }
+                    }
+                }
+                continue;
+            }
+            if (heldObject == null) {
+                if (kingdom != null && kingdom != activeKingdom) {
+                    result.add(PlayerMoveType.ACTIVATE_KINGDOM, id);
+                }
+                if (content != null && ClassReflection.isAssignableFrom(Unit.class, content.getClass())
+                    && ((Unit) content).isCanAct()) {
+                    result.add(PlayerMoveType.PICK_UP, id);
+                    if (kingdom != null && kingdom == activeKingdom) {
+                        result.otherMoveTypes.add(PlayerMoveType.PICK_UP_ALL_UNITS);
+                    }
+                }
+            } else if (kingdom != null && kingdom == activeKingdom) {
+                if (content == null || (isHoldingUnit && isBlocking(content))) {
+                    result.add(PlayerMoveType.PLACE_OWN, id);
+                }
+                if (isHoldingUnit && content != null && ClassReflection.isAssignableFrom(Unit.class, content.getClass())
+                    && heldObject.getStrength() + content.getStrength() <= UnitTypes.strongest().strength()) {
+                    result.add(PlayerMoveType.COMBINE_UNITS, id);
+                }
+            }
+            if (kingdom == activeKingdom) {
+                if (canBuyUnit && (content == null || isBlocking(content))) {
+                    result.add(PlayerMoveType.BUY_AND_PLACE_PEASANT, id);
+                }
+                if (canBuyAndPlaceCastle && content == null) {
+                    result.add(PlayerMoveType.BUY_AND_PLACE_CASTLE, id);
+                }
+                if (kingdom != null && (content == null || isBlocking(content))) {
+                    for (UnitTypes unitType : reserveUnitTypes) {
+                        result.addReserve(PlayerMoveType.PLACE_RESERVE_UNIT, unitType, id);
+                    }
+                }
+            }
+        }
+        if (heldObject == null && activeKingdom != null) {
+            for (Vector2 position : gameState.getCastlesBoughtInCurrentTurn()) {
+                final HexTile tile = map.get(position);
+                if (tile != null && tile.getKingdom() == activeKingdom && tile.getContent() != null
+                    && ClassReflection.isAssignableFrom(Castle.class, tile.getContent().getClass())) {
+                    result.add(PlayerMoveType.SELL_CASTLE, tile.getId());
+                }
+            }
+        }
+        return result;
+    }
+
+    private static boolean isBlocking(TileContent content) {
+        return ClassReflection.isAssignableFrom(Blocking.class, content.getClass());
+    }
+
+    private static boolean isNextToKingdom(HexMap map, int tileId, Kingdom kingdom) {
+        for (int direction = 0; direction < HexMap.NEIGHBOR_COUNT; direction++) {
+            final int neighborId = map.getNeighborId(tileId, direction);
+            if (neighborId != HexMap.NO_TILE && map.getById(neighborId).getKingdom() == kingdom) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void add(PlayerMoveType moveType, int tileId) {
+        tileIdsByMoveType.get(moveType).set(tileId);
+    }
+
+    private void addReserve(PlayerMoveType moveType, UnitTypes unitType, int tileId) {
+        reserveTileIdsByMoveType.get(moveType).get(unitType).set(tileId);
+    }
+
+    /**
+     * Checks whether a move that targets a tile is allowed.
+     *
+     * @param moveType type of the move
+     * @param tile     tile the move targets, null for water
+     * @return whether the move is allowed
+     */
+    public boolean isLegal(PlayerMoveType moveType, HexTile tile) {
+        if (!TILE_MOVE_TYPES.contains(moveType)) {
+            throw new IllegalArgumentException("Move type " + moveType + " does not target a tile.");
+        }
+        return tile != null && HexMapHelper.isPartOfMap(map, tile)
+            && tileIdsByMoveType.get(moveType).get(tile.getId());
+    }
+
+    /**
+     * Checks whether a move that does not target a tile is allowed.
+     *
+     * @param moveType type of the move
+     * @return whether the move is allowed
+     */
+    public boolean isLegal(PlayerMoveType moveType) {
+        if (TILE_MOVE_TYPES.contains(moveType)) {
+            throw new IllegalArgumentException("Move type " + moveType + " targets a tile.");
+        }
+        if (UNIT_TYPE_MOVE_TYPES.contains(moveType)) {
+            throw new IllegalArgumentException("Move type " + moveType + " needs a unit type.");
+        }
+        return otherMoveTypes.contains(moveType);
+    }
+
+    /**
+     * Checks whether a move that targets a tile with a unit from the reserve is allowed.
+     *
+     * @param moveType type of the move
+     * @param tile     tile the move targets, null for water
+     * @param unitType type of the unit taken from the reserve
+     * @return whether the move is allowed
+     */
+    public boolean isLegal(PlayerMoveType moveType, HexTile tile, UnitTypes unitType) {
+        if (!RESERVE_TILE_MOVE_TYPES.contains(moveType)) {
+            throw new IllegalArgumentException("Move type " + moveType + " does not use a reserve unit on a tile.");
+        }
+        return tile != null && unitType != null && HexMapHelper.isPartOfMap(map, tile)
+            && reserveTileIdsByMoveType.get(moveType).get(unitType).get(tile.getId());
+    }
+
+    /**
+     * Checks whether buying a unit for the reserve is allowed.
+     *
+     * @param unitType type of the unit to buy
+     * @return whether the move is allowed
+     */
+    public boolean isBuyReserveUnitLegal(UnitTypes unitType) {
+        return buyableReserveUnitTypes.contains(unitType);
+    }
+
+    /**
+     * Checks whether combining two units in the reserve is allowed.
+     *
+     * @param unitType      type of the first unit
+     * @param otherUnitType type of the second unit
+     * @return whether the move is allowed
+     */
+    public boolean isCombineReserveUnitsLegal(UnitTypes unitType, UnitTypes otherUnitType) {
+        return unitType != null && otherUnitType != null
+            && combinableReserveUnitTypes[unitType.ordinal()][otherUnitType.ordinal()];
+    }
+
+    /**
+     * Returns the ids of the tiles a move is allowed on.
+     *
+     * @param moveType type of the move
+     * @return copy of the tile ids
+     */
+    public BitSet getTileIds(PlayerMoveType moveType) {
+        if (!TILE_MOVE_TYPES.contains(moveType)) {
+            throw new IllegalArgumentException("Move type " + moveType + " does not target a tile.");
+        }
+        return (BitSet) tileIdsByMoveType.get(moveType).clone();
+    }
+
+    /**
+     * Creates all the legal moves as {@link PlayerMove}s, ordered by type, then by unit type and then by the iteration
+     * order of the map. Combining two reserve units is only contained once for each pair of unit types.
+     *
+     * @return player moves
+     */
+    public List<PlayerMove> toPlayerMoves() {
+        final List<PlayerMove> result = new ArrayList<>();
+        for (PlayerMoveType moveType : PlayerMoveType.values()) {
+            if (otherMoveTypes.contains(moveType)) {
+                result.add(createPlayerMove(moveType, null));
+            } else if (TILE_MOVE_TYPES.contains(moveType)) {
+                final BitSet tileIds = tileIdsByMoveType.get(moveType);
+                for (int id = tileIds.nextSetBit(0); id >= 0; id = tileIds.nextSetBit(id + 1)) {
+                    result.add(createPlayerMove(moveType, map.getById(id)));
+                }
+            } else if (RESERVE_TILE_MOVE_TYPES.contains(moveType)) {
+                for (Map.Entry<UnitTypes, BitSet> entry : reserveTileIdsByMoveType.get(moveType).entrySet()) {
+                    final BitSet tileIds = entry.getValue();
+                    for (int id = tileIds.nextSetBit(0); id >= 0; id = tileIds.nextSetBit(id + 1)) {
+                        result.add(PlayerMove.of(moveType, map.getById(id).getPosition(), entry.getKey(), null));
+                    }
+                }
+            } else if (moveType == PlayerMoveType.BUY_RESERVE_UNIT) {
+                for (UnitTypes unitType : buyableReserveUnitTypes) {
+                    result.add(PlayerMove.buyReserveUnit(unitType));
+                }
+            } else if (moveType == PlayerMoveType.COMBINE_RESERVE_UNITS) {
+                final UnitTypes[] unitTypes = UnitTypes.values();
+                for (int i = 0; i < unitTypes.length; i++) {
+                    for (int j = i; j < unitTypes.length; j++) {
+                        if (combinableReserveUnitTypes[i][j]) {
+                            result.add(PlayerMove.combineReserveUnits(unitTypes[i], unitTypes[j]));
+                        }
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    private static PlayerMove createPlayerMove(PlayerMoveType moveType, HexTile tile) {
+        switch (moveType) {
+            case PICK_UP:
+                return PlayerMove.pickUp(tile.getPosition());
+            case PLACE_OWN:
+                return PlayerMove.placeOwn(tile.getPosition());
+            case COMBINE_UNITS:
+                return PlayerMove.combineUnits(tile.getPosition());
+            case CONQUER:
+                return PlayerMove.conquer(tile.getPosition());
+            case BUY_PEASANT:
+                return PlayerMove.buyPeasant();
+            case BUY_CASTLE:
+                return PlayerMove.buyCastle();
+            case BUY_AND_PLACE_PEASANT:
+                return PlayerMove.buyAndPlacePeasant(tile.getPosition());
+            case BUY_AND_PLACE_CASTLE:
+                return PlayerMove.buyAndPlaceCastle(tile.getPosition());
+            case ACTIVATE_KINGDOM:
+                return PlayerMove.activateKingdom(tile.getPosition());
+            case PICK_UP_ALL_UNITS:
+                return PlayerMove.pickUpAllUnits();
+            case SELL_CASTLE:
+                return PlayerMove.sellCastle(tile.getPosition());
+            case END_TURN:
+                return PlayerMove.endTurn();
+            default:
+                throw new IllegalStateException("Unexpected player move type " + moveType);
+        }
+    }
+
+}
@@ -0,0 +1,36 @@
+// SPDX-License-Identifier: GPL-3.0-or-later
+
+package de.sesu8642.feudaltactics.lib.gamestate;
+
+import de.sesu8642.feudaltactics.ingame.NewGamePreferences.MapSizes;
+
+/**
+ * Algorithms for generating the tiles of a map. A seed only results in the same map when used with the same version,
+ * which is why the version is saved with the game state.
+ */
+public enum MapGeneratorVersion {
+
+    /**
+     * Random walk that places every tile next to the previous one and backtracks when stuck. The original algorithm
+     * that all the seeds from older versions were generated with.
+     */
+    RANDOM_WALK,
+
+    /**
+     * Grows the land mass by picking the next tile from the whole coastline, weighted by how much free space there is
+     * around each candidate. Much faster for very large maps.
+     */
+    WEIGHTED_FRONTIER;
+
+    /**
+     * Returns the algorithm that new maps of the given size are generated with. Maps up to the largest size in the new
+     * game menu keep using {@link #RANDOM_WALK} so that their seeds still result in the same maps.
+     *
+     * @param landMass number of tiles to generate
+     * @return algorithm to use
+     */
+    public static MapGeneratorVersion forLandMass(float landMass) {
+        return landMass <= MapSizes.XXLARGE.getAmountOfTiles() ? RANDOM_WALK : WEIGHTED_FRONTIER;
+    }
+
+}
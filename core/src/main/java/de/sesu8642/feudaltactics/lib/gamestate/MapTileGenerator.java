@@ -0,0 +1,351 @@
+// SPDX-License-Identifier: GPL-3.0-or-later
+
+package de.sesu8642.feudaltactics.lib.gamestate;
+
+import com.badlogic.gdx.math.Vector2;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Generates the tiles of a new map. See {@link MapGeneratorVersion} for the available algorithms.
+ **/
+class MapTileGenerator {
+
+    // fixed point scale for the frontier weights so that sampling is exact and does not depend on the device
+    private static final double WEIGHT_SCALE = 1 << 20;
+    // caps infinite weights (empty candidates with negative density) while leaving room for summing them up
+    private static final long MAX_WEIGHT = 1L << 40;
+
+    // prevent instantiation
+    private MapTileGenerator() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Clears the map and fills it with new tiles. Every tile belongs to one of the players.
+     *
+     * @param map        map to fill
+     * @param players    players that own tiles on the map; their order is shuffled
+     * @param landMass   number of tiles to generate
+     * @param density    Lower density means the map will be more clumpy and higher means it will be more stringy
+     * @param version    algorithm to use
+     * @param random     random to use
+     */
+    static void generateTiles(HexMap map, List<Player> players, float landMass, float density,
+                              MapGeneratorVersion version, Random random) {
+        final Map<Player, Integer> tileAmountsToGenerate = distributeLandMass(players, landMass, random);
+        map.clear();
+        switch (version) {
+            case RANDOM_WALK:
+                generateTilesRandomWalk(map, players, tileAmountsToGenerate, density, random);
+                break;
+            case WEIGHTED_FRONTIER:
+                generateTilesWeightedFrontier(map, players, tileAmountsToGenerate, density, random);
+                break;
+            default:
+                throw new IllegalStateException("Unknown map generator version " + version);
+        }
+    }
+
+    private static Map<Player, Integer> distributeLandMass(List<Player> players, float landMass, Random random) {
+        // distribute the land mass evenly to all players
+        final Map<Player, Integer> tileAmountsToGenerate = new HashMap<>();
+        // if there are tiles left, distribute them to random players
+        Collections.shuffle(players, random);
+        int remainingLandMass = (int) (landMass % players.size());
+        for (Player player : players) {
+            int additionalTiles = 0;
+            if (remainingLandMass > 0) {
+                additionalTiles = 1;
+                remainingLandMass--;
+            }
+            tileAmountsToGenerate.put(player, (int) (landMass / players.size() + additionalTiles));
+        }
+        return tileAmountsToGenerate;
+    }
+
+    /**
+     * Places a tile for a random player that still has tiles left to generate.
+     */
+    private static void placeTile(HexMap map, Vector2 position, List<Player> remainingPlayers,
+                                  Map<Player, Integer> tileAmountsToGenerate, Random random) {
+        final Player player = remainingPlayers.get(random.nextInt(remainingPlayers.size()));
+        map.put(position, new HexTile(player, position));
+        // remove player if no tiles are left
+        if (tileAmountsToGenerate.get(player) == 1) {
+            remainingPlayers.remove(player);
+        } else {
+            tileAmountsToGenerate.put(player, tileAmountsToGenerate.get(player) - 1);
+        }
+    }
+
+    private static void generateTilesRandomWalk(HexMap map, List<Player> players,
+                                                Map<Player, Integer> tileAmountsToGenerate, float density,
+                                                Random random) {
+        // the scores only depend on the number of unused neighbors, so they can be calculated up front
+        final float[] scoresByUnusedNeighborCount = new float[HexMap.NEIGHBOR_COUNT + 1];
+        for (int i = 0; i < scoresByUnusedNeighborCount.length; i++) {
+            scoresByUnusedNeighborCount[i] = (float) Math.pow(i, density);
+        }
+        // keep track of the players that still have tiles left to generate in a list
+        // (because a random one can be selected)
+        final ArrayList<Player> remainingPlayers = new ArrayList<>(players);
+        // could be done recursively but stack size is uncertain
+        Vector2 nextTilePos = new Vector2(0, 0);
+        final ArrayList<Vector2> positionHistory = new ArrayList<>(); // for backtracking
+        while (!remainingPlayers.isEmpty()) {
+            Vector2 currentTilePos = nextTilePos;
+            placeTile(map, currentTilePos, remainingPlayers, tileAmountsToGenerate, random);
+            // add to history
+            positionHistory.add(currentTilePos);
+            // get next tile position with empty neighboring tiles
+            List<Vector2> usableCoords = HexMapHelper.getUnusedNeighborCoords(map, currentTilePos);
+            while (usableCoords.isEmpty()) {
+                // backtrack until able to place a tile again
+                positionHistory.remove(positionHistory.size() - 1);
+                currentTilePos = positionHistory.get(positionHistory.size() - 1);
+                usableCoords = HexMapHelper.getUnusedNeighborCoords(map, currentTilePos);
+            }
+            // calculate a score for each neighboring tile for choosing the next one
+            final float[] scores = new float[usableCoords.size()];
+            float scoreSum = 0;
+            for (int i = 0; i < scores.length; i++) {
+                // factor in density
+                final Vector2 candidate = usableCoords.get(i);
+                scores[i] = scoresByUnusedNeighborCount[countUnusedNeighbors(map, (int) candidate.x,
+                    (int) candidate.y)];
+                scoreSum += scores[i];
+            }
+            // select tile based on score and random
+            final float randomScore = random.nextFloat() * scoreSum;
+            int index = 0;
+            float countedScore = scores[0];
+            while (countedScore < randomScore) {
+                index++;
+                countedScore += scores[index];
+            }
+            nextTilePos = usableCoords.get(index);
+        }
+    }
+
+    private static void generateTilesWeightedFrontier(HexMap map, List<Player> players,
+                                                      Map<Player, Integer> tileAmountsToGenerate, float density,
+                                                      Random random) {
+        final long[] weightsByUnusedNeighborCount = new long[HexMap.NEIGHBOR_COUNT + 1];
+        for (int i = 0; i < weightsByUnusedNeighborCount.length; i++) {
+            // StrictMath because Math.pow may differ between devices
+            final long weight = Math.round(StrictMath.pow(i, density) * WEIGHT_SCALE);
+            // every candidate with free space around it must stay possible, even with extreme densities
+            weightsByUnusedNeighborCount[i] = Math.min(MAX_WEIGHT, Math.max(i > 0 ? 1 : 0, weight));
+        }
+        final ArrayList<Player> remainingPlayers = new ArrayList<>(players);
+        final Frontier frontier = new Frontier(weightsByUnusedNeighborCount);
+        int nextX = 0;
+        int nextY = 0;
+        while (!remainingPlayers.isEmpty()) {
+            placeTile(map, new Vector2(nextX, nextY), remainingPlayers, tileAmountsToGenerate, random);
+            frontier.markUsed(nextX, nextY);
+            for (int i = 0; i < HexMap.NEIGHBOR_COUNT; i++) {
+                final int neighborX = nextX + HexMapHelper.NEIGHBOR_OFFSETS_X[i];
+                final int neighborY = nextY + HexMapHelper.NEIGHBOR_OFFSETS_Y[i];
+                final int neighborSlot = frontier.getSlot(neighborX, neighborY);
+                if (neighborSlot == Frontier.UNKNOWN) {
+                    frontier.add(neighborX, neighborY, countUnusedNeighbors(map, neighborX, neighborY));
+                } else if (neighborSlot != Frontier.USED) {
+                    frontier.decrementUnusedNeighborCount(neighborSlot);
+                }
+            }
+            if (remainingPlayers.isEmpty()) {
+                break;
+            }
+            final int slot = frontier.sample(random);
+            nextX = frontier.getX(slot);
+            nextY = frontier.getY(slot);
+        }
+    }
+
+    private static int countUnusedNeighbors(HexMap map, int x, int y) {
+        int result = 0;
+        for (int i = 0; i < HexMap.NEIGHBOR_COUNT; i++) {
+            if (map.getTileId(x + HexMapHelper.NEIGHBOR_OFFSETS_X[i], y + HexMapHelper.NEIGHBOR_OFFSETS_Y[i])
+                == HexMap.NO_TILE) {
+                result++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Unused positions next to the land mass with their weights in a Fenwick tree, so that adding, re-weighting and
+     * weighted sampling all take logarithmic time. Positions are found with an open addressing hash table that also
+     * remembers the used ones, which never become unused again.
+     */
+    private static class Frontier {
+
+        static final int UNKNOWN = -1;
+        static final int USED = -2;
+
+        private static final int INITIAL_CAPACITY = 64;
+
+        private final long[] weightsByUnusedNeighborCount;
+        // hash table from packed coordinates to slots
+        private long[] indexKeys = new long[INITIAL_CAPACITY * 2];
+        private int[] indexValues = new int[INITIAL_CAPACITY * 2];
+        private int indexSize = 0;
+        private int[] xs = new int[INITIAL_CAPACITY];
+        private int[] ys = new int[INITIAL_CAPACITY];
+        private int[] unusedNeighborCounts = new int[INITIAL_CAPACITY];
+        private long[] weights = new long[INITIAL_CAPACITY];
+        // 1-based Fenwick tree over the weights
+        private long[] tree = new long[INITIAL_CAPACITY + 1];
+        private int slotBound = 0;
+        private long totalWeight = 0;
+
+        Frontier(long[] weightsByUnusedNeighborCount) {
+            this.weightsByUnusedNeighborCount = weightsByUnusedNeighborCount;
+            Arrays.fill(indexValues, UNKNOWN);
+        }
+
+        private static long packCoords(int x, int y) {
+            return ((long) x << 32) | (y & 0xFFFFFFFFL);
+        }
+
+        private static int indexSlot(long packedCoords, int mask) {
+            // same hashing as in HexMap
+            long hash = packedCoords * 0x9E3779B97F4A7C15L;
+            hash ^= hash >>> 32;
+            return (int) hash & mask;
+        }
+
+        int getX(int slot) {
+            return xs[slot];
+        }
+
+        int getY(int slot) {
+            return ys[slot];
+        }
+
+        /**
+         * Returns the slot of a position, {@link #USED} if there is a tile on it or {@link #UNKNOWN} if it is neither
+         * part of the frontier nor used.
+         */
+        int getSlot(int x, int y) {
+            return indexValues[findIndexPosition(packCoords(x, y))];
+        }
+
+        void add(int x, int y, int unusedNeighborCount) {
+            if (slotBound == xs.length) {
+                grow();
+            }
+            final int slot = slotBound++;
+            xs[slot] = x;
+            ys[slot] = y;
+            putIntoIndex(packCoords(x, y), slot);
+            unusedNeighborCounts[slot] = unusedNeighborCount;
+            setWeight(slot, weightsByUnusedNeighborCount[unusedNeighborCount]);
+        }
+
+        void markUsed(int x, int y) {
+            final long packedCoords = packCoords(x, y);
+            final int slot = indexValues[findIndexPosition(packedCoords)];
+            if (slot >= 0) {
+                setWeight(slot, 0);
+            }
+            putIntoIndex(packedCoords, USED);
+        }
+
+        /**
+         * Updates a frontier position after one of its neighbors was used.
+         */
+        void decrementUnusedNeighborCount(int slot) {
+            unusedNeighborCounts[slot]--;
+            setWeight(slot, weightsByUnusedNeighborCount[unusedNeighborCounts[slot]]);
+        }
+
+        int sample(Random random) {
+            // uniform value in [0, totalWeight) without modulo bias
+            long bits;
+            long value;
+            do {
+                bits = random.nextLong() >>> 1;
+                value = bits % totalWeight;
+            } while (bits - value + (totalWeight - 1) < 0);
+            // find the first slot whose prefix sum exceeds the value
+            int position = 0;
+            for (int step = Integer.highestOneBit(tree.length - 1); step > 0; step >>= 1) {
+                final int next = position + step;
+                if (next < tree.length && tree[next] <= value) {
+                    position = next;
+                    value -= tree[next];
+                }
+            }
+            return position;
+        }
+
+        private int findIndexPosition(long packedCoords) {
+            final int mask = indexKeys.length - 1;
+            int position = indexSlot(packedCoords, mask);
+            while (indexValues[position] != UNKNOWN && indexKeys[position] != packedCoords) {
+                position = (position + 1) & mask;
+            }
+            return position;
+        }
+
+        private void putIntoIndex(long packedCoords, int value) {
+            final int position = findIndexPosition(packedCoords);
+            if (indexValues[position] == UNKNOWN) {
+                indexSize++;
+            }
+            indexKeys[position] = packedCoords;
+            indexValues[position] = value;
+            if (indexSize * 2 > indexKeys.length) {
+                final long[] oldKeys = indexKeys;
+                final int[] oldValues = indexValues;
+                indexKeys = new long[oldKeys.length * 2];
+                indexValues = new int[oldValues.length * 2];
+                Arrays.fill(indexValues, UNKNOWN);
+                for (int i = 0; i < oldKeys.length; i++) {
+                    if (oldValues[i] != UNKNOWN) {
+                        final int newPosition = findIndexPosition(oldKeys[i]);
+                        indexKeys[newPosition] = oldKeys[i];
+                        indexValues[newPosition] = oldValues[i];
+                    }
+                }
+            }
+        }
+
+        private void setWeight(int slot, long weight) {
+            final long delta = weight - weights[slot];
+            weights[slot] = weight;
+            totalWeight += delta;
+            for (int i = slot + 1; i < tree.length; i += i & -i) {
+                tree[i] += delta;
+            }
+        }
+
+        private void grow() {
+            final int newCapacity = xs.length * 2;
+            xs = Arrays.copyOf(xs, newCapacity);
+            ys = Arrays.copyOf(ys, newCapacity);
+            unusedNeighborCounts = Arrays.copyOf(unusedNeighborCounts, newCapacity);
+            weights = Arrays.copyOf(weights, newCapacity);
+            // rebuilding is linear and only happens a logarithmic number of times
+            tree = new long[newCapacity + 1];
+            for (int i = 1; i <= newCapacity; i++) {
+                tree[i] += weights[i - 1];
+                final int parent = i + (i & -i);
+                if (parent <= newCapacity) {
+                    tree[parent] += tree[i];
+                }
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,233 @@
+// SPDX-License-Identifier: GPL-3.0-or-later
+
+package de.sesu8642.feudaltactics.lib.gamestate;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.reflect.ClassReflection;
+import de.sesu8642.feudaltactics.lib.gamestate.Unit.UnitTypes;
+import de.sesu8642.feudaltactics.lib.ingame.PlayerMove;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+/**
+ * Everything a player move changed in a game state, so that the move can be undone without copying or reloading the
+ * whole game state. Created by {@link GameStateHelper#applyPlayerMoveReversibly}. While the move is applied, the tiles
+ * report their old values to the map before they change and the first values of every tile are kept here, along with
+ * the tile lists of the kingdoms those tiles leave or join. The kingdoms report their savings and flags the same way
+ * before they change, which are also kept along with their tile lists. Can also record any other changes made via
+ * {@link GameStateHelper#applyChangesReversibly}, in which case there is no move.
+ */
+public class PlayerMoveDelta {
+
+    /**
+     * Move that was applied, null if the changes were not made by a single move.
+     */
+    @Getter
+    private final PlayerMove move;
+
+    // tiles in the order they were first changed
+    private final List<TileState> oldTileStates = new ArrayList<>();
+    // by identity because comparing tiles and kingdoms compares their contents
+    private final Map<HexTile, Boolean> recordedTiles = new IdentityHashMap<>();
+    private final Map<Kingdom, List<HexTile>> oldKingdomTiles = new IdentityHashMap<>();
+    private final Map<Kingdom, KingdomState> oldKingdomStates = new IdentityHashMap<>();
+
+    private final List<Kingdom> oldKingdoms;
+    private final Kingdom oldActiveKingdom;
+    private final TileContent oldHeldObject;
+    private final boolean oldHeldUnitCanAct;
+    private final int[] oldReserve = new int[UnitTypes.values().length];
+    private final Set<Vector2> oldCastlesBoughtInCurrentTurn;
+    private final int oldObjectiveProgress;
+
+    private long fingerprintAfterMove;
+
+    /**
+     * Constructor. Saves the parts of the game state that are not recorded while the move is applied.
+     *
+     * @param gameState game state before the move
+     * @param move      move that is going to be applied, null if the changes are not made by a single move
+     */
+    PlayerMoveDelta(GameState gameState, PlayerMove move) {
+        this.move = move;
+        oldKingdoms = new ArrayList<>(gameState.getKingdoms());
+        oldActiveKingdom = gameState.getActiveKingdom();
+        oldHeldObject = gameState.getHeldObject();
+        // the held unit is the only content that is changed in place instead of being replaced
+        oldHeldUnitCanAct = isUnit(oldHeldObject) && ((Unit) oldHeldObject).isCanAct();
+        for (UnitTypes unitType : UnitTypes.values()) {
+            oldReserve[unitType.ordinal()] = gameState.getReserveUnitCount(unitType);
+        }
+        oldCastlesBoughtInCurrentTurn = new LinkedHashSet<>(gameState.getCastlesBoughtInCurrentTurn());
+        oldObjectiveProgress = gameState.getObjectiveProgress();
+    }
+
+    private static boolean isUnit(TileContent content) {
+        return content != null && ClassReflection.isAssignableFrom(Unit.class, content.getClass());
+    }
+
+    /**
+     * Remembers the values of a tile before its first change as well as the tile list of its kingdom.
+     *
+     * @param tile tile that is about to change
+     */
+    void recordTile(HexTile tile) {
+        if (recordedTiles.put(tile, Boolean.TRUE) == null) {
+            oldTileStates.add(new TileState(tile));
+            recordKingdomTiles(tile.getKingdom());
+        }
+    }
+
+    /**
+     * Remembers the tile list of a kingdom before its first change. Needs to be called before the list changes, which
+     * is the case as long as tiles are only added to or removed from a kingdom after their kingdom was set. Also
+     * remembers the savings and flags because the kingdom cannot report their changes once it has no tiles left.
+     *
+     * @param kingdom kingdom whose tiles are about to change
+     */
+    void recordKingdomTiles(Kingdom kingdom) {
+        if (kingdom != null && !oldKingdomTiles.containsKey(kingdom)) {
+            oldKingdomTiles.put(kingdom, new ArrayList<>(kingdom.getTiles()));
+            recordKingdomValues(kingdom);
+        }
+    }
+
+    /**
+     * Remembers the savings and flags of a kingdom before their first change.
+     *
+     * @param kingdom kingdom whose values are about to change
+     */
+    void recordKingdomValues(Kingdom kingdom) {
+        if (!oldKingdomStates.containsKey(kingdom)) {
+            oldKingdomStates.put(kingdom, new KingdomState(kingdom));
+        }
+    }
+
+    void setFingerprintAfterMove(long fingerprintAfterMove) {
+        this.fingerprintAfterMove = fingerprintAfterMove;
+    }
+
+    /**
+     * Returns the number of tiles the move changed.
+     *
+     * @return number of changed tiles
+     */
+    public int getChangedTileCount() {
+        return oldTileStates.size();
+    }
+
+    /**
+     * Checks whether the game state is still the same as right after the move, which is required for undoing it.
+     *
+     * @param gameState game state the move was applied to
+     * @return whether the move can be undone
+     */
+    public boolean isUndoableIn(GameState gameState) {
+        return gameState.getFingerprint() == fingerprintAfterMove;
+    }
+
+    /**
+     * Restores the game state to what it was before the move.
+     *
+     * @param gameState game state the move was applied to, unchanged since then
+     */
+    void undo(GameState gameState) {
+        if (!isUndoableIn(gameState)) {
+            throw new IllegalStateException("The game state was changed after the changes by move " + move
+                + " were applied.");
+        }
+        for (int i = oldTileStates.size() - 1; i >= 0; i--) {
+            oldTileStates.get(i).restore();
+        }
+        for (Entry<Kingdom, List<HexTile>> entry : oldKingdomTiles.entrySet()) {
+            final List<HexTile> tiles = entry.getKey().getTiles();
+            tiles.clear();
+            tiles.addAll(entry.getValue());
+        }
+        gameState.getKingdoms().clear();
+        gameState.getKingdoms().addAll(oldKingdoms);
+        for (KingdomState kingdomState : oldKingdomStates.values()) {
+            kingdomState.restore();
+        }
+        gameState.setActiveKingdom(oldActiveKingdom);
+        gameState.setHeldObject(oldHeldObject);
+        if (isUnit(oldHeldObject)) {
+            ((Unit) oldHeldObject).setCanAct(oldHeldUnitCanAct);
+        }
+        for (UnitTypes unitType : UnitTypes.values()) {
+            gameState.setReserveUnitCount(unitType, oldReserve[unitType.ordinal()]);
+        }
+        gameState.getCastlesBoughtInCurrentTurn().clear();
+        gameState.getCastlesBoughtInCurrentTurn().addAll(oldCastlesBoughtInCurrentTurn);
+        gameState.setObjectiveProgress(oldObjectiveProgress);
+    }
+
+    /**
+     * Values of a tile before the move.
+     */
+    private static class TileState {
+
+        private final HexTile tile;
+        private final Player player;
+        private final TileContent content;
+        private final boolean unitCanAct;
+        private final Kingdom kingdom;
+
+        TileState(HexTile tile) {
+            this.tile = tile;
+            player = tile.getPlayer();
+            content = tile.getContent();
+            unitCanAct = isUnit(content) && ((Unit) content).isCanAct();
+            kingdom = tile.getKingdom();
+        }
+
+        void restore() {
+            // going through the setters keeps the aggregates, indexes and fingerprints up to date
+            tile.setKingdom(kingdom);
+            tile.setPlayer(player);
+            if (isUnit(content) && ((Unit) content).isCanAct() != unitCanAct) {
+                // the unit was picked up and used in the meantime and might already be on another tile that is not
+                // restored yet, so a copy with the old state is put back instead of changing the unit
+                final Unit unit = ((Unit) content).getCopy();
+                unit.setCanAct(unitCanAct);
+                tile.setContent(unit);
+            } else {
+                tile.setContent(content);
+            }
+        }
+
+    }
+
+    /**
+     * Savings and flags of a kingdom before the move.
+     */
+    private static class KingdomState {
+
+        private final Kingdom kingdom;
+        private final int savings;
+        private final boolean doneMoving;
+        private final boolean wasActiveInCurrentTurn;
+
+        KingdomState(Kingdom kingdom) {
+            this.kingdom = kingdom;
+            savings = kingdom.getSavings();
+            doneMoving = kingdom.isDoneMoving();
+            wasActiveInCurrentTurn = kingdom.isWasActiveInCurrentTurn();
+        }
+
+        void restore() {
+            kingdom.setSavings(savings);
+            kingdom.setDoneMoving(doneMoving);
+            kingdom.setWasActiveInCurrentTurn(wasActiveInCurrentTurn);
+        }
+
+    }
+
+}
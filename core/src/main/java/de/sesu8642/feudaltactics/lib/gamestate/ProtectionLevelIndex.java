@@ -0,0 +1,92 @@
+// SPDX-License-Identifier: GPL-3.0-or-later
+
+package de.sesu8642.feudaltactics.lib.gamestate;
+
+import java.util.Arrays;
+
+/**
+ * Keeps the protection level of every tile in a {@link HexMap}. The protection level of a tile is the highest
+ * strength of its own content and the contents of the neighbors in the same kingdom. A change to a tile can only
+ * affect the tile itself and its neighbors, so only those are recalculated.
+ **/
+class ProtectionLevelIndex {
+
+    private final HexMap map;
+
+    // indexed by tile id
+    private int[] protectionLevels;
+
+    ProtectionLevelIndex(HexMap map, int capacity) {
+        this.map = map;
+        protectionLevels = new int[capacity];
+    }
+
+    /**
+     * Returns the protection level of a tile.
+     *
+     * @param tileId id of the tile
+     * @return protection level
+     */
+    int getProtectionLevel(int tileId) {
+        return protectionLevels[tileId];
+    }
+
+    /**
+     * Updates the protection levels around a tile after it was added, removed, changed its content or its kingdom.
+     *
+     * @param tileId id of the tile
+     */
+    void tileChanged(int tileId) {
+        if (tileId >= protectionLevels.length) {
+            protectionLevels = Arrays.copyOf(protectionLevels, Math.max(tileId + 1, protectionLevels.length * 2));
+        }
+        updateProtectionLevel(tileId);
+        for (int direction = 0; direction < HexMap.NEIGHBOR_COUNT; direction++) {
+            final int neighborId = map.getNeighborId(tileId, direction);
+            if (neighborId != HexMap.NO_TILE) {
+                updateProtectionLevel(neighborId);
+            }
+        }
+    }
+
+    /**
+     * Recalculates all the protection levels after the ids of the tiles changed.
+     */
+    void rebuild() {
+        Arrays.fill(protectionLevels, 0);
+        for (int id = 0; id < map.getTileIdBound(); id++) {
+            updateProtectionLevel(id);
+        }
+    }
+
+    private void updateProtectionLevel(int tileId) {
+        final HexTile tile = map.getById(tileId);
+        if (tile == null) {
+            protectionLevels[tileId] = 0;
+            return;
+        }
+        protectionLevels[tileId] = calculateProtectionLevel(map, tile);
+    }
+
+    /**
+     * Calculates the protection level of a tile by looking at its neighbors.
+     *
+     * @param map  map the tile is in
+     * @param tile tile to calculate the protection level of
+     * @return protection level
+     */
+    static int calculateProtectionLevel(HexMap map, HexTile tile) {
+        int protectionLevel = 0;
+        if (tile.getContent() != null) {
+            protectionLevel = tile.getContent().getStrength();
+        }
+        for (HexTile neighbor : HexMapHelper.getNeighborTiles(map, tile)) {
+            if (neighbor != null && neighbor.getKingdom() != null && tile.getKingdom() == neighbor.getKingdom()
+                && neighbor.getContent() != null && neighbor.getContent().getStrength() > protectionLevel) {
+                protectionLevel = neighbor.getContent().getStrength();
+            }
+        }
+        return protectionLevel;
+    }
+
+}
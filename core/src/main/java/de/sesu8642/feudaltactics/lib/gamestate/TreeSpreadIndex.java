@@ -0,0 +1,264 @@
+// SPDX-License-Identifier: GPL-3.0-or-later
+
+package de.sesu8642.feudaltactics.lib.gamestate;
+
+import com.badlogic.gdx.utils.reflect.ClassReflection;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Keeps track of the trees and palm trees in a {@link HexMap} and caches the tiles they will spread to. A change only
+ * invalidates the cache if it happens on or next to a tree, so most moves do not cause the prediction to be
+ * calculated again. Calculating it only looks at the trees and their neighbors. The trees are processed in the
+ * iteration order of the map, which gives exactly the same result as going through all the tiles.
+ **/
+class TreeSpreadIndex {
+
+    private static final int[] NO_IDS = new int[0];
+
+    private final HexMap map;
+
+    private BitSet oakTreeIds = new BitSet();
+    private BitSet palmTreeIds = new BitSet();
+    // ids of the tiles the trees will spread to; null if they need to be calculated again
+    private int[] oakSpreadIds;
+    private int[] palmSpreadIds;
+
+    TreeSpreadIndex(HexMap map) {
+        this.map = map;
+    }
+
+    /**
+     * Creates an index for a read-only map with the same layout and tile contents as the one of this index. Only the
+     * prediction is shared because the trees of a read-only map never change. The prediction is calculated first if
+     * necessary, so that this index can reuse it for the next copy.
+     *
+     * @param otherMap read-only map with the same layout and contents
+     * @return index for the other map
+     */
+    TreeSpreadIndex copyPredictionFor(HexMap otherMap) {
+        ensureCalculated();
+        final TreeSpreadIndex result = new TreeSpreadIndex(otherMap);
+        result.oakSpreadIds = oakSpreadIds;
+        result.palmSpreadIds = palmSpreadIds;
+        return result;
+    }
+
+    /**
+     * Updates the index after a tile was added to the map.
+     *
+     * @param tileId id of the new tile
+     * @param tile   new tile
+     */
+    void tileAdded(int tileId, HexTile tile) {
+        setTreeBits(tileId, tile.getContent());
+        // the coast changed
+        invalidate();
+    }
+
+    /**
+     * Updates the index after a tile was removed from the map.
+     *
+     * @param tileId id the tile had
+     */
+    void tileRemoved(int tileId) {
+        oakTreeIds.clear(tileId);
+        palmTreeIds.clear(tileId);
+        invalidate();
+    }
+
+    /**
+     * Updates the index after the content of a tile changed.
+     *
+     * @param tileId          id of the tile
+     * @param previousContent content the tile had before
+     * @param content         content the tile has now
+     */
+    void contentChanged(int tileId, TileContent previousContent, TileContent content) {
+        final boolean wasTree = oakTreeIds.get(tileId) || palmTreeIds.get(tileId);
+        setTreeBits(tileId, content);
+        if (oakSpreadIds == null || !isRelevantChange(previousContent, content)) {
+            return;
+        }
+        if (wasTree || oakTreeIds.get(tileId) || palmTreeIds.get(tileId) || isNextToTree(tileId)) {
+            invalidate();
+        }
+    }
+
+    /**
+     * Rebuilds the index after the ids of the tiles changed.
+     */
+    void rebuild() {
+        oakTreeIds.clear();
+        palmTreeIds.clear();
+        for (int id = 0; id < map.getTileIdBound(); id++) {
+            final HexTile tile = map.getById(id);
+            if (tile != null) {
+                setTreeBits(id, tile.getContent());
+            }
+        }
+        invalidate();
+    }
+
+    /**
+     * Returns the tiles new oak trees will grow on if the trees spread now.
+     *
+     * @return modifiable list of tiles
+     */
+    List<HexTile> getTilesOakTreesWillSpreadTo() {
+        ensureCalculated();
+        return toTiles(oakSpreadIds);
+    }
+
+    /**
+     * Returns the tiles new palm trees will grow on if the trees spread now.
+     *
+     * @return modifiable list of tiles
+     */
+    List<HexTile> getTilesPalmTreesWillSpreadTo() {
+        ensureCalculated();
+        return toTiles(palmSpreadIds);
+    }
+
+    private void invalidate() {
+        oakSpreadIds = null;
+        palmSpreadIds = null;
+    }
+
+    private void setTreeBits(int tileId, TileContent content) {
+        oakTreeIds.set(tileId, content != null && ClassReflection.isAssignableFrom(Tree.class, content.getClass()));
+        palmTreeIds.set(tileId,
+            content != null && ClassReflection.isAssignableFrom(PalmTree.class, content.getClass()));
+    }
+
+    /**
+     * Whether the change can influence the spreading. Trees only care about whether a neighbor is empty, a tree or
+     * something else.
+     */
+    private static boolean isRelevantChange(TileContent previousContent, TileContent content) {
+        if (previousContent == null || content == null) {
+            return previousContent != content;
+        }
+        return previousContent.getClass() != content.getClass()
+            && (isAnyTree(previousContent) || isAnyTree(content));
+    }
+
+    private static boolean isAnyTree(TileContent content) {
+        return ClassReflection.isAssignableFrom(Tree.class, content.getClass())
+            || ClassReflection.isAssignableFrom(PalmTree.class, content.getClass());
+    }
+
+    private boolean isNextToTree(int tileId) {
+        for (int direction = 0; direction < HexMap.NEIGHBOR_COUNT; direction++) {
+            final int neighborId = map.getNeighborId(tileId, direction);
+            if (neighborId != HexMap.NO_TILE && (oakTreeIds.get(neighborId) || palmTreeIds.get(neighborId))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isCoast(int tileId) {
+        for (int direction = 0; direction < HexMap.NEIGHBOR_COUNT; direction++) {
+            if (map.getNeighborId(tileId, direction) == HexMap.NO_TILE) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isFreeForSpreading(int tileId, BitSet blackList) {
+        return !blackList.get(tileId) && map.getById(tileId).getContent() == null;
+    }
+
+    /**
+     * Returns whether the first tile comes before the second one in the fixed order of {@link HexTile#compareTo}.
+     */
+    private boolean isBefore(int tileId, int otherTileId) {
+        return otherTileId == HexMap.NO_TILE || map.getById(tileId).compareTo(map.getById(otherTileId)) < 0;
+    }
+
+    private void ensureCalculated() {
+        if (oakSpreadIds == null) {
+            oakSpreadIds = calculateOakSpreadIds();
+            palmSpreadIds = calculatePalmSpreadIds();
+        }
+    }
+
+    private int[] calculateOakSpreadIds() {
+        // tiles with trees that are new or have already participated in spreading; those shouldn't spread again in
+        // that turn
+        final BitSet blackList = new BitSet();
+        int[] result = NO_IDS;
+        int count = 0;
+        for (int id = oakTreeIds.nextSetBit(0); id >= 0; id = oakTreeIds.nextSetBit(id + 1)) {
+            if (blackList.get(id)) {
+                continue;
+            }
+            // regular trees spread if they have another regular tree next to them
+            int newTreeId = HexMap.NO_TILE;
+            int neighborTreeId = HexMap.NO_TILE;
+            for (int direction = 0; direction < HexMap.NEIGHBOR_COUNT; direction++) {
+                final int neighborId = map.getNeighborId(id, direction);
+                if (neighborId == HexMap.NO_TILE) {
+                    continue;
+                }
+                if (isFreeForSpreading(neighborId, blackList) && !isCoast(neighborId)) {
+                    if (isBefore(neighborId, newTreeId)) {
+                        newTreeId = neighborId;
+                    }
+                } else if (oakTreeIds.get(neighborId) && !blackList.get(neighborId)) {
+                    neighborTreeId = neighborId;
+                }
+            }
+            if (neighborTreeId != HexMap.NO_TILE && newTreeId != HexMap.NO_TILE) {
+                if (count == result.length) {
+                    result = Arrays.copyOf(result, Math.max(8, count * 2));
+                }
+                result[count++] = newTreeId;
+                blackList.set(id);
+                blackList.set(newTreeId);
+                blackList.set(neighborTreeId);
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    private int[] calculatePalmSpreadIds() {
+        // new trees shouldn't be grown on twice
+        final BitSet blackList = new BitSet();
+        int[] result = NO_IDS;
+        int count = 0;
+        for (int id = palmTreeIds.nextSetBit(0); id >= 0; id = palmTreeIds.nextSetBit(id + 1)) {
+            // palm trees always spread to a neighboring coast tile, if any
+            int newTreeId = HexMap.NO_TILE;
+            for (int direction = 0; direction < HexMap.NEIGHBOR_COUNT; direction++) {
+                final int neighborId = map.getNeighborId(id, direction);
+                if (neighborId != HexMap.NO_TILE && isFreeForSpreading(neighborId, blackList) && isCoast(neighborId)
+                    && isBefore(neighborId, newTreeId)) {
+                    newTreeId = neighborId;
+                }
+            }
+            if (newTreeId != HexMap.NO_TILE) {
+                if (count == result.length) {
+                    result = Arrays.copyOf(result, Math.max(8, count * 2));
+                }
+                result[count++] = newTreeId;
+                blackList.set(newTreeId);
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    private List<HexTile> toTiles(int[] tileIds) {
+        final List<HexTile> result = new ArrayList<>(tileIds.length);
+        for (int tileId : tileIds) {
+            result.add(map.getById(tileId));
+        }
+        return result;
+    }
+
+}
@@ -3,19 +3,27 @@
 package de.sesu8642.feudaltactics.lib.gamestate.validation;
 
 import com.badlogic.gdx.math.Vector2;
-import de.sesu8642.feudaltactics.ingame.NewGamePreferences;
 import de.sesu8642.feudaltactics.lib.gamestate.*;
 import lombok.extern.slf4j.Slf4j;
 
-import java.util.*;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 
 /**
- * Helper class that is used to ensure a {@link GameState}'s integrity.
+ * Helper class that is used to ensure a {@link GameState}'s integrity. Game states can be pasted or loaded from
+ * anywhere, so the validation has to be cheap even for hostile input: the size of the map and the kingdoms are checked
+ * before anything is traversed, all the invariants of the tiles are checked in a few linear passes over the tile ids
+ * and the total amount of work is capped.
  **/
 @Slf4j
 public final class GameStateValidator {
 
     private static final int BARELY_PLAUSIBLE_HIGH_INT = 10000;
+    // grows with the maximum size of the map because the income of the kingdoms does
+    private static final int BARELY_PLAUSIBLE_HIGH_SAVINGS = 10 * HexMap.MAX_TILES;
+    // valid game states need about 20 units per tile
+    private static final long MAX_WORK = 64L * HexMap.MAX_TILES;
 
     // prevent instantiation
     private GameStateValidator() {
@@ -30,37 +38,13 @@ public final class GameStateValidator {
      */
     public static boolean isValid(GameState gameState) {
         log.info("checking if game state is valid in general");
-        final boolean isValid = gameStateHasBotIntelligence(gameState)
-            && gameStateHasMap(gameState)
-            && heldObjectIsOnlyPresentWithActiveKingdom(gameState)
-            && heldObjectIsAllowed(gameState)
-            && roundIsValid(gameState)
-            && gameStateHasValidNumberOfPlayers(gameState)
-            && playerTurnIsValid(gameState)
-            && winnerIsAmongPlayers(gameState)
-            && winnerAndWinningRoundArePresentTogether(gameState)
-            && playersHaveProperIndexes(gameState)
-            && onlyDefeatedPlayersHaveRoundOfDefeat(gameState)
-            && kingdomsAreNotNull(gameState)
-            && activeKingdomIsAmongKingdoms(gameState)
-            && activeKingdomBelongsToActivePlayer(gameState)
-            && eachKingdomsHasValidSavings(gameState)
-            && eachKingdomHasValidAmountOfTiles(gameState)
-            && eachKingdomHasOneCapital(gameState)
-            && eachKingdomHasAPlayer(gameState)
-            && tilesHaveBackLinksInTheirKingdoms(gameState)
-            && connectedTilesFormKingdom(gameState)
-            && allTilesInAKingdomAreConnected(gameState)
-            && tileCoordinatesMatchMap(gameState)
-            && mapIsNotTooLarge(gameState)
-            && treesAreTheCorrectTypeBasedOnPosition(gameState)
-            && capitalsAndCastlesAreOnlyInKingdoms(gameState);
-        if (isValid) {
+        final ValidationResult result = validate(gameState);
+        if (result.isValid()) {
             log.info("game state is valid in general");
         } else {
-            log.info("game state is NOT valid in general");
+            log.info("game state is NOT valid in general: {}", result.getViolatedRule().getViolationMessage());
         }
-        return isValid;
+        return result.isValid();
     }
 
     /**
@@ -71,320 +55,326 @@ public final class GameStateValidator {
      */
     public static boolean isValidSingplayerGame(GameState gameState) {
         log.info("checking if game state is valid for a single player game");
-        final boolean isValid = isValid(gameState)
-            && hasNoScenarioMap(gameState)
-            && hasNoRemotePlayers(gameState)
-            && hasOneHumanPlayer(gameState);
-        if (isValid) {
+        final ValidationResult result = validateSingleplayerGame(gameState);
+        if (result.isValid()) {
             log.info("game state is valid for a single player game");
         } else {
-            log.info("game state is NOT valid for a single player game");
+            log.info("game state is NOT valid for a single player game: {}",
+                result.getViolatedRule().getViolationMessage());
         }
-        return isValid;
-
+        return result.isValid();
     }
 
-    private static boolean gameStateHasBotIntelligence(GameState gameState) {
-        final boolean result = gameState.getBotIntelligence() != null;
-        if (!result) {
-            log.info("game state has no bot intelligence");
-        }
-        return result;
-    }
-
-    private static boolean gameStateHasMap(GameState gameState) {
-        final boolean result = gameState.getMap() != null;
-        if (!result) {
-            log.info("game state has no map");
-        }
-        return result;
-    }
-
-    private static boolean heldObjectIsOnlyPresentWithActiveKingdom(GameState gameState) {
-        final boolean result = gameState.getHeldObject() == null || gameState.getActiveKingdom() != null;
-        if (!result) {
-            log.info("game state has held object but no active kingdom");
-        }
-        return result;
-    }
-
-    private static boolean heldObjectIsAllowed(GameState gameState) {
-        final boolean result;
-        if (gameState.getHeldObject() == null) {
-            return true;
-        }
-        final Class<? extends TileContent> heldObjectClass = gameState.getHeldObject().getClass();
-        result = Unit.class.isAssignableFrom(heldObjectClass) || Castle.class.isAssignableFrom(heldObjectClass);
-        if (!result) {
-            log.info("game state has invalid held object");
-        }
-        return result;
+    /**
+     * Validates a gamestate to ensure its integrity.
+     *
+     * @param gameState game state to validate
+     * @return result containing the first violated rule
+     */
+    public static ValidationResult validate(GameState gameState) {
+        final Validation validation = new Validation(gameState);
+        validation.validateInGeneral();
+        return validation.toResult();
     }
 
-    private static boolean roundIsValid(GameState gameState) {
-        final boolean result = gameState.getRound() >= 1 && gameState.getRound() <= BARELY_PLAUSIBLE_HIGH_INT;
-        if (!result) {
-            log.info("game state has invalid round");
+    /**
+     * Validates a gamestate to ensure its integrity and that it's suitable for a singleplayer game.
+     *
+     * @param gameState game state to validate
+     * @return result containing the first violated rule
+     */
+    public static ValidationResult validateSingleplayerGame(GameState gameState) {
+        final Validation validation = new Validation(gameState);
+        if (validation.validateInGeneral()) {
+            validation.validateSingleplayer();
         }
-        return result;
+        return validation.toResult();
     }
 
-    private static boolean gameStateHasValidNumberOfPlayers(GameState gameState) {
-        final boolean result =
-            gameState.getPlayers() != null && gameState.getPlayers().size() >= 2 && gameState.getPlayers().size() <= 6;
-        if (!result) {
-            log.info("game state has invalid number of players");
-        }
-        return result;
-    }
+    /**
+     * State of a single validation run.
+     */
+    private static final class Validation {
 
-    private static boolean playerTurnIsValid(GameState gameState) {
-        final boolean result =
-            gameState.getPlayerTurn() >= 0 && gameState.getPlayerTurn() < gameState.getPlayers().size();
-        if (!result) {
-            log.info("game state has invalid player turn");
-        }
-        return result;
-    }
+        private final GameState gameState;
+        private HexMap map;
+        private List<Kingdom> kingdoms;
+        private long work = 0;
+        private ValidationRule violatedRule;
+        // index of the kingdom of every tile id according to the kingdoms' tile lists, -1 for none
+        private int[] kingdomIndexById;
 
-    private static boolean winnerIsAmongPlayers(GameState gameState) {
-        final boolean result = gameState.getWinner() == null || gameState.getPlayers().contains(gameState.getWinner());
-        if (!result) {
-            log.info("game state's winner is not among players");
+        private Validation(GameState gameState) {
+            this.gameState = gameState;
         }
-        return result;
-    }
 
-    private static boolean winnerAndWinningRoundArePresentTogether(GameState gameState) {
-        final boolean result =
-            (gameState.getWinner() == null && gameState.getWinningRound() == null) || gameState.getWinner() != null && gameState.getWinningRound() != null;
-        if (!result) {
-            log.info("game state has only one of winner and winningRound");
+        private ValidationResult toResult() {
+            return new ValidationResult(violatedRule, work);
         }
-        return result;
-    }
 
-    private static boolean playersHaveProperIndexes(GameState gameState) {
-        final List<Player> players = gameState.getPlayers();
-        final Set<Integer> expectedIndexes = new HashSet<>();
-        for (int i = 0; i < players.size(); i++) {
-            expectedIndexes.add(i);
-        }
-        for (Player player : players) {
-            if (!expectedIndexes.contains(player.getPlayerIndex())) {
-                log.info("player indices are invalid");
-                return false;
+        private boolean check(boolean condition, ValidationRule rule) {
+            if (!condition) {
+                violatedRule = rule;
             }
-            expectedIndexes.remove(player.getPlayerIndex());
+            return condition;
+        }
+
+        private boolean spend(long amount) {
+            work += amount;
+            return check(work <= MAX_WORK, ValidationRule.WORK_WITHIN_LIMIT);
+        }
+
+        private boolean validateInGeneral() {
+            return check(gameState.getBotIntelligence() != null, ValidationRule.BOT_INTELLIGENCE_PRESENT)
+                && check(gameState.getMap() != null, ValidationRule.MAP_PRESENT)
+                && check(gameState.getHeldObject() == null || gameState.getActiveKingdom() != null,
+                ValidationRule.HELD_OBJECT_ONLY_WITH_ACTIVE_KINGDOM)
+                && check(isHeldObjectAllowed(), ValidationRule.HELD_OBJECT_ALLOWED)
+                && check(isReserveValid(), ValidationRule.RESERVE_VALID)
+                && spend(gameState.getCastlesBoughtInCurrentTurn().size())
+                && check(areCastlesBoughtInCurrentTurnValid(), ValidationRule.CASTLES_BOUGHT_IN_CURRENT_TURN_VALID)
+                && check(gameState.getRound() >= 1 && gameState.getRound() <= BARELY_PLAUSIBLE_HIGH_INT,
+                ValidationRule.ROUND_VALID)
+                && check(gameState.getPlayers() != null && gameState.getPlayers().size() >= 2
+                && gameState.getPlayers().size() <= 6, ValidationRule.NUMBER_OF_PLAYERS_VALID)
+                && check(gameState.getPlayerTurn() >= 0 && gameState.getPlayerTurn() < gameState.getPlayers().size(),
+                ValidationRule.PLAYER_TURN_VALID)
+                && check(gameState.getWinner() == null || gameState.getPlayers().contains(gameState.getWinner()),
+                ValidationRule.WINNER_AMONG_PLAYERS)
+                && check((gameState.getWinner() == null) == (gameState.getWinningRound() == null),
+                ValidationRule.WINNER_AND_WINNING_ROUND_PRESENT_TOGETHER)
+                && check(playersHaveProperIndexes(), ValidationRule.PLAYERS_HAVE_PROPER_INDEXES)
+                && check(gameState.getKingdoms() != null && !gameState.getKingdoms().contains(null),
+                ValidationRule.KINGDOMS_PRESENT)
+                && check(gameState.getMap().size() <= HexMap.MAX_TILES, ValidationRule.MAP_NOT_TOO_LARGE)
+                && checkActiveKingdom()
+                && checkKingdoms()
+                && checkKingdomTiles()
+                && checkMapTiles()
+                && checkKingdomConnectivity()
+                && spend(gameState.getMap().size())
+                && check(gameState.getFingerprint() == FingerprintHelper.calculateFingerprint(gameState),
+                ValidationRule.FINGERPRINT_MATCHES_RECALCULATION);
+        }
+
+        private boolean validateSingleplayer() {
+            return check(gameState.getScenarioMap() == ScenarioMap.NONE, ValidationRule.NO_SCENARIO_MAP)
+                && check(gameState.getPlayers().stream().noneMatch(player -> player.getType() == Player.Type.REMOTE),
+                ValidationRule.NO_REMOTE_PLAYERS)
+                && check(gameState.getPlayers().stream()
+                    .filter(player -> player.getType() == Player.Type.LOCAL_PLAYER).count() == 1,
+                ValidationRule.ONE_HUMAN_PLAYER);
+        }
+
+        private boolean isHeldObjectAllowed() {
+            if (gameState.getHeldObject() == null) {
+                return true;
+            }
+            final Class<? extends TileContent> heldObjectClass = gameState.getHeldObject().getClass();
+            return Unit.class.isAssignableFrom(heldObjectClass) || Castle.class.isAssignableFrom(heldObjectClass);
         }
-        return true;
-    }
 
-    private static boolean onlyDefeatedPlayersHaveRoundOfDefeat(GameState gameState) {
-        for (Player player : gameState.getPlayers()) {
-            final boolean playerIsDefeated = player.getRoundOfDefeat() != null;
-            if (playerIsDefeated) {
-                for (Kingdom kingdom : gameState.getKingdoms()) {
-                    if (kingdom.getPlayer() == player) {
-                        log.info("defeated player has a kingdom");
-                        return false;
-                    }
+        private boolean isReserveValid() {
+            for (Unit.UnitTypes unitType : Unit.UnitTypes.values()) {
+                final int count = gameState.getReserveUnitCount(unitType);
+                // every unit has been on a tile of the map before
+                if (count < 0 || count > HexMap.MAX_TILES) {
+                    return false;
                 }
             }
+            return gameState.isReserveEmpty() || gameState.getActiveKingdom() != null;
         }
-        return true;
-    }
-
-    private static boolean kingdomsAreNotNull(GameState gameState) {
-        final boolean result = gameState.getKingdoms() != null;
-        if (!result) {
-            log.info("kingdoms are null");
-        }
-        return result;
-    }
 
-    private static boolean activeKingdomIsAmongKingdoms(GameState gameState) {
-        final boolean result =
-            gameState.getActiveKingdom() == null || gameState.getKingdoms().contains(gameState.getActiveKingdom());
-        if (!result) {
-            log.info("active kingdom is not among kingdoms");
-        }
-        return result;
-    }
-
-    private static boolean activeKingdomBelongsToActivePlayer(GameState gameState) {
-        final boolean result =
-            gameState.getActiveKingdom() == null || gameState.getActiveKingdom().getPlayer() == gameState.getActivePlayer();
-        if (!result) {
-            log.info("active kingdom does not belong to active player");
-        }
-        return result;
-    }
-
-    private static boolean eachKingdomsHasValidSavings(GameState gameState) {
-        for (Kingdom kingdom : gameState.getKingdoms()) {
-            if (kingdom.getSavings() < 0 || kingdom.getSavings() > BARELY_PLAUSIBLE_HIGH_INT) {
-                log.info("kingdom has invalid savings amount");
-                return false;
+        private boolean areCastlesBoughtInCurrentTurnValid() {
+            for (Vector2 position : gameState.getCastlesBoughtInCurrentTurn()) {
+                final HexTile tile = gameState.getMap().get(position);
+                if (tile == null || tile.getContent() == null || tile.getContent().getClass() != Castle.class) {
+                    return false;
+                }
             }
+            return true;
         }
-        return true;
-    }
 
-    private static boolean eachKingdomHasValidAmountOfTiles(GameState gameState) {
-        for (Kingdom kingdom : gameState.getKingdoms()) {
-            if (kingdom.getTiles() == null || kingdom.getTiles().size() < 2 || kingdom.getTiles().size() > BARELY_PLAUSIBLE_HIGH_INT) {
-                log.info("kingdom has invalid number of tiles");
-                return false;
+        private boolean playersHaveProperIndexes() {
+            final List<Player> players = gameState.getPlayers();
+            final boolean[] seenIndexes = new boolean[players.size()];
+            for (Player player : players) {
+                if (player == null || player.getPlayerIndex() < 0 || player.getPlayerIndex() >= players.size()
+                    || seenIndexes[player.getPlayerIndex()]) {
+                    return false;
+                }
+                seenIndexes[player.getPlayerIndex()] = true;
             }
+            return true;
         }
-        return true;
-    }
 
-    private static boolean eachKingdomHasOneCapital(GameState gameState) {
-        for (Kingdom kingdom : gameState.getKingdoms()) {
-            final long numberOfCapitals =
-                kingdom.getTiles().stream().filter(tile -> tile.getContent() != null && Capital.class.isAssignableFrom(tile.getContent().getClass())).count();
-            if (numberOfCapitals != 1) {
-                log.info("kingdom has not exactly one capital");
-                return false;
+        private boolean checkActiveKingdom() {
+            final Kingdom activeKingdom = gameState.getActiveKingdom();
+            if (activeKingdom == null) {
+                return true;
             }
-        }
-        return true;
-    }
-
-    private static boolean eachKingdomHasAPlayer(GameState gameState) {
-        for (Kingdom kingdom : gameState.getKingdoms()) {
-            if (kingdom.getPlayer() == null) {
-                log.info("kingdom has no player");
-                return false;
+            // by identity because comparing kingdoms compares all of their tiles
+            boolean isAmongKingdoms = false;
+            for (Kingdom kingdom : gameState.getKingdoms()) {
+                isAmongKingdoms |= kingdom == activeKingdom;
             }
-        }
-        return true;
-    }
-
-    private static boolean tilesHaveBackLinksInTheirKingdoms(GameState gameState) {
-        for (HexTile tile : gameState.getMap().values()) {
-            if (tile.getKingdom() != null && !tile.getKingdom().getTiles().contains(tile)) {
-                log.info("kingdom of a tile does not contain the tile");
-                return false;
-            }
-        }
-        return true;
-    }
-
-    private static boolean connectedTilesFormKingdom(GameState gameState) {
-        for (HexTile tile : gameState.getMap().values()) {
-            for (HexTile neighborTile : HexMapHelper.getNeighborTiles(gameState.getMap(), tile)) {
-                if (neighborTile != null && neighborTile.getPlayer() == tile.getPlayer() && (tile.getKingdom() == null || tile.getKingdom() != neighborTile.getKingdom())) {
-                    log.info("connected tiles don't form a kingdom");
+            return check(isAmongKingdoms, ValidationRule.ACTIVE_KINGDOM_AMONG_KINGDOMS)
+                && check(activeKingdom.getPlayer() == gameState.getActivePlayer(),
+                ValidationRule.ACTIVE_KINGDOM_BELONGS_TO_ACTIVE_PLAYER);
+        }
+
+        /**
+         * Checks the values of the kingdoms themselves and that their tile lists are small enough to be traversed.
+         */
+        private boolean checkKingdoms() {
+            map = gameState.getMap();
+            kingdoms = gameState.getKingdoms();
+            final List<Player> players = gameState.getPlayers();
+            final boolean[] playerHasKingdom = new boolean[players.size()];
+            int noOfKingdomTiles = 0;
+            for (Kingdom kingdom : kingdoms) {
+                if (!spend(1)) {
                     return false;
                 }
-            }
-        }
-        return true;
-    }
-
-    private static boolean allTilesInAKingdomAreConnected(GameState gameState) {
-        for (Kingdom kingdom : gameState.getKingdoms()) {
-            final Set<HexTile> seenTiles = new HashSet<>();
-            final LinkedList<HexTile> tilesToExpandFrom = new LinkedList<>();
-            tilesToExpandFrom.add(kingdom.getTiles().get(0));
-            while (!tilesToExpandFrom.isEmpty()) {
-                final HexTile currentTile = tilesToExpandFrom.removeFirst();
-                seenTiles.add(currentTile);
-                for (HexTile expandTile : HexMapHelper.getNeighborTiles(gameState.getMap(), currentTile)) {
-                    if (expandTile != null && !seenTiles.contains(expandTile) && !tilesToExpandFrom.contains(expandTile)
-                        && expandTile.getKingdom() == currentTile.getKingdom()) {
-                        tilesToExpandFrom.add(expandTile);
-                    }
+                final List<HexTile> tiles = kingdom.getTiles();
+                if (!check(kingdom.getSavings() >= 0 && kingdom.getSavings() <= BARELY_PLAUSIBLE_HIGH_SAVINGS,
+                    ValidationRule.KINGDOMS_HAVE_VALID_SAVINGS)
+                    || !check(tiles != null && tiles.size() >= 2 && tiles.size() <= map.size() - noOfKingdomTiles,
+                    ValidationRule.KINGDOMS_HAVE_VALID_AMOUNT_OF_TILES)) {
+                    return false;
+                }
+                noOfKingdomTiles += tiles.size();
+                if (!check(kingdom.getPlayer() != null, ValidationRule.KINGDOMS_HAVE_A_PLAYER)) {
+                    return false;
+                }
+                for (int i = 0; i < players.size(); i++) {
+                    playerHasKingdom[i] |= players.get(i) == kingdom.getPlayer();
                 }
             }
-            if (seenTiles.size() != kingdom.getTiles().size()) {
-                log.info("not all tiles in a kingdom are connected");
-                return false;
+            for (int i = 0; i < players.size(); i++) {
+                if (!check(players.get(i).getRoundOfDefeat() == null || !playerHasKingdom[i],
+                    ValidationRule.ONLY_DEFEATED_PLAYERS_HAVE_ROUND_OF_DEFEAT)) {
+                    return false;
+                }
             }
+            return true;
         }
-        return true;
-    }
 
-    private static boolean tileCoordinatesMatchMap(GameState gameState) {
-        for (Map.Entry<Vector2, HexTile> mapEntry : gameState.getMap().entrySet()) {
-            if (!mapEntry.getKey().equals(mapEntry.getValue().getPosition())) {
+        /**
+         * Goes through the tiles of every kingdom once, building the kingdom index of every tile id.
+         */
+        private boolean checkKingdomTiles() {
+            if (!spend(map.getTileIdBound())) {
                 return false;
             }
+            kingdomIndexById = new int[map.getTileIdBound()];
+            Arrays.fill(kingdomIndexById, -1);
+            for (int kingdomIndex = 0; kingdomIndex < kingdoms.size(); kingdomIndex++) {
+                final Kingdom kingdom = kingdoms.get(kingdomIndex);
+                int capitalCount = 0;
+                for (HexTile tile : kingdom.getTiles()) {
+                    if (!spend(1)
+                        || !check(tile != null && isPartOfMap(tile) && kingdomIndexById[tile.getId()] == -1,
+                        ValidationRule.KINGDOM_TILES_ARE_IN_MAP)
+                        || !check(tile.getKingdom() == kingdom, ValidationRule.TILES_HAVE_BACK_LINKS_IN_THEIR_KINGDOMS)) {
+                        return false;
+                    }
+                    kingdomIndexById[tile.getId()] = kingdomIndex;
+                    final TileContent content = tile.getContent();
+                    if (content != null && Capital.class.isAssignableFrom(content.getClass())) {
+                        capitalCount++;
+                    }
+                }
+                if (!check(capitalCount == 1, ValidationRule.KINGDOMS_HAVE_ONE_CAPITAL)) {
+                    return false;
+                }
+            }
+            return true;
         }
-        return true;
-    }
 
-    private static boolean mapIsNotTooLarge(GameState gameState) {
-        final boolean result = gameState.getMap().size() <= NewGamePreferences.MapSizes.XXLARGE.getAmountOfTiles();
-        if (!result) {
-            log.info("map is too large");
+        private boolean isPartOfMap(HexTile tile) {
+            return tile.getId() >= 0 && tile.getId() < map.getTileIdBound() && map.getById(tile.getId()) == tile;
         }
-        return result;
-    }
 
-    private static boolean treesAreTheCorrectTypeBasedOnPosition(GameState gameState) {
-        for (HexTile tile : gameState.getMap().values()) {
-            if (tile.getContent() == null) {
-                continue;
-            }
-            final boolean isCoastTile =
-                HexMapHelper.getNeighborTiles(gameState.getMap(), tile).stream().anyMatch(Objects::isNull);
-            if (PalmTree.class.isAssignableFrom(tile.getContent().getClass()) && !isCoastTile) {
-                log.info("palm tree is on non-coast tile");
-                return false;
-            }
-            if (Tree.class.isAssignableFrom(tile.getContent().getClass()) && isCoastTile) {
-                log.info("oak tree is on coast tile");
-                return false;
+        /**
+         * Goes through all the tiles of the map once, checking everything that depends on the tile and its neighbors.
+         */
+        private boolean checkMapTiles() {
+            for (Map.Entry<Vector2, HexTile> mapEntry : map.entrySet()) {
+                if (!spend(1 + HexMap.NEIGHBOR_COUNT)) {
+                    return false;
+                }
+                final HexTile tile = mapEntry.getValue();
+                final Kingdom kingdom = tile.getKingdom();
+                if (!check(mapEntry.getKey().equals(tile.getPosition()), ValidationRule.TILE_COORDINATES_MATCH_MAP)
+                    || !check(kingdom == null || kingdomIndexById[tile.getId()] != -1,
+                    ValidationRule.TILES_HAVE_BACK_LINKS_IN_THEIR_KINGDOMS)) {
+                    return false;
+                }
+                boolean isCoastTile = false;
+                for (int direction = 0; direction < HexMap.NEIGHBOR_COUNT; direction++) {
+                    final int neighborId = map.getNeighborId(tile.getId(), direction);
+                    if (neighborId == HexMap.NO_TILE) {
+                        isCoastTile = true;
+                        continue;
+                    }
+                    final HexTile neighborTile = map.getById(neighborId);
+                    if (!check(neighborTile.getPlayer() != tile.getPlayer()
+                            || (kingdom != null && kingdom == neighborTile.getKingdom()),
+                        ValidationRule.CONNECTED_TILES_FORM_KINGDOM)) {
+                        return false;
+                    }
+                }
+                final TileContent content = tile.getContent();
+                if (content == null) {
+                    continue;
+                }
+                if (!check(!(PalmTree.class.isAssignableFrom(content.getClass()) && !isCoastTile)
+                        && !(Tree.class.isAssignableFrom(content.getClass()) && isCoastTile),
+                    ValidationRule.TREES_ARE_THE_CORRECT_TYPE_BASED_ON_POSITION)
+                    || !check(kingdom != null || !(Capital.class.isAssignableFrom(content.getClass())
+                        || Castle.class.isAssignableFrom(content.getClass())),
+                    ValidationRule.CAPITALS_AND_CASTLES_ONLY_IN_KINGDOMS)) {
+                    return false;
+                }
             }
+            return true;
         }
-        return true;
-    }
 
-    private static boolean capitalsAndCastlesAreOnlyInKingdoms(GameState gameState) {
-        for (HexTile tile : gameState.getMap().values()) {
-            if (tile.getContent() == null || tile.getKingdom() != null) {
-                continue;
-            }
-            if (Capital.class.isAssignableFrom(tile.getContent().getClass())) {
-                log.info("capital is on non-kingdom tile");
-                return false;
-            }
-            if (Castle.class.isAssignableFrom(tile.getContent().getClass())) {
-                log.info("castle is on non-kingdom tile");
-                return false;
+        /**
+         * Flood fills every kingdom from its first tile, visiting every kingdom tile once.
+         */
+        private boolean checkKingdomConnectivity() {
+            final boolean[] visited = new boolean[map.getTileIdBound()];
+            final int[] queue = new int[map.getTileIdBound()];
+            for (int kingdomIndex = 0; kingdomIndex < kingdoms.size(); kingdomIndex++) {
+                int queueStart = 0;
+                int queueEnd = 0;
+                final int startId = kingdoms.get(kingdomIndex).getTiles().get(0).getId();
+                visited[startId] = true;
+                queue[queueEnd++] = startId;
+                while (queueStart < queueEnd) {
+                    if (!spend(1 + HexMap.NEIGHBOR_COUNT)) {
+                        return false;
+                    }
+                    final int id = queue[queueStart++];
+                    for (int direction = 0; direction < HexMap.NEIGHBOR_COUNT; direction++) {
+                        final int neighborId = map.getNeighborId(id, direction);
+                        if (neighborId != HexMap.NO_TILE && !visited[neighborId]
+                            && kingdomIndexById[neighborId] == kingdomIndex) {
+                            visited[neighborId] = true;
+                            queue[queueEnd++] = neighborId;
+                        }
+                    }
+                }
+                if (!check(queueEnd == kingdoms.get(kingdomIndex).getTiles().size(),
+                    ValidationRule.ALL_TILES_IN_A_KINGDOM_ARE_CONNECTED)) {
+                    return false;
+                }
             }
+            return true;
         }
-        return true;
-    }
-
-    private static boolean hasNoScenarioMap(GameState gameState) {
-        final boolean result = gameState.getScenarioMap() == ScenarioMap.NONE;
-        if (!result) {
-            log.info("game state has scenario map");
-        }
-        return result;
-    }
-
-    private static boolean hasNoRemotePlayers(GameState gameState) {
-        final boolean result =
-            gameState.getPlayers().stream().noneMatch(player -> player.getType() == Player.Type.REMOTE);
-        if (!result) {
-            log.info("game state has remote player");
-        }
-        return result;
-    }
 
-    private static boolean hasOneHumanPlayer(GameState gameState) {
-        final boolean result =
-            gameState.getPlayers().stream().filter(player -> player.getType() == Player.Type.LOCAL_PLAYER).count() == 1;
-        if (!result) {
-            log.info("game state doesn't have exactly one human player");
-        }
-        return result;
     }
 
 }
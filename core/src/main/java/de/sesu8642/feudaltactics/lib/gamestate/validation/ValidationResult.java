@@ -0,0 +1,38 @@
+// SPDX-License-Identifier: GPL-3.0-or-later
+
+package de.sesu8642.feudaltactics.lib.gamestate.validation;
+
+import lombok.Getter;
+
+/**
+ * Outcome of validating a game state. Validation stops at the first violated rule.
+ */
+public class ValidationResult {
+
+    /**
+     * Rule that was violated, null if the game state is valid.
+     */
+    @Getter
+    private final ValidationRule violatedRule;
+
+    /**
+     * Amount of work spent validating, roughly the number of tiles and neighbors looked at.
+     */
+    @Getter
+    private final long work;
+
+    ValidationResult(ValidationRule violatedRule, long work) {
+        this.violatedRule = violatedRule;
+        this.work = work;
+    }
+
+    public boolean isValid() {
+        return violatedRule == null;
+    }
+
+    @Override
+    public String toString() {
+        return isValid() ? "valid" : "invalid: " + violatedRule.getViolationMessage();
+    }
+
+}
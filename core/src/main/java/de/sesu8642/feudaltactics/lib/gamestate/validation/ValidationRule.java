@@ -0,0 +1,57 @@
+// SPDX-License-Identifier: GPL-3.0-or-later
+
+package de.sesu8642.feudaltactics.lib.gamestate.validation;
+
+import lombok.Getter;
+
+/**
+ * Invariants checked by the {@link GameStateValidator}, in the order they are checked in.
+ */
+public enum ValidationRule {
+
+    BOT_INTELLIGENCE_PRESENT("game state has no bot intelligence"),
+    MAP_PRESENT("game state has no map"),
+    HELD_OBJECT_ONLY_WITH_ACTIVE_KINGDOM("game state has held object but no active kingdom"),
+    HELD_OBJECT_ALLOWED("game state has invalid held object"),
+    RESERVE_VALID("game state has invalid reserve"),
+    CASTLES_BOUGHT_IN_CURRENT_TURN_VALID("game state has invalid castles bought in the current turn"),
+    ROUND_VALID("game state has invalid round"),
+    NUMBER_OF_PLAYERS_VALID("game state has invalid number of players"),
+    PLAYER_TURN_VALID("game state has invalid player turn"),
+    WINNER_AMONG_PLAYERS("game state's winner is not among players"),
+    WINNER_AND_WINNING_ROUND_PRESENT_TOGETHER("game state has only one of winner and winningRound"),
+    PLAYERS_HAVE_PROPER_INDEXES("player indices are invalid"),
+    KINGDOMS_PRESENT("kingdoms are null"),
+    MAP_NOT_TOO_LARGE("map is too large"),
+    ACTIVE_KINGDOM_AMONG_KINGDOMS("active kingdom is not among kingdoms"),
+    ACTIVE_KINGDOM_BELONGS_TO_ACTIVE_PLAYER("active kingdom does not belong to active player"),
+    KINGDOMS_HAVE_VALID_SAVINGS("kingdom has invalid savings amount"),
+    KINGDOMS_HAVE_VALID_AMOUNT_OF_TILES("kingdom has invalid number of tiles"),
+    KINGDOMS_HAVE_A_PLAYER("kingdom has no player"),
+    ONLY_DEFEATED_PLAYERS_HAVE_ROUND_OF_DEFEAT("defeated player has a kingdom"),
+    KINGDOM_TILES_ARE_IN_MAP("kingdom contains a tile that is not part of the map or contains a tile twice"),
+    TILES_HAVE_BACK_LINKS_IN_THEIR_KINGDOMS("kingdom of a tile does not contain the tile"),
+    KINGDOMS_HAVE_ONE_CAPITAL("kingdom has not exactly one capital"),
+    TILE_COORDINATES_MATCH_MAP("tile coordinates don't match the map"),
+    CONNECTED_TILES_FORM_KINGDOM("connected tiles don't form a kingdom"),
+    TREES_ARE_THE_CORRECT_TYPE_BASED_ON_POSITION("tree is the wrong type for its position"),
+    CAPITALS_AND_CASTLES_ONLY_IN_KINGDOMS("capital or castle is on non-kingdom tile"),
+    ALL_TILES_IN_A_KINGDOM_ARE_CONNECTED("not all tiles in a kingdom are connected"),
+    FINGERPRINT_MATCHES_RECALCULATION("game state's fingerprint doesn't match the recalculated one"),
+    WORK_WITHIN_LIMIT("game state is too big to validate"),
+    // only for single player games
+    NO_SCENARIO_MAP("game state has scenario map"),
+    NO_REMOTE_PLAYERS("game state has remote player"),
+    ONE_HUMAN_PLAYER("game state doesn't have exactly one human player");
+
+    /**
+     * Message describing a violation of the rule.
+     */
+    @Getter
+    private final String violationMessage;
+
+    ValidationRule(String violationMessage) {
+        this.violationMessage = violationMessage;
+    }
+
+}
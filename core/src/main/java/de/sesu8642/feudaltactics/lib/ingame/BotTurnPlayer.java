@@ -0,0 +1,172 @@
+// SPDX-License-Identifier: GPL-3.0-or-later
+
+package de.sesu8642.feudaltactics.lib.ingame;
+
+import com.google.common.eventbus.EventBus;
+import de.sesu8642.feudaltactics.lib.gamestate.GameState;
+import de.sesu8642.feudaltactics.lib.ingame.botai.BotTurnTimeline;
+import de.sesu8642.feudaltactics.shared.events.GameStateChangeEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Displays the recorded bot turns one frame per tick in the background, so that the bots do not have to wait for
+ * their turns to be displayed. Actions that have to wait until everything before them was displayed, like beginning
+ * the turn of a human player, can be queued in between.
+ */
+public class BotTurnPlayer {
+
+    private final Logger logger = LoggerFactory.getLogger(getClass().getName());
+
+    private final EventBus eventBus;
+    private final LongSupplier tickDelayMsSupplier;
+    private final ScheduledExecutorService playbackExecutor;
+
+    // guarded by this
+    private final Deque<Step> pendingSteps = new ArrayDeque<>();
+    private boolean playing = false;
+    private boolean skipping = false;
+    // incremented when clearing to stop the steps that are already running or scheduled
+    private int generation = 0;
+    private ScheduledFuture<?> scheduledStep;
+
+    /**
+     * Constructor.
+     *
+     * @param eventBus            event bus to post the frames to
+     * @param tickDelayMsSupplier supplier of the time every frame is displayed
+     * @param playbackExecutor    single thread executor to play the frames on
+     */
+    public BotTurnPlayer(EventBus eventBus, LongSupplier tickDelayMsSupplier,
+                         ScheduledExecutorService playbackExecutor) {
+        this.eventBus = eventBus;
+        this.tickDelayMsSupplier = tickDelayMsSupplier;
+        this.playbackExecutor = playbackExecutor;
+    }
+
+    /**
+     * Queues the frames of a bot turn to be displayed after everything queued before.
+     *
+     * @param timeline recorded bot turn
+     */
+    public synchronized void play(BotTurnTimeline timeline) {
+        if (skipping) {
+            // recorded before the bots noticed the skipping
+            return;
+        }
+        for (GameState frame : timeline.getFrames()) {
+            pendingSteps.add(new Step(frame, null));
+        }
+        if (!playing && !pendingSteps.isEmpty()) {
+            playing = true;
+            scheduleNextStep(0);
+        }
+    }
+
+    /**
+     * Runs an action once everything queued before is displayed. Runs it right away in the calling thread if nothing
+     * is playing.
+     *
+     * @param action action to run
+     */
+    public void runAfterPlayback(Runnable action) {
+        synchronized (this) {
+            if (playing) {
+                pendingSteps.add(new Step(null, action));
+                return;
+            }
+        }
+        action.run();
+    }
+
+    /**
+     * Skips the frames that were not displayed yet, including the ones of turns that are going to be queued before the
+     * playback is finished. The queued actions are run right away.
+     */
+    public synchronized void skip() {
+        if (!playing) {
+            return;
+        }
+        logger.debug("skipping the playback of bot turns");
+        skipping = true;
+        pendingSteps.removeIf(step -> step.frame != null);
+        // a step that is already running schedules the next one without delay by itself
+        if (scheduledStep.cancel(false)) {
+            scheduleNextStep(0);
+        }
+    }
+
+    /**
+     * Discards everything that was not displayed or run yet, e.g. because the game was exited.
+     */
+    public synchronized void clear() {
+        pendingSteps.clear();
+        generation++;
+        playing = false;
+        skipping = false;
+        if (scheduledStep != null) {
+            scheduledStep.cancel(false);
+            scheduledStep = null;
+        }
+    }
+
+    private void scheduleNextStep(long delayMs) {
+        final int currentGeneration = generation;
+        scheduledStep = playbackExecutor.schedule(() -> playNextStep(currentGeneration), delayMs,
+            TimeUnit.MILLISECONDS);
+    }
+
+    private void playNextStep(int stepGeneration) {
+        final Step step;
+        synchronized (this) {
+            if (stepGeneration != generation) {
+                return;
+            }
+            step = pendingSteps.poll();
+            if (step == null) {
+                playing = false;
+                skipping = false;
+                scheduledStep = null;
+                return;
+            }
+        }
+        long delayMs = 0;
+        try {
+            if (step.frame != null) {
+                eventBus.post(new GameStateChangeEvent(step.frame));
+                delayMs = tickDelayMsSupplier.getAsLong();
+            } else {
+                step.action.run();
+            }
+        } catch (Exception e) {
+            logger.error("an error happened during the playback of a bot turn", e);
+        }
+        synchronized (this) {
+            if (stepGeneration == generation) {
+                scheduleNextStep(skipping ? 0 : delayMs);
+            }
+        }
+    }
+
+    /**
+     * Either a frame to display or an action to run.
+     */
+    private static class Step {
+
+        private final GameState frame;
+        private final Runnable action;
+
+        private Step(GameState frame, Runnable action) {
+            this.frame = frame;
+            this.action = action;
+        }
+    }
+
+}
@@ -2,23 +2,36 @@
 
 package de.sesu8642.feudaltactics.lib.ingame;
 
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.math.Vector2;
 import com.google.common.eventbus.EventBus;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
 import de.sesu8642.feudaltactics.ingame.AutoSaveRepository;
 import de.sesu8642.feudaltactics.ingame.GameParameters;
 import de.sesu8642.feudaltactics.lib.gamestate.GameState;
 import de.sesu8642.feudaltactics.lib.gamestate.GameStateHelper;
+import de.sesu8642.feudaltactics.lib.gamestate.PlayerMoveDelta;
 import de.sesu8642.feudaltactics.lib.gamestate.Player.Type;
 import de.sesu8642.feudaltactics.lib.gamestate.ScenarioGameStateLoader;
 import de.sesu8642.feudaltactics.lib.gamestate.ScenarioMap;
 import de.sesu8642.feudaltactics.lib.ingame.botai.BotAi;
+import de.sesu8642.feudaltactics.lib.ingame.botai.BotTurnTimeline;
 import de.sesu8642.feudaltactics.lib.ingame.botai.Intelligence;
 import de.sesu8642.feudaltactics.shared.events.GameStateChangeEvent;
 import lombok.Getter;
-import lombok.Setter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 
@@ -32,32 +45,58 @@ public class GameController {
     private final EventBus eventBus;
     private final ExecutorService botTurnExecutor;
     private final BotAi botAi;
+    private final BotTurnPlayer botTurnPlayer;
     private final AutoSaveRepository autoSaveRepo;
     private final ScenarioGameStateLoader scenarioGameStateLoader;
+    private final MapGenerationService mapGenerationService;
     private Future<?> botTurnFuture;
+    // the latest requested map that was not received yet
+    private ListenableFuture<GameState> pendingGeneration;
+    // changes made by the last undoable moves, latest first; used to undo without reloading
+    private final Deque<PlayerMoveDelta> undoableMoves = new ArrayDeque<>();
 
     /**
-     * State of the currently running game.
+     * State of the currently running game. Only replaced on the render thread.
      */
     @Getter
-    @Setter
     private GameState gameState;
 
-    public GameController(EventBus eventBus, ExecutorService botTurnExecutor, BotAi botAi,
-                          AutoSaveRepository autoSaveRepo, ScenarioGameStateLoader scenarioGameStateLoader) {
+    /**
+     * Whether it is the turn of a human player who has to wait until the previous bot turns are displayed.
+     */
+    @Getter
+    private volatile boolean waitingForBotTurnPlayback = false;
+
+    public GameController(EventBus eventBus, ExecutorService botTurnExecutor, BotAi botAi, BotTurnPlayer botTurnPlayer,
+                          AutoSaveRepository autoSaveRepo, ScenarioGameStateLoader scenarioGameStateLoader,
+                          MapGenerationService mapGenerationService) {
         this.eventBus = eventBus;
         this.botTurnExecutor = botTurnExecutor;
         this.botAi = botAi;
+        this.botTurnPlayer = botTurnPlayer;
         this.autoSaveRepo = autoSaveRepo;
         this.scenarioGameStateLoader = scenarioGameStateLoader;
+        this.mapGenerationService = mapGenerationService;
         gameState = new GameState();
     }
 
+    /**
+     * Replaces the state of the currently running game.
+     *
+     * @param gameState new game state
+     */
+    public void setGameState(GameState gameState) {
+        this.gameState = gameState;
+        undoableMoves.clear();
+    }
+
     /**
      * Starts the game. Bots will do their turns if they are first.
      */
     public void startGame() {
         logger.info("starting game");
+        awaitPendingGeneration();
+        stopBotTurnPlayback();
         if (gameState.getScenarioMap() != ScenarioMap.NONE) {
             progressObjective();
             postGameStateChangeEvent();
@@ -77,7 +116,9 @@ public class GameController {
      */
     public void loadLatestAutosave() {
         logger.info("loading latest autosave");
-        gameState = autoSaveRepo.getCombinedAutoSave();
+        discardPendingGeneration();
+        stopBotTurnPlayback();
+        loadCombinedAutoSave();
         // posting the event must happen before starting the AI thread cause the data
         // for the renderer will be updated and the AI must not change the gamestate
         // while it is
@@ -88,18 +129,71 @@ public class GameController {
     }
 
     /**
-     * Generates a map.
+     * Generates a map in the background. The game state is replaced as soon as the map is ready, which is immediately
+     * if it was generated before. Requesting another map before that discards this one. The generated map is handed to
+     * the render thread, which owns the game state.
      */
     public void generateGameState(GameParameters gameParams) {
         logger.info("generating a new game state with {}", gameParams);
-        gameState = new GameState();
-        gameState.setBotIntelligence(gameParams.getBotIntelligence());
+        final ListenableFuture<GameState> generation = mapGenerationService.requestGameState(gameParams);
+        synchronized (this) {
+            pendingGeneration = generation;
+        }
+        Futures.addCallback(generation, new FutureCallback<GameState>() {
+            @Override
+            public void onSuccess(GameState generatedGameState) {
+                receiveGeneratedGameState(generation, generatedGameState);
+            }
+
+            @Override
+            public void onFailure(Throwable throwable) {
+                if (!(throwable instanceof CancellationException)) {
+                    logger.error("an error happened while generating a map", throwable);
+                }
+            }
+        }, Gdx.app::postRunnable);
+    }
+
+    /**
+     * Generates maps ahead of time so that they are available immediately if requested later.
+     *
+     * @param likelyGameParams parameters for the maps, most likely ones first
+     */
+    public void preGenerateGameStates(Collection<GameParameters> likelyGameParams) {
+        mapGenerationService.preGenerate(likelyGameParams);
+    }
 
-        GameStateHelper.initializeMap(gameState, gameParams.getPlayers(), gameParams.getLandMass(),
-            gameParams.getDensity(), null, gameParams.getSeed());
+    private synchronized void receiveGeneratedGameState(Future<GameState> generation, GameState generatedGameState) {
+        if (generation != pendingGeneration) {
+            // another map was requested in the meantime
+            return;
+        }
+        pendingGeneration = null;
+        setGameState(generatedGameState);
         postGameStateChangeEvent();
     }
 
+    private synchronized void discardPendingGeneration() {
+        pendingGeneration = null;
+    }
+
+    private void awaitPendingGeneration() {
+        final ListenableFuture<GameState> generation;
+        synchronized (this) {
+            generation = pendingGeneration;
+        }
+        if (generation == null) {
+            return;
+        }
+        try {
+            receiveGeneratedGameState(generation, generation.get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Unable to generate the map", e);
+        }
+    }
+
     /**
      * Loads a scenario map.
      *
@@ -109,8 +203,9 @@ public class GameController {
     public void initializeScenario(Intelligence botIntelligence, ScenarioMap scenarioMap) {
         logger.info("initializing a game state with bot intelligence {} and scenario map {}", botIntelligence,
             scenarioMap);
+        discardPendingGeneration();
 
-        gameState = scenarioGameStateLoader.loadScenarioGameState(scenarioMap);
+        setGameState(scenarioGameStateLoader.loadScenarioGameState(scenarioMap));
 
         gameState.setBotIntelligence(botIntelligence);
         gameState.setScenarioMap(scenarioMap);
@@ -119,7 +214,8 @@ public class GameController {
 
     public void loadGameState(GameState gameState) {
         logger.info("loading game state");
-        this.gameState = gameState;
+        discardPendingGeneration();
+        setGameState(gameState);
         postGameStateChangeEvent();
     }
 
@@ -148,7 +244,10 @@ public class GameController {
             case BUY_AND_PLACE_PEASANT:
             case BUY_AND_PLACE_CASTLE:
             case ACTIVATE_KINGDOM:
-                GameStateHelper.applyPlayerMove(gameState, move);
+                undoableMoves.push(GameStateHelper.applyPlayerMoveReversibly(gameState, move));
+                if (undoableMoves.size() > AutoSaveRepository.MAX_UNDOS) {
+                    undoableMoves.removeLast();
+                }
                 autoSaveRepo.autoSaveIncrementalPlayerMove(move);
                 // save first because is is relevant for the undo button status
                 postGameStateChangeEvent();
@@ -165,24 +264,49 @@ public class GameController {
 
     }
 
+    /**
+     * Finishes the turn of a bot. The turn is displayed while the next one is already being done.
+     *
+     * @param gameState game state after the turn
+     * @param moves     moves the bot did, which are autosaved together with the end of the turn
+     * @param timeline  intermediate states of the turn to display
+     */
+    void finishBotTurn(GameState gameState, List<PlayerMove> moves, BotTurnTimeline timeline) {
+        setGameState(gameState);
+        botTurnPlayer.play(timeline);
+        endTurn(moves);
+    }
+
     /**
      * Ends the turn.
      */
     void endTurn() {
+        endTurn(Collections.emptyList());
+    }
+
+    private void endTurn(List<PlayerMove> unsavedMoves) {
         logger.debug("ending turn of {}", gameState.getActivePlayer());
+        final List<PlayerMove> increments = new ArrayList<>(unsavedMoves);
+        increments.add(PlayerMove.endTurn());
+        autoSaveRepo.autoSaveIncrementalPlayerMoves(increments);
         // update gameState
-        gameState = GameStateHelper.endTurn(gameState);
+        setGameState(GameStateHelper.endTurn(gameState));
         if (gameState.getActivePlayer().getType() == Type.LOCAL_BOT) {
             // make bots act
             startBotTurn();
         } else {
-            logger.info("human player turn begins");
-            botAi.setSkipDisplayingTurn(false);
-            autoSaveRepo.autoSaveFullGameState(gameState);
-            postGameStateChangeEvent();
+            waitingForBotTurnPlayback = true;
+            botTurnPlayer.runAfterPlayback(this::beginHumanTurn);
         }
     }
 
+    private void beginHumanTurn() {
+        logger.info("human player turn begins");
+        botAi.setSkipDisplayingTurn(false);
+        waitingForBotTurnPlayback = false;
+        postGameStateChangeEvent();
+    }
+
     private void startBotTurn() {
         botTurnFuture = botTurnExecutor.submit(() -> {
             try {
@@ -197,19 +321,26 @@ public class GameController {
     }
 
     /**
-     * Cancels a bot turn by canceling the future.
+     * Cancels a bot turn by canceling the future. Bot turns that were not displayed yet are discarded.
      */
     public void cancelBotTurn() {
         if (botTurnFuture != null) {
             botTurnFuture.cancel(true);
         }
+        stopBotTurnPlayback();
+    }
+
+    private void stopBotTurnPlayback() {
+        botTurnPlayer.clear();
+        waitingForBotTurnPlayback = false;
     }
 
     /**
-     * Skips a bot turn by finishing it instantly.
+     * Skips displaying the bot turns. Bot turns that were done already are not displayed either.
      */
     public void skipBotTurn() {
         botAi.setSkipDisplayingTurn(true);
+        botTurnPlayer.skip();
     }
 
     /**
@@ -218,11 +349,22 @@ public class GameController {
     private void undoLastMove() {
         logger.debug("undoing last move");
         autoSaveRepo.deleteLatestIncrementalSave();
-        final GameState loaded = autoSaveRepo.getCombinedAutoSave();
-        gameState = loaded;
+        final PlayerMoveDelta lastMove = undoableMoves.poll();
+        if (lastMove != null && lastMove.isUndoableIn(gameState)) {
+            GameStateHelper.undoPlayerMove(gameState, lastMove);
+        } else {
+            // the game state was changed in some other way in between or the move is too old
+            loadCombinedAutoSave();
+        }
         postGameStateChangeEvent();
     }
 
+    private void loadCombinedAutoSave() {
+        final Deque<PlayerMoveDelta> loadedUndoableMoves = new ArrayDeque<>();
+        setGameState(autoSaveRepo.getCombinedAutoSave(loadedUndoableMoves));
+        undoableMoves.addAll(loadedUndoableMoves);
+    }
+
     /**
      * Progresses the current objective.
      */
@@ -232,7 +374,7 @@ public class GameController {
     }
 
     private void postGameStateChangeEvent() {
-        eventBus.post(new GameStateChangeEvent(GameStateHelper.getCopy(gameState)));
+        eventBus.post(new GameStateChangeEvent(GameStateHelper.getSnapshot(gameState)));
     }
 
 }
@@ -4,7 +4,6 @@ package de.sesu8642.feudaltactics.lib.ingame;
 
 import com.google.common.eventbus.Subscribe;
 import de.sesu8642.feudaltactics.ingame.AutoSaveRepository;
-import de.sesu8642.feudaltactics.lib.ingame.botai.BotAi;
 import de.sesu8642.feudaltactics.shared.events.*;
 
 import javax.inject.Inject;
@@ -15,7 +14,6 @@ import javax.inject.Inject;
 public class GameControllerEventHandler {
 
     private final GameController gameController;
-    private final BotAi botAi;
     private final AutoSaveRepository autoSaveRepo;
 
     /**
@@ -24,9 +22,8 @@ public class GameControllerEventHandler {
      * @param gameController game controller
      */
     @Inject
-    public GameControllerEventHandler(GameController gameController, BotAi botAi, AutoSaveRepository autoSaveRepo) {
+    public GameControllerEventHandler(GameController gameController, AutoSaveRepository autoSaveRepo) {
         this.gameController = gameController;
-        this.botAi = botAi;
         this.autoSaveRepo = autoSaveRepo;
     }
 
@@ -58,8 +55,7 @@ public class GameControllerEventHandler {
      */
     @Subscribe
     public void handleBotTurnFinished(BotTurnFinishedEvent event) {
-        gameController.setGameState(event.getGameState());
-        gameController.endTurn();
+        gameController.finishBotTurn(event.getGameState(), event.getMoves(), event.getTimeline());
     }
 
     /**
@@ -69,7 +65,7 @@ public class GameControllerEventHandler {
      */
     @Subscribe
     public void handleBotTurnSkipped(BotTurnSkippedEvent event) {
-        botAi.setSkipDisplayingTurn(true);
+        gameController.skipBotTurn();
     }
 
     /**
@@ -0,0 +1,132 @@
+// SPDX-License-Identifier: GPL-3.0-or-later
+
+package de.sesu8642.feudaltactics.lib.ingame;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
+import de.sesu8642.feudaltactics.ingame.GameParameters;
+import de.sesu8642.feudaltactics.lib.gamestate.GameState;
+import de.sesu8642.feudaltactics.lib.gamestate.GameStateHelper;
+import de.sesu8642.feudaltactics.lib.gamestate.Player;
+import lombok.Data;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Generates maps in the background. Recently generated maps are cached, so that going back to previous parameters is
+ * instant, and maps the user is likely to look at next can be generated ahead of time.
+ */
+public class MapGenerationService {
+
+    private static final int CACHE_SIZE = 16;
+
+    private final Logger logger = LoggerFactory.getLogger(getClass().getName());
+
+    private final ListeningExecutorService generationExecutor;
+
+    // access order makes this an LRU cache; the cached game states must never be modified
+    private final LinkedHashMap<MapKey, ListenableFuture<GameState>> cache =
+        new LinkedHashMap<MapKey, ListenableFuture<GameState>>(CACHE_SIZE, 0.75F, true) {
+            @Override
+            protected boolean removeEldestEntry(Entry<MapKey, ListenableFuture<GameState>> eldest) {
+                // not canceled because someone might still be waiting for it
+                return size() > CACHE_SIZE;
+            }
+        };
+
+    public MapGenerationService(ExecutorService generationExecutor) {
+        this.generationExecutor = MoreExecutors.listeningDecorator(generationExecutor);
+    }
+
+    /**
+     * Requests a game state with a generated map. Generations that were requested earlier but did not start yet are
+     * canceled because they are no longer needed.
+     *
+     * @param gameParams parameters for the map
+     * @return future of a new game state that the caller is free to modify
+     */
+    public synchronized ListenableFuture<GameState> requestGameState(GameParameters gameParams) {
+        final MapKey requestedKey = new MapKey(gameParams);
+        final Iterator<Entry<MapKey, ListenableFuture<GameState>>> iterator = cache.entrySet().iterator();
+        while (iterator.hasNext()) {
+            final Entry<MapKey, ListenableFuture<GameState>> entry = iterator.next();
+            // a generation that is already running cannot be stopped, so it may as well be kept
+            if (!entry.getKey().equals(requestedKey) && entry.getValue().cancel(false)) {
+                iterator.remove();
+            }
+        }
+        return Futures.transform(getOrGenerate(requestedKey),
+            template -> createGameState(template, gameParams), MoreExecutors.directExecutor());
+    }
+
+    /**
+     * Generates maps ahead of time in case they are requested later. Does nothing for maps that are already cached.
+     *
+     * @param likelyGameParams parameters for the maps, most likely ones first
+     */
+    public synchronized void preGenerate(Collection<GameParameters> likelyGameParams) {
+        for (GameParameters gameParams : likelyGameParams) {
+            getOrGenerate(new MapKey(gameParams));
+        }
+    }
+
+    private ListenableFuture<GameState> getOrGenerate(MapKey key) {
+        ListenableFuture<GameState> result = cache.get(key);
+        if (result == null || result.isCancelled()) {
+            result = generationExecutor.submit(() -> generateTemplate(key));
+            cache.put(key, result);
+        }
+        return result;
+    }
+
+    private GameState generateTemplate(MapKey key) {
+        logger.debug("generating a map for {}", key);
+        final List<Player> players = new ArrayList<>(key.getPlayers().size());
+        for (Player player : key.getPlayers()) {
+            players.add(Player.copyOf(player));
+        }
+        final GameState result = new GameState();
+        GameStateHelper.initializeMap(result, players, key.getLandMass(), key.getDensity(), null, key.getSeed());
+        return result;
+    }
+
+    private GameState createGameState(GameState template, GameParameters gameParams) {
+        final GameState result = GameStateHelper.getCopy(template);
+        result.setBotIntelligence(gameParams.getBotIntelligence());
+        return result;
+    }
+
+    /**
+     * Everything the generated map depends on.
+     */
+    @Data
+    private static class MapKey {
+
+        private final long seed;
+        private final int landMass;
+        private final float density;
+        private final List<Player> players;
+
+        MapKey(GameParameters gameParams) {
+            seed = gameParams.getSeed();
+            landMass = gameParams.getLandMass();
+            density = gameParams.getDensity();
+            players = new ArrayList<>(gameParams.getPlayers().size());
+            for (Player player : gameParams.getPlayers()) {
+                players.add(Player.copyOf(player));
+            }
+        }
+
+    }
+
+}
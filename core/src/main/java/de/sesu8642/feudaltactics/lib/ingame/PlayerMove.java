@@ -3,6 +3,7 @@
 package de.sesu8642.feudaltactics.lib.ingame;
 
 import com.badlogic.gdx.math.Vector2;
+import de.sesu8642.feudaltactics.lib.gamestate.Unit.UnitTypes;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -16,12 +17,43 @@ public class PlayerMove {
     private PlayerMoveType playerMoveType;
     @Getter
     private Vector2 tilePosition;
+    // only for the moves involving the reserve
+    @Getter
+    private UnitTypes unitType;
+    // only for combining reserve units
+    @Getter
+    private UnitTypes otherUnitType;
 
     private PlayerMove(PlayerMoveType playerMoveType, Vector2 tilePosition) {
         this.playerMoveType = playerMoveType;
         this.tilePosition = tilePosition;
     }
 
+    private PlayerMove(PlayerMoveType playerMoveType, Vector2 tilePosition, UnitTypes unitType) {
+        this(playerMoveType, tilePosition);
+        this.unitType = unitType;
+    }
+
+    private PlayerMove(PlayerMoveType playerMoveType, Vector2 tilePosition, UnitTypes unitType,
+                       UnitTypes otherUnitType) {
+        this(playerMoveType, tilePosition, unitType);
+        this.otherUnitType = otherUnitType;
+    }
+
+    /**
+     * Creates a move of any type, e.g. when loading a saved one. The other factory methods should be preferred.
+     *
+     * @param playerMoveType type of the move
+     * @param tilePosition   position of the tile the move is about or null
+     * @param unitType       type of the reserve unit involved or null
+     * @param otherUnitType  type of the reserve unit it is combined with or null
+     * @return move
+     */
+    public static PlayerMove of(PlayerMoveType playerMoveType, Vector2 tilePosition, UnitTypes unitType,
+                                UnitTypes otherUnitType) {
+        return new PlayerMove(playerMoveType, tilePosition, unitType, otherUnitType);
+    }
+
     public static PlayerMove pickUp(Vector2 tilePosition) {
         return new PlayerMove(PlayerMoveType.PICK_UP, tilePosition);
     }
@@ -58,6 +90,30 @@ public class PlayerMove {
         return new PlayerMove(PlayerMoveType.ACTIVATE_KINGDOM, tilePosition);
     }
 
+    public static PlayerMove pickUpAllUnits() {
+        return new PlayerMove(PlayerMoveType.PICK_UP_ALL_UNITS, null);
+    }
+
+    public static PlayerMove buyReserveUnit(UnitTypes unitType) {
+        return new PlayerMove(PlayerMoveType.BUY_RESERVE_UNIT, null, unitType);
+    }
+
+    public static PlayerMove combineReserveUnits(UnitTypes unitType, UnitTypes otherUnitType) {
+        return new PlayerMove(PlayerMoveType.COMBINE_RESERVE_UNITS, null, unitType, otherUnitType);
+    }
+
+    public static PlayerMove placeReserveUnit(Vector2 tilePosition, UnitTypes unitType) {
+        return new PlayerMove(PlayerMoveType.PLACE_RESERVE_UNIT, tilePosition, unitType);
+    }
+
+    public static PlayerMove conquerWithReserveUnit(Vector2 tilePosition, UnitTypes unitType) {
+        return new PlayerMove(PlayerMoveType.CONQUER_WITH_RESERVE_UNIT, tilePosition, unitType);
+    }
+
+    public static PlayerMove sellCastle(Vector2 tilePosition) {
+        return new PlayerMove(PlayerMoveType.SELL_CASTLE, tilePosition);
+    }
+
     public static PlayerMove undoLastMove() {
         return new PlayerMove(PlayerMoveType.UNDO_LAST_MOVE, null);
     }
@@ -72,15 +128,24 @@ public class PlayerMove {
 
     @Override
     public String toString() {
+        if (otherUnitType != null) {
+            return playerMoveType + ", tilePosition=" + tilePosition + ", unitType=" + unitType + ", otherUnitType="
+                + otherUnitType;
+        }
+        if (unitType != null) {
+            return playerMoveType + ", tilePosition=" + tilePosition + ", unitType=" + unitType;
+        }
         return playerMoveType + ", tilePosition=" + tilePosition;
     }
 
     /**
-     * Types of possible player moves.
+     * Types of possible player moves. The moves involving the reserve and selling castles are only done by bots, which
+     * move many units at once.
      */
     public enum PlayerMoveType {
         PICK_UP, PLACE_OWN, COMBINE_UNITS, CONQUER, BUY_PEASANT, BUY_CASTLE, BUY_AND_PLACE_PEASANT,
-        BUY_AND_PLACE_CASTLE, ACTIVATE_KINGDOM, UNDO_LAST_MOVE, END_TURN
+        BUY_AND_PLACE_CASTLE, ACTIVATE_KINGDOM, UNDO_LAST_MOVE, END_TURN, PICK_UP_ALL_UNITS, BUY_RESERVE_UNIT,
+        PLACE_RESERVE_UNIT, CONQUER_WITH_RESERVE_UNIT, SELL_CASTLE, COMBINE_RESERVE_UNITS
     }
 
 }
@@ -8,16 +8,16 @@ import com.google.common.eventbus.EventBus;
 import de.sesu8642.feudaltactics.lib.gamestate.*;
 import de.sesu8642.feudaltactics.lib.gamestate.Player.Type;
 import de.sesu8642.feudaltactics.lib.gamestate.Unit.UnitTypes;
+import de.sesu8642.feudaltactics.lib.ingame.PlayerMove;
 import de.sesu8642.feudaltactics.menu.preferences.MainPreferencesDao;
 import de.sesu8642.feudaltactics.shared.events.BotTurnFinishedEvent;
-import de.sesu8642.feudaltactics.shared.events.GameStateChangeEvent;
 import lombok.Getter;
 import lombok.Setter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
@@ -25,25 +25,45 @@ import java.util.stream.Collectors;
  */
 public class BotAi {
 
+    /**
+     * Time the move search may take for each kingdom. The number of rollouts decides how long the search takes; this
+     * only stops it on devices that are too slow to do all of them in time.
+     */
+    private static final long SEARCH_TIME_LIMIT_PER_KINGDOM_MS = 250;
+
     private final Logger logger = LoggerFactory.getLogger(getClass().getName());
 
     private final EventBus eventBus;
     private final MainPreferencesDao mainPrefsDao;
+    private final BotExecutionEngine executionEngine;
 
     /**
      * Whether to skip displaying the current turn.
      */
     @Getter
     @Setter
-    private boolean skipDisplayingTurn = false;
+    private volatile boolean skipDisplayingTurn = false;
 
-    public BotAi(EventBus eventBus, MainPreferencesDao mainPrefsDao) {
+    /**
+     * Constructor.
+     *
+     * @param eventBus        event bus
+     * @param mainPrefsDao    DAO for the main preferences
+     * @param executionEngine engine to do the calculations on
+     */
+    public BotAi(EventBus eventBus, MainPreferencesDao mainPrefsDao, BotExecutionEngine executionEngine) {
         this.eventBus = eventBus;
         this.mainPrefsDao = mainPrefsDao;
+        this.executionEngine = executionEngine;
+    }
+
+    BotExecutionEngine getExecutionEngine() {
+        return executionEngine;
     }
 
     /**
-     * Does the current players turn.
+     * Does the current players turn at full speed. Records the intermediate states in a timeline that is posted along
+     * with the result for displaying the turn afterwards.
      *
      * @param gameState    game state to do the turn in
      * @param intelligence intelligence level to use for the turn
@@ -52,12 +72,17 @@ public class BotAi {
     public void doTurn(GameState gameState, Intelligence intelligence) throws InterruptedException {
         logger.debug("doing the turn for bot player '{}' with intelligence level '{}'", gameState.getActivePlayer(),
             intelligence);
-        final Random random = new Random(gameState.hashCode());
+        final Random random = new Random(gameState.getFingerprint());
+        final List<PlayerMove> moves = new ArrayList<>();
+        final BotTurnTimeline timeline = new BotTurnTimeline();
         Optional<Kingdom> nextKingdomOptional = getNextKingdom(gameState);
         while (nextKingdomOptional.isPresent()) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
             final Kingdom nextKingdom = nextKingdomOptional.get();
             nextKingdom.setDoneMoving(true);
-            doKingdomMove(gameState, nextKingdom, intelligence, random);
+            doKingdomMove(gameState, nextKingdom, intelligence, random, moves, timeline);
             nextKingdomOptional = getNextKingdom(gameState);
         }
         // reset kingdom done moving state
@@ -66,7 +91,7 @@ public class BotAi {
                 kingdom.setDoneMoving(false);
             }
         }
-        eventBus.post(new BotTurnFinishedEvent(gameState));
+        eventBus.post(new BotTurnFinishedEvent(gameState, moves, timeline));
     }
 
     private Optional<Kingdom> getNextKingdom(GameState gameState) {
@@ -78,61 +103,103 @@ public class BotAi {
         return Optional.empty();
     }
 
-    private GameState doKingdomMove(GameState gameState, Kingdom kingdom, Intelligence intelligence, Random random)
-        throws InterruptedException {
+    private GameState doKingdomMove(GameState gameState, Kingdom kingdom, Intelligence intelligence, Random random,
+                                    List<PlayerMove> moves, BotTurnTimeline timeline) {
         logger.debug("doing moves in kingdom '{}'", kingdom);
-        gameState.setActiveKingdom(kingdom);
-        delayForPreview(gameState);
+        if (gameState.getActiveKingdom() != kingdom) {
+            applyMove(gameState, PlayerMove.activateKingdom(kingdom.getTiles().get(0).getPosition()), moves);
+        }
+        recordPreview(gameState, timeline);
+        if (intelligence.searchRolloutsPerKingdom > 0) {
+            applySearchedMoves(gameState, intelligence, random, moves);
+        }
+        doGreedyKingdomMoves(gameState, intelligence, random, moves);
+        recordPreview(gameState, timeline);
+        return gameState;
+    }
+
+    /**
+     * Searches the moves the active kingdom begins with and applies them. The search stops early if it reaches
+     * {@link #SEARCH_TIME_LIMIT_PER_KINGDOM_MS}.
+     */
+    private void applySearchedMoves(GameState gameState, Intelligence intelligence, Random random,
+                                    List<PlayerMove> moves) {
+        final long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(SEARCH_TIME_LIMIT_PER_KINGDOM_MS);
+        final MonteCarloTreeSearch search = new MonteCarloTreeSearch(this, intelligence,
+            executionEngine.getParallelism(), intelligence.searchRolloutsPerKingdom);
+        final List<PlayerMove> searchedMoves = search.search(gameState, random.nextLong(), deadlineNanos);
+        logger.debug("applying searched moves {}", searchedMoves);
+        for (PlayerMove move : searchedMoves) {
+            applyMove(gameState, move, moves);
+        }
+    }
+
+    /**
+     * Does the moves of the active kingdom without searching.
+     *
+     * @param gameState    game state to do the moves in
+     * @param intelligence intelligence level to use
+     * @param random       random to decide whether to conquer with
+     * @param moves        list to add the moves to
+     */
+    void doGreedyKingdomMoves(GameState gameState, Intelligence intelligence, Random random, List<PlayerMove> moves) {
         // pick up all units
         final PickedUpUnits pickedUpUnits = new PickedUpUnits();
-        pickUpAllAvailableUnits(kingdom, pickedUpUnits);
+        pickUpAllAvailableUnits(gameState, pickedUpUnits, moves);
         // remember the tiles where a castle was placed to possibly reverse the decision
         // later after conquering
         final Set<HexTile> placedCastleTiles = new HashSet<>();
 
-        removeBlockingObjects(gameState, pickedUpUnits, intelligence.blockingObjectRemovalScoreTreshold);
-        defendMostImportantTiles(gameState, intelligence, pickedUpUnits, placedCastleTiles);
+        removeBlockingObjects(gameState, pickedUpUnits, intelligence.blockingObjectRemovalScoreTreshold, moves);
+        defendMostImportantTiles(gameState, intelligence, pickedUpUnits, placedCastleTiles, moves);
         if (random.nextFloat() <= intelligence.chanceToConquerPerTurn) {
-            conquerAsMuchAsPossible(gameState, intelligence, pickedUpUnits);
+            conquerAsMuchAsPossible(gameState, intelligence, pickedUpUnits, moves);
         }
         if (intelligence.reconsidersWhichTilesToProtect) {
-            sellCastles(gameState.getActiveKingdom(), placedCastleTiles);
-            pickUpAllAvailableUnits(gameState.getActiveKingdom(), pickedUpUnits);
-            defendMostImportantTiles(gameState, intelligence, pickedUpUnits, placedCastleTiles);
-            conquerAsMuchAsPossible(gameState, intelligence, pickedUpUnits);
+            sellCastles(gameState, placedCastleTiles, moves);
+            pickUpAllAvailableUnits(gameState, pickedUpUnits, moves);
+            defendMostImportantTiles(gameState, intelligence, pickedUpUnits, placedCastleTiles, moves);
+            conquerAsMuchAsPossible(gameState, intelligence, pickedUpUnits, moves);
         }
-        removeBlockingObjects(gameState, pickedUpUnits, 0);
-        protectWithLeftoverUnits(gameState, intelligence, pickedUpUnits);
+        removeBlockingObjects(gameState, pickedUpUnits, 0, moves);
+        protectWithLeftoverUnits(gameState, intelligence, pickedUpUnits, moves);
+    }
 
-        delayForPreview(gameState);
-        return gameState;
+    /**
+     * Applies a move the same way as for human players and remembers it.
+     */
+    private void applyMove(GameState gameState, PlayerMove move, List<PlayerMove> moves) {
+        GameStateHelper.applyPlayerMove(gameState, move);
+        moves.add(move);
     }
 
     /**
-     * Delays a little for the user to see what is happening.
+     * Records an intermediate state for the user to see what is happening.
      *
      * @param gameState intermediate gameState to display as a preview
-     * @throws InterruptedException if interrupted
+     * @param timeline  timeline to record into
      */
-    private void delayForPreview(GameState gameState) throws InterruptedException {
-        // no need to update the game state if there is no delay to see it anyway
+    private void recordPreview(GameState gameState, BotTurnTimeline timeline) {
+        // no need to take a snapshot if it is not going to be displayed anyway
         if (skipDisplayingTurn || !mainPrefsDao.getMainPreferences().isShowEnemyTurns()) {
             return;
         }
-        eventBus.post(new GameStateChangeEvent(GameStateHelper.getCopy(gameState)));
-        Thread.sleep(mainPrefsDao.getMainPreferences().getEnemyTurnSpeed().tickDelayMs);
+        timeline.addFrame(GameStateHelper.getSnapshot(gameState));
     }
 
-    private void pickUpAllAvailableUnits(Kingdom kingdom, PickedUpUnits pickedUpUnits) {
+    private void pickUpAllAvailableUnits(GameState gameState, PickedUpUnits pickedUpUnits, List<PlayerMove> moves) {
         logger.debug("picking up all available units");
-        for (HexTile tile : kingdom.getTiles()) {
+        boolean foundUnit = false;
+        for (HexTile tile : gameState.getActiveKingdom().getTiles()) {
             if (tile.getContent() != null && ClassReflection.isAssignableFrom(Unit.class, tile.getContent().getClass())
                 && ((Unit) tile.getContent()).isCanAct()) {
-                final int strength = tile.getContent().getStrength();
-                pickedUpUnits.addUnitOfStrength(strength);
-                tile.setContent(null);
+                pickedUpUnits.addUnitOfStrength(tile.getContent().getStrength());
+                foundUnit = true;
             }
         }
+        if (foundUnit) {
+            applyMove(gameState, PlayerMove.pickUpAllUnits(), moves);
+        }
     }
 
     /**
@@ -144,7 +211,7 @@ public class BotAi {
      *                                    removed
      */
     private void removeBlockingObjects(GameState gameState, PickedUpUnits pickedUpUnits,
-                                       int minimumRemovalScoreTreshold) {
+                                       int minimumRemovalScoreTreshold, List<PlayerMove> moves) {
         logger.debug("removing blocking objects");
         // not using a hashset because the tiles are changed in this function which
         // changes their hashcode as well
@@ -155,12 +222,10 @@ public class BotAi {
             tilesWithBlockingObjects.values());
         while (bestRemovalCandidate.score >= minimumRemovalScoreTreshold) {
             if (pickedUpUnits.ofType(UnitTypes.PEASANT) >= 1 || acquireUnit(gameState, gameState.getActiveKingdom(),
-                pickedUpUnits, UnitTypes.PEASANT.strength())) {
+                pickedUpUnits, UnitTypes.PEASANT.strength(), moves)) {
                 logger.debug("removing blocking object with score {} from tile {}", bestRemovalCandidate.score,
                     bestRemovalCandidate.tile);
-                pickedUpUnits.removeUnit(UnitTypes.PEASANT);
-                gameState.setHeldObject(new Unit(UnitTypes.PEASANT));
-                GameStateHelper.placeOwn(gameState, bestRemovalCandidate.tile);
+                placeStoredUnit(gameState, bestRemovalCandidate.tile, UnitTypes.PEASANT, pickedUpUnits, moves);
                 tilesWithBlockingObjects.remove(bestRemovalCandidate.tile.getPosition());
                 bestRemovalCandidate = getBestBlockingObjectRemovalScore(gameState, tilesWithBlockingObjects.values());
             } else {
@@ -170,97 +235,109 @@ public class BotAi {
     }
 
     private void defendMostImportantTiles(GameState gameState, Intelligence intelligence, PickedUpUnits pickedUpUnits,
-                                          Set<HexTile> placedCastleTiles) {
+                                          Set<HexTile> placedCastleTiles, List<PlayerMove> moves) {
         logger.debug("defending most important tiles");
-        final Set<HexTile> interestingProtectionTiles = getInterestingProtectionTiles(gameState);
-        TileScoreInfo bestProtectionCandidate = getBestDefenseTileScore(gameState, intelligence,
-            interestingProtectionTiles);
-        while (bestProtectionCandidate.score >= intelligence.protectWithCastleScoreTreshold) {
-            // if enough money buy castle
-            if (InputValidationHelper.checkBuyObject(gameState, gameState.getActivePlayer(), Castle.class)) {
-                GameStateHelper.buyCastle(gameState);
-                GameStateHelper.placeOwn(gameState, bestProtectionCandidate.tile);
-                placedCastleTiles.add(bestProtectionCandidate.tile);
-            } else if (pickedUpUnits.ofType(UnitTypes.PEASANT) > 0) {
-                // protect with existing peasant
-                pickedUpUnits.removeUnit(UnitTypes.PEASANT);
-                gameState.setHeldObject(new Unit(UnitTypes.PEASANT));
-                GameStateHelper.placeOwn(gameState, bestProtectionCandidate.tile);
-            } else if (InputValidationHelper.checkBuyObject(gameState, gameState.getActivePlayer(), Unit.class)) {
-                // protect with new peasant
-                GameStateHelper.buyPeasant(gameState);
-                GameStateHelper.placeOwn(gameState, bestProtectionCandidate.tile);
-            } else {
-                break;
+        try (TileScoreCache defenseScores = createDefenseScoreCache(gameState, intelligence)) {
+            TileScoreInfo bestProtectionCandidate = defenseScores.getBest();
+            while (bestProtectionCandidate.score >= intelligence.protectWithCastleScoreTreshold) {
+                // if enough money buy castle
+                if (InputValidationHelper.checkBuyObject(gameState, gameState.getActivePlayer(), Castle.class)) {
+                    applyMove(gameState, PlayerMove.buyAndPlaceCastle(bestProtectionCandidate.tile.getPosition()),
+                        moves);
+                    placedCastleTiles.add(bestProtectionCandidate.tile);
+                } else if (pickedUpUnits.ofType(UnitTypes.PEASANT) > 0) {
+                    // protect with existing peasant
+                    placeStoredUnit(gameState, bestProtectionCandidate.tile, UnitTypes.PEASANT, pickedUpUnits, moves);
+                } else if (InputValidationHelper.checkBuyObject(gameState, gameState.getActivePlayer(), Unit.class)) {
+                    // protect with new peasant
+                    applyMove(gameState, PlayerMove.buyAndPlacePeasant(bestProtectionCandidate.tile.getPosition()),
+                        moves);
+                } else {
+                    break;
+                }
+                bestProtectionCandidate = defenseScores.getBest();
             }
-            bestProtectionCandidate = getBestDefenseTileScore(gameState, intelligence, interestingProtectionTiles);
-        }
-        while (bestProtectionCandidate.score >= intelligence.protectWithUnitScoreTreshold) {
-            if (pickedUpUnits.ofType(UnitTypes.PEASANT) > 0 || acquireUnit(gameState, gameState.getActiveKingdom(),
-                pickedUpUnits, UnitTypes.PEASANT.strength())) {
-                // protect with existing peasant
-                pickedUpUnits.removeUnit(UnitTypes.PEASANT);
-                gameState.setHeldObject(new Unit(UnitTypes.PEASANT));
-                GameStateHelper.placeOwn(gameState, bestProtectionCandidate.tile);
-            } else {
-                break;
+            while (bestProtectionCandidate.score >= intelligence.protectWithUnitScoreTreshold) {
+                if (pickedUpUnits.ofType(UnitTypes.PEASANT) > 0 || acquireUnit(gameState, gameState.getActiveKingdom(),
+                    pickedUpUnits, UnitTypes.PEASANT.strength(), moves)) {
+                    // protect with existing peasant
+                    placeStoredUnit(gameState, bestProtectionCandidate.tile, UnitTypes.PEASANT, pickedUpUnits, moves);
+                } else {
+                    break;
+                }
+                bestProtectionCandidate = defenseScores.getBest();
             }
-            bestProtectionCandidate = getBestDefenseTileScore(gameState, intelligence, interestingProtectionTiles);
         }
     }
 
-    private void conquerAsMuchAsPossible(GameState gameState, Intelligence intelligence, PickedUpUnits pickedUpUnits) {
+    private void conquerAsMuchAsPossible(GameState gameState, Intelligence intelligence, PickedUpUnits pickedUpUnits,
+                                         List<PlayerMove> moves) {
         logger.debug("conquering as much as possible");
-        boolean unableToConquerAnyMore = false;
-        whileloop:
-        while (!unableToConquerAnyMore) {
-            // need a list here to be deterministic
-            final List<HexTile> possibleConquerTiles = determineNeighboringEnemyTiles(gameState);
-            if (possibleConquerTiles.isEmpty()) {
-                // the bot actually won the game
-                break;
-            }
-
-            // determine how "valuable" the tiles are for conquering
-            final Set<OffenseTileScoreInfo> offenseTileScoreInfoSet =
-                Collections.newSetFromMap(new ConcurrentHashMap<>());
-            possibleConquerTiles.parallelStream().forEach(conquerTile -> offenseTileScoreInfoSet
-                .add(getOffenseTileScoreInfo(gameState, intelligence, conquerTile)));
-            final List<OffenseTileScoreInfo> offenseTileScoreInfos = new ArrayList<>(offenseTileScoreInfoSet);
-            offenseTileScoreInfos.sort((OffenseTileScoreInfo o1, OffenseTileScoreInfo o2) -> {
-                int result = Integer.compare(o2.score, o1.score);
-                // if the score is the same, use the coordinates to eliminate randomness
-                if (result == 0) {
-                    result = o1.tile.compareTo(o2.tile);
+        Kingdom scoredKingdom = null;
+        TileScoreCache offenseScores = null;
+        try {
+            while (true) {
+                if (gameState.getActiveKingdom() != scoredKingdom) {
+                    // the scores depend on the active kingdom which changes when combining kingdoms
+                    if (offenseScores != null) {
+                        offenseScores.close();
+                    }
+                    scoredKingdom = gameState.getActiveKingdom();
+                    offenseScores = createOffenseScoreCache(gameState, intelligence);
                 }
-                return result;
-            });
-
-            for (OffenseTileScoreInfo offenseTileScoreInfo : offenseTileScoreInfos) {
-                if (pickedUpUnits.getTotalNoOfUnits() == 0) {
+                // the buckets of the offense scores are the required strengths
+                final int minimumRequiredStrengthForConquering = offenseScores.getLowestBucket();
+                if (minimumRequiredStrengthForConquering < 0) {
+                    // the bot actually won the game
                     break;
                 }
-                for (int i = offenseTileScoreInfo.requiredStrength; i <= UnitTypes.strongest().strength(); i++) {
-                    if (conquerTileWithStoredUnit(gameState, offenseTileScoreInfo.tile, UnitTypes.ofStrength(i),
-                        pickedUpUnits.ofStrength(i))) {
-                        pickedUpUnits.removeUnitOfStrength(i);
-                        continue whileloop;
-                    }
+                if (!conquerBestTile(gameState, offenseScores, pickedUpUnits, moves)
+                    && !acquireUnit(gameState, gameState.getActiveKingdom(), pickedUpUnits,
+                    minimumRequiredStrengthForConquering, moves)) {
+                    // no more tiles can be conquered with the existing units and no units can be bought or combined
+                    break;
                 }
             }
-            // at this point no more tiles can be conquered with the existing units --> buy
-            // some more or combine
-            final int minimumRequiredStrengthForConquering = offenseTileScoreInfos
-                .stream().min((OffenseTileScoreInfo t1, OffenseTileScoreInfo t2) -> Integer
-                    .compare(t1.requiredStrength, t2.requiredStrength))
-                .orElse(new OffenseTileScoreInfo(null, -1, -1)).requiredStrength;
-            if (!acquireUnit(gameState, gameState.getActiveKingdom(), pickedUpUnits,
-                minimumRequiredStrengthForConquering)) {
-                unableToConquerAnyMore = true;
+        } finally {
+            if (offenseScores != null) {
+                offenseScores.close();
             }
         }
     }
 
+    private TileScoreCache createOffenseScoreCache(GameState gameState, Intelligence intelligence) {
+        final Kingdom kingdom = gameState.getActiveKingdom();
+        return new TileScoreCache(gameState.getMap(), executionEngine, UnitTypes.strongest().strength() + 2,
+            tile -> getOffenseTileScore(gameState, intelligence, tile),
+            tile -> GameStateHelper.getProtectionLevel(gameState, tile) + 1,
+            tile -> tile.getKingdom() != kingdom && HexMapHelper.getNeighborTiles(gameState.getMap(), tile).stream()
+                .anyMatch(neighborTile -> neighborTile != null && neighborTile.getKingdom() == kingdom),
+            Comparator.naturalOrder(), determineNeighboringEnemyTiles(gameState));
+    }
+
+    private boolean conquerBestTile(GameState gameState, TileScoreCache offenseScores, PickedUpUnits pickedUpUnits,
+                                    List<PlayerMove> moves) {
+        int strongestAvailableStrength = 0;
+        for (int i = 1; i <= UnitTypes.strongest().strength(); i++) {
+            if (pickedUpUnits.ofStrength(i) > 0) {
+                strongestAvailableStrength = i;
+            }
+        }
+        final TileScoreInfo bestConquerableTile = offenseScores.getBest(strongestAvailableStrength);
+        if (bestConquerableTile.tile == null) {
+            return false;
+        }
+        final int requiredStrength = GameStateHelper.getProtectionLevel(gameState, bestConquerableTile.tile) + 1;
+        for (int i = requiredStrength; i <= strongestAvailableStrength; i++) {
+            if (conquerTileWithStoredUnit(gameState, bestConquerableTile.tile, UnitTypes.ofStrength(i),
+                pickedUpUnits.ofStrength(i), moves)) {
+                pickedUpUnits.removeUnitOfStrength(i);
+                return true;
+            }
+        }
+        throw new IllegalStateException("No unit to conquer tile " + bestConquerableTile.tile);
+    }
+
     private List<HexTile> determineNeighboringEnemyTiles(GameState gameState) {
         final List<HexTile> result = new ArrayList<>();
         for (HexTile tile : gameState.getActiveKingdom().getTiles()) {
@@ -274,38 +351,40 @@ public class BotAi {
         return result;
     }
 
-    private boolean acquireUnit(GameState gameState, Kingdom kingdom, PickedUpUnits pickedUpUnits, int strength) {
+    private boolean acquireUnit(GameState gameState, Kingdom kingdom, PickedUpUnits pickedUpUnits, int strength,
+                                List<PlayerMove> moves) {
         logger.debug("acquiring a new unit");
         // this could probably be done in much less lines but be 5x less readable
         // could try with recursion: acquire the next weaker unit first
         switch (strength) {
             case 1:
-                return acquirePeasant(gameState, kingdom, pickedUpUnits);
+                return acquirePeasant(gameState, kingdom, pickedUpUnits, moves);
             case 2:
-                return acquireSpearman(gameState, kingdom, pickedUpUnits);
+                return acquireSpearman(gameState, kingdom, pickedUpUnits, moves);
             case 3:
-                return acquireKnight(gameState, kingdom, pickedUpUnits);
+                return acquireKnight(gameState, kingdom, pickedUpUnits, moves);
             case 4:
-                return acquireBaron(gameState, kingdom, pickedUpUnits);
+                return acquireBaron(gameState, kingdom, pickedUpUnits, moves);
             default:
                 // the requested strength is greater than the strongest unit --> not possible
                 return false;
         }
     }
 
-    private boolean acquirePeasant(GameState gameState, Kingdom kingdom, PickedUpUnits pickedUpUnits) {
+    private boolean acquirePeasant(GameState gameState, Kingdom kingdom, PickedUpUnits pickedUpUnits,
+                                   List<PlayerMove> moves) {
         if (canKingdomSustainNewUnit(gameState, kingdom, pickedUpUnits, UnitTypes.PEASANT)) {
-            buyUnitDirectly(kingdom, pickedUpUnits, UnitTypes.PEASANT);
+            buyUnitDirectly(gameState, pickedUpUnits, UnitTypes.PEASANT, moves);
             return true;
         }
         return false;
     }
 
-    private boolean acquireSpearman(GameState gameState, Kingdom kingdom, PickedUpUnits pickedUpUnits) {
+    private boolean acquireSpearman(GameState gameState, Kingdom kingdom, PickedUpUnits pickedUpUnits,
+                                    List<PlayerMove> moves) {
         if (pickedUpUnits.ofType(UnitTypes.PEASANT) >= 2) {
             // combine 2 existing peasants
-            pickedUpUnits.removeUnit(UnitTypes.PEASANT, 2);
-            pickedUpUnits.addUnit(UnitTypes.SPEARMAN);
+            combineStoredUnits(gameState, pickedUpUnits, UnitTypes.PEASANT, UnitTypes.PEASANT, moves);
             return true;
         } else if (pickedUpUnits.ofType(UnitTypes.PEASANT) >= 1
             && (GameStateHelper.getKingdomIncome(kingdom)
@@ -313,24 +392,22 @@ public class BotAi {
             + UnitTypes.PEASANT.salary() >= 0 || kingdom.getSavings() > UnitTypes.SPEARMAN.salary() * 3)
             && kingdom.getSavings() >= Unit.COST) {
             // buy 1 peasant and combine with an existing one
-            kingdom.setSavings(kingdom.getSavings() - Unit.COST);
-            pickedUpUnits.addUnit(UnitTypes.SPEARMAN);
-            pickedUpUnits.removeUnit(UnitTypes.PEASANT);
+            buyUnitDirectly(gameState, pickedUpUnits, UnitTypes.PEASANT, moves);
+            combineStoredUnits(gameState, pickedUpUnits, UnitTypes.PEASANT, UnitTypes.PEASANT, moves);
             return true;
         } else if (canKingdomSustainNewUnit(gameState, kingdom, pickedUpUnits, UnitTypes.SPEARMAN)) {
             // buy 2 peasants = 1 spearman
-            buyUnitDirectly(kingdom, pickedUpUnits, UnitTypes.SPEARMAN);
+            buyUnitDirectly(gameState, pickedUpUnits, UnitTypes.SPEARMAN, moves);
             return true;
         }
         return false;
     }
 
-    private boolean acquireKnight(GameState gameState, Kingdom kingdom, PickedUpUnits pickedUpUnits) {
+    private boolean acquireKnight(GameState gameState, Kingdom kingdom, PickedUpUnits pickedUpUnits,
+                                  List<PlayerMove> moves) {
         if (pickedUpUnits.ofType(UnitTypes.PEASANT) >= 1 && pickedUpUnits.ofType(UnitTypes.SPEARMAN) >= 1) {
             // combine spearman and peasant
-            pickedUpUnits.removeUnit(UnitTypes.PEASANT);
-            pickedUpUnits.removeUnit(UnitTypes.SPEARMAN);
-            pickedUpUnits.addUnit(UnitTypes.KNIGHT);
+            combineStoredUnits(gameState, pickedUpUnits, UnitTypes.SPEARMAN, UnitTypes.PEASANT, moves);
             return true;
         } else if (pickedUpUnits.ofType(UnitTypes.SPEARMAN) >= 1
             && (GameStateHelper.getKingdomIncome(kingdom)
@@ -338,31 +415,27 @@ public class BotAi {
             + UnitTypes.SPEARMAN.salary() >= 0 || kingdom.getSavings() > UnitTypes.KNIGHT.salary() * 3)
             && kingdom.getSavings() > Unit.COST) {
             // buy 1 peasant and combine with an existing spearman
-            kingdom.setSavings(kingdom.getSavings() - Unit.COST);
-            pickedUpUnits.removeUnit(UnitTypes.SPEARMAN);
-            pickedUpUnits.addUnit(UnitTypes.KNIGHT);
+            buyUnitDirectly(gameState, pickedUpUnits, UnitTypes.PEASANT, moves);
+            combineStoredUnits(gameState, pickedUpUnits, UnitTypes.SPEARMAN, UnitTypes.PEASANT, moves);
             return true;
         } else if (canKingdomSustainNewUnit(gameState, kingdom, pickedUpUnits, UnitTypes.KNIGHT)) {
             // buy 3 peasants = 1 knight
-            buyUnitDirectly(kingdom, pickedUpUnits, UnitTypes.KNIGHT);
+            buyUnitDirectly(gameState, pickedUpUnits, UnitTypes.KNIGHT, moves);
             return true;
         }
         return false;
     }
 
-    private boolean acquireBaron(GameState gameState, Kingdom kingdom, PickedUpUnits pickedUpUnits) {
+    private boolean acquireBaron(GameState gameState, Kingdom kingdom, PickedUpUnits pickedUpUnits,
+                                 List<PlayerMove> moves) {
         // this does not have all possible combination options to get a baron
         if (pickedUpUnits.ofType(UnitTypes.PEASANT) >= 1 && pickedUpUnits.ofType(UnitTypes.KNIGHT) >= 1) {
             // combine knight and peasant
-            pickedUpUnits.removeUnit(UnitTypes.PEASANT);
-            pickedUpUnits.removeUnit(UnitTypes.KNIGHT);
-            pickedUpUnits.addUnit(UnitTypes.BARON);
+            combineStoredUnits(gameState, pickedUpUnits, UnitTypes.KNIGHT, UnitTypes.PEASANT, moves);
             return true;
         } else if (pickedUpUnits.ofType(UnitTypes.SPEARMAN) >= 2) {
             // combine two spearmen
-            pickedUpUnits.removeUnit(UnitTypes.SPEARMAN);
-            pickedUpUnits.removeUnit(UnitTypes.SPEARMAN);
-            pickedUpUnits.addUnit(UnitTypes.BARON);
+            combineStoredUnits(gameState, pickedUpUnits, UnitTypes.SPEARMAN, UnitTypes.SPEARMAN, moves);
             return true;
         } else if (pickedUpUnits.ofType(UnitTypes.KNIGHT) >= 1
             && (GameStateHelper.getKingdomIncome(kingdom)
@@ -370,9 +443,8 @@ public class BotAi {
             + UnitTypes.KNIGHT.salary() >= 0 || kingdom.getSavings() > UnitTypes.BARON.salary() * 3)
             && kingdom.getSavings() >= Unit.COST) {
             // buy 1 peasant and combine with an existing knight
-            kingdom.setSavings(kingdom.getSavings() - Unit.COST);
-            pickedUpUnits.removeUnit(UnitTypes.KNIGHT);
-            pickedUpUnits.addUnit(UnitTypes.BARON);
+            buyUnitDirectly(gameState, pickedUpUnits, UnitTypes.PEASANT, moves);
+            combineStoredUnits(gameState, pickedUpUnits, UnitTypes.KNIGHT, UnitTypes.PEASANT, moves);
             return true;
         } else if (pickedUpUnits.ofType(UnitTypes.SPEARMAN) >= 1
             && (GameStateHelper.getKingdomIncome(kingdom)
@@ -380,13 +452,12 @@ public class BotAi {
             + UnitTypes.SPEARMAN.salary() >= 0 || kingdom.getSavings() > UnitTypes.BARON.salary() * 3)
             && kingdom.getSavings() >= 2 * Unit.COST) {
             // buy 2 peasants and combine with an existing spearman
-            kingdom.setSavings(kingdom.getSavings() - (2 * Unit.COST));
-            pickedUpUnits.removeUnit(UnitTypes.SPEARMAN);
-            pickedUpUnits.addUnit(UnitTypes.BARON);
+            buyUnitDirectly(gameState, pickedUpUnits, UnitTypes.SPEARMAN, moves);
+            combineStoredUnits(gameState, pickedUpUnits, UnitTypes.SPEARMAN, UnitTypes.SPEARMAN, moves);
             return true;
         } else if (canKingdomSustainNewUnit(gameState, kingdom, pickedUpUnits, UnitTypes.BARON)) {
             // buy 4 peasants = 1 baron
-            buyUnitDirectly(kingdom, pickedUpUnits, UnitTypes.BARON);
+            buyUnitDirectly(gameState, pickedUpUnits, UnitTypes.BARON, moves);
             return true;
         }
         return false;
@@ -401,44 +472,59 @@ public class BotAi {
             && kingdom.getSavings() >= Unit.COST * unitType.strength());
     }
 
-    private void buyUnitDirectly(Kingdom kingdom, PickedUpUnits pickedUpUnits, UnitTypes unitType) {
-        kingdom.setSavings(kingdom.getSavings() - Unit.COST * unitType.strength());
+    private void buyUnitDirectly(GameState gameState, PickedUpUnits pickedUpUnits, UnitTypes unitType,
+                                 List<PlayerMove> moves) {
+        applyMove(gameState, PlayerMove.buyReserveUnit(unitType), moves);
         pickedUpUnits.addUnit(unitType);
     }
 
-    private void protectWithLeftoverUnits(GameState gameState, Intelligence intelligence, PickedUpUnits pickedUpUnits) {
+    private void combineStoredUnits(GameState gameState, PickedUpUnits pickedUpUnits, UnitTypes unitType,
+                                    UnitTypes otherUnitType, List<PlayerMove> moves) {
+        applyMove(gameState, PlayerMove.combineReserveUnits(unitType, otherUnitType), moves);
+        pickedUpUnits.removeUnit(unitType);
+        pickedUpUnits.removeUnit(otherUnitType);
+        pickedUpUnits.addUnit(UnitTypes.ofStrength(unitType.strength() + otherUnitType.strength()));
+    }
+
+    private void protectWithLeftoverUnits(GameState gameState, Intelligence intelligence, PickedUpUnits pickedUpUnits,
+                                          List<PlayerMove> moves) {
         logger.debug("protecting the kingdom with leftover units");
-        final Set<HexTile> interestingProtectionTiles = getInterestingProtectionTiles(gameState);
-        TileScoreInfo bestDefenseTileScore = getBestDefenseTileScore(gameState, intelligence,
-            interestingProtectionTiles);
-        while (bestDefenseTileScore.score >= 0) {
-            if (pickedUpUnits.getTotalNoOfUnits() == 0) {
-                break;
-            }
-            // use the strongest units to protect the most important tiles --> use negative
-            // strength to get strongest units first
-            final List<UnitTypes> orderedUnitTypes = Arrays.stream(UnitTypes.values())
-                .sorted(Comparator.comparingInt(type -> type.strength() * -1)).collect(Collectors.toList());
-            for (UnitTypes type : orderedUnitTypes) {
-                if (pickedUpUnits.ofType(type) > 0) {
-                    gameState.setHeldObject(new Unit(type));
-                    GameStateHelper.placeOwn(gameState, bestDefenseTileScore.tile);
-                    pickedUpUnits.removeUnit(type);
+        try (TileScoreCache defenseScores = createDefenseScoreCache(gameState, intelligence)) {
+            TileScoreInfo bestDefenseTileScore = defenseScores.getBest();
+            while (bestDefenseTileScore.score >= 0) {
+                if (pickedUpUnits.getTotalNoOfUnits() == 0) {
                     break;
                 }
+                // use the strongest units to protect the most important tiles --> use negative
+                // strength to get strongest units first
+                final List<UnitTypes> orderedUnitTypes = Arrays.stream(UnitTypes.values())
+                    .sorted(Comparator.comparingInt(type -> type.strength() * -1)).collect(Collectors.toList());
+                for (UnitTypes type : orderedUnitTypes) {
+                    if (pickedUpUnits.ofType(type) > 0) {
+                        placeStoredUnit(gameState, bestDefenseTileScore.tile, type, pickedUpUnits, moves);
+                        break;
+                    }
+                }
+                bestDefenseTileScore = defenseScores.getBest();
             }
-            bestDefenseTileScore = getBestDefenseTileScore(gameState, intelligence, interestingProtectionTiles);
         }
-        placeLeftOverUnitsSomeWhere(gameState, pickedUpUnits);
+        placeLeftOverUnitsSomeWhere(gameState, pickedUpUnits, moves);
+    }
+
+    private void placeStoredUnit(GameState gameState, HexTile tile, UnitTypes unitType, PickedUpUnits pickedUpUnits,
+                                 List<PlayerMove> moves) {
+        pickedUpUnits.removeUnit(unitType);
+        applyMove(gameState, PlayerMove.placeReserveUnit(tile.getPosition(), unitType), moves);
     }
 
-    private void placeLeftOverUnitsSomeWhere(GameState gameState, PickedUpUnits pickedUpUnits) {
+    private void placeLeftOverUnitsSomeWhere(GameState gameState, PickedUpUnits pickedUpUnits,
+                                             List<PlayerMove> moves) {
         for (UnitTypes type : UnitTypes.values()) {
             for (int i = 0; i < pickedUpUnits.ofType(type); i++) {
                 final Optional<HexTile> emptyOrTreeTileOptional = findEmptyOrTreeTileInActiveKingdom(gameState);
                 if (emptyOrTreeTileOptional.isPresent()) {
-                    gameState.setHeldObject(new Unit(type));
-                    GameStateHelper.placeOwn(gameState, emptyOrTreeTileOptional.get());
+                    applyMove(gameState, PlayerMove.placeReserveUnit(emptyOrTreeTileOptional.get().getPosition(), type),
+                        moves);
                 } else {
                     logger.error("Unable to place leftover unit because there are no available spaces.");
                 }
@@ -451,12 +537,11 @@ public class BotAi {
             || ClassReflection.isAssignableFrom(Tree.class, tile.getContent().getClass())).findFirst();
     }
 
-    private void sellCastles(Kingdom kingdom, Set<HexTile> placedCastleTiles) {
+    private void sellCastles(GameState gameState, Set<HexTile> placedCastleTiles, List<PlayerMove> moves) {
         logger.debug("selling previously bought castles again");
         // sell the castles bought earlier to re-assess the situation after conquering
         for (HexTile tile : placedCastleTiles) {
-            tile.setContent(null);
-            kingdom.setSavings(kingdom.getSavings() + Castle.COST);
+            applyMove(gameState, PlayerMove.sellCastle(tile.getPosition()), moves);
         }
     }
 
@@ -485,13 +570,11 @@ public class BotAi {
 
     private TileScoreInfo getBestBlockingObjectRemovalScore(GameState gameState,
                                                             Collection<HexTile> tilesWithBlockingObjects) {
-        final Set<TileScoreInfo> scores = Collections.newSetFromMap(new ConcurrentHashMap<>());
-        tilesWithBlockingObjects.parallelStream().forEach(tile -> scores.add(new TileScoreInfo(tile,
-            getBlockingObjectRemovalScore(gameState, tile))));
-        return scores.stream().max(Comparator.comparingInt((TileScoreInfo t) -> t.score)
-                // if the score is the same, use the coordinates to eliminate randomness
-                .thenComparing(t -> t.tile))
-            .orElse(new TileScoreInfo(null, -1));
+        final HexTile[] candidates = tilesWithBlockingObjects.toArray(new HexTile[0]);
+        final int[] scores = new int[candidates.length];
+        executionEngine.computeScores(candidates.length,
+            index -> getBlockingObjectRemovalScore(gameState, candidates[index]), scores);
+        return getBestTileScore(candidates, scores);
     }
 
     private int getBlockingObjectRemovalScore(GameState gameState, HexTile tile) {
@@ -562,15 +645,32 @@ public class BotAi {
         return tile.getContent() != null;
     }
 
-    private TileScoreInfo getBestDefenseTileScore(GameState gameState, Intelligence intelligence,
-                                                  Set<HexTile> interestingProtectionTiles) {
-        final Set<TileScoreInfo> results = Collections.newSetFromMap(new ConcurrentHashMap<TileScoreInfo, Boolean>());
-        interestingProtectionTiles.parallelStream().forEach(
-            tile -> results.add(new TileScoreInfo(tile, getTileDefenseScore(gameState, intelligence, tile))));
-        return results.stream().max(Comparator.comparingInt((TileScoreInfo t) -> t.score)
-                // if the score is the same, use the coordinates to eliminate randomness
-                .thenComparing(t -> t.tile))
-            .orElse(new TileScoreInfo(null, -1));
+    private TileScoreCache createDefenseScoreCache(GameState gameState, Intelligence intelligence) {
+        final Set<HexTile> interestingProtectionTiles = getInterestingProtectionTiles(gameState);
+        // not using the set because the tiles are changed which changes their hashcode as well
+        final BitSet interestingProtectionTileIds = new BitSet();
+        for (HexTile tile : interestingProtectionTiles) {
+            interestingProtectionTileIds.set(tile.getId());
+        }
+        return new TileScoreCache(gameState.getMap(), executionEngine, 1,
+            tile -> getTileDefenseScore(gameState, intelligence, tile), tile -> 0,
+            tile -> interestingProtectionTileIds.get(tile.getId()), Comparator.reverseOrder(),
+            interestingProtectionTiles);
+    }
+
+    private TileScoreInfo getBestTileScore(HexTile[] candidates, int[] scores) {
+        int bestIndex = -1;
+        for (int i = 0; i < candidates.length; i++) {
+            // if the score is the same, use the coordinates to eliminate randomness
+            if (bestIndex < 0 || scores[i] > scores[bestIndex]
+                || scores[i] == scores[bestIndex] && candidates[i].compareTo(candidates[bestIndex]) > 0) {
+                bestIndex = i;
+            }
+        }
+        if (bestIndex < 0) {
+            return new TileScoreInfo(null, -1);
+        }
+        return new TileScoreInfo(candidates[bestIndex], scores[bestIndex]);
     }
 
     /**
@@ -640,9 +740,8 @@ public class BotAi {
         return score;
     }
 
-    private OffenseTileScoreInfo getOffenseTileScoreInfo(GameState gameState, Intelligence intelligence, HexTile tile) {
+    private int getOffenseTileScore(GameState gameState, Intelligence intelligence, HexTile tile) {
         int score;
-        int requiredStrength = tile.getContent() == null ? 1 : tile.getContent().getStrength() + 1;
         if (tile.getKingdom() == null) {
             if (tile.getContent() == null) {
                 // conquering single tiles is not as good as stealing from enemy kingdoms
@@ -663,17 +762,9 @@ public class BotAi {
             } else {
                 score = 2;
             }
-            // find out required strength and add some bonus for tiles next to multiple
-            // tiles of the own kingdom
-            final ArrayList<HexTile> neighborTiles = new ArrayList<>(HexMapHelper.getNeighborTiles(gameState.getMap()
-                , tile));
-            neighborTiles.add(tile);
-            for (HexTile neighborTile : neighborTiles) {
-                if (neighborTile != null && neighborTile.getKingdom() == tile.getKingdom()
-                    && neighborTile.getContent() != null
-                    && neighborTile.getContent().getStrength() >= requiredStrength) {
-                    requiredStrength = neighborTile.getContent().getStrength() + 1;
-                } else if (neighborTile != null && neighborTile.getKingdom() == gameState.getActiveKingdom()) {
+            // add some bonus for tiles next to multiple tiles of the own kingdom
+            for (HexTile neighborTile : HexMapHelper.getNeighborTiles(gameState.getMap(), tile)) {
+                if (neighborTile != null && neighborTile.getKingdom() == gameState.getActiveKingdom()) {
                     score++;
                 }
             }
@@ -685,15 +776,14 @@ public class BotAi {
             score += intelligence.attackOtherBotsBias;
         }
 
-        return new OffenseTileScoreInfo(tile, score, requiredStrength);
+        return score;
     }
 
     private boolean conquerTileWithStoredUnit(GameState gameState, HexTile tile, Unit.UnitTypes unitType,
-                                              Integer nrAvailableUnits) {
+                                              Integer nrAvailableUnits, List<PlayerMove> moves) {
         logger.debug("conquering tile '{}' with stored unit '{}'", tile, unitType);
         if (nrAvailableUnits > 0) {
-            gameState.setHeldObject(new Unit(unitType));
-            GameStateHelper.conquer(gameState, tile);
+            applyMove(gameState, PlayerMove.conquerWithReserveUnit(tile.getPosition(), unitType), moves);
             return true;
         }
         return false;
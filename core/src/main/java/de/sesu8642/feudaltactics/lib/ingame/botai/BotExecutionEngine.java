@@ -0,0 +1,125 @@
+// SPDX-License-Identifier: GPL-3.0-or-later
+
+package de.sesu8642.feudaltactics.lib.ingame.botai;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Runs the calculations of the bots on its own fork join pool instead of the common one. Small inputs are processed
+ * sequentially in the calling thread.
+ */
+public class BotExecutionEngine {
+
+    /**
+     * Number of items below which splitting the work is not worth it.
+     */
+    public static final int DEFAULT_SEQUENTIAL_CUTOFF = 16;
+
+    private final ForkJoinPool pool;
+    private final int sequentialCutoff;
+
+    /**
+     * Constructor.
+     *
+     * @param parallelism number of threads to calculate with
+     */
+    public BotExecutionEngine(int parallelism) {
+        this(parallelism, DEFAULT_SEQUENTIAL_CUTOFF);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param parallelism      number of threads to calculate with
+     * @param sequentialCutoff number of items below which they are processed sequentially
+     */
+    public BotExecutionEngine(int parallelism, int sequentialCutoff) {
+        if (parallelism < 1 || sequentialCutoff < 1) {
+            throw new IllegalArgumentException("Parallelism and sequential cutoff must be positive.");
+        }
+        pool = new ForkJoinPool(parallelism, forkJoinPool -> {
+            final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory
+                .newThread(forkJoinPool);
+            thread.setName("botai-" + thread.getPoolIndex());
+            return thread;
+        }, null, false);
+        this.sequentialCutoff = sequentialCutoff;
+    }
+
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    /**
+     * Calculates a score for every index.
+     *
+     * @param count  number of indexes
+     * @param scorer function calculating the score of an index; must be safe to call concurrently
+     * @param scores array to write the scores to; at least count long
+     */
+    void computeScores(int count, IntUnaryOperator scorer, int[] scores) {
+        forEachIndex(count, sequentialCutoff, index -> scores[index] = scorer.applyAsInt(index));
+    }
+
+    /**
+     * Does an action for every index. The order the indexes are processed in is undefined.
+     *
+     * @param count            number of indexes
+     * @param sequentialCutoff number of indexes below which they are processed sequentially
+     * @param action           action to do; must be safe to call concurrently
+     */
+    void forEachIndex(int count, int sequentialCutoff, IntConsumer action) {
+        if (count <= sequentialCutoff || pool.getParallelism() == 1) {
+            for (int i = 0; i < count; i++) {
+                action.accept(i);
+            }
+            return;
+        }
+        final IndexRangeAction task = new IndexRangeAction(0, count, sequentialCutoff, action);
+        if (ForkJoinTask.getPool() == pool) {
+            // nested call from one of the pool's own threads, e.g. the scoring in a rollout of a search
+            task.invoke();
+        } else {
+            pool.invoke(task);
+        }
+    }
+
+    /**
+     * Task splitting a range of indexes in halves until they are small enough.
+     */
+    private static class IndexRangeAction extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+        private final int sequentialCutoff;
+        private final transient IntConsumer action;
+
+        private IndexRangeAction(int from, int to, int sequentialCutoff, IntConsumer action) {
+            this.from = from;
+            this.to = to;
+            this.sequentialCutoff = sequentialCutoff;
+            this.action = action;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= sequentialCutoff) {
+                for (int i = from; i < to; i++) {
+                    action.accept(i);
+                }
+                return;
+            }
+            final int middle = (from + to) >>> 1;
+            invokeAll(new IndexRangeAction(from, middle, sequentialCutoff, action),
+                new IndexRangeAction(middle, to, sequentialCutoff, action));
+        }
+    }
+
+}
@@ -0,0 +1,37 @@
+// SPDX-License-Identifier: GPL-3.0-or-later
+
+package de.sesu8642.feudaltactics.lib.ingame.botai;
+
+import de.sesu8642.feudaltactics.lib.gamestate.GameState;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Intermediate states of a bot turn, recorded while the turn is done at full speed so that it can be displayed
+ * afterwards. The frames are snapshots, so everything that did not change between two of them is shared.
+ */
+public class BotTurnTimeline {
+
+    private final List<GameState> frames = new ArrayList<>();
+
+    /**
+     * Adds a frame at the end of the timeline.
+     *
+     * @param snapshot snapshot of the game state to display, must not be modified
+     */
+    public void addFrame(GameState snapshot) {
+        frames.add(snapshot);
+    }
+
+    /**
+     * Returns the frames in the order they are to be displayed in.
+     *
+     * @return unmodifiable list of game state snapshots
+     */
+    public List<GameState> getFrames() {
+        return Collections.unmodifiableList(frames);
+    }
+
+}
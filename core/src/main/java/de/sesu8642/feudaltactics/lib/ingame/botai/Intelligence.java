@@ -6,10 +6,11 @@ package de.sesu8642.feudaltactics.lib.ingame.botai;
  * Possible intelligence levels for the AI.
  */
 public enum Intelligence {
-    LEVEL_1(0.5F, 0, false, Integer.MAX_VALUE, Integer.MAX_VALUE, 5, false, false),
-    LEVEL_2(0.8F, 0, false, Integer.MAX_VALUE, Integer.MAX_VALUE, 5, false, true),
-    LEVEL_3(1F, 4, false, 25, 20, 0, true, true),
-    LEVEL_4(1F, 7, true, 25, 20, 0, true, true);
+    LEVEL_1(0.5F, 0, false, Integer.MAX_VALUE, Integer.MAX_VALUE, 5, false, false, 0),
+    LEVEL_2(0.8F, 0, false, Integer.MAX_VALUE, Integer.MAX_VALUE, 5, false, true, 0),
+    LEVEL_3(1F, 4, false, 25, 20, 0, true, true, 0),
+    LEVEL_4(1F, 7, true, 25, 20, 0, true, true, 0),
+    LEVEL_5(1F, 7, true, 25, 20, 0, true, true, 256);
 
     /**
      * Chance that the bot will even try to conquer anything in a given turn.
@@ -63,10 +64,16 @@ public enum Intelligence {
      */
     public final boolean smartAttacking;
 
+    /**
+     * Number of rollouts of the {@link MonteCarloTreeSearch} that searches for the best moves each kingdom begins
+     * with. The rest of the moves are done the same way as without searching. Use 0 to disable searching.
+     */
+    public final int searchRolloutsPerKingdom;
+
     Intelligence(float chanceToConquerPerTurn, int blockingObjectRemovalScoreTreshold,
                  boolean reconsidersWhichTilesToProtect, int protectWithCastleScoreTreshold,
                  int protectWithUnitScoreTreshold, int attackOtherBotsBias, boolean smartDefending,
-                 boolean smartAttacking) {
+                 boolean smartAttacking, int searchRolloutsPerKingdom) {
         this.chanceToConquerPerTurn = chanceToConquerPerTurn;
         this.blockingObjectRemovalScoreTreshold = blockingObjectRemovalScoreTreshold;
         this.reconsidersWhichTilesToProtect = reconsidersWhichTilesToProtect;
@@ -75,6 +82,7 @@ public enum Intelligence {
         this.attackOtherBotsBias = attackOtherBotsBias;
         this.smartDefending = smartDefending;
         this.smartAttacking = smartAttacking;
+        this.searchRolloutsPerKingdom = searchRolloutsPerKingdom;
     }
 
 }
@@ -0,0 +1,390 @@
+// SPDX-License-Identifier: GPL-3.0-or-later
+
+package de.sesu8642.feudaltactics.lib.ingame.botai;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.reflect.ClassReflection;
+import de.sesu8642.feudaltactics.lib.gamestate.*;
+import de.sesu8642.feudaltactics.lib.gamestate.Unit.UnitTypes;
+import de.sesu8642.feudaltactics.lib.ingame.PlayerMove;
+
+import java.util.*;
+
+/**
+ * Searches the moves the active kingdom should begin its turn with. The search tree consists of short move sequences
+ * like picking up a unit and conquering a tile with it. A sequence is rated by letting the bot finish the turn the way
+ * it would without searching and evaluating the result. The rollouts are done in batches of one rollout per thread,
+ * each on its own copy of the game state that is restored afterwards by undoing the changes. The tree is only changed
+ * between the batches in a fixed order, so the result only depends on the seed and the number of threads, as long as
+ * the maximum number of iterations is reached before the deadline.
+ */
+class MonteCarloTreeSearch {
+
+    // maximum number of move sequences in a row that are searched
+    private static final int MAX_DEPTH = 4;
+    // lower than usual because the rewards of the move sequences are rather close to each other
+    private static final double EXPLORATION_CONSTANT = 0.5;
+    // a node can have this many children per square root of its visits
+    private static final double PROGRESSIVE_WIDENING_FACTOR = 1;
+    // less visited move sequences are not trusted and left to the bot instead
+    private static final int MIN_VISITS_TO_CHOOSE = 8;
+    // difference in evaluation that makes a rollout about 3/4 better than doing nothing
+    private static final double REWARD_SCALE = 4;
+    private static final Action STOP = new Action(0, Collections.emptyList());
+
+    private final BotAi botAi;
+    private final Intelligence intelligence;
+    private final int threadCount;
+    private final int maxIterations;
+
+    /**
+     * Constructor.
+     *
+     * @param botAi         bot that finishes the turn in the rollouts
+     * @param intelligence  intelligence level the bot finishes the turn with
+     * @param threadCount   number of rollouts done in parallel
+     * @param maxIterations maximum number of rollouts
+     */
+    MonteCarloTreeSearch(BotAi botAi, Intelligence intelligence, int threadCount, int maxIterations) {
+        if (threadCount < 1 || maxIterations < 1) {
+            throw new IllegalArgumentException("Thread count and maximum iterations must be positive.");
+        }
+        this.botAi = botAi;
+        this.intelligence = intelligence;
+        this.threadCount = threadCount;
+        this.maxIterations = maxIterations;
+    }
+
+    /**
+     * Searches the moves the active kingdom should begin its turn with. Does not change the game state.
+     *
+     * @param gameState     game state with an active kingdom and no held object
+     * @param seed          seed for the randoms of the rollouts
+     * @param deadlineNanos value of {@link System#nanoTime()} after which no more rollouts are started; only meant
+     *                      to stop the search on devices that are too slow for the maximum number of rollouts
+     * @return moves to apply, possibly none
+     */
+    List<PlayerMove> search(GameState gameState, long seed, long deadlineNanos) {
+        if (gameState.getActiveKingdom() == null || gameState.getHeldObject() != null) {
+            throw new IllegalArgumentException("The search needs an active kingdom and no held object.");
+        }
+        final Node root = new Node(null, 0);
+        root.actions = generateActions(gameState);
+        if (root.actions.size() == 1) {
+            // there is nothing to choose from
+            return Collections.emptyList();
+        }
+        final double rootEvaluation = evaluate(gameState);
+        final List<GameState> copies = new ArrayList<>(threadCount);
+        for (int i = 0; i < threadCount; i++) {
+            copies.add(GameStateHelper.getCopy(gameState));
+        }
+        int iteration = 0;
+        // compared via the difference because the values of nanoTime can overflow
+        while (iteration < maxIterations && System.nanoTime() - deadlineNanos < 0) {
+            final int batchSize = Math.min(threadCount, maxIterations - iteration);
+            final List<List<Node>> paths = new ArrayList<>(batchSize);
+            for (int i = 0; i < batchSize; i++) {
+                paths.add(select(root));
+            }
+            final long batchSeed = seed + iteration;
+            final RolloutResult[] results = new RolloutResult[batchSize];
+            // every rollout is worth a task of its own
+            botAi.getExecutionEngine().forEachIndex(batchSize, 1,
+                i -> results[i] = rollout(copies.get(i), paths.get(i), batchSeed + i, rootEvaluation));
+            // in the order of the batch, not the order the rollouts finished in, to be reproducible
+            for (int i = 0; i < batchSize; i++) {
+                backpropagate(root, paths.get(i), results[i]);
+            }
+            iteration += batchSize;
+        }
+        return getMostVisitedMoves(root);
+    }
+
+    /**
+     * Selects the path to the node to do the next rollout from and expands the tree if possible. The visits are
+     * counted right away so that the other rollouts of the same batch choose different paths.
+     */
+    private List<Node> select(Node root) {
+        final List<Node> path = new ArrayList<>();
+        Node node = root;
+        node.visits++;
+        while (node.actions != null) {
+            if (node.canExpand()) {
+                node = node.expand();
+                node.visits++;
+                path.add(node);
+                break;
+            }
+            if (node.children.isEmpty()) {
+                break;
+            }
+            node = node.selectChild();
+            node.visits++;
+            path.add(node);
+        }
+        return path;
+    }
+
+    private RolloutResult rollout(GameState gameState, List<Node> path, long seed, double rootEvaluation) {
+        final Deque<PlayerMoveDelta> deltas = new ArrayDeque<>();
+        for (Node node : path) {
+            deltas.push(GameStateHelper.applyChangesReversibly(gameState, node.action::apply));
+        }
+        List<Action> leafActions = null;
+        if (!path.isEmpty() && path.get(path.size() - 1).actions == null) {
+            leafActions = generateActions(gameState);
+        }
+        final Random random = new Random(seed);
+        deltas.push(GameStateHelper.applyChangesReversibly(gameState,
+            state -> botAi.doGreedyKingdomMoves(state, intelligence, random, new ArrayList<>())));
+        final double reward = 1 / (1 + Math.exp((rootEvaluation - evaluate(gameState)) / REWARD_SCALE));
+        while (!deltas.isEmpty()) {
+            GameStateHelper.undoPlayerMove(gameState, deltas.pop());
+        }
+        return new RolloutResult(reward, leafActions);
+    }
+
+    private void backpropagate(Node root, List<Node> path, RolloutResult result) {
+        root.totalReward += result.reward;
+        for (Node node : path) {
+            node.totalReward += result.reward;
+        }
+        if (result.leafActions != null) {
+            final Node leaf = path.get(path.size() - 1);
+            if (leaf.actions == null) {
+                leaf.actions = result.leafActions;
+            }
+        }
+    }
+
+    private List<PlayerMove> getMostVisitedMoves(Node root) {
+        final List<PlayerMove> result = new ArrayList<>();
+        Node node = root;
+        while (true) {
+            Node mostVisitedChild = null;
+            for (Node child : node.children) {
+                if (mostVisitedChild == null || child.visits > mostVisitedChild.visits) {
+                    mostVisitedChild = child;
+                }
+            }
+            if (mostVisitedChild == null || mostVisitedChild.visits < MIN_VISITS_TO_CHOOSE
+                || mostVisitedChild.action == STOP) {
+                return result;
+            }
+            result.addAll(mostVisitedChild.action.moves);
+            node = mostVisitedChild;
+        }
+    }
+
+    /**
+     * Generates the move sequences the active kingdom can begin with. Stopping comes first, the others are ordered by
+     * how promising they look.
+     */
+    private List<Action> generateActions(GameState gameState) {
+        final Kingdom kingdom = gameState.getActiveKingdom();
+        final Player player = gameState.getActivePlayer();
+        // units of the same strength are interchangeable, so one of each strength is enough
+        final HexTile[] unitTilesByStrength = new HexTile[UnitTypes.strongest().strength() + 1];
+        final Map<Vector2, HexTile> conquerCandidates = new LinkedHashMap<>();
+        final List<HexTile> castleCandidates = new ArrayList<>();
+        for (HexTile tile : kingdom.getTiles()) {
+            final TileContent content = tile.getContent();
+            if (isUnit(content) && ((Unit) content).isCanAct()
+                && unitTilesByStrength[content.getStrength()] == null) {
+                unitTilesByStrength[content.getStrength()] = tile;
+            }
+            boolean isBorderTile = false;
+            for (HexTile neighborTile : HexMapHelper.getNeighborTiles(gameState.getMap(), tile)) {
+                if (neighborTile != null && neighborTile.getPlayer() != player) {
+                    conquerCandidates.putIfAbsent(neighborTile.getPosition(), neighborTile);
+                    isBorderTile |= neighborTile.getKingdom() != null;
+                }
+            }
+            if (isBorderTile && content == null) {
+                castleCandidates.add(tile);
+            }
+        }
+
+        final List<Action> result = new ArrayList<>();
+        final int strongestStrength = UnitTypes.strongest().strength();
+        final int affordablePeasants = kingdom.getSavings() / Unit.COST;
+        for (HexTile tile : conquerCandidates.values()) {
+            final int requiredStrength = GameStateHelper.getProtectionLevel(gameState, tile) + 1;
+            final int value = getConquerValue(tile);
+            // with a unit of the kingdom or none, upgraded by buying peasants if needed
+            for (int strength = 0; strength <= strongestStrength; strength++) {
+                if (strength > 0 && unitTilesByStrength[strength] == null) {
+                    continue;
+                }
+                final int boughtPeasants = Math.max(requiredStrength - strength, strength == 0 ? 1 : 0);
+                if (boughtPeasants > affordablePeasants || strength + boughtPeasants > strongestStrength) {
+                    continue;
+                }
+                final List<PlayerMove> moves = new ArrayList<>();
+                if (strength > 0) {
+                    moves.add(PlayerMove.pickUp(unitTilesByStrength[strength].getPosition()));
+                }
+                for (int i = 0; i < boughtPeasants; i++) {
+                    moves.add(PlayerMove.buyPeasant());
+                }
+                moves.add(PlayerMove.conquer(tile.getPosition()));
+                // using a stronger unit than needed and spending money are a bit of a waste
+                final int waste = strength + boughtPeasants - requiredStrength + boughtPeasants;
+                result.add(new Action(value - waste, moves));
+            }
+        }
+        if (kingdom.getSavings() >= Castle.COST) {
+            for (HexTile tile : castleCandidates) {
+                result.add(new Action(0, Collections.singletonList(PlayerMove.buyAndPlaceCastle(tile.getPosition()))));
+            }
+        }
+        // the sort is stable, so the order stays deterministic
+        result.sort(Comparator.comparingInt((Action action) -> -action.prior));
+        result.add(0, STOP);
+        return result;
+    }
+
+    private int getConquerValue(HexTile tile) {
+        final TileContent content = tile.getContent();
+        if (tile.getKingdom() == null) {
+            // nearby trees might spread to the own kingdom
+            return content == null ? 1 : 3;
+        }
+        if (content == null) {
+            return 2;
+        }
+        if (ClassReflection.isAssignableFrom(Capital.class, content.getClass())) {
+            // the enemy kingdom loses its savings
+            return 10;
+        }
+        return content.getStrength() + 2;
+    }
+
+    /**
+     * Evaluates the game state for the active player after the active kingdom finished its turn. More tiles and
+     * income are good, unprotected border tiles and being unable to pay the units are bad.
+     */
+    private double evaluate(GameState gameState) {
+        final Player player = gameState.getActivePlayer();
+        int ownTiles = 0;
+        for (Kingdom kingdom : gameState.getKingdoms()) {
+            if (kingdom.getPlayer() == player) {
+                ownTiles += kingdom.getTiles().size();
+            }
+        }
+        final Kingdom kingdom = gameState.getActiveKingdom();
+        final int income = GameStateHelper.getKingdomIncome(kingdom);
+        final int salaries = GameStateHelper.getKingdomSalaries(gameState, kingdom);
+        int exposedTiles = 0;
+        for (HexTile tile : kingdom.getTiles()) {
+            if (GameStateHelper.getProtectionLevel(gameState, tile) > 0) {
+                continue;
+            }
+            for (HexTile neighborTile : HexMapHelper.getNeighborTiles(gameState.getMap(), tile)) {
+                if (neighborTile != null && neighborTile.getKingdom() != null && neighborTile.getPlayer() != player) {
+                    exposedTiles++;
+                    break;
+                }
+            }
+        }
+        double result = ownTiles + 0.5 * (income - salaries) - 0.5 * exposedTiles;
+        if (kingdom.getSavings() + income < salaries) {
+            // all the units will die
+            result -= salaries;
+        }
+        return result;
+    }
+
+    private static boolean isUnit(TileContent content) {
+        return content != null && ClassReflection.isAssignableFrom(Unit.class, content.getClass());
+    }
+
+    /**
+     * Sequence of moves that is searched as a whole. Each sequence starts and ends without a held object.
+     */
+    private static class Action {
+
+        // empty for stopping
+        private final List<PlayerMove> moves;
+        private final int prior;
+
+        Action(int prior, List<PlayerMove> moves) {
+            this.prior = prior;
+            this.moves = moves;
+        }
+
+        void apply(GameState gameState) {
+            for (PlayerMove move : moves) {
+                GameStateHelper.applyPlayerMove(gameState, move);
+            }
+        }
+
+    }
+
+    /**
+     * Node in the search tree.
+     */
+    private static class Node {
+
+        // null for the root
+        private final Action action;
+        private final int depth;
+        private final List<Node> children = new ArrayList<>();
+        // null until generated by a rollout
+        private List<Action> actions;
+        private int visits = 0;
+        private double totalReward = 0;
+
+        Node(Action action, int depth) {
+            this.action = action;
+            this.depth = depth;
+            if (action == STOP || depth >= MAX_DEPTH) {
+                actions = Collections.emptyList();
+            }
+        }
+
+        boolean canExpand() {
+            return children.size() < actions.size()
+                && children.size() < Math.max(1, PROGRESSIVE_WIDENING_FACTOR * Math.sqrt(visits));
+        }
+
+        Node expand() {
+            final Node child = new Node(actions.get(children.size()), depth + 1);
+            children.add(child);
+            return child;
+        }
+
+        Node selectChild() {
+            Node result = null;
+            double bestValue = Double.NEGATIVE_INFINITY;
+            for (Node child : children) {
+                final double value = child.totalReward / child.visits
+                    + EXPLORATION_CONSTANT * Math.sqrt(Math.log(visits) / child.visits);
+                if (value > bestValue) {
+                    bestValue = value;
+                    result = child;
+                }
+            }
+            return result;
+        }
+
+    }
+
+    /**
+     * Outcome of a rollout.
+     */
+    private static class RolloutResult {
+
+        private final double reward;
+        // actions of the last node of the path if they were unknown before
+        private final List<Action> leafActions;
+
+        RolloutResult(double reward, List<Action> leafActions) {
+            this.reward = reward;
+            this.leafActions = leafActions;
+        }
+
+    }
+
+}
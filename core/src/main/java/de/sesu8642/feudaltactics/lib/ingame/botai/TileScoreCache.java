@@ -0,0 +1,207 @@
+// SPDX-License-Identifier: GPL-3.0-or-later
+
+package de.sesu8642.feudaltactics.lib.ingame.botai;
+
+import de.sesu8642.feudaltactics.lib.gamestate.HexMap;
+import de.sesu8642.feudaltactics.lib.gamestate.HexTile;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+/**
+ * Scores of candidate tiles, ranked by score and then by coordinates. The scores may only depend on the tiles up to
+ * two tiles away. The cache listens to the changes of the map and only recalculates the scores around the changed
+ * tiles before answering the next query. The candidates are split into buckets, e.g. by the strength needed to
+ * conquer them, and every bucket has its own priority queue. Replaced scores stay in the queues until they reach the
+ * head. Must be closed after use to stop listening to the map.
+ */
+class TileScoreCache implements AutoCloseable {
+
+    private final HexMap map;
+    private final BotExecutionEngine executionEngine;
+    private final ToIntFunction<HexTile> scorer;
+    private final ToIntFunction<HexTile> bucketFunction;
+    private final Predicate<HexTile> candidatePredicate;
+    private final Comparator<CachedScore> ranking;
+    private final PriorityQueue<CachedScore>[] buckets;
+    // incremented whenever the score of a tile is replaced or removed; queue entries with an older version are outdated
+    private final int[] versions;
+    private final BitSet candidateIds = new BitSet();
+    private final BitSet changedTileIds = new BitSet();
+
+    /**
+     * Constructor. Scores the initial candidates right away.
+     *
+     * @param map                map the tiles are in
+     * @param executionEngine    engine to calculate the scores on
+     * @param bucketCount        number of buckets
+     * @param scorer             function calculating the score of a tile; must be safe to call concurrently
+     * @param bucketFunction     function determining the bucket of a tile
+     * @param candidatePredicate whether a tile is a candidate; checked for the tiles around changed ones
+     * @param tieBreak           order of tiles with the same score, best first
+     * @param initialCandidates  tiles that may be candidates at first, may contain duplicates
+     */
+    @SuppressWarnings("unchecked")
+    TileScoreCache(HexMap map, BotExecutionEngine executionEngine, int bucketCount, ToIntFunction<HexTile> scorer,
+                   ToIntFunction<HexTile> bucketFunction, Predicate<HexTile> candidatePredicate,
+                   Comparator<HexTile> tieBreak, Collection<HexTile> initialCandidates) {
+        this.map = map;
+        this.executionEngine = executionEngine;
+        this.scorer = scorer;
+        this.bucketFunction = bucketFunction;
+        this.candidatePredicate = candidatePredicate;
+        // highest score first; if the score is the same, use the coordinates to eliminate randomness
+        ranking = Comparator.comparingInt((CachedScore cachedScore) -> -cachedScore.score)
+            .thenComparing(cachedScore -> cachedScore.tile, tieBreak);
+        buckets = new PriorityQueue[bucketCount];
+        for (int i = 0; i < bucketCount; i++) {
+            buckets[i] = new PriorityQueue<>(ranking);
+        }
+        versions = new int[map.getTileIdBound()];
+        final BitSet initialCandidateIds = new BitSet();
+        for (HexTile tile : initialCandidates) {
+            if (candidatePredicate.test(tile)) {
+                initialCandidateIds.set(tile.getId());
+            }
+        }
+        score(initialCandidateIds);
+        map.setTileChangeListener(changedTileIds::set);
+    }
+
+    /**
+     * Returns the best candidate.
+     *
+     * @return best candidate or a tile score info with no tile and a score of -1 if there is none
+     */
+    TileScoreInfo getBest() {
+        return getBest(buckets.length - 1);
+    }
+
+    /**
+     * Returns the best candidate of the buckets up to the given one.
+     *
+     * @param maxBucket highest bucket to consider
+     * @return best candidate or a tile score info with no tile and a score of -1 if there is none
+     */
+    TileScoreInfo getBest(int maxBucket) {
+        update();
+        CachedScore best = null;
+        for (int i = 0; i <= Math.min(maxBucket, buckets.length - 1); i++) {
+            final CachedScore head = peek(i);
+            if (head != null && (best == null || ranking.compare(head, best) < 0)) {
+                best = head;
+            }
+        }
+        if (best == null) {
+            return new TileScoreInfo(null, -1);
+        }
+        return new TileScoreInfo(best.tile, best.score);
+    }
+
+    /**
+     * Returns the lowest bucket containing a candidate.
+     *
+     * @return bucket or -1 if there are no candidates
+     */
+    int getLowestBucket() {
+        update();
+        for (int i = 0; i < buckets.length; i++) {
+            if (peek(i) != null) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Stops listening to the changes of the map.
+     */
+    @Override
+    public void close() {
+        map.setTileChangeListener(null);
+    }
+
+    private CachedScore peek(int bucket) {
+        final PriorityQueue<CachedScore> queue = buckets[bucket];
+        CachedScore head = queue.peek();
+        while (head != null && head.version != versions[head.tile.getId()]) {
+            queue.poll();
+            head = queue.peek();
+        }
+        return head;
+    }
+
+    private void update() {
+        if (changedTileIds.isEmpty()) {
+            return;
+        }
+        final BitSet affectedTileIds = new BitSet();
+        for (int id = changedTileIds.nextSetBit(0); id >= 0; id = changedTileIds.nextSetBit(id + 1)) {
+            affectedTileIds.set(id);
+            for (int i = 0; i < HexMap.NEIGHBOR_COUNT; i++) {
+                final int neighborId = map.getNeighborId(id, i);
+                if (neighborId != HexMap.NO_TILE) {
+                    affectedTileIds.set(neighborId);
+                }
+            }
+            for (int i = 0; i < HexMap.NEIGHBORS_NEIGHBOR_COUNT; i++) {
+                final int neighborsNeighborId = map.getNeighborsNeighborId(id, i);
+                if (neighborsNeighborId != HexMap.NO_TILE) {
+                    affectedTileIds.set(neighborsNeighborId);
+                }
+            }
+        }
+        changedTileIds.clear();
+        for (int id = affectedTileIds.nextSetBit(0); id >= 0; id = affectedTileIds.nextSetBit(id + 1)) {
+            if (!candidatePredicate.test(map.getById(id))) {
+                affectedTileIds.clear(id);
+                if (candidateIds.get(id)) {
+                    candidateIds.clear(id);
+                    versions[id]++;
+                }
+            }
+        }
+        score(affectedTileIds);
+    }
+
+    private void score(BitSet tileIds) {
+        final HexTile[] tiles = new HexTile[tileIds.cardinality()];
+        int index = 0;
+        for (int id = tileIds.nextSetBit(0); id >= 0; id = tileIds.nextSetBit(id + 1)) {
+            tiles[index++] = map.getById(id);
+        }
+        final int[] scores = new int[tiles.length];
+        executionEngine.computeScores(tiles.length, i -> scorer.applyAsInt(tiles[i]), scores);
+        for (int i = 0; i < tiles.length; i++) {
+            final int id = tiles[i].getId();
+            final int bucket = bucketFunction.applyAsInt(tiles[i]);
+            if (bucket < 0 || bucket >= buckets.length) {
+                throw new IllegalStateException("Tile " + tiles[i] + " belongs to nonexistent bucket " + bucket);
+            }
+            versions[id]++;
+            candidateIds.set(id);
+            buckets[bucket].add(new CachedScore(tiles[i], scores[i], versions[id]));
+        }
+    }
+
+    /**
+     * Score of a tile at some point.
+     */
+    private static class CachedScore {
+
+        private final HexTile tile;
+        private final int score;
+        private final int version;
+
+        private CachedScore(HexTile tile, int score, int version) {
+            this.tile = tile;
+            this.score = score;
+            this.version = version;
+        }
+    }
+
+}
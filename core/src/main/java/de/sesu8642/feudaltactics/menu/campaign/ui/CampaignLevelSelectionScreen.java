@@ -31,7 +31,7 @@ public class CampaignLevelSelectionScreen extends GameScreen {
     private static final List<String> DIFFICULTIES_KEYS =
         ImmutableList.of(TranslationKeys.GAME_PARAMETER_DIFFICULTY_EASY,
             TranslationKeys.GAME_PARAMETER_DIFFICULTY_MEDIUM, TranslationKeys.GAME_PARAMETER_DIFFICULTY_HARD,
-            TranslationKeys.GAME_PARAMETER_DIFFICULTY_VERY_HARD);
+            TranslationKeys.GAME_PARAMETER_DIFFICULTY_VERY_HARD, TranslationKeys.GAME_PARAMETER_DIFFICULTY_EXPERT);
 
     private final LevelSelectionStage levelSelectionStage;
     private final DialogFactory dialogFactory;
@@ -185,6 +185,9 @@ public class HistorySlide extends Slide {
             case LEVEL_4:
                 botIntelligenceTranslationKey = TranslationKeys.HISTORY_PAGE_PARAMETER_DIFFICULTY_VERY_HARD;
                 break;
+            case LEVEL_5:
+                botIntelligenceTranslationKey = TranslationKeys.HISTORY_PAGE_PARAMETER_DIFFICULTY_EXPERT;
+                break;
             default:
                 throw new IllegalStateException("Unknown bot intelligence " + gamePreferences.getBotIntelligence());
         }
@@ -121,6 +121,9 @@ public class StatisticsSlide extends Slide {
             case LEVEL_4:
                 sectionTitleKey = TranslationKeys.STATISTICS_PAGE_DIFFICULTY_SECTION_TITLE_VERY_HARD;
                 break;
+            case LEVEL_5:
+                sectionTitleKey = TranslationKeys.STATISTICS_PAGE_DIFFICULTY_SECTION_TITLE_EXPERT;
+                break;
             default:
                 throw new IllegalStateException("Unknown bot intelligence level " + level);
         }
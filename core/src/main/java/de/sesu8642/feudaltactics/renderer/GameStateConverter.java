@@ -5,6 +5,7 @@ package de.sesu8642.feudaltactics.renderer;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.reflect.ClassReflection;
 import de.sesu8642.feudaltactics.lib.gamestate.*;
+import de.sesu8642.feudaltactics.lib.ingame.PlayerMove.PlayerMoveType;
 import lombok.RequiredArgsConstructor;
 
 import javax.inject.Inject;
@@ -60,11 +61,12 @@ public class GameStateConverter {
         return drawTile;
     }
 
-    private static boolean shouldTileInActiveKingdomBeDarkened(GameState gameState, HexTile tile) {
+    private static boolean shouldTileInActiveKingdomBeDarkened(GameState gameState, LegalMoves legalMoves,
+                                                               HexTile tile) {
         // darken the tile if there is some held object and placing it on the tile is impossible
         return gameState.getHeldObject() != null
-            && !InputValidationHelper.checkPlaceOwn(gameState, gameState.getActivePlayer(), tile)
-            && !InputValidationHelper.checkCombineUnits(gameState, gameState.getActivePlayer(), tile);
+            && !legalMoves.isLegal(PlayerMoveType.PLACE_OWN, tile)
+            && !legalMoves.isLegal(PlayerMoveType.COMBINE_UNITS, tile);
     }
 
     private static boolean isTileInActiveKingdom(GameState gameState, HexTile tile) {
@@ -173,32 +175,35 @@ public class GameStateConverter {
         final Set<Vector2> hexCoordinatesPalmTreesWillSpreadTo =
             tilesPalmTreesWillSpreadTo.stream().map(HexTile::getPosition).collect(Collectors.toSet());
 
+        // generated once instead of checking every tile separately
+        final LegalMoves legalMoves = LegalMoves.generate(gameState, gameState.getActivePlayer());
+
         // create tiles
-        for (Map.Entry<Vector2, HexTile> hexTileEntry : gameState.getMap().entrySet()) {
-            createTileAndContent(gameState, hexTileEntry, hexCoordinatesOakTreesWillSpreadTo,
+        for (HexTile tile : gameState.getMap().values()) {
+            createTileAndContent(gameState, legalMoves, tile, hexCoordinatesOakTreesWillSpreadTo,
                 hexCoordinatesPalmTreesWillSpreadTo, result);
         }
         return result;
     }
 
-    private void createTileAndContent(GameState gameState, Map.Entry<Vector2, HexTile> hexTileEntry,
+    private void createTileAndContent(GameState gameState, LegalMoves legalMoves, HexTile tile,
                                       Collection<Vector2> hexCoordinatesOakTreesWillSpreadTo,
                                       Collection<Vector2> hexCoordinatesPalmTreesWillSpreadTo,
                                       ItemsToBeRendered result) {
-        final Vector2 hexCoords = hexTileEntry.getKey();
-        final Vector2 mapCoords = getMapCoordinatesFromHexCoordinates(hexCoords);
-        final HexTile tile = hexTileEntry.getValue();
+        // world coordinates are precomputed by the map
+        final Vector2 mapCoords = new Vector2(gameState.getMap().getWorldX(tile.getId()),
+            gameState.getMap().getWorldY(tile.getId()));
 
         final ItemsToBeRendered.DrawTile drawTile = createDrawTile(mapCoords, tile);
         determineBeachesOnTileEdges(gameState, tile, drawTile);
 
         if (isTileInActiveKingdom(gameState, tile)) {
             createWhiteLinesAroundTile(gameState, tile, mapCoords, result);
-            drawTile.darken = shouldTileInActiveKingdomBeDarkened(gameState, tile);
+            drawTile.darken = shouldTileInActiveKingdomBeDarkened(gameState, legalMoves, tile);
         } else if (gameState.getHeldObject() != null) {
             // red lines for indicating if able to conquer
-            if (InputValidationHelper.checkConquer(gameState, gameState.getActivePlayer(), tile)) {
-                createRedLinesAroundTile(gameState, tile, mapCoords, result);
+            if (legalMoves.isLegal(PlayerMoveType.CONQUER, tile)) {
+                createRedLinesAroundTile(gameState, legalMoves, tile, mapCoords, result);
             } else {
                 // darken non-conquerable tiles
                 drawTile.darken = true;
@@ -292,13 +297,13 @@ public class GameStateConverter {
         }
     }
 
-    private void createRedLinesAroundTile(GameState gameState, HexTile tile, Vector2 mapCoords,
-                                          ItemsToBeRendered result) {
+    private void createRedLinesAroundTile(GameState gameState, LegalMoves legalMoves, HexTile tile,
+                                          Vector2 mapCoords, ItemsToBeRendered result) {
         for (int neighborTileIndex = 0; neighborTileIndex < NUMBER_OF_HEXAGON_SIDES; neighborTileIndex++) {
             final HexTile neighborTile = HexMapHelper.getNeighborTiles(gameState.getMap(), tile).get(neighborTileIndex);
             if (neighborTile == null
-                || (neighborTile.getKingdom() != gameState.getActiveKingdom() && !InputValidationHelper
-                .checkConquer(gameState, gameState.getActivePlayer(), neighborTile))) {
+                || (neighborTile.getKingdom() != gameState.getActiveKingdom()
+                && !legalMoves.isLegal(PlayerMoveType.CONQUER, neighborTile))) {
                 final Line line = getNeighborLine(mapCoords, neighborTileIndex);
                 final Collection<Line> dottedLineParts = lineToDottedLine(line);
                 for (Line linePart : dottedLineParts) {
@@ -386,19 +391,6 @@ public class GameStateConverter {
         return result;
     }
 
-    /**
-     * Calculates map coords from hex coords.
-     *
-     * @param hexCoords hex coords
-     * @return map coords
-     */
-    private Vector2 getMapCoordinatesFromHexCoordinates(Vector2 hexCoords) {
-        final float x = 0.75F * HEXTILE_WIDTH * hexCoords.x;
-        final float y = (float) (HexMapHelper.HEX_OUTER_RADIUS
-            * (Math.sqrt(3) / 2 * hexCoords.x + Math.sqrt(3) * (-hexCoords.y - hexCoords.x)));
-        return new Vector2(x, y);
-    }
-
     private static class Line {
         private Vector2 start;
         private Vector2 end;
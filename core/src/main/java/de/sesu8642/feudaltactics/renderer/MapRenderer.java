@@ -15,6 +15,7 @@ import com.badlogic.gdx.math.Vector3;
 import com.google.common.collect.ImmutableList;
 import de.sesu8642.feudaltactics.lib.gamestate.GameState;
 import de.sesu8642.feudaltactics.lib.gamestate.HexMapHelper;
+import de.sesu8642.feudaltactics.lib.gamestate.HexTile;
 import de.sesu8642.feudaltactics.lib.gamestate.Kingdom;
 import de.sesu8642.feudaltactics.lib.gamestate.MapDimensions;
 
@@ -399,10 +400,7 @@ public class MapRenderer {
      */
     public void placeCameraForOnKingdom(GameState gameState, Kingdom kingdom) {
         final Set<Vector2> kingdomTileCoordinates =
-            gameState.getMap().entrySet().stream().filter(entry ->
-                    kingdom.getTiles().contains(entry.getValue()))
-                .map(Entry::getKey)
-                .collect(Collectors.toSet());
+            kingdom.getTiles().stream().map(HexTile::getPosition).collect(Collectors.toSet());
         final MapDimensions dims = HexMapHelper.getMapDimensionsInWorldCoords(kingdomTileCoordinates);
         // move camera to center
         camera.position.set(dims.getCenter(), 0);
@@ -3,9 +3,13 @@
 package de.sesu8642.feudaltactics.shared.events;
 
 import de.sesu8642.feudaltactics.lib.gamestate.GameState;
+import de.sesu8642.feudaltactics.lib.ingame.PlayerMove;
+import de.sesu8642.feudaltactics.lib.ingame.botai.BotTurnTimeline;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.util.List;
+
 /**
  * Event: Bot player finished its turn.
  */
@@ -15,12 +19,24 @@ public class BotTurnFinishedEvent {
     @Setter
     private GameState gameState;
 
+    @Getter
+    @Setter
+    private List<PlayerMove> moves;
+
+    @Getter
+    @Setter
+    private BotTurnTimeline timeline;
+
     /**
      * Constructor.
      *
      * @param gameState new game state
+     * @param moves     moves the bot did, which lead to the new game state when applied to the old one
+     * @param timeline  intermediate states of the turn to display
      */
-    public BotTurnFinishedEvent(GameState gameState) {
+    public BotTurnFinishedEvent(GameState gameState, List<PlayerMove> moves, BotTurnTimeline timeline) {
         this.gameState = gameState;
+        this.moves = moves;
+        this.timeline = timeline;
     }
 }
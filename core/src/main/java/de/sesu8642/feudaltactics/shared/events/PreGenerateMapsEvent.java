@@ -0,0 +1,29 @@
+// SPDX-License-Identifier: GPL-3.0-or-later
+
+package de.sesu8642.feudaltactics.shared.events;
+
+import de.sesu8642.feudaltactics.ingame.GameParameters;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * Event: Maps the user is likely to look at next should be generated ahead of time.
+ */
+public class PreGenerateMapsEvent {
+
+    @Getter
+    @Setter
+    private List<GameParameters> likelyGameParams;
+
+    /**
+     * Constructor.
+     *
+     * @param likelyGameParams parameters for the maps, most likely ones first
+     */
+    public PreGenerateMapsEvent(List<GameParameters> likelyGameParams) {
+        this.likelyGameParams = likelyGameParams;
+    }
+
+}
@@ -0,0 +1,223 @@
+// SPDX-License-Identifier: GPL-3.0-or-later
+
+package de.sesu8642.feudaltactics.ingame;
+
+import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.JsonWriter.OutputType;
+import de.sesu8642.feudaltactics.MockPreferences;
+import de.sesu8642.feudaltactics.lib.gamestate.GameState;
+import de.sesu8642.feudaltactics.lib.gamestate.GameStateHelper;
+import de.sesu8642.feudaltactics.lib.gamestate.GameStateJsonHelper;
+import de.sesu8642.feudaltactics.lib.gamestate.Kingdom;
+import de.sesu8642.feudaltactics.lib.gamestate.Player;
+import de.sesu8642.feudaltactics.lib.gamestate.PlayerMoveDelta;
+import de.sesu8642.feudaltactics.lib.gamestate.Player.Type;
+import de.sesu8642.feudaltactics.lib.ingame.PlayerMove;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link AutoSaveRepository}.
+ */
+class AutoSaveRepositoryTest {
+
+    private final MockPreferences fullAutoSavePrefStore = new MockPreferences();
+    private final MockPreferences incrementalAutoSavePrefStore = new MockPreferences();
+    private final GameStateJsonHelper gameStateJsonHelper = new GameStateJsonHelper();
+    private ScheduledExecutorService writeExecutor;
+    private File moveJournalFile;
+    private final List<MoveJournal> moveJournals = new ArrayList<>();
+    private AutoSaveRepository autoSaveRepository;
+    private GameState gameState;
+    private PlayerMove activateMove;
+
+    @BeforeEach
+    void init() throws IOException {
+        writeExecutor = Executors.newSingleThreadScheduledExecutor();
+        moveJournalFile = File.createTempFile("autoSaveRepositoryTest", ".journal");
+        autoSaveRepository = createRepository();
+        final List<Player> players = new ArrayList<>();
+        players.add(new Player(0, Type.LOCAL_PLAYER));
+        players.add(new Player(1, Type.LOCAL_BOT));
+        gameState = new GameState();
+        GameStateHelper.initializeMap(gameState, players, 50, 0, 0.2F, 4711L);
+        final Kingdom kingdom = gameState.getKingdoms().stream()
+            .filter(candidate -> candidate.getPlayer() == gameState.getActivePlayer()).findFirst().get();
+        activateMove = PlayerMove.activateKingdom(kingdom.getTiles().get(0).getPosition());
+    }
+
+    @AfterEach
+    void shutDown() throws IOException {
+        writeExecutor.shutdownNow();
+        for (MoveJournal moveJournal : moveJournals) {
+            moveJournal.close();
+        }
+        moveJournalFile.delete();
+    }
+
+    private AutoSaveRepository createRepository() {
+        final MoveJournal moveJournal = MoveJournal.open(moveJournalFile, false);
+        moveJournals.add(moveJournal);
+        return new AutoSaveRepository(fullAutoSavePrefStore, incrementalAutoSavePrefStore, gameStateJsonHelper,
+            writeExecutor, moveJournal);
+    }
+
+    @Test
+    void changesAreVisibleBeforeTheyAreWritten() {
+        autoSaveRepository.autoSaveFullGameState(gameState);
+        autoSaveRepository.autoSaveIncrementalPlayerMove(activateMove);
+
+        assertTrue(autoSaveRepository.hasFullAutosave());
+        assertTrue(autoSaveRepository.isUndoPossible());
+        GameStateHelper.applyPlayerMove(gameState, activateMove);
+        assertEquals(gameState.getFingerprint(), autoSaveRepository.getCombinedAutoSave().getFingerprint());
+
+        autoSaveRepository.deleteLatestIncrementalSave();
+
+        assertFalse(autoSaveRepository.isUndoPossible());
+    }
+
+    @Test
+    void combinedAutoSaveContainsChangesOfUndoableMoves() {
+        final long initialFingerprint = gameState.getFingerprint();
+        autoSaveRepository.autoSaveFullGameState(gameState);
+        autoSaveRepository.autoSaveIncrementalPlayerMove(activateMove);
+        autoSaveRepository.autoSaveIncrementalPlayerMove(PlayerMove.pickUpAllUnits());
+        final Deque<PlayerMoveDelta> undoableMoves = new ArrayDeque<>();
+
+        final GameState loaded = autoSaveRepository.getCombinedAutoSave(undoableMoves);
+
+        assertEquals(2, undoableMoves.size());
+        GameStateHelper.undoPlayerMove(loaded, undoableMoves.pop());
+        GameStateHelper.undoPlayerMove(loaded, undoableMoves.pop());
+        assertEquals(initialFingerprint, loaded.getFingerprint());
+
+        // the moves of previous turns cannot be undone
+        autoSaveRepository.autoSaveIncrementalPlayerMove(PlayerMove.endTurn());
+        autoSaveRepository.getCombinedAutoSave(undoableMoves);
+        assertTrue(undoableMoves.isEmpty());
+    }
+
+    @Test
+    void flushNowWritesAllChanges() {
+        autoSaveRepository.autoSaveFullGameState(gameState);
+        autoSaveRepository.autoSaveIncrementalPlayerMove(activateMove);
+        autoSaveRepository.autoSaveIncrementalPlayerMove(PlayerMove.endTurn());
+
+        autoSaveRepository.flushNow();
+
+        final AutoSaveRepository reloadedRepository = createRepository();
+        GameStateHelper.applyPlayerMove(gameState, activateMove);
+        GameStateHelper.applyPlayerMove(gameState, PlayerMove.endTurn());
+        assertEquals(gameState.getFingerprint(), reloadedRepository.getCombinedAutoSave().getFingerprint());
+        assertFalse(reloadedRepository.isUndoPossible());
+    }
+
+    @Test
+    void incrementalSavesAreMergedWhenWriting() {
+        autoSaveRepository.autoSaveFullGameState(gameState);
+        final List<PlayerMove> moves = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            moves.add(activateMove);
+            GameStateHelper.applyPlayerMove(gameState, activateMove);
+        }
+        autoSaveRepository.autoSaveIncrementalPlayerMoves(moves);
+
+        autoSaveRepository.flushNow();
+
+        assertEquals(AutoSaveRepository.MAX_UNDOS, moveJournals.get(0).size());
+        final AutoSaveRepository reloadedRepository = createRepository();
+        assertEquals(gameState.getFingerprint(), reloadedRepository.getCombinedAutoSave().getFingerprint());
+        assertTrue(reloadedRepository.isUndoPossible());
+    }
+
+    @Test
+    void changesAreWrittenInTheBackground() throws InterruptedException {
+        autoSaveRepository.autoSaveFullGameState(gameState);
+        autoSaveRepository.autoSaveIncrementalPlayerMove(activateMove);
+
+        // delayed tasks are still executed after shutting down
+        writeExecutor.shutdown();
+        assertTrue(writeExecutor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertTrue(createRepository().isUndoPossible());
+    }
+
+    @Test
+    void deleteAllAutoSavesIsWrittenImmediately() {
+        autoSaveRepository.autoSaveFullGameState(gameState);
+        autoSaveRepository.flushNow();
+
+        autoSaveRepository.deleteAllAutoSaves();
+
+        assertFalse(createRepository().hasFullAutosave());
+        assertTrue(fullAutoSavePrefStore.get().isEmpty());
+    }
+
+    @Test
+    void undoneMovesAreRemovedFromTheJournal() {
+        autoSaveRepository.autoSaveFullGameState(gameState);
+        autoSaveRepository.autoSaveIncrementalPlayerMove(activateMove);
+        autoSaveRepository.autoSaveIncrementalPlayerMove(PlayerMove.pickUpAllUnits());
+        autoSaveRepository.flushNow();
+
+        autoSaveRepository.deleteLatestIncrementalSave();
+        autoSaveRepository.autoSaveIncrementalPlayerMove(PlayerMove.endTurn());
+        autoSaveRepository.flushNow();
+
+        final AutoSaveRepository reloadedRepository = createRepository();
+        GameStateHelper.applyPlayerMove(gameState, activateMove);
+        GameStateHelper.applyPlayerMove(gameState, PlayerMove.endTurn());
+        assertEquals(gameState.getFingerprint(), reloadedRepository.getCombinedAutoSave().getFingerprint());
+        assertTrue(reloadedRepository.getIncrementalSavesAsString().startsWith("currentUndoDepth=0"));
+    }
+
+    @Test
+    void journalOfOtherFullSaveIsIgnored() {
+        autoSaveRepository.autoSaveFullGameState(gameState);
+        autoSaveRepository.autoSaveIncrementalPlayerMove(activateMove);
+        autoSaveRepository.flushNow();
+
+        // as if the game was killed after writing a new full save but before writing the journal
+        GameStateHelper.applyPlayerMove(gameState, PlayerMove.endTurn());
+        fullAutoSavePrefStore.putString("fullGameSave", gameStateJsonHelper.toCompactString(gameState));
+
+        final AutoSaveRepository reloadedRepository = createRepository();
+        assertFalse(reloadedRepository.isUndoPossible());
+        assertEquals(gameState.getFingerprint(), reloadedRepository.getCombinedAutoSave().getFingerprint());
+    }
+
+    @Test
+    void incrementalSavesInPreferencesAreMovedToJournal() {
+        autoSaveRepository.autoSaveFullGameState(gameState);
+        autoSaveRepository.flushNow();
+        // format of older versions
+        incrementalAutoSavePrefStore.putInteger("currentUndoDepth", 0);
+        incrementalAutoSavePrefStore.putString("1", new Json(OutputType.json).toJson(activateMove));
+
+        final AutoSaveRepository migratedRepository = createRepository();
+        migratedRepository.flushNow();
+
+        assertTrue(incrementalAutoSavePrefStore.get().isEmpty());
+        final AutoSaveRepository reloadedRepository = createRepository();
+        assertTrue(reloadedRepository.isUndoPossible());
+        GameStateHelper.applyPlayerMove(gameState, activateMove);
+        assertEquals(gameState.getFingerprint(), reloadedRepository.getCombinedAutoSave().getFingerprint());
+    }
+
+}
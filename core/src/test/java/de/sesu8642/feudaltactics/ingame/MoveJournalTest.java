@@ -0,0 +1,259 @@
+// SPDX-License-Identifier: GPL-3.0-or-later
+
+package de.sesu8642.feudaltactics.ingame;
+
+import com.badlogic.gdx.math.Vector2;
+import de.sesu8642.feudaltactics.lib.gamestate.Unit.UnitTypes;
+import de.sesu8642.feudaltactics.lib.ingame.PlayerMove;
+import de.sesu8642.feudaltactics.lib.ingame.PlayerMove.PlayerMoveType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link MoveJournal}.
+ */
+class MoveJournalTest {
+
+    private File file;
+
+    @BeforeEach
+    void init() throws IOException {
+        file = File.createTempFile("moveJournal", ".journal");
+        // the journal must be able to create the file
+        file.delete();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        file.delete();
+    }
+
+    private static List<PlayerMove> createMoves(int count) {
+        final List<PlayerMove> moves = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            moves.add(PlayerMove.conquer(new Vector2(i, -i)));
+        }
+        return moves;
+    }
+
+    private static void assertSameMoves(List<PlayerMove> expected, List<PlayerMove> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getPlayerActionType(), actual.get(i).getPlayerActionType());
+            assertEquals(expected.get(i).getTilePosition(), actual.get(i).getTilePosition());
+            assertEquals(expected.get(i).getUnitType(), actual.get(i).getUnitType());
+            assertEquals(expected.get(i).getOtherUnitType(), actual.get(i).getOtherUnitType());
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void committedMovesAreLoaded(boolean memoryMapped) throws IOException {
+        // more than fit into the initially mapped part of the file
+        final List<PlayerMove> moves = createMoves(300);
+        moves.add(PlayerMove.buyPeasant());
+        moves.add(PlayerMove.buyAndPlaceCastle(new Vector2(3, 4)));
+        moves.add(PlayerMove.endTurn());
+        try (MoveJournal journal = MoveJournal.open(file, memoryMapped)) {
+            journal.reset(0x123456789ABCDEFL);
+            moves.forEach(journal::append);
+            journal.setUndoDepth(2);
+            journal.commit();
+        }
+
+        try (MoveJournal journal = MoveJournal.open(file, memoryMapped)) {
+            assertSameMoves(moves, journal.getAll());
+            assertEquals(2, journal.getUndoDepth());
+            assertEquals(0x123456789ABCDEFL, journal.getFullSaveKey());
+            assertFalse(journal.isLegacyFormat());
+        }
+    }
+
+    @Test
+    void allMoveAndUnitTypesAreLoaded() throws IOException {
+        final List<PlayerMove> moves = new ArrayList<>();
+        for (PlayerMoveType moveType : PlayerMoveType.values()) {
+            moves.add(PlayerMove.of(moveType, new Vector2(1, 2), null, null));
+        }
+        for (UnitTypes unitType : UnitTypes.values()) {
+            moves.add(PlayerMove.buyReserveUnit(unitType));
+            moves.add(PlayerMove.combineReserveUnits(UnitTypes.PEASANT, unitType));
+        }
+        try (MoveJournal journal = MoveJournal.open(file, false)) {
+            moves.forEach(journal::append);
+            journal.commit();
+        }
+
+        try (MoveJournal journal = MoveJournal.open(file, false)) {
+            assertSameMoves(moves, journal.getAll());
+        }
+    }
+
+    @Test
+    void recordsContainStableTypeCodes() throws IOException {
+        try (MoveJournal journal = MoveJournal.open(file, false)) {
+            journal.append(PlayerMove.buyReserveUnit(UnitTypes.KNIGHT));
+            journal.commit();
+        }
+
+        // the codes must not change when the enum constants are reordered
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r")) {
+            randomAccessFile.seek(64);
+            assertEquals(12, randomAccessFile.read());
+            randomAccessFile.seek(64 + 2);
+            assertEquals(2, randomAccessFile.read());
+        }
+    }
+
+    @Test
+    void legacyHeaderIsRead() throws IOException {
+        final List<PlayerMove> moves = createMoves(3);
+        try (MoveJournal journal = MoveJournal.open(file, false)) {
+            moves.forEach(journal::append);
+            journal.commit();
+        }
+        // header of the first format version with a 32 bit hash of the full save
+        final ByteBuffer legacyHeader = ByteBuffer.allocate(32);
+        legacyHeader.putInt(0x46544D4A);
+        legacyHeader.putInt(1);
+        legacyHeader.putLong(5);
+        legacyHeader.putInt(3);
+        legacyHeader.putInt(1);
+        legacyHeader.putInt(-4711);
+        final CRC32 crc = new CRC32();
+        crc.update(legacyHeader.array(), 0, 28);
+        legacyHeader.putInt((int) crc.getValue());
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw")) {
+            randomAccessFile.write(legacyHeader.array());
+            randomAccessFile.write(new byte[32]);
+        }
+
+        try (MoveJournal journal = MoveJournal.open(file, false)) {
+            assertTrue(journal.isLegacyFormat());
+            assertEquals(-4711, journal.getFullSaveKey());
+            assertEquals(1, journal.getUndoDepth());
+            assertSameMoves(moves, journal.getAll());
+
+            journal.reset(42L);
+            journal.commit();
+        }
+
+        try (MoveJournal journal = MoveJournal.open(file, false)) {
+            assertFalse(journal.isLegacyFormat());
+            assertEquals(42L, journal.getFullSaveKey());
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void uncommittedChangesAreDiscarded(boolean memoryMapped) throws IOException {
+        final List<PlayerMove> moves = createMoves(3);
+        try (MoveJournal journal = MoveJournal.open(file, memoryMapped)) {
+            moves.forEach(journal::append);
+            journal.commit();
+            journal.append(PlayerMove.endTurn());
+            journal.removeLast();
+            journal.removeLast();
+        }
+
+        try (MoveJournal journal = MoveJournal.open(file, memoryMapped)) {
+            assertSameMoves(moves, journal.getAll());
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void committedMovesAreNotOverwrittenBeforeCommit(boolean memoryMapped) throws IOException {
+        final List<PlayerMove> moves = createMoves(3);
+        try (MoveJournal journal = MoveJournal.open(file, memoryMapped)) {
+            moves.forEach(journal::append);
+            journal.commit();
+            journal.removeLast();
+            journal.removeLast();
+            journal.append(PlayerMove.endTurn());
+        }
+
+        try (MoveJournal journal = MoveJournal.open(file, memoryMapped)) {
+            assertSameMoves(moves.subList(0, 1), journal.getAll());
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void truncateRemovesNewestMoves(boolean memoryMapped) throws IOException {
+        final List<PlayerMove> moves = createMoves(5);
+        try (MoveJournal journal = MoveJournal.open(file, memoryMapped)) {
+            moves.forEach(journal::append);
+            journal.commit();
+            journal.truncate(2);
+            journal.append(PlayerMove.buyReserveUnit(UnitTypes.KNIGHT));
+            journal.commit();
+        }
+
+        try (MoveJournal journal = MoveJournal.open(file, memoryMapped)) {
+            assertEquals(3, journal.size());
+            assertSameMoves(moves.subList(0, 2), journal.getAll().subList(0, 2));
+            assertEquals(UnitTypes.KNIGHT, journal.get(2).getUnitType());
+            assertNull(journal.get(2).getTilePosition());
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void damagedRecordsAtTheEndAreDropped(boolean memoryMapped) throws IOException {
+        final List<PlayerMove> moves = createMoves(4);
+        try (MoveJournal journal = MoveJournal.open(file, memoryMapped)) {
+            moves.forEach(journal::append);
+            journal.commit();
+        }
+        // simulate a crash while the last record was written
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw")) {
+            randomAccessFile.seek(64 + 3 * 16 + 5);
+            randomAccessFile.write(0x7F);
+        }
+
+        try (MoveJournal journal = MoveJournal.open(file, memoryMapped)) {
+            assertSameMoves(moves.subList(0, 3), journal.getAll());
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void previousHeaderIsUsedIfLatestIsDamaged(boolean memoryMapped) throws IOException {
+        final List<PlayerMove> moves = createMoves(4);
+        try (MoveJournal journal = MoveJournal.open(file, memoryMapped)) {
+            moves.subList(0, 2).forEach(journal::append);
+            // written to the second slot
+            journal.commit();
+            moves.subList(2, 4).forEach(journal::append);
+            // written to the first slot
+            journal.commit();
+        }
+        // simulate a crash while the latest header was written
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw")) {
+            randomAccessFile.seek(16);
+            randomAccessFile.writeInt(1);
+        }
+
+        try (MoveJournal journal = MoveJournal.open(file, memoryMapped)) {
+            assertSameMoves(moves.subList(0, 2), journal.getAll());
+        }
+    }
+
+}
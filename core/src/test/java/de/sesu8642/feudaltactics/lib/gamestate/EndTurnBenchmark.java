@@ -0,0 +1,50 @@
+// SPDX-License-Identifier: GPL-3.0-or-later
+
+package de.sesu8642.feudaltactics.lib.gamestate;
+
+import de.sesu8642.feudaltactics.ingame.NewGamePreferences.MapSizes;
+import de.sesu8642.feudaltactics.lib.gamestate.Player.Type;
+import de.sesu8642.feudaltactics.lib.ingame.botai.Intelligence;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Prints how long the stages of ending a turn take with 5 bots on the biggest maps. Run with "gradlew benchmark".
+ */
+@Tag("benchmark")
+class EndTurnBenchmark {
+
+    private static final int WARMUP_ROUNDS = 200;
+    private static final int MEASURED_ROUNDS = 1000;
+
+    private static GameState createGameState() {
+        final List<Player> players = new ArrayList<>();
+        players.add(new Player(0, Type.LOCAL_PLAYER));
+        for (int i = 1; i < 6; i++) {
+            players.add(new Player(i, Type.LOCAL_BOT));
+        }
+        final GameState gameState = new GameState();
+        gameState.setBotIntelligence(Intelligence.LEVEL_4);
+        GameStateHelper.initializeMap(gameState, players, MapSizes.XXLARGE.getAmountOfTiles(), 0, 0.2F, 12345L);
+        return gameState;
+    }
+
+    @Test
+    void endTurnsOnXxlargeMap() {
+        final GameState warmupGameState = createGameState();
+        for (int i = 0; i < WARMUP_ROUNDS * warmupGameState.getPlayers().size(); i++) {
+            GameStateHelper.endTurn(warmupGameState, new EndTurnTimings());
+        }
+        final GameState gameState = createGameState();
+        final EndTurnTimings timings = new EndTurnTimings();
+        for (int i = 0; i < MEASURED_ROUNDS * gameState.getPlayers().size(); i++) {
+            GameStateHelper.endTurn(gameState, timings);
+        }
+
+        System.out.printf("XXLARGE map (%d tiles): %s%n", gameState.getMap().size(), timings);
+    }
+
+}
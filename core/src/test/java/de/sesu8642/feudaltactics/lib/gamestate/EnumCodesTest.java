@@ -0,0 +1,44 @@
+// SPDX-License-Identifier: GPL-3.0-or-later
+
+package de.sesu8642.feudaltactics.lib.gamestate;
+
+import de.sesu8642.feudaltactics.lib.gamestate.Unit.UnitTypes;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link EnumCodes}.
+ */
+class EnumCodesTest {
+
+    @Test
+    void codesAreIndicesInTheTable() {
+        final EnumCodes<UnitTypes> codes = new EnumCodes<>(UnitTypes.class, UnitTypes.BARON, UnitTypes.PEASANT,
+            UnitTypes.KNIGHT, UnitTypes.SPEARMAN);
+
+        assertEquals(0, codes.getCode(UnitTypes.BARON));
+        assertEquals(3, codes.getCode(UnitTypes.SPEARMAN));
+        assertSame(UnitTypes.PEASANT, codes.getValue(1));
+        assertTrue(codes.isValid(3));
+        assertFalse(codes.isValid(4));
+        assertFalse(codes.isValid(-1));
+    }
+
+    @Test
+    void incompleteTableIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new EnumCodes<>(UnitTypes.class, UnitTypes.PEASANT,
+            UnitTypes.SPEARMAN, UnitTypes.KNIGHT));
+    }
+
+    @Test
+    void duplicateCodesAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new EnumCodes<>(UnitTypes.class, UnitTypes.PEASANT,
+            UnitTypes.SPEARMAN, UnitTypes.KNIGHT, UnitTypes.BARON, UnitTypes.PEASANT));
+    }
+
+}
@@ -0,0 +1,74 @@
+// SPDX-License-Identifier: GPL-3.0-or-later
+
+package de.sesu8642.feudaltactics.lib.gamestate;
+
+import de.sesu8642.feudaltactics.lib.gamestate.Player.Type;
+import de.sesu8642.feudaltactics.lib.gamestate.Unit.UnitTypes;
+import de.sesu8642.feudaltactics.lib.ingame.botai.Intelligence;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+/**
+ * Tests for FingerprintHelper class.
+ */
+class FingerprintHelperTest {
+
+    private GameState gameState;
+
+    @BeforeEach
+    void init() {
+        final List<Player> players = new ArrayList<>();
+        players.add(new Player(0, Type.LOCAL_BOT));
+        players.add(new Player(1, Type.LOCAL_PLAYER));
+        gameState = new GameState();
+        gameState.setBotIntelligence(Intelligence.LEVEL_2);
+        GameStateHelper.initializeMap(gameState, players, 200, 0, 0F, 42L);
+    }
+
+    @Test
+    void copyHasTheSameFingerprint() {
+        final GameState copy = GameStateHelper.getCopy(gameState);
+
+        assertEquals(gameState.getFingerprint(), copy.getFingerprint());
+        assertEquals(FingerprintHelper.calculateFingerprint(gameState), gameState.getFingerprint());
+    }
+
+    @Test
+    void fingerprintFollowsTileChanges() {
+        final long fingerprintBefore = gameState.getFingerprint();
+        final HexTile tile = gameState.getKingdoms().get(0).getTiles().get(0);
+        final TileContent contentBefore = tile.getContent();
+
+        tile.setContent(new Unit(UnitTypes.BARON));
+
+        assertNotEquals(fingerprintBefore, gameState.getFingerprint());
+        assertEquals(FingerprintHelper.calculateFingerprint(gameState), gameState.getFingerprint());
+
+        tile.setContent(contentBefore);
+
+        assertEquals(fingerprintBefore, gameState.getFingerprint());
+    }
+
+    @Test
+    void fingerprintFollowsKingdomAndTurnChanges() {
+        final long fingerprintBefore = gameState.getFingerprint();
+        final Kingdom kingdom = gameState.getKingdoms().get(0);
+
+        kingdom.setSavings(kingdom.getSavings() + 1);
+
+        final long fingerprintAfterSavingsChange = gameState.getFingerprint();
+        assertNotEquals(fingerprintBefore, fingerprintAfterSavingsChange);
+
+        GameStateHelper.endTurn(gameState);
+
+        assertNotEquals(fingerprintAfterSavingsChange, gameState.getFingerprint());
+        assertEquals(FingerprintHelper.calculateFingerprint(gameState), gameState.getFingerprint());
+    }
+
+}
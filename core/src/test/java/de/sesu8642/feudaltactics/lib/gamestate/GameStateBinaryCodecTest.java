@@ -0,0 +1,158 @@
+// SPDX-License-Identifier: GPL-3.0-or-later
+
+package de.sesu8642.feudaltactics.lib.gamestate;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.SerializationException;
+import de.sesu8642.feudaltactics.lib.gamestate.Player.Type;
+import de.sesu8642.feudaltactics.lib.gamestate.Unit.UnitTypes;
+import de.sesu8642.feudaltactics.lib.ingame.botai.Intelligence;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link GameStateBinaryCodec}.
+ */
+class GameStateBinaryCodecTest {
+
+    private GameState gameState;
+
+    @BeforeEach
+    void init() {
+        final List<Player> players = new ArrayList<>();
+        players.add(new Player(0, Type.LOCAL_PLAYER));
+        players.add(new Player(1, Type.LOCAL_BOT));
+        players.add(new Player(2, Type.LOCAL_BOT, 4));
+        gameState = new GameState();
+        GameStateHelper.initializeMap(gameState, players, 150, -3, 0.2F, 98765L);
+        gameState.setBotIntelligence(Intelligence.LEVEL_3);
+        gameState.setRound(7);
+        gameState.setReserveUnitCount(UnitTypes.PEASANT, 2);
+        gameState.setReserveUnitCount(UnitTypes.KNIGHT, 1);
+        final Kingdom activeKingdom = gameState.getKingdoms().get(1);
+        activeKingdom.setSavings(-3);
+        activeKingdom.setWasActiveInCurrentTurn(true);
+        gameState.setActiveKingdom(activeKingdom);
+        final HexTile castleTile = activeKingdom.getTiles().stream().filter(tile -> tile.getContent() == null)
+            .findFirst().get();
+        castleTile.setContent(new Castle());
+        gameState.getCastlesBoughtInCurrentTurn().add(castleTile.getPosition());
+        final Unit heldUnit = new Unit(UnitTypes.BARON);
+        heldUnit.setCanAct(false);
+        gameState.setHeldObject(heldUnit);
+    }
+
+    private static List<Vector2> getTilePositions(List<HexTile> tiles) {
+        return tiles.stream().map(HexTile::getPosition).collect(Collectors.toList());
+    }
+
+    private static void assertSameGameState(GameState expected, GameState actual) {
+        assertEquals(FingerprintHelper.calculateFingerprint(expected), FingerprintHelper.calculateFingerprint(actual));
+        assertEquals(expected.getFingerprint(), actual.getFingerprint());
+        assertEquals(expected.getPlayers(), actual.getPlayers());
+        assertEquals(new ArrayList<>(expected.getMap().keySet()), new ArrayList<>(actual.getMap().keySet()));
+        assertEquals(expected.getKingdoms().size(), actual.getKingdoms().size());
+        for (int i = 0; i < expected.getKingdoms().size(); i++) {
+            final Kingdom expectedKingdom = expected.getKingdoms().get(i);
+            final Kingdom actualKingdom = actual.getKingdoms().get(i);
+            assertEquals(getTilePositions(expectedKingdom.getTiles()), getTilePositions(actualKingdom.getTiles()));
+            assertEquals(expectedKingdom.getSavings(), actualKingdom.getSavings());
+            assertEquals(expectedKingdom.isWasActiveInCurrentTurn(), actualKingdom.isWasActiveInCurrentTurn());
+            assertEquals(expectedKingdom.getTileCount(), actualKingdom.getTileCount());
+        }
+        assertEquals(expected.getHeldObject(), actual.getHeldObject());
+        for (UnitTypes unitType : UnitTypes.values()) {
+            assertEquals(expected.getReserveUnitCount(unitType), actual.getReserveUnitCount(unitType));
+        }
+        assertEquals(expected.getCastlesBoughtInCurrentTurn(), actual.getCastlesBoughtInCurrentTurn());
+        assertEquals(expected.getPlayerTurn(), actual.getPlayerTurn());
+        assertEquals(expected.getBotIntelligence(), actual.getBotIntelligence());
+        assertEquals(expected.getSeed(), actual.getSeed());
+        assertEquals(expected.getMapGeneratorVersion(), actual.getMapGeneratorVersion());
+        assertEquals(expected.getWinningRound(), actual.getWinningRound());
+        assertEquals(expected.getRound(), actual.getRound());
+        assertEquals(expected.getObjectiveProgress(), actual.getObjectiveProgress());
+        assertEquals(expected.getScenarioMap(), actual.getScenarioMap());
+    }
+
+    @Test
+    void decodeReturnsEncodedGameState() {
+        final GameState decoded = GameStateBinaryCodec.decode(GameStateBinaryCodec.encode(gameState));
+
+        assertSameGameState(gameState, decoded);
+        assertSame(decoded.getKingdoms().get(1), decoded.getActiveKingdom());
+        assertEquals(Integer.valueOf(4), decoded.getPlayers().get(2).getRoundOfDefeat());
+        assertNull(decoded.getWinner());
+    }
+
+    @Test
+    void decodeKeepsWinnerAndOrderOfKingdomTiles() {
+        gameState.setWinner(gameState.getPlayers().get(1));
+        gameState.setWinningRound(6);
+        gameState.setActiveKingdom(null);
+        gameState.setHeldObject(null);
+        final List<HexTile> tiles = gameState.getKingdoms().get(0).getTiles();
+        tiles.add(tiles.remove(0));
+
+        final GameState decoded = GameStateBinaryCodec.decode(GameStateBinaryCodec.encode(gameState));
+
+        assertSameGameState(gameState, decoded);
+        assertSame(decoded.getPlayers().get(1), decoded.getWinner());
+        assertNull(decoded.getActiveKingdom());
+    }
+
+    @Test
+    void decodeWorksWithGapsInTileIds() {
+        final HexTile removedTile = gameState.getMap().values().stream()
+            .filter(tile -> tile.getKingdom() == null).findFirst().get();
+        gameState.getMap().remove(removedTile.getPosition());
+
+        final GameState decoded = GameStateBinaryCodec.decode(GameStateBinaryCodec.encode(gameState));
+
+        assertSameGameState(gameState, decoded);
+        assertFalse(decoded.getMap().containsKey(removedTile.getPosition()));
+    }
+
+    @Test
+    void decodeRejectsCorruptedData() {
+        final byte[] encoded = GameStateBinaryCodec.encode(gameState);
+        encoded[encoded.length / 2] ^= 1;
+
+        assertThrows(SerializationException.class, () -> GameStateBinaryCodec.decode(encoded));
+    }
+
+    @Test
+    void decodeRejectsTooManyTiles() {
+        final GameState tooLargeGameState = new GameState();
+        GameStateHelper.initializeMap(tooLargeGameState, gameState.getPlayers(), HexMap.MAX_TILES + 1, 0, 0.2F, 1L);
+        final byte[] encoded = GameStateBinaryCodec.encode(tooLargeGameState);
+
+        assertThrows(SerializationException.class, () -> GameStateBinaryCodec.decode(encoded));
+    }
+
+    @Test
+    void decodeRejectsUnknownVersion() {
+        final byte[] encoded = GameStateBinaryCodec.encode(gameState);
+        encoded[GameStateBinaryCodec.MAGIC.length] = GameStateBinaryCodec.FORMAT_VERSION + 1;
+
+        assertThrows(SerializationException.class, () -> GameStateBinaryCodec.decode(encoded));
+    }
+
+    @Test
+    void isBinarySaveDetectsFormat() {
+        assertTrue(GameStateBinaryCodec.isBinarySave(GameStateBinaryCodec.encode(gameState)));
+        assertFalse(GameStateBinaryCodec.isBinarySave("{\"players\":[]}".getBytes()));
+    }
+
+}
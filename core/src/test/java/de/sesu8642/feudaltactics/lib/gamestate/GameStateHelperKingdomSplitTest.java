@@ -8,6 +8,7 @@ import de.sesu8642.feudaltactics.ApplicationStub;
 import de.sesu8642.feudaltactics.lib.gamestate.Player.Type;
 import de.sesu8642.feudaltactics.lib.gamestate.Unit.UnitTypes;
 import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -18,6 +19,7 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 /**
  * Tests for GameStateHelper class related to splitting a kingdom.
@@ -137,4 +139,44 @@ class GameStateHelperKingdomSplitTest {
         }
     }
 
+    @Test
+    void conqueringMiddleTileSplitsKingdomAndKeepsCapitalKingdom() {
+        // a line of 5 tiles with the capital at one end, conquering the tile in the middle
+        final GameState gameState = new GameState();
+        gameState.setPlayers(players);
+        gameState.setPlayerTurn(1);
+        final Kingdom attackedKingdom = new Kingdom(player1);
+        attackedKingdom.setSavings(10);
+        final Kingdom attackingKingdom = new Kingdom(player2);
+        for (int i = 0; i < 5; i++) {
+            final HexTile attackedKingdomTile = new HexTile(player1, new Vector2(0, i));
+            attackedKingdomTile.setKingdom(attackedKingdom);
+            gameState.getMap().put(attackedKingdomTile.getPosition(), attackedKingdomTile);
+            attackedKingdom.getTiles().add(attackedKingdomTile);
+        }
+        attackedKingdom.getTiles().get(0).setContent(new Capital());
+        for (int i = 0; i < 2; i++) {
+            final HexTile attackingKingdomTile = new HexTile(player2, new Vector2(1, i + 1));
+            attackingKingdomTile.setKingdom(attackingKingdom);
+            gameState.getMap().put(attackingKingdomTile.getPosition(), attackingKingdomTile);
+            attackingKingdom.getTiles().add(attackingKingdomTile);
+        }
+        gameState.setKingdoms(Stream.of(attackedKingdom, attackingKingdom).collect(Collectors.toList()));
+        gameState.setHeldObject(new Unit(UnitTypes.BARON));
+        gameState.setActiveKingdom(attackingKingdom);
+
+        GameStateHelper.conquer(gameState, gameState.getMap().get(new Vector2(0, 2)));
+
+        assertEquals(3, gameState.getKingdoms().size());
+        final List<HexTile> expectedRemainingTiles =
+            Arrays.asList(gameState.getMap().get(new Vector2(0, 0)), gameState.getMap().get(new Vector2(0, 1)));
+        assertEquals(expectedRemainingTiles, attackedKingdom.getTiles());
+        assertEquals(10, attackedKingdom.getSavings());
+        final Kingdom splitOffKingdom = gameState.getMap().get(new Vector2(0, 4)).getKingdom();
+        assertSame(splitOffKingdom, gameState.getMap().get(new Vector2(0, 3)).getKingdom());
+        assertEquals(2, splitOffKingdom.getTiles().size());
+        assertEquals(0, splitOffKingdom.getSavings());
+        assertEquals(new Capital(), gameState.getMap().get(new Vector2(0, 3)).getContent());
+    }
+
 }
@@ -2,7 +2,12 @@
 
 package de.sesu8642.feudaltactics.lib.gamestate;
 
+import com.badlogic.gdx.math.Vector2;
+import de.sesu8642.feudaltactics.ingame.NewGamePreferences.MapSizes;
 import de.sesu8642.feudaltactics.lib.gamestate.Player.Type;
+import de.sesu8642.feudaltactics.lib.gamestate.Unit.UnitTypes;
+import de.sesu8642.feudaltactics.lib.gamestate.validation.GameStateValidator;
+import de.sesu8642.feudaltactics.lib.ingame.PlayerMove;
 import de.sesu8642.feudaltactics.lib.ingame.botai.Intelligence;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -17,6 +22,9 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -65,6 +73,132 @@ class GameStateHelperTest {
         assertEquals(original, copy);
     }
 
+    @Test
+    void copiedGameStateKeepsKingdomTileOrder() {
+        final GameState original = new GameState();
+        GameStateHelper.initializeMap(original, players, 500, 2, 0.2F, 12345L);
+
+        final GameState copy = GameStateHelper.getCopy(original);
+
+        for (int i = 0; i < original.getKingdoms().size(); i++) {
+            final List<HexTile> originalTiles = original.getKingdoms().get(i).getTiles();
+            final List<HexTile> copiedTiles = copy.getKingdoms().get(i).getTiles();
+            assertEquals(originalTiles.size(), copiedTiles.size());
+            for (int j = 0; j < originalTiles.size(); j++) {
+                assertEquals(originalTiles.get(j).getPosition(), copiedTiles.get(j).getPosition());
+            }
+        }
+    }
+
+    @Test
+    void endingTurnsWithTimingsGivesTheSameResult() {
+        final GameState gameState = new GameState();
+        gameState.setBotIntelligence(Intelligence.LEVEL_3);
+        GameStateHelper.initializeMap(gameState, players, 500, 2, 0.2F, 12345L);
+        final GameState timedGameState = GameStateHelper.getCopy(gameState);
+        final EndTurnTimings timings = new EndTurnTimings();
+
+        for (int i = 0; i < 12; i++) {
+            GameStateHelper.endTurn(gameState);
+            GameStateHelper.endTurn(timedGameState, timings);
+        }
+
+        assertEquals(gameState, timedGameState);
+        assertEquals(12, timings.getTurnCount());
+        assertTrue(timings.getTotalNanos() > 0);
+    }
+
+    @Test
+    void reserveUnitsAreLostWhenTheTurnEnds() {
+        final GameState gameState = new GameState();
+        GameStateHelper.initializeMap(gameState, players, 500, 2, 0.2F, 12345L);
+        final Kingdom kingdom = gameState.getKingdoms().stream()
+            .filter(candidate -> candidate.getPlayer() == gameState.getActivePlayer()).findFirst().get();
+        kingdom.setSavings(Unit.COST * UnitTypes.SPEARMAN.strength());
+        GameStateHelper.activateKingdom(gameState, kingdom);
+
+        GameStateHelper.applyPlayerMove(gameState, PlayerMove.buyReserveUnit(UnitTypes.SPEARMAN));
+        assertEquals(1, gameState.getReserveUnitCount(UnitTypes.SPEARMAN));
+        assertEquals(0, kingdom.getSavings());
+        GameStateHelper.applyPlayerMove(gameState, PlayerMove.endTurn());
+
+        assertTrue(gameState.isReserveEmpty());
+    }
+
+    @Test
+    void snapshotEqualsOriginal() {
+        final GameState original = new GameState();
+        original.setBotIntelligence(Intelligence.LEVEL_3);
+        GameStateHelper.initializeMap(original, players, 500, 2, 0.2F, 12345L);
+        original.setActiveKingdom(original.getKingdoms().get(0));
+
+        final GameState snapshot = GameStateHelper.getSnapshot(original);
+
+        assertEquals(original, snapshot);
+    }
+
+    @Test
+    void snapshotSharesUnchangedPartsWithPreviousSnapshot() {
+        final GameState original = new GameState();
+        original.setBotIntelligence(Intelligence.LEVEL_3);
+        GameStateHelper.initializeMap(original, players, 500, 2, 0.2F, 12345L);
+        final Kingdom changedKingdom = original.getKingdoms().get(0);
+        final Kingdom unchangedKingdom = original.getKingdoms().get(1);
+        final GameState firstSnapshot = GameStateHelper.getSnapshot(original);
+        final GameState firstSnapshotCopy = GameStateHelper.getCopy(firstSnapshot);
+
+        changedKingdom.setSavings(changedKingdom.getSavings() + 1);
+        final GameState secondSnapshot = GameStateHelper.getSnapshot(original);
+
+        assertEquals(original, secondSnapshot);
+        assertEquals(firstSnapshotCopy, firstSnapshot);
+        assertNotSame(firstSnapshot.getKingdoms().get(0), secondSnapshot.getKingdoms().get(0));
+        assertSame(firstSnapshot.getKingdoms().get(1), secondSnapshot.getKingdoms().get(1));
+        final HexTile unchangedTile = unchangedKingdom.getTiles().get(0);
+        assertSame(firstSnapshot.getMap().get(unchangedTile.getPosition()),
+            secondSnapshot.getMap().get(unchangedTile.getPosition()));
+    }
+
+    @Test
+    void snapshotOnlyCopiesChangedTiles() {
+        final GameState original = new GameState();
+        original.setBotIntelligence(Intelligence.LEVEL_3);
+        GameStateHelper.initializeMap(original, players, 500, 2, 0.2F, 12345L);
+        final HexTile changedTile = original.getMap().values().stream()
+            .filter(tile -> tile.getKingdom() == null && tile.getContent() == null).findFirst().get();
+        final HexTile unchangedTile = original.getMap().values().stream()
+            .filter(tile -> tile.getKingdom() == null && tile != changedTile).findFirst().get();
+        final GameState firstSnapshot = GameStateHelper.getSnapshot(original);
+        final GameState firstSnapshotCopy = GameStateHelper.getCopy(firstSnapshot);
+
+        changedTile.setContent(new Tree());
+        final GameState secondSnapshot = GameStateHelper.getSnapshot(original);
+
+        assertEquals(original, secondSnapshot);
+        assertEquals(firstSnapshotCopy, firstSnapshot);
+        assertNotSame(firstSnapshot.getMap().get(changedTile.getPosition()),
+            secondSnapshot.getMap().get(changedTile.getPosition()));
+        assertSame(firstSnapshot.getMap().get(unchangedTile.getPosition()),
+            secondSnapshot.getMap().get(unchangedTile.getPosition()));
+    }
+
+    @Test
+    void previousSnapshotKeepsItsTilesWhenTilesAreAdded() {
+        final GameState original = new GameState();
+        original.setBotIntelligence(Intelligence.LEVEL_3);
+        GameStateHelper.initializeMap(original, players, 500, 2, 0.2F, 12345L);
+        final GameState firstSnapshot = GameStateHelper.getSnapshot(original);
+        final GameState firstSnapshotCopy = GameStateHelper.getCopy(firstSnapshot);
+        final Vector2 newTilePosition = new Vector2(1000, 1000);
+
+        GameStateHelper.placeTile(original, newTilePosition, players.get(0));
+        final GameState secondSnapshot = GameStateHelper.getSnapshot(original);
+
+        assertEquals(original, secondSnapshot);
+        assertEquals(firstSnapshotCopy, firstSnapshot);
+        assertNull(firstSnapshot.getMap().get(newTilePosition));
+    }
+
     @ParameterizedTest
     @MethodSource("provideMapSizesAndSeeds")
     void initializedMapHasCorrectLandMass(int landMass, long seed) {
@@ -75,6 +209,57 @@ class GameStateHelperTest {
         assertEquals(landMass, gameState.getMap().size());
     }
 
+    @ParameterizedTest
+    @MethodSource("provideMapSizesAndSeeds")
+    void weightedFrontierMapHasCorrectLandMassAndKingdomPerPlayer(int landMass, long seed) {
+        final GameState gameState = new GameState();
+
+        GameStateHelper.initializeMap(gameState, players, landMass, -3, 0.2F, seed,
+            MapGeneratorVersion.WEIGHTED_FRONTIER);
+
+        assertEquals(landMass, gameState.getMap().size());
+        assertEquals(MapGeneratorVersion.WEIGHTED_FRONTIER, gameState.getMapGeneratorVersion());
+        players.forEach((player) -> {
+            assertTrue(gameState.getKingdoms().stream().anyMatch((kingdom) -> kingdom.getPlayer().equals(player)));
+        });
+    }
+
+    @Test
+    void weightedFrontierMapIsReproducibleFromSeed() {
+        final GameState gameState = new GameState();
+        final GameState otherGameState = new GameState();
+        final List<Player> otherPlayers = new ArrayList<>();
+        players.forEach(player -> otherPlayers.add(Player.copyOf(player)));
+
+        GameStateHelper.initializeMap(gameState, players, 20000, 2, 0.2F, 12345L,
+            MapGeneratorVersion.WEIGHTED_FRONTIER);
+        GameStateHelper.initializeMap(otherGameState, otherPlayers, 20000, 2, 0.2F, 12345L,
+            MapGeneratorVersion.WEIGHTED_FRONTIER);
+
+        assertEquals(20000, gameState.getMap().size());
+        assertEquals(gameState, otherGameState);
+    }
+
+    @Test
+    void mapsLargerThanTheNewGameMenuAllowsAreGeneratedWithWeightedFrontier() {
+        final GameState gameState = new GameState();
+
+        GameStateHelper.initializeMap(gameState, players, 10000, 0, 0.2F, 12345L);
+
+        assertEquals(MapGeneratorVersion.WEIGHTED_FRONTIER, gameState.getMapGeneratorVersion());
+        assertEquals(10000, gameState.getMap().size());
+        assertTrue(GameStateValidator.isValid(gameState));
+    }
+
+    @Test
+    void mapsFromTheNewGameMenuAreGeneratedWithRandomWalk() {
+        final GameState gameState = new GameState();
+
+        GameStateHelper.initializeMap(gameState, players, MapSizes.XXLARGE.getAmountOfTiles(), 0, 0.2F, 12345L);
+
+        assertEquals(MapGeneratorVersion.RANDOM_WALK, gameState.getMapGeneratorVersion());
+    }
+
     @ParameterizedTest
     @MethodSource("provideSeeds")
     void initializedMapHasAtLeastOneKingdomPerPlayer(long seed) {
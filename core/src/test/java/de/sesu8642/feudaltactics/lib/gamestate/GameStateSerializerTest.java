@@ -0,0 +1,126 @@
+// SPDX-License-Identifier: GPL-3.0-or-later
+
+package de.sesu8642.feudaltactics.lib.gamestate;
+
+import com.badlogic.gdx.utils.SerializationException;
+import de.sesu8642.feudaltactics.lib.gamestate.Player.Type;
+import de.sesu8642.feudaltactics.lib.gamestate.Unit.UnitTypes;
+import de.sesu8642.feudaltactics.lib.ingame.botai.Intelligence;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link GameStateSerializer}.
+ */
+class GameStateSerializerTest {
+
+    // written by an older version: no fingerprint, map generator version, objective progress or scenario map and the
+    // held object still references its kingdom
+    private static final String OLD_SAVE_JSON = ("{'players':[{'id':1,'type':'LOCAL_PLAYER'},"
+        + "{'id':2,'playerIndex':1,'type':'LOCAL_BOT','roundOfDefeat':3}],"
+        + "'tiles':[{'id':3,'player_id':1,'position':{'y':1},'content':{'id':4,'class':'Capital'}},"
+        + "{'id':5,'player_id':1,'position':{'x':1},'content':{'id':6,'class':'Unit','canAct':false,"
+        + "'unitType':'SPEARMAN'}},"
+        + "{'id':7,'player_id':2,'position':{'x':1,'y':-1},'content':{'id':8,'class':'PalmTree'}}],"
+        + "'kingdoms':[{'id':9,'player_id':1,'savings':12,'tile_ids':[3,5]}],"
+        + "'held_obj':{'class':'Unit','unitType':'PEASANT','kingdom':{'savings':3}},"
+        + "'player_turn':0,'bot_intelligence':'LEVEL_1','seed':12,'active_kingdom_id':9,'round':2}")
+        .replace('\'', '"');
+
+    private final GameStateJsonHelper gameStateJsonHelper = new GameStateJsonHelper();
+
+    @Test
+    void roundTripKeepsGameState() {
+        final List<Player> players = new ArrayList<>();
+        players.add(new Player(0, Type.LOCAL_PLAYER));
+        players.add(new Player(1, Type.LOCAL_BOT));
+        players.add(new Player(2, Type.LOCAL_BOT, 4));
+        final GameState gameState = new GameState();
+        GameStateHelper.initializeMap(gameState, players, 100, 0, 0.2F, 12345L);
+        final Kingdom activeKingdom = gameState.getKingdoms().get(0);
+        activeKingdom.setSavings(17);
+        activeKingdom.setWasActiveInCurrentTurn(true);
+        gameState.setActiveKingdom(activeKingdom);
+        final Unit heldUnit = new Unit(UnitTypes.KNIGHT);
+        heldUnit.setCanAct(false);
+        gameState.setHeldObject(heldUnit);
+
+        final GameState loaded = gameStateJsonHelper.fromJson(gameStateJsonHelper.toJsonString(gameState));
+
+        assertEquals(FingerprintHelper.calculateFingerprint(gameState), FingerprintHelper.calculateFingerprint(loaded));
+        assertEquals(gameState.getMap().size(), loaded.getMap().size());
+        assertEquals(gameState.getKingdoms().size(), loaded.getKingdoms().size());
+        assertEquals(Integer.valueOf(4), loaded.getPlayers().get(2).getRoundOfDefeat());
+        assertEquals(17, loaded.getActiveKingdom().getSavings());
+        assertTrue(loaded.getActiveKingdom().isWasActiveInCurrentTurn());
+        assertEquals(heldUnit, loaded.getHeldObject());
+    }
+
+    @Test
+    void fromJsonDetectsCompactFormat() {
+        final List<Player> players = new ArrayList<>();
+        players.add(new Player(0, Type.LOCAL_PLAYER));
+        players.add(new Player(1, Type.LOCAL_BOT));
+        final GameState gameState = new GameState();
+        GameStateHelper.initializeMap(gameState, players, 100, 0, 0.2F, 12345L);
+
+        final String compactString = gameStateJsonHelper.toCompactString(gameState);
+        final GameState loaded = gameStateJsonHelper.fromJson(compactString);
+
+        assertTrue(compactString.length() * 4 < gameStateJsonHelper.toJsonString(gameState).length());
+        assertEquals(FingerprintHelper.calculateFingerprint(gameState), FingerprintHelper.calculateFingerprint(loaded));
+    }
+
+    @Test
+    void readRejectsTooManyTiles() {
+        final List<Player> players = new ArrayList<>();
+        players.add(new Player(0, Type.LOCAL_PLAYER));
+        players.add(new Player(1, Type.LOCAL_BOT));
+        final GameState gameState = new GameState();
+        GameStateHelper.initializeMap(gameState, players, HexMap.MAX_TILES + 1, 0, 0.2F, 12345L);
+        final String json = gameStateJsonHelper.toJsonString(gameState);
+
+        assertThrows(SerializationException.class, () -> gameStateJsonHelper.fromJson(json));
+    }
+
+    @Test
+    void readsOldSave() {
+        final GameState loaded = gameStateJsonHelper.fromJson(OLD_SAVE_JSON);
+
+        assertEquals(2, loaded.getPlayers().size());
+        assertEquals(0, loaded.getPlayers().get(0).getPlayerIndex());
+        assertNull(loaded.getPlayers().get(0).getRoundOfDefeat());
+        assertEquals(Integer.valueOf(3), loaded.getPlayers().get(1).getRoundOfDefeat());
+        assertEquals(3, loaded.getMap().size());
+        assertTrue(loaded.getMap().get(0, 1).getContent() instanceof Capital);
+        final Unit unit = (Unit) loaded.getMap().get(1, 0).getContent();
+        assertEquals(UnitTypes.SPEARMAN, unit.getUnitType());
+        assertFalse(unit.isCanAct());
+        assertTrue(loaded.getMap().get(1, -1).getContent() instanceof PalmTree);
+        assertSame(loaded.getPlayers().get(1), loaded.getMap().get(1, -1).getPlayer());
+
+        final Kingdom kingdom = loaded.getKingdoms().get(0);
+        assertSame(kingdom, loaded.getActiveKingdom());
+        assertSame(kingdom, loaded.getMap().get(0, 1).getKingdom());
+        assertEquals(2, kingdom.getTileCount());
+        assertEquals(12, kingdom.getSavings());
+        assertFalse(kingdom.isWasActiveInCurrentTurn());
+        assertEquals(new Unit(UnitTypes.PEASANT), loaded.getHeldObject());
+
+        assertEquals(Intelligence.LEVEL_1, loaded.getBotIntelligence());
+        assertEquals(2, loaded.getRound());
+        assertEquals(MapGeneratorVersion.RANDOM_WALK, loaded.getMapGeneratorVersion());
+        assertEquals(0, loaded.getObjectiveProgress());
+        assertEquals(ScenarioMap.NONE, loaded.getScenarioMap());
+    }
+
+}
@@ -0,0 +1,165 @@
+// SPDX-License-Identifier: GPL-3.0-or-later
+
+package de.sesu8642.feudaltactics.lib.gamestate;
+
+import com.badlogic.gdx.math.Vector2;
+import de.sesu8642.feudaltactics.ingame.NewGamePreferences.MapSizes;
+import de.sesu8642.feudaltactics.lib.gamestate.Player.Type;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+/**
+ * Compares looking up the neighbors of all the tiles on the biggest maps using the adjacency tables of the
+ * {@link HexMap} with the neighbor lists that used to be cached in every tile and were discarded for the whole map
+ * whenever a tile was edited. Run with "gradlew benchmark".
+ */
+@Tag("benchmark")
+class HexMapNeighborBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 200;
+    private static final int MEASURED_ITERATIONS = 1000;
+
+    private final HexMap map = createMap();
+
+    // stands in for the neighbor lists that were cached in the tiles
+    private List<HexTile>[] cachedNeighborTiles = createEmptyCache();
+
+    private static HexMap createMap() {
+        final List<Player> players = new ArrayList<>();
+        players.add(new Player(0, Type.LOCAL_PLAYER));
+        for (int i = 1; i < 6; i++) {
+            players.add(new Player(i, Type.LOCAL_BOT));
+        }
+        final GameState gameState = new GameState();
+        GameStateHelper.initializeMap(gameState, players, MapSizes.XXLARGE.getAmountOfTiles(), 0, 0.2F, 12345L);
+        return gameState.getMap();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<HexTile>[] createEmptyCache() {
+        return new List[map.getTileIdBound()];
+    }
+
+    /**
+     * Previous approach: neighbor lists created by coordinate lookups when they are first needed and cached.
+     */
+    private List<HexTile> getCachedNeighborTiles(HexTile tile) {
+        if (tile.getId() >= cachedNeighborTiles.length) {
+            cachedNeighborTiles = Arrays.copyOf(cachedNeighborTiles, map.getTileIdBound());
+        }
+        List<HexTile> neighbors = cachedNeighborTiles[tile.getId()];
+        if (neighbors == null) {
+            final int x = (int) tile.getPosition().x;
+            final int y = (int) tile.getPosition().y;
+            neighbors = new ArrayList<>(HexMap.NEIGHBOR_COUNT);
+            for (int i = 0; i < HexMap.NEIGHBOR_COUNT; i++) {
+                neighbors.add(map.get(x + HexMapHelper.NEIGHBOR_OFFSETS_X[i], y + HexMapHelper.NEIGHBOR_OFFSETS_Y[i]));
+            }
+            cachedNeighborTiles[tile.getId()] = neighbors;
+        }
+        return neighbors;
+    }
+
+    private int countNeighborsWithCachedLists(HexMap map) {
+        int count = 0;
+        for (HexTile tile : map.values()) {
+            for (HexTile neighbor : getCachedNeighborTiles(tile)) {
+                if (neighbor != null) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    private static int countNeighborsWithListViews(HexMap map) {
+        int count = 0;
+        for (HexTile tile : map.values()) {
+            for (HexTile neighbor : HexMapHelper.getNeighborTiles(map, tile)) {
+                if (neighbor != null) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    private static int countNeighborsWithIds(HexMap map) {
+        int count = 0;
+        for (int tileId = 0; tileId < map.getTileIdBound(); tileId++) {
+            if (map.getById(tileId) == null) {
+                continue;
+            }
+            for (int direction = 0; direction < HexMap.NEIGHBOR_COUNT; direction++) {
+                if (map.getNeighborId(tileId, direction) != HexMap.NO_TILE) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Replaces a tile like the map editor does.
+     */
+    private void editTile(int iteration) {
+        final HexTile tile = map.getById(iteration % map.getTileIdBound());
+        if (tile != null) {
+            final Vector2 position = tile.getPosition();
+            map.put(position, new HexTile(tile.getPlayer(), position));
+        }
+    }
+
+    private int runIterations(int iterations, ToIntFunction<HexMap> lookup, Runnable afterEdit, boolean edit) {
+        int sink = 0;
+        for (int i = 0; i < iterations; i++) {
+            if (edit) {
+                editTile(i);
+                afterEdit.run();
+            }
+            sink += lookup.applyAsInt(map);
+        }
+        return sink;
+    }
+
+    private long measureNanosPerIteration(ToIntFunction<HexMap> lookup, Runnable afterEdit, boolean edit) {
+        int sink = runIterations(WARMUP_ITERATIONS, lookup, afterEdit, edit);
+        final long start = System.nanoTime();
+        sink += runIterations(MEASURED_ITERATIONS, lookup, afterEdit, edit);
+        final long nanosPerIteration = (System.nanoTime() - start) / MEASURED_ITERATIONS;
+        if (sink == 42) {
+            // only there to keep the results from being optimized away
+            System.out.println();
+        }
+        return nanosPerIteration;
+    }
+
+    @Test
+    void neighborLookupsOnXxlargeMap() {
+        final Runnable clearCache = () -> cachedNeighborTiles = createEmptyCache();
+        final Runnable nothing = () -> {
+        };
+
+        final long cachedListsNanos = measureNanosPerIteration(this::countNeighborsWithCachedLists, nothing, false);
+        final long listViewsNanos = measureNanosPerIteration(HexMapNeighborBenchmark::countNeighborsWithListViews,
+            nothing, false);
+        final long idsNanos = measureNanosPerIteration(HexMapNeighborBenchmark::countNeighborsWithIds, nothing,
+            false);
+        System.out.printf("XXLARGE map (%d tiles), neighbors of all tiles: cached lists %d ns, "
+                + "adjacency table list views %d ns, adjacency table ids %d ns%n", map.size(), cachedListsNanos,
+            listViewsNanos, idsNanos);
+
+        final long cachedListsAfterEditNanos = measureNanosPerIteration(this::countNeighborsWithCachedLists,
+            clearCache, true);
+        final long listViewsAfterEditNanos = measureNanosPerIteration(
+            HexMapNeighborBenchmark::countNeighborsWithListViews, nothing, true);
+        System.out.printf("XXLARGE map (%d tiles), edit one tile, then neighbors of all tiles: cached lists %d ns, "
+            + "adjacency table list views %d ns%n", map.size(), cachedListsAfterEditNanos, listViewsAfterEditNanos);
+    }
+
+}
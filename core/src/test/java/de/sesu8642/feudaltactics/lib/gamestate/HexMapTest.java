@@ -0,0 +1,147 @@
+// SPDX-License-Identifier: GPL-3.0-or-later
+
+package de.sesu8642.feudaltactics.lib.gamestate;
+
+import com.badlogic.gdx.math.Vector2;
+import de.sesu8642.feudaltactics.lib.gamestate.Player.Type;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Tests for HexMap class.
+ */
+class HexMapTest {
+
+    private final Player player = new Player(0, Type.LOCAL_PLAYER);
+
+    private HexTile createTile(int x, int y) {
+        return new HexTile(player, new Vector2(x, y));
+    }
+
+    @Test
+    void behavesLikeLinkedHashMapWithRandomEdits() {
+        final HexMap hexMap = new HexMap();
+        final LinkedHashMap<Vector2, HexTile> referenceMap = new LinkedHashMap<>();
+        final Random random = new Random(12345L);
+        for (int i = 0; i < 5000; i++) {
+            final Vector2 position = new Vector2(random.nextInt(21) - 10, random.nextInt(21) - 10);
+            if (random.nextInt(3) == 0) {
+                assertSame(referenceMap.remove(position), hexMap.remove(position));
+            } else {
+                final HexTile tile = createTile((int) position.x, (int) position.y);
+                assertSame(referenceMap.put(position, tile), hexMap.put(position, tile));
+            }
+        }
+        assertEquals(referenceMap, hexMap);
+        assertEquals(referenceMap.hashCode(), hexMap.hashCode());
+        assertEquals(new ArrayList<>(referenceMap.keySet()), new ArrayList<>(hexMap.keySet()));
+        assertEquals(new ArrayList<>(referenceMap.values()), new ArrayList<>(hexMap.values()));
+        for (HexTile tile : hexMap.values()) {
+            assertSame(tile, hexMap.getById(tile.getId()));
+            assertSame(tile, hexMap.get((int) tile.getPosition().x, (int) tile.getPosition().y));
+        }
+    }
+
+    @Test
+    void neighborTablesStayCorrectWithRandomEdits() {
+        final HexMap hexMap = new HexMap();
+        final Random random = new Random(54321L);
+        for (int i = 0; i < 5000; i++) {
+            final Vector2 position = new Vector2(random.nextInt(15) - 7, random.nextInt(15) - 7);
+            if (random.nextInt(3) == 0) {
+                hexMap.remove(position);
+            } else {
+                hexMap.put(position, createTile((int) position.x, (int) position.y));
+            }
+        }
+        for (HexTile tile : hexMap.values()) {
+            final List<HexTile> expectedNeighbors = HexMapHelper.getNeighborCoords(tile.getPosition()).stream()
+                .map(hexMap::get).collect(Collectors.toList());
+            assertEquals(expectedNeighbors, hexMap.getNeighborTiles(tile.getId()));
+            final List<HexTile> expectedNeighborsNeighbors =
+                HexMapHelper.getNeighborsNeighborCoords(tile.getPosition()).stream()
+                    .map(hexMap::get).collect(Collectors.toList());
+            assertEquals(expectedNeighborsNeighbors, hexMap.getNeighborsNeighborTiles(tile.getId()));
+        }
+    }
+
+    @Test
+    void tilesWithoutKingdomStayCorrectWithRandomEdits() {
+        final HexMap hexMap = new HexMap();
+        final Kingdom kingdom = new Kingdom(player);
+        final Random random = new Random(67890L);
+        for (int i = 0; i < 5000; i++) {
+            final Vector2 position = new Vector2(random.nextInt(15) - 7, random.nextInt(15) - 7);
+            switch (random.nextInt(3)) {
+                case 0:
+                    hexMap.remove(position);
+                    break;
+                case 1:
+                    final HexTile tile = createTile((int) position.x, (int) position.y);
+                    tile.setKingdom(random.nextBoolean() ? kingdom : null);
+                    hexMap.put(position, tile);
+                    break;
+                default:
+                    if (hexMap.get(position) != null) {
+                        hexMap.get(position).setKingdom(random.nextBoolean() ? kingdom : null);
+                    }
+                    break;
+            }
+        }
+        final BitSet expected = new BitSet();
+        for (HexTile tile : hexMap.values()) {
+            expected.set(tile.getId(), tile.getKingdom() == null);
+        }
+        assertEquals(expected, hexMap.getTileIdsWithoutKingdom());
+    }
+
+    @Test
+    void replacingTileKeepsIdAndIterationOrder() {
+        final HexMap hexMap = new HexMap();
+        final HexTile firstTile = createTile(0, 0);
+        hexMap.put(firstTile.getPosition(), firstTile);
+        final HexTile secondTile = createTile(1, 0);
+        hexMap.put(secondTile.getPosition(), secondTile);
+        final HexTile replacement = createTile(0, 0);
+
+        hexMap.put(new Vector2(0, 0), replacement);
+
+        assertEquals(0, replacement.getId());
+        assertEquals(HexMap.NO_TILE, firstTile.getId());
+        assertSame(replacement, hexMap.values().iterator().next());
+    }
+
+    @Test
+    void worldCoordinatesArePrecomputed() {
+        final HexMap hexMap = new HexMap();
+        final HexTile tile = createTile(3, -5);
+        hexMap.put(tile.getPosition(), tile);
+
+        final Vector2 expected = HexMapHelper.hexCoordsToWorldCoords(tile.getPosition());
+
+        assertEquals(expected.x, hexMap.getWorldX(tile.getId()));
+        assertEquals(expected.y, hexMap.getWorldY(tile.getId()));
+    }
+
+    @Test
+    void lookupOfMissingOrFractionalCoordinatesReturnsNull() {
+        final HexMap hexMap = new HexMap();
+        final HexTile tile = createTile(0, 0);
+        hexMap.put(tile.getPosition(), tile);
+
+        assertNull(hexMap.get(new Vector2(0.5F, 0)));
+        assertNull(hexMap.get(1, 1));
+        assertEquals(HexMap.NO_TILE, hexMap.getTileId(1, 1));
+    }
+
+}
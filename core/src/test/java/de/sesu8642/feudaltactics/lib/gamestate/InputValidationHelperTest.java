@@ -0,0 +1,106 @@
+// SPDX-License-Identifier: GPL-3.0-or-later
+
+package de.sesu8642.feudaltactics.lib.gamestate;
+
+import de.sesu8642.feudaltactics.lib.gamestate.Player.Type;
+import de.sesu8642.feudaltactics.lib.gamestate.Unit.UnitTypes;
+import de.sesu8642.feudaltactics.lib.ingame.PlayerMove;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for InputValidationHelper class.
+ */
+class InputValidationHelperTest {
+
+    private GameState gameState;
+    private Player player;
+    private Kingdom kingdom;
+
+    @BeforeEach
+    void init() {
+        final List<Player> players = new ArrayList<>();
+        players.add(new Player(0, Type.LOCAL_BOT));
+        players.add(new Player(1, Type.LOCAL_PLAYER));
+        gameState = new GameState();
+        GameStateHelper.initializeMap(gameState, players, 300, 0, 0.2F, 97531L);
+        player = gameState.getActivePlayer();
+        kingdom = gameState.getKingdoms().stream().filter(candidate -> candidate.getPlayer() == player)
+            .filter(candidate -> getEmptyTiles(candidate).size() >= 2).findFirst().get();
+        kingdom.setSavings(100);
+        GameStateHelper.activateKingdom(gameState, kingdom);
+    }
+
+    private static List<HexTile> getEmptyTiles(Kingdom kingdom) {
+        final List<HexTile> result = new ArrayList<>();
+        for (HexTile tile : kingdom.getTiles()) {
+            if (tile.getContent() == null) {
+                result.add(tile);
+            }
+        }
+        return result;
+    }
+
+    @Test
+    void pickingUpAllUnitsNeedsAUnitThatCanAct() {
+        for (HexTile tile : kingdom.getTiles()) {
+            if (tile.getContent() != null && tile.getContent().getClass() == Unit.class) {
+                tile.setContent(null);
+            }
+        }
+        assertFalse(InputValidationHelper.checkPickUpAllUnits(gameState, player));
+
+        final Unit unit = new Unit(UnitTypes.PEASANT);
+        unit.setCanAct(false);
+        getEmptyTiles(kingdom).get(0).setContent(unit);
+        assertFalse(InputValidationHelper.checkPickUpAllUnits(gameState, player));
+
+        getEmptyTiles(kingdom).get(0).setContent(new Unit(UnitTypes.PEASANT));
+        assertTrue(InputValidationHelper.checkPickUpAllUnits(gameState, player));
+    }
+
+    @Test
+    void onlyCastlesBoughtInTheCurrentTurnCanBeSold() {
+        final HexTile oldCastleTile = getEmptyTiles(kingdom).get(0);
+        oldCastleTile.setContent(new Castle());
+        final HexTile newCastleTile = getEmptyTiles(kingdom).get(0);
+
+        GameStateHelper.applyPlayerMove(gameState, PlayerMove.buyAndPlaceCastle(newCastleTile.getPosition()));
+
+        assertFalse(InputValidationHelper.checkSellCastle(gameState, player, oldCastleTile));
+        assertTrue(InputValidationHelper.checkSellCastle(gameState, player, newCastleTile));
+        GameStateHelper.applyPlayerMove(gameState, PlayerMove.sellCastle(newCastleTile.getPosition()));
+        assertEquals(100, kingdom.getSavings());
+        assertTrue(gameState.getCastlesBoughtInCurrentTurn().isEmpty());
+    }
+
+    @Test
+    void reserveUnitsCanBeCombinedButNotSplit() {
+        final HexTile tile = getEmptyTiles(kingdom).get(0);
+        GameStateHelper.applyPlayerMove(gameState, PlayerMove.buyReserveUnit(UnitTypes.KNIGHT));
+
+        assertFalse(InputValidationHelper.checkPlaceReserveUnit(gameState, player, tile, UnitTypes.PEASANT));
+        assertTrue(InputValidationHelper.checkPlaceReserveUnit(gameState, player, tile, UnitTypes.KNIGHT));
+
+        GameStateHelper.applyPlayerMove(gameState, PlayerMove.buyReserveUnit(UnitTypes.PEASANT));
+        assertFalse(InputValidationHelper.checkCombineReserveUnits(gameState, player, UnitTypes.PEASANT,
+            UnitTypes.PEASANT));
+        assertTrue(InputValidationHelper.checkCombineReserveUnits(gameState, player, UnitTypes.KNIGHT,
+            UnitTypes.PEASANT));
+        GameStateHelper.applyPlayerMove(gameState,
+            PlayerMove.combineReserveUnits(UnitTypes.KNIGHT, UnitTypes.PEASANT));
+
+        assertEquals(1, gameState.getReserveUnitCount(UnitTypes.BARON));
+        assertEquals(0, gameState.getReserveUnitCount(UnitTypes.KNIGHT));
+        assertEquals(0, gameState.getReserveUnitCount(UnitTypes.PEASANT));
+        assertTrue(InputValidationHelper.checkPlaceReserveUnit(gameState, player, tile, UnitTypes.BARON));
+    }
+
+}
@@ -0,0 +1,127 @@
+// SPDX-License-Identifier: GPL-3.0-or-later
+
+package de.sesu8642.feudaltactics.lib.gamestate;
+
+import com.badlogic.gdx.math.Vector2;
+import de.sesu8642.feudaltactics.lib.gamestate.Player.Type;
+import de.sesu8642.feudaltactics.lib.gamestate.Unit.UnitTypes;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for Kingdom class.
+ */
+class KingdomTest {
+
+    private final Player player = new Player(0, Type.LOCAL_PLAYER);
+
+    private HexTile createKingdomTile(Kingdom kingdom, int x, TileContent content) {
+        final HexTile tile = new HexTile(player, new Vector2(x, 0));
+        tile.setKingdom(kingdom);
+        tile.setContent(content);
+        kingdom.getTiles().add(tile);
+        return tile;
+    }
+
+    @Test
+    void aggregatesFollowContentChanges() {
+        final Kingdom kingdom = new Kingdom(player);
+        createKingdomTile(kingdom, 0, new Capital());
+        final HexTile treeTile = createKingdomTile(kingdom, 1, new Tree());
+        final HexTile unitTile = createKingdomTile(kingdom, 2, new Unit(UnitTypes.KNIGHT));
+        createKingdomTile(kingdom, 3, null);
+
+        assertEquals(3, kingdom.getIncome());
+        assertEquals(UnitTypes.KNIGHT.salary(), kingdom.getUnitSalaries());
+        assertEquals(1, kingdom.getEmptyTileCount());
+
+        treeTile.setContent(new Unit(UnitTypes.PEASANT));
+        unitTile.setContent(new Gravestone());
+
+        assertEquals(4, kingdom.getIncome());
+        assertEquals(0, kingdom.getTreeCount());
+        assertEquals(UnitTypes.PEASANT.salary(), kingdom.getUnitSalaries());
+        assertEquals(1, kingdom.getUnitCount(UnitTypes.PEASANT));
+        assertEquals(0, kingdom.getUnitCount(UnitTypes.KNIGHT));
+        assertEquals(UnitTypes.PEASANT.strength(), kingdom.getTotalUnitStrength());
+    }
+
+    @Test
+    void aggregatesFollowOwnerChanges() {
+        final Kingdom kingdom = new Kingdom(player);
+        final Kingdom otherKingdom = new Kingdom(player);
+        createKingdomTile(kingdom, 0, new Capital());
+        final HexTile unitTile = createKingdomTile(kingdom, 1, new Unit(UnitTypes.SPEARMAN));
+
+        unitTile.setKingdom(otherKingdom);
+
+        assertEquals(1, kingdom.getTileCount());
+        assertEquals(0, kingdom.getUnitSalaries());
+        assertEquals(1, otherKingdom.getTileCount());
+        assertEquals(UnitTypes.SPEARMAN.salary(), otherKingdom.getUnitSalaries());
+        assertEquals(1, otherKingdom.getUnitCount(UnitTypes.SPEARMAN));
+    }
+
+    @Test
+    void aggregatesDontMatchTilesThatDontReferenceTheKingdom() {
+        final Kingdom kingdom = new Kingdom(player);
+        createKingdomTile(kingdom, 0, new Capital());
+        createKingdomTile(kingdom, 1, new Tree());
+
+        assertTrue(kingdom.doAggregatesMatchTiles());
+
+        kingdom.getTiles().add(new HexTile(player, new Vector2(2, 0)));
+
+        assertFalse(kingdom.doAggregatesMatchTiles());
+    }
+
+    @Test
+    void capitalTileFollowsChanges() {
+        final Kingdom kingdom = new Kingdom(player);
+        final Kingdom otherKingdom = new Kingdom(player);
+        final HexTile capitalTile = createKingdomTile(kingdom, 0, new Capital());
+        final HexTile otherCapitalTile = createKingdomTile(otherKingdom, 1, new Capital());
+
+        // combining kingdoms
+        otherCapitalTile.setKingdom(kingdom);
+        otherCapitalTile.setContent(null);
+
+        assertSame(capitalTile, kingdom.getCapitalTile());
+        assertNull(otherKingdom.getCapitalTile());
+
+        capitalTile.setContent(new Tree());
+
+        assertNull(kingdom.getCapitalTile());
+    }
+
+    @Test
+    void removingTileMovesLastTileToItsIndex() {
+        final Kingdom kingdom = new Kingdom(player);
+        final HexTile tile0 = createKingdomTile(kingdom, 0, null);
+        final HexTile tile1 = createKingdomTile(kingdom, 1, null);
+        final HexTile tile2 = createKingdomTile(kingdom, 2, null);
+        final HexTile tile3 = createKingdomTile(kingdom, 3, null);
+
+        kingdom.getTiles().remove(tile1);
+        kingdom.getTiles().remove(0);
+
+        assertEquals(Arrays.asList(tile3, tile2), kingdom.getTiles());
+        assertFalse(kingdom.getTiles().contains(tile0));
+
+        // the tile remembers its index in the other kingdom now
+        final Kingdom otherKingdom = new Kingdom(player);
+        otherKingdom.getTiles().add(tile2);
+        kingdom.getTiles().remove(tile2);
+
+        assertEquals(Arrays.asList(tile3), kingdom.getTiles());
+        assertEquals(Arrays.asList(tile2), otherKingdom.getTiles());
+    }
+
+}
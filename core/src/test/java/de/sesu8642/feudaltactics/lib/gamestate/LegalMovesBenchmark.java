@@ -0,0 +1,103 @@
+// SPDX-License-Identifier: GPL-3.0-or-later
+
+package de.sesu8642.feudaltactics.lib.gamestate;
+
+import de.sesu8642.feudaltactics.ingame.NewGamePreferences.MapSizes;
+import de.sesu8642.feudaltactics.lib.gamestate.Player.Type;
+import de.sesu8642.feudaltactics.lib.gamestate.Unit.UnitTypes;
+import de.sesu8642.feudaltactics.lib.ingame.PlayerMove.PlayerMoveType;
+import de.sesu8642.feudaltactics.lib.ingame.botai.Intelligence;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+/**
+ * Compares the cost of finding out which tiles to highlight after a tap on the biggest maps: checking every tile
+ * separately like the renderer used to do versus generating the legal moves once. Run with "gradlew benchmark".
+ */
+@Tag("benchmark")
+class LegalMovesBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 2000;
+    private static final int MEASURED_ITERATIONS = 5000;
+
+    private static int highlightWithSeparateChecks(GameState gameState) {
+        int highlighted = 0;
+        for (HexTile tile : gameState.getMap().values()) {
+            if (tile.getKingdom() != null && tile.getKingdom() == gameState.getActiveKingdom()) {
+                if (InputValidationHelper.checkPlaceOwn(gameState, gameState.getActivePlayer(), tile)
+                    || InputValidationHelper.checkCombineUnits(gameState, gameState.getActivePlayer(), tile)) {
+                    highlighted++;
+                }
+            } else if (InputValidationHelper.checkConquer(gameState, gameState.getActivePlayer(), tile)) {
+                highlighted++;
+            }
+        }
+        return highlighted;
+    }
+
+    private static int highlightWithLegalMoves(GameState gameState) {
+        final LegalMoves legalMoves = LegalMoves.generate(gameState, gameState.getActivePlayer());
+        int highlighted = 0;
+        for (HexTile tile : gameState.getMap().values()) {
+            if (tile.getKingdom() != null && tile.getKingdom() == gameState.getActiveKingdom()) {
+                if (legalMoves.isLegal(PlayerMoveType.PLACE_OWN, tile)
+                    || legalMoves.isLegal(PlayerMoveType.COMBINE_UNITS, tile)) {
+                    highlighted++;
+                }
+            } else if (legalMoves.isLegal(PlayerMoveType.CONQUER, tile)) {
+                highlighted++;
+            }
+        }
+        return highlighted;
+    }
+
+    private static long measureNanosPerTap(GameState gameState, ToIntFunction<GameState> highlighting) {
+        int sink = 0;
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            sink += highlighting.applyAsInt(gameState);
+        }
+        final long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            sink += highlighting.applyAsInt(gameState);
+        }
+        final long nanosPerTap = (System.nanoTime() - start) / MEASURED_ITERATIONS;
+        if (sink == 42) {
+            // only there to keep the results from being optimized away
+            System.out.println();
+        }
+        return nanosPerTap;
+    }
+
+    @Test
+    void highlightingAfterTapOnXxlargeMap() {
+        final List<Player> players = new ArrayList<>();
+        players.add(new Player(0, Type.LOCAL_PLAYER));
+        for (int i = 1; i < 6; i++) {
+            players.add(new Player(i, Type.LOCAL_BOT));
+        }
+        final GameState gameState = new GameState();
+        gameState.setBotIntelligence(Intelligence.LEVEL_4);
+        GameStateHelper.initializeMap(gameState, players, MapSizes.XXLARGE.getAmountOfTiles(), 0, 0.2F, 12345L);
+        Kingdom biggestKingdom = gameState.getKingdoms().get(0);
+        for (Kingdom kingdom : gameState.getKingdoms()) {
+            if (kingdom.getTiles().size() > biggestKingdom.getTiles().size()) {
+                biggestKingdom = kingdom;
+            }
+        }
+        gameState.setPlayerTurn(gameState.getPlayers().indexOf(biggestKingdom.getPlayer()));
+        gameState.setActiveKingdom(biggestKingdom);
+        gameState.setHeldObject(new Unit(UnitTypes.SPEARMAN));
+
+        final long separateChecksNanos = measureNanosPerTap(gameState,
+            LegalMovesBenchmark::highlightWithSeparateChecks);
+        final long legalMovesNanos = measureNanosPerTap(gameState, LegalMovesBenchmark::highlightWithLegalMoves);
+
+        System.out.printf("XXLARGE map (%d tiles), per tap: separate checks %d ns, legal moves %d ns%n",
+            gameState.getMap().size(), separateChecksNanos, legalMovesNanos);
+    }
+
+}
@@ -0,0 +1,228 @@
+// SPDX-License-Identifier: GPL-3.0-or-later
+
+package de.sesu8642.feudaltactics.lib.gamestate;
+
+import com.badlogic.gdx.math.Vector2;
+import de.sesu8642.feudaltactics.lib.gamestate.Player.Type;
+import de.sesu8642.feudaltactics.lib.gamestate.Unit.UnitTypes;
+import de.sesu8642.feudaltactics.lib.ingame.PlayerMove;
+import de.sesu8642.feudaltactics.lib.ingame.PlayerMove.PlayerMoveType;
+import de.sesu8642.feudaltactics.lib.ingame.botai.Intelligence;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for LegalMoves class.
+ */
+class LegalMovesTest {
+
+    private GameState gameState;
+
+    private static TileContent createRandomContent(Random random) {
+        switch (random.nextInt(7)) {
+            case 0:
+                final Unit unit = new Unit(UnitTypes.ofStrength(1 + random.nextInt(4)));
+                unit.setCanAct(random.nextBoolean());
+                return unit;
+            case 1:
+                return new Castle();
+            case 2:
+                return new Tree();
+            case 3:
+                return new Gravestone();
+            default:
+                return null;
+        }
+    }
+
+    private static void assertSameAsSeparateChecks(GameState gameState, Player player) {
+        final LegalMoves legalMoves = LegalMoves.generate(gameState, player);
+        for (HexTile tile : gameState.getMap().values()) {
+            assertEquals(InputValidationHelper.checkPickupObject(gameState, player, tile),
+                legalMoves.isLegal(PlayerMoveType.PICK_UP, tile));
+            assertEquals(InputValidationHelper.checkPlaceOwn(gameState, player, tile),
+                legalMoves.isLegal(PlayerMoveType.PLACE_OWN, tile));
+            assertEquals(InputValidationHelper.checkCombineUnits(gameState, player, tile),
+                legalMoves.isLegal(PlayerMoveType.COMBINE_UNITS, tile));
+            assertEquals(InputValidationHelper.checkConquer(gameState, player, tile),
+                legalMoves.isLegal(PlayerMoveType.CONQUER, tile));
+            assertEquals(InputValidationHelper.checkBuyAndPlaceUnitInstantly(gameState, player, tile),
+                legalMoves.isLegal(PlayerMoveType.BUY_AND_PLACE_PEASANT, tile));
+            assertEquals(InputValidationHelper.checkBuyAndPlaceCastleInstantly(gameState, player, tile),
+                legalMoves.isLegal(PlayerMoveType.BUY_AND_PLACE_CASTLE, tile));
+            assertEquals(InputValidationHelper.checkChangeActiveKingdom(gameState, player, tile),
+                legalMoves.isLegal(PlayerMoveType.ACTIVATE_KINGDOM, tile));
+            assertEquals(InputValidationHelper.checkSellCastle(gameState, player, tile),
+                legalMoves.isLegal(PlayerMoveType.SELL_CASTLE, tile));
+            for (UnitTypes unitType : UnitTypes.values()) {
+                assertEquals(InputValidationHelper.checkPlaceReserveUnit(gameState, player, tile, unitType),
+                    legalMoves.isLegal(PlayerMoveType.PLACE_RESERVE_UNIT, tile, unitType));
+                assertEquals(InputValidationHelper.checkConquerWithReserveUnit(gameState, player, tile, unitType),
+                    legalMoves.isLegal(PlayerMoveType.CONQUER_WITH_RESERVE_UNIT, tile, unitType));
+            }
+        }
+        for (UnitTypes unitType : UnitTypes.values()) {
+            assertEquals(InputValidationHelper.checkBuyReserveUnit(gameState, player, unitType),
+                legalMoves.isBuyReserveUnitLegal(unitType));
+            for (UnitTypes otherUnitType : UnitTypes.values()) {
+                assertEquals(InputValidationHelper.checkCombineReserveUnits(gameState, player, unitType, otherUnitType),
+                    legalMoves.isCombineReserveUnitsLegal(unitType, otherUnitType));
+            }
+        }
+        assertEquals(InputValidationHelper.checkPickUpAllUnits(gameState, player),
+            legalMoves.isLegal(PlayerMoveType.PICK_UP_ALL_UNITS));
+        assertEquals(InputValidationHelper.checkBuyObject(gameState, player, Unit.class),
+            legalMoves.isLegal(PlayerMoveType.BUY_PEASANT));
+        assertEquals(InputValidationHelper.checkBuyObject(gameState, player, Castle.class),
+            legalMoves.isLegal(PlayerMoveType.BUY_CASTLE));
+        assertEquals(InputValidationHelper.checkEndTurn(gameState, player),
+            legalMoves.isLegal(PlayerMoveType.END_TURN));
+    }
+
+    private static boolean isLegal(GameState gameState, LegalMoves legalMoves, PlayerMove playerMove) {
+        final HexTile tile = playerMove.getTilePosition() == null ? null
+            : gameState.getMap().get(playerMove.getTilePosition());
+        switch (playerMove.getPlayerActionType()) {
+            case BUY_RESERVE_UNIT:
+                return legalMoves.isBuyReserveUnitLegal(playerMove.getUnitType());
+            case COMBINE_RESERVE_UNITS:
+                return legalMoves.isCombineReserveUnitsLegal(playerMove.getUnitType(), playerMove.getOtherUnitType());
+            case PLACE_RESERVE_UNIT:
+            case CONQUER_WITH_RESERVE_UNIT:
+                return legalMoves.isLegal(playerMove.getPlayerActionType(), tile, playerMove.getUnitType());
+            default:
+                return tile == null ? legalMoves.isLegal(playerMove.getPlayerActionType())
+                    : legalMoves.isLegal(playerMove.getPlayerActionType(), tile);
+        }
+    }
+
+    private static boolean containsCombineReserveUnits(List<PlayerMove> playerMoves, UnitTypes unitType,
+                                                       UnitTypes otherUnitType) {
+        for (PlayerMove playerMove : playerMoves) {
+            if (playerMove.getPlayerActionType() == PlayerMoveType.COMBINE_RESERVE_UNITS
+                && playerMove.getUnitType() == unitType && playerMove.getOtherUnitType() == otherUnitType) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @BeforeEach
+    void init() {
+        final List<Player> players = new ArrayList<>();
+        players.add(new Player(0, Type.LOCAL_PLAYER));
+        players.add(new Player(1, Type.LOCAL_BOT));
+        players.add(new Player(2, Type.LOCAL_BOT));
+        gameState = new GameState();
+        gameState.setBotIntelligence(Intelligence.LEVEL_2);
+        GameStateHelper.initializeMap(gameState, players, 400, 0, 0.2F, 24680L);
+    }
+
+    @Test
+    void legalMovesAreTheSameAsSeparateChecks() {
+        final Random random = new Random(13579L);
+        final List<TileContent> heldObjects = new ArrayList<>();
+        heldObjects.add(null);
+        heldObjects.add(new Castle());
+        for (UnitTypes unitType : UnitTypes.values()) {
+            heldObjects.add(new Unit(unitType));
+        }
+        for (int i = 0; i < 30; i++) {
+            for (HexTile tile : gameState.getMap().values()) {
+                if (random.nextInt(3) == 0 && !(tile.getContent() instanceof Capital)) {
+                    tile.setContent(createRandomContent(random));
+                }
+            }
+            final Kingdom activeKingdom = gameState.getKingdoms().get(random.nextInt(gameState.getKingdoms().size()));
+            activeKingdom.setSavings(random.nextInt(30));
+            gameState.setPlayerTurn(gameState.getPlayers().indexOf(activeKingdom.getPlayer()));
+            gameState.setActiveKingdom(random.nextInt(5) == 0 ? null : activeKingdom);
+            gameState.setHeldObject(heldObjects.get(random.nextInt(heldObjects.size())));
+            for (UnitTypes unitType : UnitTypes.values()) {
+                gameState.setReserveUnitCount(unitType, random.nextInt(3) == 0 ? random.nextInt(3) : 0);
+            }
+            final Set<Vector2> castlesBoughtInCurrentTurn = new HashSet<>();
+            for (HexTile tile : gameState.getMap().values()) {
+                if (tile.getContent() instanceof Castle && random.nextBoolean()) {
+                    castlesBoughtInCurrentTurn.add(tile.getPosition());
+                }
+            }
+            gameState.setCastlesBoughtInCurrentTurn(castlesBoughtInCurrentTurn);
+            for (Player player : gameState.getPlayers()) {
+                assertSameAsSeparateChecks(gameState, player);
+            }
+        }
+    }
+
+    @Test
+    void playerMovesMatchTheLegalMoves() {
+        final Kingdom activeKingdom = gameState.getKingdoms().get(0);
+        activeKingdom.setSavings(20);
+        gameState.setPlayerTurn(gameState.getPlayers().indexOf(activeKingdom.getPlayer()));
+        gameState.setActiveKingdom(activeKingdom);
+        gameState.setHeldObject(new Unit(UnitTypes.SPEARMAN));
+        final LegalMoves legalMoves = LegalMoves.generate(gameState, activeKingdom.getPlayer());
+
+        final List<PlayerMove> playerMoves = legalMoves.toPlayerMoves();
+
+        assertFalse(playerMoves.isEmpty());
+        for (PlayerMove playerMove : playerMoves) {
+            assertTrue(isLegal(gameState, legalMoves, playerMove));
+        }
+        final int tileMoveCount = legalMoves.getTileIds(PlayerMoveType.PLACE_OWN).cardinality()
+            + legalMoves.getTileIds(PlayerMoveType.COMBINE_UNITS).cardinality()
+            + legalMoves.getTileIds(PlayerMoveType.CONQUER).cardinality()
+            + legalMoves.getTileIds(PlayerMoveType.BUY_AND_PLACE_PEASANT).cardinality();
+        // buying a peasant to upgrade the held unit and buying a peasant or a spearman for the reserve
+        assertEquals(tileMoveCount + 3, playerMoves.size());
+    }
+
+    @Test
+    void playerMovesContainTheReserveMoves() {
+        final Kingdom activeKingdom = gameState.getKingdoms().stream()
+            .filter(kingdom -> kingdom.getTiles().stream().filter(tile -> tile.getContent() == null).count() >= 2)
+            .findFirst().get();
+        activeKingdom.setSavings(0);
+        gameState.setPlayerTurn(gameState.getPlayers().indexOf(activeKingdom.getPlayer()));
+        GameStateHelper.activateKingdom(gameState, activeKingdom);
+        final HexTile castleTile = activeKingdom.getTiles().stream().filter(tile -> tile.getContent() == null)
+            .findFirst().get();
+        castleTile.setContent(new Castle());
+        gameState.getCastlesBoughtInCurrentTurn().add(castleTile.getPosition());
+        gameState.setReserveUnitCount(UnitTypes.PEASANT, 2);
+        gameState.setReserveUnitCount(UnitTypes.KNIGHT, 1);
+        final LegalMoves legalMoves = LegalMoves.generate(gameState, activeKingdom.getPlayer());
+
+        final List<PlayerMove> playerMoves = legalMoves.toPlayerMoves();
+
+        final Set<PlayerMoveType> moveTypes = EnumSet.noneOf(PlayerMoveType.class);
+        for (PlayerMove playerMove : playerMoves) {
+            assertTrue(isLegal(gameState, legalMoves, playerMove));
+            assertTrue(new InputValidationHelper(null).checkPlayerMove(gameState, activeKingdom.getPlayer(),
+                playerMove));
+            moveTypes.add(playerMove.getPlayerActionType());
+        }
+        assertTrue(moveTypes.contains(PlayerMoveType.PLACE_RESERVE_UNIT));
+        assertTrue(moveTypes.contains(PlayerMoveType.CONQUER_WITH_RESERVE_UNIT));
+        assertTrue(moveTypes.contains(PlayerMoveType.SELL_CASTLE));
+        assertTrue(containsCombineReserveUnits(playerMoves, UnitTypes.PEASANT, UnitTypes.PEASANT));
+        assertTrue(containsCombineReserveUnits(playerMoves, UnitTypes.PEASANT, UnitTypes.KNIGHT));
+        // every pair is only contained once
+        assertFalse(containsCombineReserveUnits(playerMoves, UnitTypes.KNIGHT, UnitTypes.PEASANT));
+        assertFalse(containsCombineReserveUnits(playerMoves, UnitTypes.KNIGHT, UnitTypes.KNIGHT));
+        assertEquals(InputValidationHelper.checkPickUpAllUnits(gameState, activeKingdom.getPlayer()),
+            moveTypes.contains(PlayerMoveType.PICK_UP_ALL_UNITS));
+    }
+
+}
@@ -0,0 +1,179 @@
+// SPDX-License-Identifier: GPL-3.0-or-later
+
+package de.sesu8642.feudaltactics.lib.gamestate;
+
+import de.sesu8642.feudaltactics.lib.gamestate.Player.Type;
+import de.sesu8642.feudaltactics.lib.ingame.PlayerMove;
+import de.sesu8642.feudaltactics.lib.ingame.PlayerMove.PlayerMoveType;
+import de.sesu8642.feudaltactics.lib.ingame.botai.Intelligence;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for PlayerMoveDelta class.
+ */
+class PlayerMoveDeltaTest {
+
+    private GameState gameState;
+
+    private static PlayerMove pickRandomMove(GameState gameState, Random random) {
+        final List<PlayerMove> moves = LegalMoves.generate(gameState, gameState.getActivePlayer()).toPlayerMoves();
+        moves.removeIf(move -> move.getPlayerActionType() == PlayerMoveType.END_TURN);
+        return moves.isEmpty() ? null : moves.get(random.nextInt(moves.size()));
+    }
+
+    private static List<List<HexTile>> copyKingdomTileLists(GameState gameState) {
+        final List<List<HexTile>> result = new ArrayList<>();
+        for (Kingdom kingdom : gameState.getKingdoms()) {
+            result.add(new ArrayList<>(kingdom.getTiles()));
+        }
+        return result;
+    }
+
+    private static void assertSameKingdomTiles(List<List<HexTile>> expected, GameState gameState) {
+        assertEquals(expected.size(), gameState.getKingdoms().size());
+        for (int i = 0; i < expected.size(); i++) {
+            final List<HexTile> actualTiles = gameState.getKingdoms().get(i).getTiles();
+            assertEquals(expected.get(i).size(), actualTiles.size());
+            for (int j = 0; j < actualTiles.size(); j++) {
+                assertSame(expected.get(i).get(j), actualTiles.get(j));
+                assertSame(gameState.getKingdoms().get(i), actualTiles.get(j).getKingdom());
+            }
+        }
+    }
+
+    @BeforeEach
+    void init() {
+        final List<Player> players = new ArrayList<>();
+        players.add(new Player(0, Type.LOCAL_PLAYER));
+        players.add(new Player(1, Type.LOCAL_BOT));
+        players.add(new Player(2, Type.LOCAL_BOT));
+        gameState = new GameState();
+        gameState.setBotIntelligence(Intelligence.LEVEL_2);
+        GameStateHelper.initializeMap(gameState, players, 300, 0, 0.2F, 97531L);
+        for (Kingdom kingdom : gameState.getKingdoms()) {
+            kingdom.setSavings(60);
+        }
+    }
+
+    @Test
+    void undoingMovesRestoresTheGameState() {
+        final Random random = new Random(8642L);
+        for (int round = 0; round < 20; round++) {
+            final GameState copyBefore = GameStateHelper.getCopy(gameState);
+            final long fingerprintBefore = gameState.getFingerprint();
+            final List<List<HexTile>> kingdomTilesBefore = copyKingdomTileLists(gameState);
+            final List<HexTile> oakSpreadBefore = gameState.getMap().getTreeSpreadIndex().getTilesOakTreesWillSpreadTo();
+
+            final Deque<PlayerMoveDelta> deltas = new ArrayDeque<>();
+            for (int i = 0; i < 15; i++) {
+                final PlayerMove move = pickRandomMove(gameState, random);
+                if (move == null) {
+                    break;
+                }
+                deltas.push(GameStateHelper.applyPlayerMoveReversibly(gameState, move));
+                assertEquals(FingerprintHelper.calculateFingerprint(gameState), gameState.getFingerprint());
+            }
+            assertFalse(deltas.isEmpty());
+            while (!deltas.isEmpty()) {
+                GameStateHelper.undoPlayerMove(gameState, deltas.pop());
+                assertEquals(FingerprintHelper.calculateFingerprint(gameState), gameState.getFingerprint());
+            }
+
+            assertEquals(copyBefore, gameState);
+            assertEquals(fingerprintBefore, gameState.getFingerprint());
+            assertSameKingdomTiles(kingdomTilesBefore, gameState);
+            assertEquals(oakSpreadBefore, gameState.getMap().getTreeSpreadIndex().getTilesOakTreesWillSpreadTo());
+            for (HexTile tile : gameState.getMap().values()) {
+                assertEquals(ProtectionLevelIndex.calculateProtectionLevel(gameState.getMap(), tile),
+                    gameState.getMap().getProtectionLevel(tile.getId()));
+            }
+
+            // continue from a different state in the next round
+            final PlayerMove move = pickRandomMove(gameState, random);
+            if (move != null) {
+                GameStateHelper.applyPlayerMove(gameState, move);
+            }
+            gameState.setPlayerTurn((gameState.getPlayerTurn() + 1) % gameState.getPlayers().size());
+            gameState.setActiveKingdom(null);
+            gameState.setHeldObject(null);
+        }
+    }
+
+    @Test
+    void undoingChangesOfSeveralMovesRestoresTheGameState() {
+        final Random random = new Random(4321L);
+        for (int round = 0; round < 20; round++) {
+            final GameState copyBefore = GameStateHelper.getCopy(gameState);
+            final List<List<HexTile>> kingdomTilesBefore = copyKingdomTileLists(gameState);
+
+            // units that are picked up and used are changed while no tile contains them
+            final PlayerMoveDelta delta = GameStateHelper.applyChangesReversibly(gameState, state -> {
+                for (int i = 0; i < 15; i++) {
+                    final PlayerMove move = pickRandomMove(state, random);
+                    if (move == null) {
+                        break;
+                    }
+                    GameStateHelper.applyPlayerMove(state, move);
+                }
+            });
+            GameStateHelper.undoPlayerMove(gameState, delta);
+
+            assertEquals(copyBefore, gameState);
+            assertEquals(FingerprintHelper.calculateFingerprint(gameState), gameState.getFingerprint());
+            assertSameKingdomTiles(kingdomTilesBefore, gameState);
+
+            gameState.setPlayerTurn((gameState.getPlayerTurn() + 1) % gameState.getPlayers().size());
+        }
+    }
+
+    @Test
+    void undoingRestoresValuesOfKingdomsWithoutTiles() {
+        final GameState copyBefore = GameStateHelper.getCopy(gameState);
+        final Kingdom kingdom = gameState.getKingdoms().get(0);
+
+        // the kingdom cannot report changes to its values once it has no tiles left
+        final PlayerMoveDelta delta = GameStateHelper.applyChangesReversibly(gameState, state -> {
+            for (HexTile tile : new ArrayList<>(kingdom.getTiles())) {
+                tile.setKingdom(null);
+                kingdom.getTiles().remove(tile);
+            }
+            kingdom.setSavings(0);
+            kingdom.setDoneMoving(true);
+        });
+        GameStateHelper.undoPlayerMove(gameState, delta);
+
+        assertEquals(copyBefore, gameState);
+    }
+
+    @Test
+    void applyingMovesThatCannotBeUndoneReversiblyThrows() {
+        assertThrows(IllegalArgumentException.class,
+            () -> GameStateHelper.applyPlayerMoveReversibly(gameState, PlayerMove.endTurn()));
+        assertThrows(IllegalArgumentException.class,
+            () -> GameStateHelper.applyPlayerMoveReversibly(gameState, PlayerMove.undoLastMove()));
+    }
+
+    @Test
+    void undoingOutOfOrderThrows() {
+        final Random random = new Random(1234L);
+        final PlayerMoveDelta firstDelta =
+            GameStateHelper.applyPlayerMoveReversibly(gameState, pickRandomMove(gameState, random));
+        GameStateHelper.applyPlayerMoveReversibly(gameState, pickRandomMove(gameState, random));
+
+        assertFalse(firstDelta.isUndoableIn(gameState));
+        assertThrows(IllegalStateException.class, () -> GameStateHelper.undoPlayerMove(gameState, firstDelta));
+    }
+
+}
@@ -0,0 +1,106 @@
+// SPDX-License-Identifier: GPL-3.0-or-later
+
+package de.sesu8642.feudaltactics.lib.gamestate;
+
+import com.badlogic.gdx.math.Vector2;
+import de.sesu8642.feudaltactics.lib.gamestate.Player.Type;
+import de.sesu8642.feudaltactics.lib.gamestate.Unit.UnitTypes;
+import de.sesu8642.feudaltactics.lib.ingame.botai.Intelligence;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests for ProtectionLevelIndex class.
+ */
+class ProtectionLevelIndexTest {
+
+    private GameState gameState;
+
+    private static void assertProtectionLevelsAreCorrect(GameState gameState) {
+        final HexMap map = gameState.getMap();
+        for (HexTile tile : map.values()) {
+            assertEquals(ProtectionLevelIndex.calculateProtectionLevel(map, tile),
+                map.getProtectionLevel(tile.getId()), "wrong protection level for " + tile.getPosition());
+        }
+    }
+
+    private static TileContent createRandomContent(Random random) {
+        switch (random.nextInt(6)) {
+            case 0:
+                return new Unit(UnitTypes.ofStrength(1 + random.nextInt(4)));
+            case 1:
+                return new Castle();
+            case 2:
+                return new Capital();
+            case 3:
+                return new Tree();
+            default:
+                return null;
+        }
+    }
+
+    @BeforeEach
+    void init() {
+        final List<Player> players = new ArrayList<>();
+        players.add(new Player(0, Type.LOCAL_BOT));
+        players.add(new Player(1, Type.LOCAL_BOT));
+        players.add(new Player(2, Type.LOCAL_BOT));
+        gameState = new GameState();
+        gameState.setBotIntelligence(Intelligence.LEVEL_2);
+        GameStateHelper.initializeMap(gameState, players, 300, 0, 0.2F, 97531L);
+    }
+
+    @Test
+    void protectionLevelsStayCorrectWithRandomChanges() {
+        assertProtectionLevelsAreCorrect(gameState);
+        final List<HexTile> tiles = new ArrayList<>(gameState.getMap().values());
+        final List<Kingdom> kingdoms = new ArrayList<>(gameState.getKingdoms());
+        final Random random = new Random(8642L);
+        for (int i = 0; i < 2000; i++) {
+            final HexTile tile = tiles.get(random.nextInt(tiles.size()));
+            if (random.nextBoolean()) {
+                tile.setContent(createRandomContent(random));
+            } else {
+                tile.setKingdom(random.nextInt(4) == 0 ? null : kingdoms.get(random.nextInt(kingdoms.size())));
+            }
+            assertProtectionLevelsAreCorrect(gameState);
+        }
+    }
+
+    @Test
+    void protectionLevelsStayCorrectWhenTilesAreAddedAndRemoved() {
+        final Kingdom kingdom = gameState.getKingdoms().get(0);
+        final List<Vector2> positions = new ArrayList<>(gameState.getMap().keySet());
+        final Random random = new Random(1357L);
+        for (int i = 0; i < 300; i++) {
+            final Vector2 position = positions.get(random.nextInt(positions.size()));
+            if (gameState.getMap().containsKey(position)) {
+                gameState.getMap().remove(position);
+            } else {
+                final HexTile tile = new HexTile(kingdom.getPlayer(), position);
+                tile.setKingdom(kingdom);
+                tile.setContent(createRandomContent(random));
+                gameState.getMap().put(position, tile);
+            }
+            assertProtectionLevelsAreCorrect(gameState);
+        }
+    }
+
+    @Test
+    void copiesAndSnapshotsHaveCorrectProtectionLevels() {
+        final Random random = new Random(97L);
+        for (HexTile tile : gameState.getMap().values()) {
+            tile.setContent(createRandomContent(random));
+        }
+
+        assertProtectionLevelsAreCorrect(GameStateHelper.getCopy(gameState));
+        assertProtectionLevelsAreCorrect(GameStateHelper.getSnapshot(gameState));
+    }
+
+}
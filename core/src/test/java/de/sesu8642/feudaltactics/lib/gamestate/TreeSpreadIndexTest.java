@@ -0,0 +1,168 @@
+// SPDX-License-Identifier: GPL-3.0-or-later
+
+package de.sesu8642.feudaltactics.lib.gamestate;
+
+import com.badlogic.gdx.math.Vector2;
+import de.sesu8642.feudaltactics.lib.gamestate.Player.Type;
+import de.sesu8642.feudaltactics.lib.gamestate.Unit.UnitTypes;
+import de.sesu8642.feudaltactics.lib.ingame.botai.Intelligence;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests for TreeSpreadIndex class.
+ */
+class TreeSpreadIndexTest {
+
+    private GameState gameState;
+
+    /**
+     * Straightforward calculation of the oak tree spreading by going through all the tiles.
+     */
+    private static List<HexTile> calculateOakSpreadTiles(HexMap map) {
+        final Set<HexTile> blackList = new HashSet<>();
+        final List<HexTile> result = new ArrayList<>();
+        for (HexTile tile : map.values()) {
+            if (blackList.contains(tile) || !(tile.getContent() instanceof Tree)) {
+                continue;
+            }
+            HexTile newTreeTile = null;
+            HexTile neighborTreeTile = null;
+            for (HexTile neighbor : map.getNeighborTiles(tile.getId())) {
+                if (neighbor == null) {
+                    continue;
+                }
+                if (!blackList.contains(neighbor) && neighbor.getContent() == null && !isCoast(map, neighbor)) {
+                    if (newTreeTile == null || neighbor.compareTo(newTreeTile) < 0) {
+                        newTreeTile = neighbor;
+                    }
+                } else if (neighbor.getContent() instanceof Tree && !blackList.contains(neighbor)) {
+                    neighborTreeTile = neighbor;
+                }
+            }
+            if (neighborTreeTile != null && newTreeTile != null) {
+                result.add(newTreeTile);
+                blackList.add(tile);
+                blackList.add(newTreeTile);
+                blackList.add(neighborTreeTile);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Straightforward calculation of the palm tree spreading by going through all the tiles.
+     */
+    private static List<HexTile> calculatePalmSpreadTiles(HexMap map) {
+        final Set<HexTile> blackList = new HashSet<>();
+        final List<HexTile> result = new ArrayList<>();
+        for (HexTile tile : map.values()) {
+            if (!(tile.getContent() instanceof PalmTree)) {
+                continue;
+            }
+            map.getNeighborTiles(tile.getId()).stream().filter(neighbor -> neighbor != null
+                    && !blackList.contains(neighbor) && neighbor.getContent() == null && isCoast(map, neighbor))
+                .sorted().limit(1).forEach(newTreeTile -> {
+                    result.add(newTreeTile);
+                    blackList.add(newTreeTile);
+                });
+        }
+        return result;
+    }
+
+    private static boolean isCoast(HexMap map, HexTile tile) {
+        return map.getNeighborTiles(tile.getId()).contains(null);
+    }
+
+    private static void assertPredictionIsCorrect(GameState gameState) {
+        assertEquals(calculateOakSpreadTiles(gameState.getMap()),
+            GameStateHelper.getTilesOakTreesWillSpreadTo(gameState));
+        assertEquals(calculatePalmSpreadTiles(gameState.getMap()),
+            GameStateHelper.getTilesPalmTreesWillSpreadTo(gameState));
+    }
+
+    @BeforeEach
+    void init() {
+        final List<Player> players = new ArrayList<>();
+        players.add(new Player(0, Type.LOCAL_BOT));
+        players.add(new Player(1, Type.LOCAL_BOT));
+        gameState = new GameState();
+        gameState.setBotIntelligence(Intelligence.LEVEL_2);
+        GameStateHelper.initializeMap(gameState, players, 300, 0, 2F, 1234L);
+    }
+
+    @Test
+    void predictionStaysCorrectWithRandomContentChanges() {
+        final List<HexTile> tiles = new ArrayList<>(gameState.getMap().values());
+        final Random random = new Random(4321L);
+        for (int i = 0; i < 3000; i++) {
+            final HexTile tile = tiles.get(random.nextInt(tiles.size()));
+            switch (random.nextInt(5)) {
+                case 0:
+                    tile.setContent(null);
+                    break;
+                case 1:
+                    tile.setContent(new Tree());
+                    break;
+                case 2:
+                    tile.setContent(new PalmTree());
+                    break;
+                case 3:
+                    tile.setContent(new Unit(UnitTypes.PEASANT));
+                    break;
+                default:
+                    tile.setContent(new Gravestone());
+                    break;
+            }
+            assertPredictionIsCorrect(gameState);
+        }
+    }
+
+    @Test
+    void predictionStaysCorrectWhenTilesAreAddedAndRemoved() {
+        final Random random = new Random(2468L);
+        for (HexTile tile : gameState.getMap().values()) {
+            if (random.nextInt(3) == 0) {
+                tile.setContent(random.nextBoolean() ? new Tree() : new PalmTree());
+            }
+        }
+        assertPredictionIsCorrect(gameState);
+        final List<Vector2> positions = new ArrayList<>(gameState.getMap().keySet());
+        for (int i = 0; i < 200; i++) {
+            final Vector2 position = positions.get(random.nextInt(positions.size()));
+            if (gameState.getMap().containsKey(position)) {
+                gameState.getMap().remove(position);
+            } else {
+                final HexTile tile = new HexTile(gameState.getPlayers().get(0), position);
+                tile.setContent(random.nextBoolean() ? new Tree() : null);
+                gameState.getMap().put(position, tile);
+            }
+            assertPredictionIsCorrect(gameState);
+        }
+    }
+
+    @Test
+    void copiesAndSnapshotsPredictTheSame() {
+        for (HexTile tile : gameState.getMap().values()) {
+            if (tile.getContent() == null && tile.getId() % 4 == 0) {
+                tile.setContent(new Tree());
+            }
+        }
+        final GameState copy = GameStateHelper.getCopy(gameState);
+        final GameState snapshot = GameStateHelper.getSnapshot(gameState);
+
+        assertPredictionIsCorrect(copy);
+        assertPredictionIsCorrect(snapshot);
+        assertEquals(GameStateHelper.getTilesOakTreesWillSpreadTo(gameState),
+            GameStateHelper.getTilesOakTreesWillSpreadTo(snapshot));
+    }
+
+}
@@ -10,7 +10,6 @@ import com.badlogic.gdx.utils.JsonWriter;
 import com.badlogic.gdx.utils.reflect.ClassReflection;
 import com.badlogic.gdx.utils.reflect.ReflectionException;
 import com.google.common.collect.ImmutableList;
-import de.sesu8642.feudaltactics.ingame.NewGamePreferences;
 import de.sesu8642.feudaltactics.lib.gamestate.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -23,6 +22,7 @@ import java.util.List;
 import static de.sesu8642.feudaltactics.lib.gamestate.Unit.UnitTypes.BARON;
 import static de.sesu8642.feudaltactics.lib.gamestate.Unit.UnitTypes.SPEARMAN;
 import static de.sesu8642.feudaltactics.lib.gamestate.validation.GameStateValidator.isValid;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -304,8 +304,7 @@ class GameStateValidatorTest {
     @Test
     void mapIsNotTooLarge_invalidWhenExceedsMaximum() {
         final GameState gs = new GameState();
-        final int max = NewGamePreferences.MapSizes.XXLARGE.getAmountOfTiles();
-        GameStateHelper.initializeMap(gs, players, max + 1, 2, 0.2F, 234654L);
+        GameStateHelper.initializeMap(gs, players, HexMap.MAX_TILES + 1, 2, 0.2F, 234654L);
         assertFalse(isValid(gs));
     }
 
@@ -342,6 +341,37 @@ class GameStateValidatorTest {
         assertTrue(isValid(gs));
     }
 
+    @Test
+    void validate_reportsViolatedRule() {
+        final GameState gs = createValidGameState();
+        gs.getKingdoms().get(0).setSavings(-42);
+        final ValidationResult result = GameStateValidator.validate(gs);
+        assertFalse(result.isValid());
+        assertEquals(ValidationRule.KINGDOMS_HAVE_VALID_SAVINGS, result.getViolatedRule());
+    }
+
+    @Test
+    void kingdomTilesAreInMap_invalidWhenTileIsListedTwice() {
+        final GameState gs = createValidGameState();
+        final Kingdom kingdom = gs.getKingdoms().get(0);
+        kingdom.getTiles().add(kingdom.getTiles().get(0));
+        assertEquals(ValidationRule.KINGDOM_TILES_ARE_IN_MAP, GameStateValidator.validate(gs).getViolatedRule());
+    }
+
+    @Test
+    void mapIsNotTooLarge_hugeMapIsRejectedWithoutTraversingIt() {
+        final GameState gs = createValidGameState();
+        final HexMap hugeMap = new HexMap(HexMap.MAX_TILES + 1);
+        for (int i = 0; i <= HexMap.MAX_TILES; i++) {
+            final Vector2 position = new Vector2(i % 317, i / 317);
+            hugeMap.put(position, new HexTile(gs.getActivePlayer(), position));
+        }
+        gs.setMap(hugeMap);
+        final ValidationResult result = GameStateValidator.validate(gs);
+        assertEquals(ValidationRule.MAP_NOT_TOO_LARGE, result.getViolatedRule());
+        assertEquals(0, result.getWork());
+    }
+
     /* --------------------- single‑player specific tests --------------------- */
 
     @Test
@@ -0,0 +1,105 @@
+// SPDX-License-Identifier: GPL-3.0-or-later
+
+package de.sesu8642.feudaltactics.lib.ingame;
+
+import com.google.common.eventbus.EventBus;
+import de.sesu8642.feudaltactics.lib.gamestate.GameState;
+import de.sesu8642.feudaltactics.lib.ingame.botai.BotTurnTimeline;
+import de.sesu8642.feudaltactics.shared.events.GameStateChangeEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for BotTurnPlayer class.
+ */
+class BotTurnPlayerTest {
+
+    private final List<GameState> displayedFrames = Collections.synchronizedList(new ArrayList<>());
+    private final CountDownLatch firstFrameDisplayed = new CountDownLatch(1);
+    private final AtomicLong tickDelayMs = new AtomicLong(1);
+    private ScheduledExecutorService executor;
+    private BotTurnPlayer systemUnderTest;
+
+    @BeforeEach
+    void init() {
+        final EventBus eventBus = new EventBus() {
+            @Override
+            public void post(Object event) {
+                displayedFrames.add(((GameStateChangeEvent) event).getGameState());
+                firstFrameDisplayed.countDown();
+            }
+        };
+        executor = Executors.newSingleThreadScheduledExecutor();
+        systemUnderTest = new BotTurnPlayer(eventBus, tickDelayMs::get, executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private static BotTurnTimeline createTimeline(GameState... frames) {
+        final BotTurnTimeline timeline = new BotTurnTimeline();
+        for (GameState frame : frames) {
+            timeline.addFrame(frame);
+        }
+        return timeline;
+    }
+
+    @Test
+    void actionRunsAfterAllFramesOfPreviousTurnsWereDisplayed() throws Exception {
+        final GameState[] frames = {new GameState(), new GameState(), new GameState()};
+        final List<GameState> displayedBeforeAction = new ArrayList<>();
+        final CountDownLatch actionRun = new CountDownLatch(1);
+
+        systemUnderTest.play(createTimeline(frames[0], frames[1]));
+        systemUnderTest.play(createTimeline(frames[2]));
+        systemUnderTest.runAfterPlayback(() -> {
+            displayedBeforeAction.addAll(displayedFrames);
+            actionRun.countDown();
+        });
+
+        assertTrue(actionRun.await(5, TimeUnit.SECONDS));
+        assertEquals(Arrays.asList(frames), displayedBeforeAction);
+    }
+
+    @Test
+    void actionRunsRightAwayIfNothingIsPlaying() {
+        final Thread[] actionThread = new Thread[1];
+
+        systemUnderTest.play(createTimeline());
+        systemUnderTest.runAfterPlayback(() -> actionThread[0] = Thread.currentThread());
+
+        assertSame(Thread.currentThread(), actionThread[0]);
+    }
+
+    @Test
+    void skippingDropsRemainingFramesAndRunsActionsWithoutDelay() throws Exception {
+        tickDelayMs.set(TimeUnit.MINUTES.toMillis(1));
+        final CountDownLatch actionRun = new CountDownLatch(1);
+        systemUnderTest.play(createTimeline(new GameState(), new GameState()));
+        systemUnderTest.runAfterPlayback(actionRun::countDown);
+        assertTrue(firstFrameDisplayed.await(5, TimeUnit.SECONDS));
+
+        systemUnderTest.skip();
+
+        assertTrue(actionRun.await(5, TimeUnit.SECONDS));
+        assertEquals(1, displayedFrames.size());
+    }
+
+}
@@ -0,0 +1,73 @@
+// SPDX-License-Identifier: GPL-3.0-or-later
+
+package de.sesu8642.feudaltactics.lib.ingame;
+
+import de.sesu8642.feudaltactics.ingame.GameParameters;
+import de.sesu8642.feudaltactics.lib.gamestate.GameState;
+import de.sesu8642.feudaltactics.lib.gamestate.GameStateHelper;
+import de.sesu8642.feudaltactics.lib.ingame.botai.Intelligence;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for MapGenerationService class.
+ */
+class MapGenerationServiceTest {
+
+    private ExecutorService executor;
+    private MapGenerationService mapGenerationService;
+
+    @BeforeEach
+    void init() {
+        executor = Executors.newSingleThreadExecutor();
+        mapGenerationService = new MapGenerationService(executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void requestedGameStateEqualsDirectlyGeneratedOne() throws Exception {
+        final GameParameters gameParams = new GameParameters(0, 12345L, 250, 0, Intelligence.LEVEL_3, 5);
+        final GameState expected = new GameState();
+        expected.setBotIntelligence(Intelligence.LEVEL_3);
+        GameStateHelper.initializeMap(expected, new GameParameters(0, 12345L, 250, 0, Intelligence.LEVEL_3,
+            5).getPlayers(), 250, 0, null, 12345L);
+
+        final GameState first = mapGenerationService.requestGameState(gameParams).get();
+        final GameState second = mapGenerationService.requestGameState(gameParams).get();
+
+        assertEquals(expected, first);
+        assertEquals(expected.getFingerprint(), first.getFingerprint());
+        // every request gets its own game state because the game modifies it
+        assertNotSame(first, second);
+        assertEquals(first, second);
+    }
+
+    @Test
+    void preGeneratedGameStateIsAvailableImmediately() throws Exception {
+        final GameParameters gameParams = new GameParameters(0, 42L, 500, 3, Intelligence.LEVEL_1, 5);
+        mapGenerationService.preGenerate(Collections.singletonList(gameParams));
+        // wait until the executor is done with the pre-generation
+        executor.submit(() -> {
+        }).get();
+
+        final Future<GameState> result = mapGenerationService.requestGameState(gameParams);
+
+        assertTrue(result.isDone());
+        assertEquals(500, result.get().getMap().size());
+    }
+
+}
@@ -10,6 +10,7 @@ import de.sesu8642.feudaltactics.ApplicationStub;
 import de.sesu8642.feudaltactics.lib.gamestate.*;
 import de.sesu8642.feudaltactics.lib.gamestate.Player.Type;
 import de.sesu8642.feudaltactics.lib.gamestate.validation.GameStateValidator;
+import de.sesu8642.feudaltactics.lib.ingame.PlayerMove;
 import de.sesu8642.feudaltactics.localization.SupportedLanguage;
 import de.sesu8642.feudaltactics.menu.preferences.MainGamePreferences;
 import de.sesu8642.feudaltactics.menu.preferences.MainPreferencesDao;
@@ -20,7 +21,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -54,9 +54,9 @@ class BotAiIntegrationTest {
     MainGamePreferences stubPreferences = new MainGamePreferences(false, false, Speed.NORMAL,
         SupportedLanguage.AUTO);
 
-    @InjectMocks
     private BotAi systemUnderTest;
     private GameState resultingGameState;
+    private List<PlayerMove> resultingMoves;
 
     @BeforeAll
     static void initAll() {
@@ -77,8 +77,14 @@ class BotAiIntegrationTest {
             Arguments.of(Intelligence.LEVEL_4, 250F, -3F, 15L));
     }
 
+    static Stream<Arguments> provideMapParametersIncludingSearch() {
+        // searching the moves takes a lot longer, so only some smaller maps
+        return Stream.concat(provideMapParameters(), Stream.of(Arguments.of(Intelligence.LEVEL_5, 12F, 0F, 16L),
+            Arguments.of(Intelligence.LEVEL_5, 100F, -3F, 17L), Arguments.of(Intelligence.LEVEL_5, 100F, 3F, 18L)));
+    }
+
     static List<Arguments> provideMapParametersAndHashes() {
-        final List<List<Integer>> gameProgessHashes = GameStateHashes.get();
+        final List<List<Long>> gameProgessHashes = GameStateHashes.get();
 
         // add the hashes to the existing arguments
         final List<Arguments> existingMapParameterArgs = provideMapParameters().collect(Collectors.toList());
@@ -94,12 +100,14 @@ class BotAiIntegrationTest {
 
     @BeforeEach
     void init() {
+        systemUnderTest = new BotAi(eventBusStub, prefsDaoStub, new BotExecutionEngine(4));
         when(prefsDaoStub.getMainPreferences()).thenReturn(stubPreferences);
         doAnswer(new Answer<Object>() {
             @Override
             public Object answer(InvocationOnMock invocation) {
                 final BotTurnFinishedEvent event = invocation.getArgument(0);
                 resultingGameState = event.getGameState();
+                resultingMoves = event.getMoves();
                 return null;
             }
         }).when(eventBusStub).post(any(BotTurnFinishedEvent.class));
@@ -143,10 +151,10 @@ class BotAiIntegrationTest {
     @ParameterizedTest
     @MethodSource("provideMapParametersAndHashes")
     void botsActConsistentWithTheSameGame(Intelligence botIntelligence, Float landMass, Float density, Long seed,
-                                          List<Integer> expectedHashes)
+                                          List<Long> expectedHashes)
         throws Exception {
         final GameState gameState = createGameState(landMass, density, seed);
-        final List<Integer> actualHashes = new ArrayList<>();
+        final List<Long> actualHashes = new ArrayList<>();
         boolean mismatchDetected = false;
 
         for (int i = 0; i <= 1000; i++) {
@@ -154,8 +162,8 @@ class BotAiIntegrationTest {
                 break;
             }
             systemUnderTest.doTurn(gameState, botIntelligence);
-            actualHashes.add(gameState.hashCode());
-            if (!mismatchDetected && (expectedHashes.size() <= i || !expectedHashes.get(i).equals(gameState.hashCode()))) {
+            actualHashes.add(gameState.getFingerprint());
+            if (!mismatchDetected && (expectedHashes.size() <= i || expectedHashes.get(i) != gameState.getFingerprint())) {
                 mismatchDetected = true;
                 System.out.println("Mismatching gameState as JSON is " + gameStateToJson(gameState));
             }
@@ -163,11 +171,12 @@ class BotAiIntegrationTest {
         }
         assertEquals(expectedHashes, actualHashes, "GameState hashes are not as expected. This means that either " +
             "there was a code change and the hashes need to be updated or there is some inconsistency across devices." +
-            " If this is tolerable, change the expected hashes to: " + actualHashes);
+            " If this is tolerable, change the expected hashes to: "
+            + actualHashes.stream().map(hash -> hash + "L").collect(Collectors.joining(", ")));
     }
 
     @ParameterizedTest
-    @MethodSource("provideMapParameters")
+    @MethodSource("provideMapParametersIncludingSearch")
     void gameStateStaysIntegre(Intelligence botIntelligence, Float landMass, Float density, Long seed)
         throws Exception {
         final GameState gameState = createGameState(landMass, density, seed);
@@ -182,6 +191,29 @@ class BotAiIntegrationTest {
         }
     }
 
+    @ParameterizedTest
+    @MethodSource("provideMapParametersIncludingSearch")
+    void botMovesAreLegalAndLeadToTheSameGameState(Intelligence botIntelligence, Float landMass, Float density,
+                                                   Long seed) throws Exception {
+        final GameState gameState = createGameState(landMass, density, seed);
+        final InputValidationHelper inputValidationHelper = new InputValidationHelper(null);
+
+        for (int i = 1; i <= 1000; i++) {
+            if (gameState.getKingdoms().size() == 1) {
+                return;
+            }
+            final GameState replayedGameState = GameStateHelper.getCopy(gameState);
+            systemUnderTest.doTurn(gameState, botIntelligence);
+            for (PlayerMove move : resultingMoves) {
+                assertTrue(inputValidationHelper.checkPlayerMove(replayedGameState,
+                    replayedGameState.getActivePlayer(), move), "illegal move " + move + " at turn " + i);
+                GameStateHelper.applyPlayerMove(replayedGameState, move);
+            }
+            assertEquals(gameState.getFingerprint(), replayedGameState.getFingerprint());
+            GameStateHelper.endTurn(gameState);
+        }
+    }
+
     private String gameStateToJson(GameState gameState) {
         final Json json = new Json(OutputType.json);
         json.setSerializer(GameState.class, new GameStateSerializer());
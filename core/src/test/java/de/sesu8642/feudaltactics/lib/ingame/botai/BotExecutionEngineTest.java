@@ -0,0 +1,48 @@
+// SPDX-License-Identifier: GPL-3.0-or-later
+
+package de.sesu8642.feudaltactics.lib.ingame.botai;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for BotExecutionEngine class.
+ */
+class BotExecutionEngineTest {
+
+    private final BotExecutionEngine systemUnderTest = new BotExecutionEngine(4, 2);
+
+    @Test
+    void computeScoresScoresEveryIndex() {
+        final int[] scores = new int[101];
+
+        systemUnderTest.computeScores(100, index -> index * 3, scores);
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i * 3, scores[i]);
+        }
+        assertEquals(0, scores[100]);
+    }
+
+    @Test
+    void nestedCallsProcessEveryIndexOnce() {
+        final AtomicIntegerArray calls = new AtomicIntegerArray(10 * 50);
+
+        systemUnderTest.forEachIndex(10, 1,
+            outer -> systemUnderTest.forEachIndex(50, 2, inner -> calls.incrementAndGet(outer * 50 + inner)));
+
+        for (int i = 0; i < calls.length(); i++) {
+            assertEquals(1, calls.get(i));
+        }
+    }
+
+    @Test
+    void invalidParallelismThrows() {
+        assertThrows(IllegalArgumentException.class, () -> new BotExecutionEngine(0));
+    }
+
+}
@@ -8,7 +8,8 @@ import java.util.ArrayList;
 import java.util.List;
 
 /**
- * Contains hashes of gameStates used in the tests.
+ * Contains fingerprints ({@link de.sesu8642.feudaltactics.lib.gamestate.GameState#getFingerprint()}) of gameStates
+ * used in the tests.
  */
 public class GameStateHashes {
 
@@ -20,563 +21,819 @@ public class GameStateHashes {
     /**
      * Returns the expected for several games played by only AI players.
      */
-    public static List<List<Integer>> get() {
-        final List<List<Integer>> gameProgessHashes = new ArrayList<>();
+    public static List<List<Long>> get() {
+        final List<List<Long>> gameProgessHashes = new ArrayList<>();
         // hashes for game arguments 0
-        gameProgessHashes.add(ImmutableList.of(-1990294997, 190174509, -52993437, 1683543555, 29506846, -1599882558,
-            2085525832, 20410100, -1033408460, 116322518, -1930741201, -276280559, -1538006187, -1269475595,
-            -1643235785, -493504807, 1754398770, -886107884, 1467075414, 1735606006, 2041904186, -1103332132,
-            1144571445, -1495935209, 177189719, 445720311, 1432076861, -1713159457, 534744120, -2105762534,
-            -1112695976, -844165384, 822249536, 1971980514, -1590926351, -1896743259, -1583735071, 486698234,
-            -80191180, 1574975236, -325093321, -48072097, -1305842452, 764590853, 839953810, -1796652504, 1824691252,
-            1347582168, 100563861, -2123970130, -1170411564, -2145732152, -2139297322, -2030923341, 336967278,
-            -1887566713, -1778498024, 357553929, -1246952199, 1130921289, -1258200432, 812232873, 2065080372,
-            -766099418, 116907287, 1747695014, -1522714637, 547718668, 873270740, 1736731030, -1017033772, 476796482,
-            1647522864, -577011127, -1833498427, -970038137, 1435977820, -475148997, -1791935448, 278497857,
-            483756410, -801578567, 497289884, 1340031307, 1581429930, -643104061, 1139449999, 1556553277, 1086006265,
-            967012762, -317366522, 1753066783, 699612634, 2130847259, -147154216, 1541306744, 256927460, -1967606531,
-            -1577696236, 1692503270, 1403087757, 1299476260, 1521066008, -244644583, 522828620, -848982851,
-            -1138398364, -1242009861, 577690829, -492865249, 432901026, -1981779040, 2023772743, 1920161246,
-            799573855, 798058909, -362103567, 1106096477, 816680964, 713069467, 1009627528, -1562821147, -2070815029,
-            -60208077, -349623590, -453235087, -700612909, -254790132, 135630196, 323702387, 34286874, -69324623,
-            -220104285, 1949752059, 1103816126, -23784005, -313199518, -416811015, 1754206022, 756491163, 113869732,
-            1345917120, 1056501607, 952890110, 1996511054, 2126192288, 2136234714, 958028239, 668612726, 565001229,
-            -1857242272, 1480137969, 1841157004, -962522434, -1251937947, -1355549444, 1598859026, -96494274,
-            1313498124, 2008494653, 1719079140, 1615467643, 1174625984, 1923114667, 1525652602, -266863702,
-            -556279215, -659890712, 1994270178, 255246028, -1949670500, -1934732341, 2070819442, 1967207945,
-            -1481052924, -1412622611, -2047439184, -34548404, -323963917, -427575414, 2103700, 358478607, -1834157641
-            , 2132356339, 1842940826, 1739329329, -2125958853, -1769583946, 553057721, 463048688, 173633175, 70021678
-            , 861514154, 726992980, 1023549027, 927398233, 637982720, 534371223, -1083608894, -971507731, -141148447,
-            1876767912, 1587352399, 1483740902, -471783448, -1236241611, 183617048, 93608015, -195807498, -299418995,
-            2020642523, 615717745, 912273792, 816122998, 526707485, 423095988, 396686981, -1746004042, -915644758,
-            1102271601, 812856088, 709244591, 1008512427, -2010737922, 943369903, 1021473660, 732058147, 628446650,
-            -795538758, -349715981, -262535822, -2081503674, 1924048109, 1820436612, 544470972, -1301228506,
-            1885398693, 1640983315, 1351567802, 1247956305, 1979658822, 2036498837, 2112312575, 2015636366,
-            1726220853, 1622609356, 1921877192, -1097373157, 904356670, 1634605625, 1345190112, 1241578615,
-            1521465023, -2138251941, -520426615, 799130970, 509715457, 406103960, -645554677, 1192157981, 1008959283,
-            -1107683720, 1390056773, 1193543268, 1564074895, -434356343, -553456280, -1916908635, -2113422140,
-            1985031651, -1390126100, -822817046, -1880545551, -790089812, -986603317, -1183116822, 6037197, 47781069,
-            1925348644, -118162081, -314675586, -511189091, -1631554656, 975929508, -869483568));
+        gameProgessHashes.add(ImmutableList.of(-7411756899541492053L, 1393359242371092326L, -1547511438626523964L,
+            3539387226596789094L, -2912318734783434677L, 790344805299191060L, -5236335526354037101L, 18866692660821305L,
+            453488510302770220L, 2255107296002604115L, -5293163188877415705L, 8530442058240121623L,
+            -1862888791407359979L, 5924469539807575330L, -5787278429675290486L, -8865751933167258334L,
+            8845403776775296617L, 6854994686956940312L, -5106182673592160839L, -4645036819273855026L,
+            -6867826814016994885L, -7452734754653201078L, -1421893010718371227L, -1400055747720309783L,
+            5335354867723810053L, -8917399470376882310L, 9148263145705518611L, -1300706477095559153L,
+            601881782335679265L, -8209922269659773977L, -2210589381543263225L, 7173307247247430172L,
+            -1660876056555526208L, -1158550089627679837L, 5070528811041329849L, 354292672950174265L,
+            -2940750962354161192L, 9216016744819013281L, -2001984782323002439L, -3680431943078660442L,
+            -8612108166457396437L, 3799485479645977927L, -7291268269654526136L, -4711177833431339326L,
+            -6323570233200993649L, 7858699308661784991L, 400542822487047345L, -7868479383090108469L,
+            8638861299771894890L, 3158669749067719271L, 8627398301841607109L, -6167739806646578234L,
+            993183810006710438L, -1305924722870793519L, 2449624929565292686L, 3198157734455853394L,
+            -3953769318004299463L, -1066305962462886618L, 8982610188413839631L, 6001193133775003594L,
+            -504437007214483385L, -2831482347861934856L, 6181572734649462364L, -7732815836268791595L,
+            -9093064300402144756L, -1598203849715443227L, 4990510614906888067L, 3674179265356102075L,
+            -5457340125768700635L, -7272633237620780728L, -9004035317550085678L, 7610835163360721195L,
+            -3843234037921180931L, 6220236824682899378L, 6886965094431818812L, -3276531605512170140L,
+            -6592296835469782874L, 8903172565623674941L, -1982017354046428174L, 5854638947273219701L,
+            1310675346201800288L, 6914906436964045694L, 6300201374811079049L, 7039917115911961047L,
+            1653524367999710018L, 6016318886380455999L, 4766674069163820064L, 2792168705397797961L,
+            4474391649824672846L, 1178568727747739854L, -5824076614604144134L, -2123155019417432734L,
+            -4712116022213650426L, -8759062486523607195L, -7637439287084156565L, -2197250886148793722L,
+            4012342000380646743L, -4708334112228061955L, -5009612356708361145L, 7643993293305504987L,
+            1316254647741916152L, -7826887862761037018L, 3976227923813543737L, 6639506229294205146L,
+            -6504472809680163230L, 792261449209140297L, 276374181086785844L, 7707040525926109489L, 1164032041295830591L,
+            -88129284344364802L, 2479564749433206972L, -248954620183981559L, 4574283552057133604L,
+            -5677566717848071436L, -8415408739328248825L, 2276583903533803819L, 7142530740934960002L,
+            2373619593137183385L, -2907290027072810639L, -2228135863445815449L, 1105597560883927814L,
+            3836555356014322317L, 4976269689673179472L, 9042895722404627577L, -3768084392894873616L,
+            -8755540914009019390L, 8516036411919719805L, 4468456543387219127L, 5452546500528952643L,
+            737829985902179593L, -5029992725582881720L, -587133583588710691L, -4160488255340561130L,
+            -298365380630324330L, -6958702191689780928L, -2952646543241488449L, 8596162031019873489L,
+            7901499732006788079L, -8549159648489693025L, 8239558571218402720L, 7601392369713027008L,
+            5667216557451167432L, -3575360429738866836L, -635078827989624260L, 6216762524275038732L,
+            6858451981721426892L, 3289947122490591442L, -4220306894571640553L, -4016113332013520786L,
+            -2071785563934890612L, -9143014737387330104L, -7892267505509678514L, 6727300340581650393L,
+            3896847999182174685L, 1297832860460367406L, 9218712832063924934L, 3777459524275534269L,
+            1012274681380015550L, 8100174974573141550L, 5047559048570838542L, 152464903525825485L,
+            -6554540318332523878L, 4271348180899807156L, -1041446171278001205L, 9108172758321950374L,
+            -8416280850308306998L, -7351199927060113144L, -7075842374111348577L, 3519561084241109609L,
+            6133956027688856904L, 8255394208466243390L, 5489870585732409713L, 1361930873095372035L,
+            -6158033426678414314L, 970898901216638864L, 1366624483078430999L, -2258719074247789521L,
+            -3073106980678729075L, 5098244410581252810L, -4322052868565491318L, -2564627626338977482L,
+            -2501677945416082773L, -5959342357500727848L, -8483341027401589272L, -6307633124340550936L,
+            -6011333866406086691L, 8970933347484854244L, -633521061817314631L, -7854654799652837377L,
+            7646221851858815914L, -7344016518346806999L, 7594697671813175151L, 6113738154515140921L,
+            3815287693996242437L, 4448932363240619102L, 4709445738129771614L, -3586053076820368223L,
+            3393693870593057321L, -1882422391437150904L, 5975130045011828086L, -7148054798979614745L,
+            5794856318217334968L, -5441012839306674886L, 199459653546312551L, -1926535881662751952L,
+            1979356314816667410L, -695063016733909031L, -1356021702371228762L, 2848183612509884687L,
+            -947628459798874964L, -5175313113865125199L, 366179404225443162L, -4893592804197061034L,
+            -667613360677207474L, -91168416111902753L, -7562813793756144630L, -4764508176524927170L,
+            -5378513394447845563L, -5977443761672978768L, -8570638016775798408L, 585794593434241369L,
+            2885818544512272626L, -1222495815537848824L, 4046765174039207628L, -8658837591059757462L,
+            6375188352458346934L, -756476946903868780L, 5486014688556812172L, 8050372179490256552L,
+            3807401080291859440L, -2877012947659855601L, -7064287918504012611L, 4188143136293598710L,
+            1648393850732663438L, -615708880222345776L, -6417736773921016097L, 7129997089798375202L,
+            -3167522674317154312L, -8634367419526472800L, 4100020315313229681L, -2272362381270304256L,
+            1687194801097445608L, -3747088883406904788L, 8685463898739599110L, 4078158055888422735L,
+            -2067464248034434385L, 6744189330355837711L, 6197252483412902281L, 5927296762768325171L,
+            8103293562765297706L, -1374519985732908825L, 8377915952742757033L, 6661000106155410546L,
+            -6405472528177093622L, 8432349430688476105L, -7126910624845051462L, -5285338966000758419L,
+            2015078427920102256L, 1787313754062304881L, -3246308518130833491L, -173208337087991403L,
+            2050938213103473567L, 4733904450146272429L, 8259942851120430953L, -2740683617315609170L,
+            -1288008073575879833L, 818259586665007668L, -7234569720600122956L, 7578986660794146584L,
+            -7093037150677641130L, -8829994335911718594L, -2040309693437712133L, 227403542191890199L,
+            -6166113609588013725L, -6648191355148057579L, -4570565537282296711L, 7123306634186405843L,
+            -2189051633436396215L, -9118754627283983832L, -1379984547729671145L, 8287943015418546112L,
+            7941993474684488724L, -8676770232131041604L, 2269057528367439200L, 1799223023840846622L,
+            -1905967043559975835L, -5753273802869363511L, -6871324865552965752L, 5460291736523723563L,
+            -4414923328822429454L, -264080813167188253L, -6390932025892832625L, 6168775342278746396L,
+            1032120336122812014L, -8582716396310443836L, 275319858802950318L, 3103755185635249016L,
+            2780124125988513073L, 858046344368892806L, -6758965371170656280L, 1268565279068862931L,
+            -3779974142508392193L, -1034651394309521263L, -2529600209517332091L, -9061170659796439531L,
+            6424123924559778362L, -6480688879986784238L, -5207992918237671195L, 3115342227904981638L,
+            213647959361665147L, -9095270309554336858L, -548957893926661014L));
         // hashes for game arguments 1 etc.
-        gameProgessHashes.add(ImmutableList.of(-1672939035, -2048330275, -1818331254, 2072046118, -2078824240,
-            1446916266, -499139914, 492704776, 351368760, -1344356341, 1246092471, -1177135943, 840704090, 1634002759
-            , 671149771, 576021596, -1881862037, 1075074653, -2096301089, -105100263, 1015622881, 835635224,
-            1272907645, -389039950, 182284251, -1280299780, 737680788, -1120845535, 1436224046, -1909092952,
-            -1900627647, 224623126, -253288363, 591816054, -1848591986, 2108455834, 1771411640, -696077810,
-            -1291459284, 1278922125, 1954841930, -444979926, 782897797, -64677657, -1507182136, 114362787, 493489756,
-            -475242708, 257339508, 702191054, -60189236, 250721816, -998168630, -726818996, 636530284, -1508125037,
-            1996322190, 1218371968, -1550953319, -362764971, -963738815, -1256599281, 1804402869, -220196349,
-            2033682111, -378351369, -471911073, -1738788009, 1888288482, -897706854, -381092146, 412849043,
-            1156290579, -210525295, 165254075, -946890322, -1953023909, 1432492060, -58985151, -1865693077,
-            -1674168389, -1175184103, 1888024222, -164862577, -1853799769, -2070205430, 1317340991, 566395600,
-            -1680010608, -1279108676, -1970844134, -831372619, -369411493, 660029561, 93291656, 647682281,
-            -1334896032, 508520035, 2077938490, -522633098, -980232647, 1216257585, -1174397545, -2077927564,
-            -992112533, -1052241009, -593114095, -974815161, -1829867480, -931122769, -977662058, -573096648,
-            -657378703, 366707790, 1111401445, 1308363875, 614486841, 453440615, 355339828, -670340339, -403176619,
-            -952552360, 243998295, 1168777142, 391036987, -679058328, -1826573888, -1273837545, -275211607,
-            -262514260, 899761949, -102138947, -635764211, -1933560150, 749360964, 1362052520, -1288429950,
-            1318493326, -730057506, -1994399643, -438992918, 1030297534, -368732308, 1360154627, 296398345,
-            -667292631, -659724339, -1582104545, 660812262, 2092676261, -1952741056, -1110882865, 1417574487,
-            279923306, 509821042, -1128535628, -815622255, 1390945871, 1882989807, 755652218, -1090938410, 377204822,
-            -82641142, 915427009, 1516750962, 769049929, -955341314, 748433555, 1459143422, -984528281, 433923973,
-            -1808660971, -1253467780, -1446609437, 1315247099, -1863971724, 821681920, 1838000172, -173474164,
-            2130475722, 1370607327, -1190571110, -1149059161, 835771651, -2037497357, -35629007, -962061462,
-            -174035937, 94675876, 917520326, 1009108864, -623513113, 1707071242, 967627123, 50713471, -1399534691,
-            1193375228, -606006428, 771870018, 1908388386, 616206935, 1245822955, 1781095523, -62893346, -1747757075,
-            377276571, 892099683, -291705551, -1556805384, -586544640, -144278271, -2138702985, 1545054138, 845932742
-            , 686671223, 40282356, 504641906, 300601553, -1193978998, -1875156441, -759599685, 2124077156,
-            -1106604253, -1842549584, 2094419538, 1064562017, 125842326, -191827032, 1646409065, -541753478,
-            687252243, -24097310, 990661067, 5841624, -1795233782, 535954217, 988235309, -1414932857, 1444345470,
-            719725580, 1800162642, -325455656, 423105519, -137604062, -304068488, -532133612, 505101427, 1339185394,
-            2040043294, -1330439695, 1920336700, 2126548969, -537869149, -1109406837, -713718371, 2117862404,
-            421844740, 1046702233, 883140577, -1047844382, -2070473452, -116385174, -1100072740, 2140319275,
-            1259717724, 379446330, 1171693806, 389019717, -229441100, 227230798, -1036197872, -1415495908, 1688490232
-            , 2032576121, -473255444, 264445330, 1634397117, 1345469927, -1395204222, -1174948644, -2074162445,
-            -893825228, -163861192, -461938765, -57746584, -946515356, -1778614056, -1059526295, 1055406478,
-            -1382216601, -1475333397, -643050, -980278341, -1859545179, 2062842057, -1911318189, 1852253620,
-            844537471, -293566162, -1626744694, -562692950, 592736252, -1543875053, -1468992357, -1823175923,
-            -1996077534, -2005138694, 420482997, -585873072, 1067382446, 92286519, -716500833, 1598966209, 1183310570
-            , 1031952925, -1937039123, 2128566248, -1614688679, 39495577, -142884822, -2096189049, -491238881,
-            -882193287, -681182108, 115495813, 184978479, 699055367, -1718207911, -1146131374, 1344154065, 857575635,
-            1306795765, 1330240493, 293465418, 1342291688, -679317122, 476291046, 288819291, -1125715194, -1489811124
-            , -1752940242, -62682152, -1892674779, 288636741, -571463320, -1342083543, -1250799383, 2139926325,
-            617957825, 1106083220, 589986477, -1475904864, 1688392884, -432247741, 133897195, -1749071431, -1088988,
-            1411974208, -2004771592, -6821485, -1381109066, 1477555907, -1347524858, 2060578643, 1778236076,
-            1170347053, 328021569, 717378575, 1305667269, -747325603, 1510338365, 300751364, -1611750131, -837908457,
-            548557297, 753684494, 520448348, 2111291545, 1754173591, -170825158, 1981145652, -158351261, 1808057973,
-            -863285455, -1340493821, 1922916351, -2121202782, 781350677, 74409998, -186492996, -352188641, 732445772,
-            2055509565, -1993250334, 1937127213, 665374766, -1007962862, 1851331683, 633500643, -678596963,
-            1836320920, 1729808157, 278279994, 1660674663, -861663367, 1500789718, -612995643, -388632443, -184947828
-            , -1923111045, -374581036, -616181500, -14069153, -1734694426, 193250754, -248480137, -1020180022,
-            -540180494, -1642614453, -1130866793, -955497191, -60348793, 2075897760, 1679651873, -913951425,
-            -1815081156, 72512712, -2114731798, 680821151, -385538968, -1866627576, 435818526, 1643354024, -457577522
-            , 1264711338, 1653611000, -1403096153, 1214142146, -1836756866, -991360294, -4114250, 171286274,
-            -1423483188, -1099158870, 1763861017, -499955716, 831967591, -351641691, 559224667, 231641464,
-            -2041841380, 1120276978, -611481365, -1335255539, -1326623267, 1084335799, 439551072, -2122955024,
-            1861832637, -1877955391, 1115227136, 1060741411, -1142797949, 1622377854, -1158865961, 1532530774,
-            -185619925, 1346177944, -1480928587, 1037137451, 171132034, -1763906668, 1992750833, 1798240864,
-            -1514158906, 325436573, -1224043638, 520876611, -576728437, 149377297, 1131944823, -523792535, 1615954953
-            , 182725586, 2064495978, 303088879, 1285656405, -1987266029, 1279877552, 146792675));
-        gameProgessHashes.add(ImmutableList.of(1713733127, 83621003, 1321825508, -264384708, 376926159, -141261914,
-            -192209428, -521754343, -768054996, -500517388, -1270869291, -1140209783, 1330453613, -192700181,
-            171000584, -390492649, 2077376766, 1333568497, 662242668, -1452956338, 171316383, -2015434206,
-            -1388631174, 2125773223, 2137128486, 40790533, 969943832, -1174353720, 1927058709, 1119220972, 92645406,
-            -329342843, 1746031006, 11733469, 1014070378, 790969530, -1673136199, 617091444, 1043243639, 656260527,
-            1816986358, -1806088180, 1524895030, 898385756, -1389707575, 973674675, 1985200996, 859241737,
-            -2082901499, 838349188, -1311913880, 2069710460, -1089015971, -1927776822, 83276398, -1602591940,
-            1390713208, -172325746, 717363358, -736675513, -1313089175, 467458740, 1110355318, 1864480086, 565163257,
-            -1428511458, 1059382242, 1170651160, -1675237053, -1637758883, 1123133805, 2112904276, 1258807340,
-            1735120712, 852352868, -1338102327, 537403887, -1841418472, 391614533, -2064737506, -1592458319,
-            2054960157, -504212031, -1656611963, 1754555844, -606900296, 2079221770, -2111531008, 215923415,
-            -1542984389, -1096202416, 1688894411, 1895909603, 271974416, 383122195, 1734411008, -1819257187,
-            1702615724, 1658881024, -643042832, -1291938810, -766843080, -475438504, -1121699221, -2112200937,
-            -1159859877, 875857607, 1636912242, 149546158, -1844263939, 578642085, -901967478, -303338360, -121832660
-            , -799639033, 1135607218, 727939570, 1343546362, 2010395583, -1970326075, -453370420, -483635769,
-            -378097150, -498444225, -446486570, -1636246757, 146322135, -1582611235, 1135927294, 1730765295,
-            -754852600, 321132242, 12477313, -1703791350, 1139517961, 911968143, -1820068120, -217692702, -1983601417
-            , -1004118063, 107106431, -1471849971, -596087491, 776811786, -2020450475, -395476234, -223679261,
-            -743874420, -369455573, -1775388559, -338951699, 1510748262, -2118678322, 809646514, -1400541331,
-            464093915, -1948552936, -2106003699, -603245802, -1268150584, -1757266312, -448272161, 1134192836,
-            1527517933, 1641378, 476802484, -2098964988, -427848789, 1201397324, -239278033, -903599749, 1561381380,
-            1920464464, 891197369, 1085446808, -355228549, -2128045131, -1012000639, -125590945, 1399640035,
-            -1200876949, -1314495992, -741065701, -977341695, -1173855200, -1370368705, 1864890460, 882856541,
-            111225188, -1154711082, -1351224587, -1547738092, -1817208280, 664586101, -492332946, 175944869,
-            -20568636, -217082141, -515729701));
-        gameProgessHashes.add(ImmutableList.of(741234776, -1354418191, 682204631, 498230548, -1488280192, 751424586,
-            -774135286, -93890251, 1461073716, -1845944890, -764793336, -2120575976, 1243038678, -2090484873,
-            -1051785948, 1032343851, -1355410026, 1700560853, 808626233, 1012187667, 115062461, -823656389,
-            -1439575280, 1244616037, 201268449, -1142619562, 479107593, -700530323, -475607992, -1119969563,
-            1330295645, -311448282, -1676973035, 494258985, 1295682189, -1756934905, -452231908, 1402632240,
-            -1618642520, 2101853265, 1275855747, -229203341, 1904395593, 677897668, 2054914205, -991928825, 810278659
-            , 871505444, -1379896774, -830903228, -1845885764, 1559218597, 1358825811, 278856808, 9860030, 835193116,
-            -1447469661, -259985926, 1316620005, -623641887, 1429837456, 1255404774, -1022418591, 1078384279,
-            -1977314991, -1837646313, 670292763, 449022602, -1082602716, -1090748143, -69203004, 2062436679,
-            -627740530, 272681598, -1312220737, 816289558, 1407435226, -572816520, -1685704756, -193963381,
-            -113502365, 1004453285, -201556601, 238961626, 88640666, 1210099781, -868404721, -293299923, -690835732,
-            -958281783, -953430115, -351366662, -1773980751, 1462738951, 1836330593, 506228573, 1045131253,
-            -1039500739, 2036280600, 718255747, -2093211580, -2073934440, -1084928171, -367695228, 592981559,
-            -2127078166, -1832676666, -211510718, 1637505718, 294858388, 25488436, -415717417, -1825150856, 691890911
-            , -619239775, 1677871632, 1979701090, -1165721087, -1978127923, -107127211, -902807855, 1114365131,
-            1839288, -445515177, -1094341055, 1311152673, -205161555, 1832068859, 1898429554, -322039375, 1281813285,
-            62889518, 1710325256, 1812170769, -1024140157, -144603081, 240383996, 2052134460, 1891547990, -162917119,
-            1027056696, -696792289, 1230900700, 1180731972, 1407058534, -498268464, -830911577, -911842364,
-            -229238418, -1413246238, -625024286, -308994904, -1976193958, -927539018, -3034032, 1217668132,
-            -261806651, 1382833532, -614395243, -1303384822, 1748571024, 1667111968, -460827127, 311969638,
-            -1359984397, 1349775266, 1980846330, 54053088, 1796666502, -1638292222, -1547768945, 621298203,
-            -1915201936, 1931204523, -1932302477, -1627914830, 444662840, -938088481, 1947774769, -1596424564,
-            853278305, -1938267328, -598288703, 1859110246, -1312815188, -1017938913, 1267241089, 30216740,
-            1228688764, 1654402701, -1380470244, -1051135247, 345644552, -189819581, -1014621521, 1120145990,
-            220130008, -229695057, -1853064554, -1704808676, 313513031, -493479881, 1465785325, -1650032230,
-            729911077, 1294901108, -887604238, 1270104836, -1570578446, 1696682241, -47278163, 483591119, 279221852,
-            -1941755621, -2138269126, 231991990, -1383922606, -1241873704, 907652462, 304194487, 107680982, 805683268
-            , 1199513810, 1003000305, -1434845873, 1212573068, 1016059563, -1960356662, 222824772, 26311267,
-            865263694, -609160904, -805674409, -1813699557, -1508378906, -1704892411, 1537626022, 1428612121,
-            1232098616, -523183453, -897921172, -1094434677, 1832765532, 186397794, -10115711, 846100757, -2028593338
-            , 2069860453, 1218454083, 1620135085, 1423621580, -2107705068, 1065711883, 869198378, 1530653374,
-            -394872094, -591385599, 1439376120, 1456191268, 1259677763, 1766930149, 858930636, 662417131, 505719983,
-            1634078015, 1437564510, 824617487, 1219298945, 1022785440, 1945830216, 877379192, 680865687, -197972186,
-            -2112027746, 1986426045, 694826569, -597293024, -793806529, -817636127, -1997780813, 2100672978,
-            -540271726, -1309856291, -1506369796, -85204248, 1159829832, 963316327, 1435661351, -978542635,
-            -1175056140, 67699474, 1491143488, 1294629983, -945436136, 1597281973, 1400768468, -1829853148,
-            -227999200, -424512705, 968433673, -121860715, -318374220, 567561526, -1947141888, -2143655393, 845604225
-            , 389207587, 192694082, 587372067, 1286785670, 1090272165, 45486746, 1404500465, 1207986960, -150478805,
-            -1992888748, 2105565043, 538846967, 305023299, 108509794, -348696242, -1848364721, -2044878226,
-            -1592774650, 91161297, -105352208, -1285182301, 481163568, 284650063, 1666256809, -1624832910,
-            -1821346415, -291580514, 742911265, 546397760, 882946118, 1206765325, 1010251820, -1864197083, -863666366
-            , -1060179871, 1276319267, -1446891890, -1643405395, 1151227312, -142793731, -339307236, -103174260,
-            358166957, 161653452, 1130954002));
-        gameProgessHashes.add(ImmutableList.of(1816133426, 2118233541, 1244113996, -283469863, 891653334, 989616698,
-            217236362, 1239943925, -2050678849, -555551277, 1115041817, 873782918, -1162706428, 1276749325,
-            1249722967, 1249698666, 701291325, 1562255052, 1194773945, -808410178, -1128321651, -1604590490,
-            1883489009, -240784605, 2051924393, 1123709822, 183348395, -193723942, 2092612534, -2112960931,
-            2017191429, 1835218245, -1441806220, 994414932, 1272145873, -404190293, 340370842, -1980065807, 878104113
-            , -1756756754, 1541639072, -601843454, -23103980, -276465270, -713378646, -1908562351, -1068795030,
-            194851496, 1273466957, 1902444782, -739974491, 1865260725, -1030325632, 1803046011, 288018684, 1261553325
-            , -2122503603, 1014709356, -105923695, -438153074, 6611596, 1005611903, 1548027489, -1070219459,
-            -833062992, -1954496238, -1157721116, -1931304616, 285237869, 1438053928, 431500494, 497864759,
-            -1382324012, -757744661, -1667271469, -1499422574, -1546607644, -510847928, -1931616878, 1171250491,
-            805609663, 731281576, 2110758206, 1961497365, -1806534975, -354370447, 1790937893, 2083373057,
-            -1359243289, 515483118, 560011109, -1960742150, -2037891164, -1961176815, -1510475662, 140966030,
-            1662825261, 1376895654, 1354070234, 1258406859, -1563178808, 1079049387, -1398900259, -975057650,
-            1084991172, 394345576, 1225935718, 307699304, -1947354041, 110292304, -2096108775, -1357739021, 661711786
-            , 1483956610, 1860809124, 2017996891, 1925120920, 1497134358, 391628940, 1671246180, 784931363,
-            -1566430140, 1910821762, -344120348, 1371562979, 1681785633, -881151425, 1334040094, 1294764804,
-            955619680, 1945399454, -2007425432, 990723379, -1048952695, -1300097982, -819164410, 1632021740,
-            -1311177563, -1571971454, 1658786420, 1478495867, -346966919, 2015024756, 1145250559, 304929139,
-            -2012245844, -597543021, -1989125758, -1666269300, -410693330, 49614524, -618107928, 803079263,
-            1940813229, -1331325511, 1127755172, 1505373492, 1097059496, -1126672415, -446115260, 907159915,
-            787208288, -1775710639, 13813544, 110791678, -331595729, 1443324386, 2144014209, 425635591, 446371132,
-            141383510, 2105104910, -134361974, 39411652, 784075889, 645106117, -795987163, -45759082, 2096396195,
-            1302470321, 1965745380, -921272119, -1913278476, 1618612614, -145464957, 1660538534, 889539380, 700454745
-            , 827180868, -1182104416, -143081628, -967668478, -1664465555, -1584994248, 1331819496, 971272113,
-            -1084303210, 1381375099, -1795897894, 1291598380, 1763457452, -1659825668, 1476201299, 341669506,
-            113307305, 369577723, 1567561837, 96108134, 1343120110, 577656568, -1330250186, -1678570179, 310069001,
-            1329900318, 71908672, -1213422227, -1074492670, -200559305, -963112317, -1260306753, -920336847,
-            -690414230, -1691993900, 231970716, 1346911278, -494944217, 113743281, 588559050, -621602625, -1084970728
-            , -1522227406, -1128974866, 822678997, -2094910250, 1550623210, 475995096, -1628946701, -1745069131,
-            217106795, -995655348, -1350855757, -1181849802, -500588934, -1640784147, 1669204734, -1335726460,
-            -206578096, -1221199362, 983141703, -1091434590, -890253807, -474485372, 2132088743, 880635501,
-            -2136073938, 810645452, 169435190, 717926134, 1837829238, -784224615, 1389136058, -52079210, 567624872,
-            -1184856184, 668294801, 1145627932, -1579212285, 1968183284, -2012843230, 1585077428, 2088984927,
-            2091856146, -4433316, -1604072435, -202426483, -273995289, -1018400630, 1638665419, -1807515678,
-            -818149841, 264907673, 966021929, -1339725577, 1119879040, 939299883, 876315367, -1327774889, 981976660,
-            691482205, -1427348516, 261852480, 179534819, 556064823, 489444507, 440595852, -548492978, 475230969,
-            1115550418, -348853182, -1706930068, 1560119570, -510005861, 1242563906, -192169718, -902672910,
-            153057231, 1379530792, -1790899676, 626294366, -1184140871, 1057074333, -33620983, 166425937, -1094928312
-            , -842393207, 95963710, 253645025, 2093022850, -669453554, 666460302, 1280556379, 1987995950, 141871158,
-            -1142716889, 1644501723, -1936536331, 2046433436, -230499087, 1955231308, 723844510, -1694971563,
-            111451327));
-        gameProgessHashes.add(ImmutableList.of(1151655729, 1269141572, -1357961987, 531664537, 2077886908, 1211332057
-            , -1573394334, -747619265, -1178276734, 318322780, 853427901, 245038488, 386833759, 1814563196,
-            2063964097, -734403685, -199298564, -807687977, -1345951076, 81778361, 1011237632, -1787130150,
-            -1252025029, -1860414442, 1216231385, -1651006474, -41488833, 1455110681, 1990215802, 1381826389,
-            -516553450, 911175987, -1094215298, -1492418517, 1136950456, -2088649019, -582271823, -289550763,
-            -975298833, 977450944, 714973284, -1157536947, -1536714104, -1243993044, -1929741114, 176034368,
-            -1308002641, 444742998, -776440979, -483719919, -1169467989, 1616365863, 433606563, -1581461268,
-            167665098, 460386158, -225361912, -1054436986, -429741823, 1199060037, 2078261901, -1923984335,
-            1685234891, 1859175589, 675139107, -1096661869, 1019104842, 1311825902, 626077832, -1312174138,
-            1850487469, 78686493, -293059629, -338569, -686086639, -1476561689, -1980539801, 542626519, 1978334860,
-            -2023911376, 1585307850, -352944120, -805191439, 1717974881, 666170389, 958891449, 273143379, -517331671,
-            -341251413, -2113052389, -1357402418, -1064681358, -1750429428, 606285898, 834096949, 365042485,
-            -1915159067, -1622438007, 1986781219, 1196306169, 2052444797, -412074707, -921472291, -628751231,
-            -1314499301, -473798273, 289576305, 850142134, -1430059418, -1137338358, -1823086428, -113026719,
-            -99986537, -1061381790, -1570779374, -1278058314, -1963806384, -2061201138, 923808183, -707399550,
-            1307366194, 1600087254, 914339184, -990510033, -493013545, -1454408798, -1963806382, -1671085322,
-            1938133904, -1774169776, 530781175, -1100426558, 914339186, 1207060246, 521312176, -703478671, -886040553
-            , -1847435806, 1938133906, -2064112330, 1545106896, -1487138414, 137754167, -1493453566, 521312178,
-            814033238, 128285168, -416447309, -1279067561, 2054504482, 1545106898, 1837827958, 1152079888,
-            -1200107052, -255272841, -1886480574, 128285170, 421006230, -264741840, -129415947, -1672094569,
-            1661477474, 1152079890, 1444800950, 759052880, -913075690, -648299849, 2015459714, -264741838, 27979222,
-            -657768848, 157615415, -2065121577, 1268450466, 759052882, 1051773942, 366025872, -626044328, -1041326857
-            , 1622432706, -657768846, -365047786, -1050795856, 444646777, 1836818711, 875423458, 366025874, 658746934
-            , -27001136, -339012966, -1434353865, 1229405698, -1050795854, -758074794, -1443822864, 731678139,
-            1443791703, 482396450, -27001134, 265719926, -420028144, -51981604, -1827380873, 836378690, -1443822862,
-            -1151101802, -1836849872, -1208476404, 1786279073, 2097178770, 1593193949, 1885915009, 1200166939,
-            -1576367892, 989174638, -439239348, -187134570, 105586490, -580161580, 186192972, 246932233, 1744192114,
-            -1568207656, 1999848888, -72767815, -1262941030, 388496682, 191983177, 1174550703, -1156345145, 513499514
-            , 517084587, 2056707486, 1860193981, -1452205789, -1441500256, -399983174, -41633755, -989523689,
-            -1186037194, -203469668, 1964499282, -1340681725, 1505180527, -1930222240, -2126735745, -1144168219,
-            -453404316, -91945604, 946462185, -681486119, -877999624, 104567902, -1342372074, -1032644155,
-            -1801690829, -1622184670, -1818698175, -836130649, 534691624, 216091966, 1934558125, -373448549,
-            -569962054, 412605472, -354276134, -724606585, -813594889, -1314147100, -1510660605, -528093079,
-            1522787564, 524129536, -1372313231, -65410979, -261924484, 720643042, 633819806, -416569015, 861979399,
-            1839398128, 1642884623, -1669515147, -1816409385, -2090937660, -335518481, 1500982122, 1304468617,
-            -2007931153, 795234580, 1890059720, -1700176187, 268225390, 71711885, 1054279411, 781958411, 805119707,
-            -356865680, 1640900017, 1444386512, -1868013258, 2142674008, -314391154, 390340235, -1936225484,
-            -2132738989, -1150171463, -750762987, -2087718431, 1045263478, -1251938121, -1448451626, -465884100,
-            609952610, 1087738004, 1792469393, -534096326, -730609831, 251957695, 2011482911, -685589273, -1847574660
-            , 150191037, -46322468, 936245058, -922768788, -1805100134, -1100368745, 868032832, 671519327, 1654086853
-            , 478761513, 716539885, -445445502, 1552320195, 1355806690, -1956593080, 1839477110, -402970976,
-            301760413, -2024805306, 2073648485, -1238751285, 1332794826, -716088673, 1738422154, 1000615237,
-            804101732, 1786669258, -1958697585, 1343837401, -302974404, -1922516258, -2119029763, -1136462237,
-            2123823013, -249236050, -1026689174, -838776565, -1035290070, -52722544, 309336122, -15418949,
-            -1274532894, -408445959, -604959464, 377608062, -1302216806));
-        gameProgessHashes.add(ImmutableList.of(-133193102, 346327263, 390705903, 1690606002, -559822581, 1189360398,
-            -105621964, -479432619, -1943901588, -209114136, 1351487140, -632868216, 1628598421, -1215578831,
-            -1544045869, -1571977023, 257593215, 1907904319, 1553700289, 971007189, 1910028513, 2100712088,
-            1244890050, 131571182, -1759319586, 650584652, -2137364085, -675135076, -19743190, -1649072364, 675069773
-            , -1642161845, 1884516914, -1129419571, 588282965, 1561861882, 778204459, -631902771, -788041714,
-            693172919, 812387485, 1941902938, 559612399, 1688683940, 357045938, 1501450518, -315622264, 784968521,
-            1070988385, -319772433, 1122010980, 1754478989, -579727833, 1528361925, -1703242147, 465841636,
-            1083412291, -674769944, -372970468, 1938838302, -1648359015, 1594773366, 1366944596, -337302008,
-            -1447267125, -1648327306, -393841347, 193501136, 602331187, -292408111, -809174867, 1454399794,
-            -1317659110, -483491128, -1605756925, 1944096667, -1664214129, -2138803003, 1578611087, 2144497580,
-            -1041280382, -1219392133, 895317749, 1213389325, -1985074933, -752327029, -1732896907, 1737835783,
-            -1767759358, -1819296972, -1211372530, 1611791764, -290016238, -344675645, -492806989, -1144496248,
-            -161928722, 1367460253, -1291702479, 1190081087, -2029617574, 1776687, 984344213, -996810937, -308123687,
-            -487916570, 1044573716));
-        gameProgessHashes.add(ImmutableList.of(-1361428871, 1340257149, 1427705652, -1322817428, -1788892638,
-            1204216239, 1105696558, -57728785, 433075415, 1895865426, -515345966, 667395593, 792184916, 2020801102,
-            -1389578586, 582504303, 1371896009, 687747041, -1066328171, 1316002450, -858410390, 1154389470,
-            2095003896, 1363701689, -1252576697, -1846136002, 1968670414, -1528714298, -2044084213, 1058936400,
-            -424201612, -1820444871, -2089609553, 900107835, 255956999, -2110468087, 1903749269, 206859482,
-            -1321676083, -1690530448, 13394126, 615476270, 672394237, -1116816500, -1357328524, -420773576,
-            1614574470, 541232084, -1883478849, 1875935574, 1686090555, 1906074871, -664086925, 2072022961,
-            -1383473169, 1897064416, 1709178297, -462087476, 1541211001, -2086695854, -2103721889, -234686279,
-            -64611566, -1974545403, 371074397, -1374846572, 567465293, -544864365, -944577945, -804344393,
-            -2124533772, 1249122155, -1427445770, 1610438599, -544507583, -336576376, -1054369636, -466653300,
-            -2107730363, 1657045808, -420751249, -2061138672, -1800788688, 1522621829, -645004409, 143883810,
-            -2115196707, 305178075, 337973204, -1660999337, -991129080, -92950447, -870798374, 1799956270, -683333776
-            , -1414962855, 495019871, -1799552396, 613207447, 1115707239, -727389540, -1747068249, 1956139910,
-            1442691385, 1054458125, -1367493509, -1214363854, 1623762302, 1985054570, -26450150, 1489561966,
-            1089418810, -675445338, -753724310, -1574212491, -1779247800, -1563268156, 39261730, -680289492,
-            472281617, 2013248238, 2134113099, 1762461306, 249150782, 1842823052, 1618579124, 431988837, 1758505676,
-            1053174275, 856660770, 1285174743, 1124988916, -1908626273));
-        gameProgessHashes.add(ImmutableList.of(2135126373, -1264341184, 1976743440, -911428351, -1962655702,
-            832700534, 2146918050, -1650681901, 1468011966, 1833482105, 1887972681, 41548977, -917913342, 1771517329,
-            796255904, -1415258792, 1054195378, -662523269, -98779802, -1059705898, 1459887014, -959688916, 550804726
-            , -1854516961, 1912203025, 1898723920, -1484802204, -1765879497, -947376117, -552652560, -636351435,
-            146934680, -182488514, 1309803147, -2023807342, 1886221606, -1174156593, 1647028508, -1193126807,
-            156885631, -927009711, -243314831, -1475676159, 773850846, -1714732202, 1260495287, -349419964, 444203237
-            , -2087494713, 1795304053, 1009575763, -823479012, 486200577, 2042013365, 1571236495, 494541704,
-            1403645492, -3006505, -754992260, 154215573, 349756621, 1096715257, 153045844, 1799028897, 1393594107,
-            113028878, -2015785845, -1736011830, -2114505746, -812808102, 903816669, 512534261, -1637944078,
-            -1723089472, 115347456, 660086645, 1346052902, -1745354766, -455983750, 1305900704, 1969733349,
-            -1171449800, -781117142, -861986980, 1761012987, -1200461678, 1414729850, 1211104894, 826834592,
-            805628985, 649116731, 1228946113, 135817742, -525329943, 2125056834, 1610238518, 1165100779, 1454368806,
-            938647332, 223846320, -87651926, 900672676, -55865920, 729897059, 1402765523, -1450182225, 1149198384,
-            596251762, -304454958, -1229307126, 1084298968, -475212402, -1318515750, 352675157, 1236902330,
-            1173430947, -266414490, -928687799, -2004337790, -2138686711, -1277315875, 1993509527, 1796996022,
-            713691564, -361485088, -22232760, -2146032376, -104806013, -301319518, -497833023, -694346528,
-            -1434360955));
-        gameProgessHashes.add(ImmutableList.of(1585513291, 1343811599, 1347192811, -1198636372, -1847010638,
-            -1523616418, -1207576426, 1800773260, -2010683744, 578390083, 176364938, -1064897156, 612137376,
-            -65058761, -1152519705, -1305009058, 2084511473, -635646827, 921579518, -818046827, 1917930740,
-            -717118773, -841842416, -1562012319, -1395503164, -601238675, -483026673, 797301131, -718348830,
-            -1928471749, -610854900, -138846774, -880015555, 232958867, 707217426, 964604676, -364353197, 1274489512,
-            470731431, 884508393, 1457230909, -316641292, -1572147055, 850300697, -1954235734, 1729118369,
-            -2049965408, -946253506, -1958534798, 230594426, -1585971404, 749696979, -763234484, -1457110102,
-            1171544389, 1195355738, -417757775, 2139753690, -782091113, 85620837, -758645659, -1801208103, 1424238572
-            , 453315512, -1341446874, -420005892, 957593932, -1732137276, 1104408788, -1677627525, -1595587516,
-            1627980900, -1680983981, -812789636, 52590658, 497274701, -640827039, 859214006, -2104325294, -1444463239
-            , 415695778, -1193670532, 1364995967, 604311449, 928200509, 73475028, 47625331, -108777500, 888459891,
-            1695212289, -213736572, -1628745606, -208490142, -1715084860, -912987043, 1846738933, 1740768534,
-            331052817, -1097249360, 1589909057, -661909459, -1089685631, -1986828414, 1871450150, 1776857395,
-            1566598264, -516822307, -1539652025, 148933854, 1582153573, 965711729, -176036181, 608730238, -915972532,
-            -1889545817, 267627341, -1349593357, -734315431, 1873474758, -992516613, -240443870, 959735070, 145314512
-            , -2067658208, 353427591, 1309375459, -1849854659, -337808681, 1242808290, 1641158114, 1336037510,
-            1246164529, 964075189, -1843463935, 896330947, 552882551, 941424261, -570610835, -1865507798, 614908431,
-            -293140274, 1112303881, 1310798546, 1361829065, -1950570705, 2085316611, -1208392301, -277977456,
-            -1280447824, -905158495, 77409031, 2001071617, -1828845362, -1130526360, -99540467, 987791, 983555317,
-            268817790, 168664966, 588795935));
-        gameProgessHashes.add(ImmutableList.of(1151655729, 1269141572, -1357961987, 531664537, 2077886908, 1211332057
-            , -1573394334, -747619265, -1178276734, 318322780, 853427901, 245038488, 386833759, 1814563196,
-            2063964097, -734403685, -199298564, -807687977, -1345951076, 81778361, 1011237632, -1787130150,
-            -1252025029, -1860414442, 1216231385, -1651006474, -41488833, 1455110681, 1990215802, 1381826389,
-            -516553450, 911175987, -1094215298, -1492418517, 1136950456, -2088649019, -582271823, -289550763,
-            -975298833, 977450944, 714973284, -1157536947, -1536714104, -1243993044, -1929741114, 176034368,
-            -1308002641, 444742998, -776440979, -483719919, -1169467989, 1616365863, 433606563, -1581461268,
-            167665098, 460386158, -225361912, -1054436986, -429741823, 1199060037, 2078261901, -1923984335,
-            1685234891, 1859175589, 675139107, -1096661869, 1019104842, 1311825902, 626077832, -1312174138,
-            1850487469, 78686493, -293059629, -338569, -686086639, -1476561689, -1980539801, 542626519, 1978334860,
-            -2023911376, 1585307850, -352944120, -805191439, 1717974881, 666170389, 958891449, 273143379, -517331671,
-            -341251413, -2113052389, -1357402418, -1064681358, -1750429428, 606285898, 834096949, 365042485,
-            -1915159067, -1622438007, 1986781219, 1196306169, 2052444797, -412074707, -921472291, -628751231,
-            -1314499301, -473798273, 289576305, 850142134, -1430059418, -1137338358, -1823086428, -113026719,
-            -99986537, -1061381790, -1570779374, -1278058314, -1963806384, -2061201138, 923808183, -707399550,
-            1307366194, 1600087254, 914339184, -990510033, -493013545, -1454408798, -1963806382, -1671085322,
-            1938133904, -1774169776, 530781175, -1100426558, 914339186, 1207060246, 521312176, -703478671, -886040553
-            , -1847435806, 1938133906, -2064112330, 1545106896, -1487138414, 137754167, -1493453566, 521312178,
-            814033238, 128285168, -416447309, -1279067561, 2054504482, 1545106898, 1837827958, 1152079888,
-            -1200107052, -255272841, -1886480574, 128285170, 421006230, -264741840, -129415947, -1672094569,
-            1661477474, 1152079890, 1444800950, 759052880, -913075690, -648299849, 2015459714, -264741838, 27979222,
-            -657768848, 157615415, -2065121577, 1268450466, 759052882, 1051773942, 366025872, -626044328, -1041326857
-            , 1622432706, -657768846, -365047786, -1050795856, 444646777, 1836818711, 875423458, 366025874, 658746934
-            , -27001136, -339012966, -1434353865, 1229405698, -1050795854, -758074794, -1443822864, 731678139,
-            1443791703, 482396450, -27001134, 265719926, -420028144, -51981604, -1827380873, 836378690, -1443822862,
-            -1151101802, -1836849872, -1208476404, 1786279073, 2097178770, 1593193949, 1885915009, 1200166939,
-            -1576367892, 989174638, -439239348, -187134570, 105586490, -580161580, 186192972, 246932233, 1744192114,
-            -1568207656, 1999848888, -72767815, -1262941030, 388496682, 191983177, 1174550703, -1156345145, 513499514
-            , 517084587, 2056707486, 1860193981, -1452205789, -1441500256, -399983174, -41633755, -989523689,
-            -1186037194, -203469668, 1964499282, -1340681725, 1505180527, -1930222240, -2126735745, -1144168219,
-            -453404316, -91945604, 946462185, -681486119, -877999624, 104567902, -1342372074, -1032644155,
-            -1801690829, -1622184670, -1818698175, -836130649, 534691624, 216091966, 1934558125, -373448549,
-            -569962054, 412605472, -354276134, -724606585, -813594889, -1314147100, -1510660605, -528093079,
-            1522787564, 524129536, -1372313231, -65410979, -261924484, 720643042, 633819806, -416569015, 861979399,
-            1839398128, 1642884623, -1669515147, -1816409385, -2090937660, -335518481, 1500982122, 1304468617,
-            -2007931153, 795234580, 1890059720, -1700176187, 268225390, 71711885, 1054279411, 781958411, 805119707,
-            -356865680, 1640900017, 1444386512, -1868013258, 2142674008, -314391154, 390340235, -1936225484,
-            -2132738989, -1150171463, -750762987, -2087718431, 1045263478, -1251938121, -1448451626, -465884100,
-            609952610, 1087738004, 1792469393, -534096326, -730609831, 251957695, 2011482911, -685589273, -1847574660
-            , 150191037, -46322468, 936245058, -922768788, -1805100134, -1100368745, 868032832, 671519327, 1654086853
-            , 478761513, 716539885, -445445502, 1552320195, 1355806690, -1956593080, 1839477110, -402970976,
-            301760413, -2024805306, 2073648485, -1238751285, 1332794826, -716088673, 1738422154, 1000615237,
-            804101732, 1786669258, -1958697585, 1343837401, -302974404, -1922516258, -2119029763, -1136462237,
-            2123823013, -249236050, -1026689174, -838776565, -1035290070, -52722544, 309336122, -15418949,
-            -1274532894, -408445959, -604959464, 377608062, -1302216806));
-        gameProgessHashes.add(ImmutableList.of(-133193102, 346327263, 390705903, 1690606002, -559822581, 1189360398,
-            -105621964, -479432619, -1943901588, -209114136, 1351487140, -632868216, 1628598421, -1215578831,
-            -1544045869, -1571977023, 257593215, 1907904319, 1553700289, 971007189, 1910028513, 2100712088,
-            1244890050, 131571182, -1759319586, 650584652, -2137364085, -675135076, -19743190, -1649072364, 675069773
-            , -1642161845, 1884516914, -1129419571, 588282965, 1561861882, 778204459, -631902771, -788041714,
-            693172919, 812387485, 1941902938, 559612399, 1688683940, 357045938, 1501450518, -315622264, 784968521,
-            1070988385, -319772433, 1122010980, 1754478989, -579727833, 1528361925, -1703242147, 465841636,
-            1083412291, -674769944, -372970468, 1938838302, -1648359015, 1594773366, 1366944596, -337302008,
-            -1447267125, -1648327306, -393841347, 193501136, 602331187, -292408111, -809174867, 1454399794,
-            -1317659110, -483491128, -1605756925, 1944096667, -1664214129, -2138803003, 1578611087, 2144497580,
-            -1041280382, -1219392133, 895317749, 1213389325, -1985074933, -752327029, -1732896907, 1737835783,
-            -1767759358, -1819296972, -1211372530, 1611791764, -290016238, -344675645, -492806989, -1144496248,
-            -161928722, 1367460253, -1291702479, 1190081087, -2029617574, 1776687, 984344213, -996810937, -308123687,
-            -487916570, 1044573716));
-        gameProgessHashes.add(ImmutableList.of(-1361428871, 1340257149, 1427705652, -1322817428, -1788892638,
-            1204216239, 1105696558, -57728785, 433075415, 1895865426, -515345966, 667395593, 792184916, 2020801102,
-            -1389578586, 582504303, 1371896009, 687747041, -1066328171, 1316002450, -858410390, 1154389470,
-            2095003896, 1363701689, -1252576697, -1846136002, 1968670414, -1528714298, -2044084213, 1058936400,
-            -424201612, -1820444871, -2089609553, 900107835, 255956999, -2110468087, 1903749269, 206859482,
-            -1321676083, -1690530448, 13394126, 615476270, 672394237, -1116816500, -1357328524, -420773576,
-            1614574470, 541232084, -1883478849, 1875935574, 1686090555, 1906074871, -664086925, 2072022961,
-            -1383473169, 1897064416, 1709178297, -462087476, 1541211001, -2086695854, -2103721889, -234686279,
-            -64611566, -1974545403, 371074397, -1374846572, 567465293, -544864365, -944577945, -804344393,
-            -2124533772, 1249122155, -1427445770, 1610438599, -544507583, -336576376, -1054369636, -466653300,
-            -2107730363, 1657045808, -420751249, -2061138672, -1800788688, 1522621829, -645004409, 143883810,
-            -2115196707, 305178075, 337973204, -1660999337, -991129080, -92950447, -870798374, 1799956270, -683333776
-            , -1414962855, 495019871, -1799552396, 613207447, 1115707239, -727389540, -1747068249, 1956139910,
-            1442691385, 1054458125, -1367493509, -1214363854, 1623762302, 1985054570, -26450150, 1489561966,
-            1089418810, -675445338, -753724310, -1574212491, -1779247800, -1563268156, 39261730, -680289492,
-            472281617, 2013248238, 2134113099, 1762461306, 249150782, 1842823052, 1618579124, 431988837, 1758505676,
-            1053174275, 856660770, 1285174743, 1124988916, -1908626273));
-        gameProgessHashes.add(ImmutableList.of(2135126373, -1264341184, 1976743440, -911428351, -1962655702,
-            832700534, 2146918050, -1650681901, 1468011966, 1833482105, 1887972681, 41548977, -917913342, 1771517329,
-            796255904, -1415258792, 1054195378, -662523269, -98779802, -1059705898, 1459887014, -959688916, 550804726
-            , -1854516961, 1912203025, 1898723920, -1484802204, -1765879497, -947376117, -552652560, -636351435,
-            146934680, -182488514, 1309803147, -2023807342, 1886221606, -1174156593, 1647028508, -1193126807,
-            156885631, -927009711, -243314831, -1475676159, 773850846, -1714732202, 1260495287, -349419964, 444203237
-            , -2087494713, 1795304053, 1009575763, -823479012, 486200577, 2042013365, 1571236495, 494541704,
-            1403645492, -3006505, -754992260, 154215573, 349756621, 1096715257, 153045844, 1799028897, 1393594107,
-            113028878, -2015785845, -1736011830, -2114505746, -812808102, 903816669, 512534261, -1637944078,
-            -1723089472, 115347456, 660086645, 1346052902, -1745354766, -455983750, 1305900704, 1969733349,
-            -1171449800, -781117142, -861986980, 1761012987, -1200461678, 1414729850, 1211104894, 826834592,
-            805628985, 649116731, 1228946113, 135817742, -525329943, 2125056834, 1610238518, 1165100779, 1454368806,
-            938647332, 223846320, -87651926, 900672676, -55865920, 729897059, 1402765523, -1450182225, 1149198384,
-            596251762, -304454958, -1229307126, 1084298968, -475212402, -1318515750, 352675157, 1236902330,
-            1173430947, -266414490, -928687799, -2004337790, -2138686711, -1277315875, 1993509527, 1796996022,
-            713691564, -361485088, -22232760, -2146032376, -104806013, -301319518, -497833023, -694346528,
-            -1434360955));
-        gameProgessHashes.add(ImmutableList.of(1585513291, 1343811599, 1347192811, -1198636372, -1847010638,
-            -1523616418, -1207576426, 1800773260, -2010683744, 578390083, 176364938, -1064897156, 612137376,
-            -65058761, -1152519705, -1305009058, 2084511473, -635646827, 921579518, -818046827, 1917930740,
-            -717118773, -841842416, -1562012319, -1395503164, -601238675, -483026673, 797301131, -718348830,
-            -1928471749, -610854900, -138846774, -880015555, 232958867, 707217426, 964604676, -364353197, 1274489512,
-            470731431, 884508393, 1457230909, -316641292, -1572147055, 850300697, -1954235734, 1729118369,
-            -2049965408, -946253506, -1958534798, 230594426, -1585971404, 749696979, -763234484, -1457110102,
-            1171544389, 1195355738, -417757775, 2139753690, -782091113, 85620837, -758645659, -1801208103, 1424238572
-            , 453315512, -1341446874, -420005892, 957593932, -1732137276, 1104408788, -1677627525, -1595587516,
-            1627980900, -1680983981, -812789636, 52590658, 497274701, -640827039, 859214006, -2104325294, -1444463239
-            , 415695778, -1193670532, 1364995967, 604311449, 928200509, 73475028, 47625331, -108777500, 888459891,
-            1695212289, -213736572, -1628745606, -208490142, -1715084860, -912987043, 1846738933, 1740768534,
-            331052817, -1097249360, 1589909057, -661909459, -1089685631, -1986828414, 1871450150, 1776857395,
-            1566598264, -516822307, -1539652025, 148933854, 1582153573, 965711729, -176036181, 608730238, -915972532,
-            -1889545817, 267627341, -1349593357, -734315431, 1873474758, -992516613, -240443870, 959735070, 145314512
-            , -2067658208, 353427591, 1309375459, -1849854659, -337808681, 1242808290, 1641158114, 1336037510,
-            1246164529, 964075189, -1843463935, 896330947, 552882551, 941424261, -570610835, -1865507798, 614908431,
-            -293140274, 1112303881, 1310798546, 1361829065, -1950570705, 2085316611, -1208392301, -277977456,
-            -1280447824, -905158495, 77409031, 2001071617, -1828845362, -1130526360, -99540467, 987791, 983555317,
-            268817790, 168664966, 588795935));
-        gameProgessHashes.add(ImmutableList.of(422332244, -278943126, -1632127127, 501884163, -1104439133,
-            -1108538301, -1013328613, -220172421, 250718652, 245381908, 1654162230, 1908228500, -1720129314,
-            -568697730, -69915009, 604806617, 2013586939, -2027314087, -2040762975, -889331391, -390548670, 964231326
-            , -1921955648, -1667889378, 1933570660, -1209965052, -711182331, 1323656035, -1562530939, -1308464669,
-            1612936999, -1530598713, -1031815992, 1413337230, -390290749, -1226457812, -2084400285, 1347236236,
-            -840137905, -144292503, 321148737, -1945404543, 1627270458, 763939683, 1234243448, -687189168, 1017473670
-            , -1347601113, 1545015518, 681684743, 1151988508, 1718068725, -578832726, -1146956150, -741852352,
-            -1605183127, -1134879362, 1918713688, -378187763, -946311187, 1266247074, 402916299, 873220064,
-            2119358651, -177542800, -745666224, -1020620796, -1883951571, -1413647806, -1974963682, 23102163,
-            -545021261, 987478630, 124147855, 594451620, -1774318719, 1080216182, 439409310, 1371839718, 508508943,
-            978812708, 1097555202, -1426991235, 895744646, -607606986, -1470937761, -1000633996, -1062778559,
-            597132918, -1117826285, -39227140, -902557915, -432254150, 194742135, -363686866, -380613697, -1789527385
-            , 1642109136, 2112412901, -759142304, 1539955157, -1990156281, -1591615506, 1840021015, -1984642516,
-            1237895144, -360257350, -2082914325, 123080913, -740249862, -269946097, 1145137100, 2034497439,
-            2119294927, 1837777332, 974446557, 1444750322, 1052379056, 134284932, 2026536883, -742493545, -1605824320
-            , -1135520555, 959621012, -1765927575, 1933778839, 972202874, 108872099, 579175864, 866862968, 628827214,
-            1841020795, -1608068003, 1823568518, -2001095013, 774104924, -1271385293, 1748262751, 106628416,
-            -756702359, -286398594, 681346880, 1123369496, 1655504707, 1821324835, 957994060, 1428297825, 588588836,
-            873489476, 205538851, -2116153854, 1170115791, 973602286, -1673561166, -1124406456, -1564530979,
-            -2078769221, 2019684570, 1823171065, 1663520446, 1286782317, 1423786130, 1920171917, 1723658412,
-            1527144907, -439960175, -2118690793, 824386722, 1806954248, 1610440743, 1413927238, 353675009, 1254099144
-            , 1957639308, -1354760462, -1551273967, -1747787472, -598093542, -673452795));
-        gameProgessHashes.add(ImmutableList.of(-580521401, 1273320430, -2117771564, 834229321, -137780308, -873197788
-            , -892025425, 501197700, -88026791, 1303853526, -330063932, -570426720, 98227321, 1857329274, -993864614,
-            -591436277, -776829882, -265076662, 1175302064, 953315812, 809547004, -1329349114, -832231946, 678161442,
-            -631845207, 1389808966, 764245754, 927613607, 125331518, 45232544, -1220508690, -889422750, -979769644,
-            -1271893543, -283322528, -1747658452, -1864091419, -36796066, 264685780, 425968939, -2032449576,
-            1863662963, -1003398093, 937213235, -517196459, -1311073969, -1574524958, -1469835249, 477450649,
-            -1644730749, -248804151, -1898278067, -572754458, -18198033, 1156077441, 1354827880, -1918731323,
-            1178149625, -1511674313, -1173259380, -703626382, 1325135003, -1485933930, 479132170, -436279907,
-            -1998310687, 954100820, 1460005759, -1648877803, 1619207612, -1671976945, -2081434865, -1849027477,
-            1342698750, -1746544653, -1582453112, 1707529281, 411563605, -704690975, 1219279330, 1480977771,
-            1729963149, -371446393, -1915129971, -1322101546, 748037496, 292175432, 511793111, 557096039, -2139958310
-            , 1989348443, 110555655, 2084048994, 1088685715, -1031223047, -1638083161, -500056864, -1570426766,
-            237379043, -1811838603, 141028835, 1245700445, 1500535793, 545300970, -354921083, 680661383, 214380372,
-            258939418, -1043795844, -2039762245, -442479161, 1895975608, -495662349, 1742605559, -1130341681,
-            1981108249, -721439391, -780540202, -543486505, -428289714, 1956377024, -1726746077, 225694457,
-            1621887936, 1425374431, -1645925656, -1698377818, -450768215, 339246595, -282206443, -478719948,
-            -1506243435, -1580375738, -152566677, -878008786, 1152540498, 956026993, -162401886, 1955766726,
-            1622861275, -637851570, -1956128961, 2142324830, -160109361, -1355441871, -393918704, -102725966,
-            -1862157905, -2058671410, -1937988991, 129579162, -1300961158, -1332729282, -1152877579, -1349391084,
-            -621959754, 1380554192, -1305485559, 127364893, 1770062659, 1573549154, -2076227680, 863358151,
-            1064610396, -1640173024, -192471151, -388984656, -585498161, 1787305380, -1148658860, 518904452,
-            -1366221002, -1562734507, -1759248012, -675555960, 1646364739, 1614316018, 1063612625, 867099120,
-            670585615, -293290881, 1664325811, -830060799, 169321697, -27191808, -223705313, -390252479, 1313937731,
-            -279830199, 1338318316, 1141804811, 945291306, -74457228, 1520016257, -868814825, 858210463, 661696958,
-            465183453, -2086082917, -1310565183, 1077611338, -145653197, -342166702, -538680207, -1476042746,
-            24493693, 70412368, -650490391, -847003896, -1043517401, 250058345, 214514668, -534047075, 391495626,
-            194982121, -1531384, -1165123070, 1071232285, 1598335470, -1012563736, -1209077241, -1405590746,
-            -1682445233, 1001308911, 1042193767, -136156998, -332670503, -529184008, 1667648198, 1231846484,
-            -2043303139, 164154799, -32358706, -228872211, -613739925, 658507815, -1234310558, 1078069446, 881555941,
-            685042436, 1711310588));
-        gameProgessHashes.add(ImmutableList.of(-120939038, 605725215, 1679366572, -622354272, -342306873, -1284968011
-            , 1146437635, 229241696, -1736842875, 1650940093, 1149824778, -1787695774, 726289316, -263945982,
-            821033858, 407723477, 1353830407, 348193745, 774080019, -687127667, 1852904747, 1642759555, -1906189453,
-            1570858713, 378616235, -1899166370, -401684554, 1917034292, 1776995521, -1092102026, -1290468476,
-            761160735, -50479563, -659245003, -562922088, 623607870, -641720319, -1723863480, -426675312, -1578288948
-            , 1137865765, -2112082328, 787085408, 817432030, 726140403, -2092224720, -248695626, -1371523135,
-            584171060, 244834873, 1598878717, 1928679271, 506674620, 1607083455, 1661705988, 1372114731, 816163257,
-            -2010576939, 1501805528, -760311572, -1752306374, 1791894990, -127414372, 1213859784, 983927388,
-            -447470927, 1851227506, 666452931, -57536188, 483466984, -1072836261, -1088647594, -1602550636,
-            -1942067361, -502708333, -77606692, -2132845595, -1001003101, 99927828, 1958883651, 1362744923, 303722177
-            , 1606628226, -1694726264, 433779977, 1278614967, 1047860130, 1154228843, -1089965444, 63336816,
-            1230729348, 1257780118, 243180903, 898460723, 1993961491, 1467103350, 1280531787, 1472175653, -1545221343
-            , 1740325892, -965747399, -255591012, 587222774, -1841362973, 874482789, 800376189, -479352942,
-            1175454641, 644420902, 402887344, -965661319, -381191481, 10815737, 1600337749, 333546066, 1307435729,
-            1150999115, 167768077, -146681729, 1882453345, 2051206928, 1854693423, 1040852317, -444716611,
-            -1940970873, 18633320, 1001200846, 804687341, -521277947, 1674931339, -1024269006));
-        gameProgessHashes.add(ImmutableList.of(-901412317, 1401578587, -704430116, 2058349042, 1260322981, 1577519824
-            , -1276940874, 1300709748, 1222478384, -895853223, -1367732981, 1143319524, -663103732, 1673981874,
-            1763958078, -1369437256, -601258415, 1456354407, 658170865, -562921928, -57058163, 694928150, -1040039162
-            , -1928743132, 866887312, 346749627, -1587674929, -180600850, 2058592908, -170568408, -115153914,
-            733589405, 1033065438, 868268605, 892512565, -149555349, 774766197, 1615245180, -1123934066, 527122817,
-            -1872459084, -1674709182, 18479603, 575352803, 121450540, -632421733, -676994809, -1836634592,
-            -1819884020, -4453814, 1658909548, 1220688243, 1391956080, 1116076614, 1916906523, 485336694, 1101324226,
-            2119666976, 1757731784, -136870021, -1528613923, 1296437017, -1386423982, -971407907, 231654426,
-            1111837361, -655560173, 903831570, -918358049, -1374290726, -171562501, 699685451, -1248833342,
-            1991801092, -735009647, 233228327, -1029188303, 608426175, -1157246175, 2091122274, -1644520933,
-            139150545, 422048396, -1374961034, 1825214023, 1126004535, -435408752, -1924913028, -1897703935,
-            -199761112, 516347643, -667191217, 1042236131, -44976083, 403405253, -1697167401, 1802433611, 1867530179,
-            2027910128, -532342429, 1234585118, 373914871, 711800892, -424701697, 691779529, 747491433, 9655337,
-            -1988881008, -1328384757, 66593752, -2102927016, 1995526775, -441653812, -886675062, 1796730338,
-            1118616649, -1856946623, -2053460128, -701055223, -499449720));
-        gameProgessHashes.add(ImmutableList.of(1686860120, -462469412, 387730377, 212518415, -1602188638, -667666810,
-            2065661389, -398286945, -2065259268, 1913163907, -774003355, -305977232, -621596028, 276332274,
-            -1500859658, -1564284929, -1637356169, -2041695067, 420974655, 1984539178, 759238052, 837600801,
-            -741550040, -1628681287, 1430475361, 2094124796, 1521139242, 198532666, 580400682, 1023227566, -98887420,
-            -1851033442, 966655711, -793008824, -1913991283, -564162962, 1058498083, -369958074, -977501417,
-            623258193, 1929650274, 129849900, -227196286, -1157523100, -1541620137, 1246598408, 1648119921, 924713154
-            , -1847647934, 1434758533, -2141500558, -1843601574, 812730895, -668637123, 895756388, -1839712575,
-            -831940582, 2089251501, -315107034, 1322497229, 1886052597, -2069436667, 226573647, 1210402505,
-            -138696749, 1467990419, 1959572244, 2124784904, 409638006, 1391452783, -1665654941, 894365493, 743631445,
-            1189433642, 149210555, 1237530161, -1491176609, -1650646934, -1717116957, -1030684264, 1524128575,
-            2079011139, -669002576, 1028632955, -519395649, 1207195658, -1820951251, 1235630155, 1076370388,
-            -95802965, 1578179753, -985528240, 1163987322, -289983108, -898696283, 1992126136, 214745709, 2110064677,
-            725632071, 457327469, 1122135706, -371097666, -708034676, -2083148484, -2042905316, 989114857, 2001085921
-            , -1114100201, -1125788821, -405109001, 2114005174, 1325364007, 129330535, -1856750094, 1416186850,
-            -1894489333, 1989528784, -1211868246, 766904552, -1643940881, -1615344636, 1630488287, -438457371,
-            -1246941783, 749298471, 2026460175, 186264359, 1861089742, -1511958012, 1600874725, 1900034142,
-            -1218141483, -784703569, -332392209, 1549418715, -1173312833, 545753247, 1692126648, 527805201, 158495777
-            , -609950770, 1249269293, 1403813947, -358378798, -674557097, 1312094689, -364869159, -1550298958,
-            2110128291, 917732484, -288228040, -1542596811, -2016845110, 1850996178, -1144474161, -444079000,
-            356955427, -1306603551, -409787196, 522503025, -125674577, -2005316472, 1840146738, 336396884, 1834695929
-            , -637218325, 748731006, -73634355, -628385279, -1893142930, -605341704, -823896890, -1679383787,
-            1353046136, -1102336274, 15635848, 682921497, -344119168, 1814285068, -1340580161, -1368394774,
-            1600126246, 2132079116, 1543645771, -706049271, 1801085049, -1819048978, 520215701, -469389219,
-            2007150749, 1496925937, -1362204526, -440637968, 317707328, 511194644, 1596115383, 1994007768, -1450180,
-            -561107341, 698076952, -1778185723, -1345857620, 989556155, 1404916173, 756647990, 1404799317,
-            -1897401000, 1874255788, 859609840, 34544191, 889879224, -1110056068, 1670438025, -188145122, -127808735,
-            41965207, -1746636577, 288786080, 748700210, -1416803265, 980365786, -986954952, 1039956536, 2118572977,
-            1020937323, -1746397725, 1717373955, -634430887, 1414207542, 1217694037, 38592137, 110617717, -981135218,
-            -1441874246, -1104075040, -1300588545, 38325504, 1503183211, 554377542, 158073054, 1498303962, 1301790457
-            , -1938000355, 38600571, -58722121, 1373423394, 930296897, 733783392, -521467830, 204805690, -580570972,
-            571363953, -1751257720, -1947771225, 2030136410, -1569586266, 1595130035, 2036867893, 1015278709,
-            818765204, -555288532, 1150195245, -419156458, 1779407231, 1185496559, 988983054, 277313425, 1293599086,
-            1380252013, -511589696, -1322715573, -1519229078, 755259495, 680918222, 734906860, 1035434045, 966219359,
-            769705854, -1289666293, 259816587, -528013009, 913774982, -305953777, -502467282, -479512615, 146333459,
-            468624708, -976375289, -1773155878, -1969669383, -1496693405, -948212636, 246332228, -1613425702,
-            2124807148, 1928293643, -1093767142, 689825565, -310500911, -27504390, 2075657153, 1879143648,
-            -1803130179, -1059724864, 1414512792, -258064530, 1844067687, 1647554182, 1451040677, 1254527172,
-            -1952604580, -1707796824, 28927617, -167585888, -364099393, -560612898, 784764968, 420311803, -444561604,
-            -641075109, -837588614, -1034102119, -325182460, -1288850587, -572038624, -768552129, -965065634,
-            -1161579139, -1166480082, 1167570222, -1978164813, 2120288978, 1923775473, 1727261968, -760329177,
-            2074356059, 1746363309, 1549849804, 1353336299, 1156822794, 1341858397, 1507452387, -42166372, -238679877
-            , -435193382, -631706887, 659785994));
+        gameProgessHashes.add(ImmutableList.of(5946309692147852198L, 4661424174034904461L, -7091981115098308804L,
+            -5083507959816176842L, 7149835302044502757L, -5639975248528301678L, -3283589468646042662L,
+            7807104449317259618L, -6149529747216541273L, -6761744042622513971L, 6407685818243801420L,
+            3458232898579931024L, 5192750372643753040L, 5508032594694250274L, 5430894113042713123L,
+            3407771108523808409L, 733277254352593355L, 7691560135116301867L, 4700096262741112628L, 1701050529766537497L,
+            7832697024880370962L, -2741440244911510266L, 3467488290006998561L, 6051548406688072161L,
+            821114027730773030L, 1706322813692024788L, 3527419836408888771L, -3097050154323144006L,
+            5629228128782681012L, -1059220297608698668L, -680281722140860803L, -2344404288589396634L,
+            -2914354959075797805L, 4427094144155886192L, 240440201294472266L, -3044216296563045555L,
+            2911383212257255307L, 3454338825756795236L, 8296647516874965387L, 6379491283760129659L,
+            -1306913199194874278L, 349244046348960073L, 6524676406562282736L, 5784434487459671192L,
+            -5507251465058986912L, -1980404355928471677L, -3354166883071082567L, -4190874786463093508L,
+            6004520620869892477L, -8024310035966832772L, 2904502362754335024L, 5761520471316479639L,
+            -6749843751478541320L, -6809561099397194275L, 3213492208892955474L, -3708177608076190255L,
+            6485151427915706824L, 4495009467233357614L, 789584887812356618L, -5929033915653371801L,
+            -8989365605860871514L, 4247286987114995473L, -3035423464525016796L, -5181383968656514591L,
+            2564412310159169211L, -3539334069155814827L, -7275425190371355605L, 260294872512230392L,
+            3758273026886525621L, -9122163434868027085L, -3515929115135555003L, 3115086505816128497L,
+            6996630023249928323L, -1288016704688861626L, 1265556164363199189L, 1779701106825959028L,
+            4572640405142299923L, -679537982314342929L, 4377833022053043016L, 7624009706320750942L,
+            7300799753109820078L, 7321122739737343143L, -9126294973365102655L, -557914229577829409L,
+            3781176355808737032L, -1669068726382871099L, 1428903644541101872L, 4052165943103417473L,
+            -2796737622793754094L, -4371161047783217782L, 4373086567927840620L, 6856053887787766289L,
+            -2866492772049482159L, -2630444106545754730L, 2033846271561959125L, 3024416390938131748L,
+            -4725083813932279381L, -4288908084774719966L, -3021913880715205125L, -7449925926350916480L,
+            8736994463350804342L, 8132095355292908282L, -6449017288294439357L, -7610577862643193664L,
+            2309015027191865460L, 2264790815341326310L, 5476836139422973363L, 7513230384796032706L,
+            5563973045422828052L, -416344156669232902L, -8519698266612405386L, 53282614858382642L,
+            -7422697984360858100L, 4322773626865269926L, 4305672883443899425L, 7294124067221151636L,
+            7844228464782265621L, -3006171976735231781L, 1725612168550965520L, 7866802673344363990L,
+            8100752485014819717L, 2837196140707590709L, -8452263497797157931L, 4911443229511675684L,
+            -5561651051725182931L, 4476942398946067835L, 5716766581203355074L, -7436491544929054641L,
+            -5038031476801645142L, 3054412812561019692L, 3672112760114924095L, 9185774530271990301L,
+            -3206039885139411871L, -744133151302002324L, 2512737163957585937L, 1215890733444083159L,
+            -4617944368133752421L, 4091614811504640037L, 3979044044276156875L, 8839059599715518362L,
+            -1174000886369563691L, -6310544685478331794L, -6847054175224464260L, 8736368080455571433L,
+            5770796416222059606L, -3386464707438093644L, 1027078674758631532L, -8127030484194643884L,
+            489371118494928253L, 5781642279197018837L, 7986115330777405845L, 8595726958007647205L, 1259113053356565041L,
+            -3284822007076698813L, -80640519530874357L, -8886850032087094537L, -8445269506185924737L,
+            -7098371316983551741L, -8119949461031536532L, -6614505669965453303L, -715669415217936102L,
+            -617506937432996004L, -527546175547518044L, -6277685743910567904L, -1497790227209831666L,
+            -827533987593439363L, -4773396078770896296L, -4982529613036494512L, -9190435185404067777L,
+            -5067327629321954204L, -4284661593554457887L, 2134438867279547857L, 3865149311814200991L,
+            -6831005830469550048L, 5907974727922237134L, -6038298507038727330L, 4615985826549913205L,
+            6153965344422841695L, 7962454562652978615L, 5054391462726310806L, -5124919110543742991L,
+            -9127310403322458772L, 6319748033383960068L, -2778991321309853853L, -7622308987959268204L,
+            -5981358813314999248L, -4220302858216622039L, 7284914990310711648L, -8216478010896134933L,
+            -5048740914958061878L, 3780129442332520756L, -3899493322720243376L, -8935903698170650949L,
+            -7287721646489089226L, -2522800926103417813L, -4271603046245717287L, 8728701827643434060L,
+            -4189598869020126335L, -5716210450621752407L, 5971192646406672336L, 1495756764660465950L,
+            2706514261492384759L, -4780417394024271581L, -3556809696144635226L, -5359812282760019053L,
+            -2553428757257811698L, 9151729237922383049L, 5211871768775740002L, -4954223579199811004L,
+            3802922533908748979L, 6965510817363112707L, 1940059929912833632L, 8056272389153200329L,
+            -1972859438732227079L, -7687453909940399064L, -4342950296439893402L, 7627005605960385066L,
+            7935125552093674466L, -5137190130049484795L, 1658220374492467239L, 892510923738113518L,
+            -5008663255002613604L, -5990437166699486453L, 2308808543865810116L, 5502724026426183592L,
+            5013110243695277957L, 3208047193962611782L, 3351972448098704971L, -8169868343676395127L,
+            -5919820370050174605L, 8608130005797403164L));
+        gameProgessHashes.add(ImmutableList.of(-8866386868751638716L, -2379666971761670770L, 6325418955049540971L,
+            376174164773792788L, 7293717500173936701L, 1262861558319516273L, 95377403374517902L, -2456328637130674515L,
+            7154635274124357201L, -6252809259170440680L, -4656318573631871739L, 8326331337887123921L,
+            -7878598370127758661L, -8780646640654376344L, -170580424997774301L, -7933840276721788456L,
+            -8382381474936764156L, 6240063215484379306L, 8717803356354194342L, 250787682939224405L,
+            7038807921073378629L, 9193069211317264165L, -5573310155777113056L, -2511539620965077487L,
+            4378065966648005842L, 2732394859213729975L, 8695173294463692079L, 4689333490227000718L,
+            5656047652510704941L, 8000152214427794809L, 3145382473447659441L, 1181088802327935587L,
+            -2763675443804264696L, 6932737557766471654L, -3516743191856813571L, -4920887979800412297L,
+            -1584575931857696345L, 8183736316391402754L, -7856831490899810583L, -4604016526299689111L,
+            7067819128313431145L, 8865436960894228988L, -558039495322056172L, -1126505702740075918L,
+            4344684528648804080L, 6148695033667067990L, -709538028660070133L, 3497220478558709451L,
+            -8837474738449303761L, 6883548733978954005L, -7907402467047039178L, 7803353661958465777L,
+            -3306482684891082282L, 1436554993761505922L, 2221190377652120546L, -7716382538537035221L,
+            2190469427630893643L, 2582744454810914072L, -205492622730660321L, 6602767629997150176L,
+            7799216182263990647L, 4773640357275745259L, 3255338083172661710L, 1322459576250165094L, -32902786126648521L,
+            -5562519634168045073L, 5344578927594018250L, 7834254364878361328L, 2553294981397122445L,
+            -3967814495168846346L, -5763804429637001798L, -3648556838139306549L, 7548626162997472350L,
+            6313213548342949843L, 2578747344195046229L, -1470206212825756934L, -1514330132389238185L,
+            -3648842495785909437L, -1645185200411149267L, 465120510440841122L, 471102309410203620L,
+            -7124280590953402876L, -4253741581231230878L, 6311089748857277293L, 6012651558362051728L,
+            -2997535857312791965L, -7728422985784491063L, 5574606779681325603L, 8093638356574081471L,
+            -470375775733939919L, -2229096524099573934L, -4530526286841093601L, -5879966609284231823L,
+            -2958177899669406675L, 2819879413714702862L, 3492568317075222588L, -6023120163144416411L,
+            -1307482005890983984L, -7068385172141641367L, 5911717127310650274L, -756788021375335199L,
+            -5086852465488089929L, 1421237968935342526L, -3739779491369605092L, 7581350461579386306L,
+            5044917017206483060L, -857595002631230079L, -3038373118173441952L, 7609355889003718140L,
+            1519682013268794066L, 81590711759626045L, -8645369409314517405L, 1596831401087626836L,
+            -9110742356667376115L, 4040479416322000680L, -4842642326246932244L, 2376166515453680324L,
+            1001320868117735085L, -652841084685791710L, -1177164328947827676L, 1226462856791246150L,
+            -661739091112373005L, -8819810631948903312L, 1579543475317775200L, 8857410367932202576L,
+            5918870815255904775L, 2957845789508417475L, -1318900599757690120L, 2662872472389717541L,
+            2257859612513828200L, -4530637102745981030L, -2183144279620392073L, 2470655831990582057L,
+            7989959372095714440L, -2925130036856516487L, -5673827292078705798L, 1278552077742588299L,
+            1297508981923630228L, 7311396105114870614L, 8434489839863500719L, 5018186622883317639L,
+            1439077055288517228L, 7811983958650055524L, -4931276000515794212L, 479437946617735255L,
+            -6472553217497079713L, -6638565737005022712L, 4820314779724025176L, 1436369428043389427L,
+            -6627758618992082339L, -3206431394711482150L, 1386488448582951497L, -1887535012728145297L,
+            -6053009740909661191L, 5906156900295321181L, 103232159304185109L, -634555768943666257L,
+            -1220399890995115479L, 7471783187933406088L, 6143711218819110902L, 229775346331116687L,
+            -2927899619151948121L, 3349068628653506931L, -4741571579272714487L, 7142334090936554810L,
+            8427614065971035063L, -1464005548871824203L, -7032449081989176231L, 7428472237103086837L,
+            6904056097797246263L, -3176675312529292534L, -5413944510156507223L, -6116238854300235292L,
+            -1621053989285306171L, 6244447440964658361L, -6148073479018835874L, -2624165767416016634L));
+        gameProgessHashes.add(ImmutableList.of(-4888444740429009872L, -4235437652391493705L, 8368770084450719306L,
+            964184737714079951L, 7288546157588143937L, 255506942274293208L, -5169139007123776583L,
+            -6523970536743895011L, 2187060990573442567L, -7911309670364308543L, 7773956245182884111L,
+            3013997220247989172L, -537806180309237333L, 7082442549554450024L, 6125832088618843581L, 671266602157271704L,
+            1480801007580086319L, 2450042834087359524L, -8095181756027473764L, 2775032476708310126L,
+            -6948941370988872656L, 5905410552620246676L, -4958745736659225640L, 6967568604985126102L,
+            1263589862354726478L, -5875934831312178865L, 8481915275224989717L, 3664477439364005674L,
+            -5821126555570620815L, -1902889406125293851L, 7582672900323120825L, 4715280021834874946L,
+            -3210405429658123616L, -3787113677614035291L, 1981977833890418662L, 4643157530208341268L,
+            4115685966275198917L, 5611359997037995471L, -3677893610928487183L, -140046278850623673L,
+            -4899028361385768416L, -6819830540361506349L, -1552757265303415450L, 8066978071377249170L,
+            -1266882884591139273L, -6462070005939353298L, 4352081002351267301L, -7432937976228657029L,
+            3445946675408629636L, 7730388084842722994L, 4330525370886312494L, 3269106735702446950L, -18164765702375617L,
+            -3438182721785802356L, 8384827436217946423L, 3865627399074468973L, 3905386709296128771L,
+            2378440168952763049L, 4285427098677803869L, -6597362331395580786L, 5240836302024859877L,
+            -7180692763785734494L, -8855876985119180534L, 5582704210879808346L, -1687942119237158661L,
+            2146588623385229203L, 5933778219016796389L, -366002317402280032L, -1910918855464278408L,
+            -4556837675496427567L, -4237217936211967282L, 8626597997343167939L, -8015750918060726769L,
+            3810268669504123676L, -1062925517560936977L, 8856896237120510678L, -1505827004324415506L,
+            -5725954786371187884L, 127418684894653724L, -5721239829703054991L, 4145922882736488785L,
+            142459881502005581L, 7846354286685531087L, 1171829391571473966L, -5625326058969873080L,
+            -5526050625374736975L, 8300865335984473971L, -4580899060928223760L, 1980512858870357256L,
+            2194853820387784096L, 5369319824180378217L, -3913442170033878286L, 7773430010818278274L,
+            -6656795785028549223L, 2340999697282421726L, -3812804673243249229L, 5609236985513106242L,
+            -1958976140114670508L, -8331873148994164013L, 7913668061038280924L, -7054388186742861405L,
+            -4160138952017631991L, -7234813309788966783L, -8838440533121773785L, 4452121935327964340L,
+            -6388085000067979765L, -4038301871072061991L, -7775979306995650233L, 661051266322090227L,
+            -3341524182702315798L, -2080865286558708173L, -1141318359750378818L, 4076012195186928710L,
+            565441169933114509L, -6153702749266081900L, -2870627589209593356L, -7665717507284460765L,
+            -4786147425584278452L, 7217365064247916009L, 1461596568309714053L, -6457702130915337634L,
+            -8592303838391038541L, 7484798832137453663L, -6397812237872198061L, -631979575578698557L,
+            -1918666066630541291L, -2715644885903342699L, 121913986764586247L, 1540674256076858628L,
+            993146073577958382L, 2286182673453843184L, 8161156704354365089L, 7653056280537705917L, -742062963279405608L,
+            -2465415391901593768L, -170702859275465726L, -1996229224606714664L, -3779452141901315422L,
+            -8131829077337517953L, 4297147530189208108L, -8536764196861167909L, -7994698935996241464L,
+            -202043197747073808L, -1656740317135366244L, -4271570987169302223L, -2127343538320893060L,
+            -9065303835901483810L, 7471055536358982868L, -4960704508286085014L, -6262172101351613009L,
+            2760769968184863377L, 2247921406190529553L, 2897702252821186710L, 1776147986347942389L,
+            -3273446114542864191L, 4970092184777008398L, 6689638526260911855L, 3379632688835024875L,
+            -4130692815519884662L, 6437701089708016908L, 4025068620563108450L, 7549986789048164003L,
+            -306923930150038839L, -3372828555613495326L, 2787348244147629082L, -4743912405734662427L,
+            -9167809364366502770L, -4390004536984542952L, 1162355559919095264L, -5328645643755789742L,
+            -3383569757389681686L, -3299238083252798383L, -1707529978059351330L, 7466037713945850104L,
+            -8024670704684437148L, 565685905582916174L, 3840693582469184753L, -620879753856069131L,
+            -4199579452552073055L, -1955038798851310279L, 8438332975053015012L, 5647992108794632995L,
+            2307907769808461827L, 8636054855086782710L, 36688627951760059L, -2820939673992793136L, 4563644742198932795L,
+            -3564585106317143681L, -2854242856567915592L, 3282210551064807994L, -9141971394969294756L,
+            -7023813794392183211L, 1339041118876995255L, 2971688454678252853L, -1124856054805433899L,
+            -3792894780710613153L, -79032548575246468L, -7155993263178807014L, -4222254715806131919L,
+            4011612828864389537L, -6180502938439692934L, -1642018749237213245L, 3124594341112655621L,
+            1341049887156353302L, 1221033419357235629L, -1617750286894334570L, 5877136412843830429L,
+            1209645242341801140L, -5228237517738586269L, 837909502577082568L, 2700695353931242134L,
+            -3764406516139243803L, 3285705098786321651L, -2492263843341357872L, 4095634785288633547L,
+            -1622153140930710769L, 779721544720343669L, -461290992582220116L, -5428792515283199934L,
+            3629837748033250958L, 263740888591255176L, 8564028519241790048L));
+        gameProgessHashes.add(ImmutableList.of(3086629457778525383L, 6782291755215826749L, -3236813308672279181L,
+            326324897829449919L, -6763449873780072196L, -3390375942959300582L, 5775344751856411583L,
+            6035590834417664711L, 8158557095785114181L, -6255941824172119488L, 7962849949525235938L,
+            -4151538893603042127L, -5077824433283167739L, -2940249372467828523L, -7211491341680511346L,
+            3681096634896531939L, -8653639019958853938L, -8506830233579131728L, 1986402367765700133L,
+            -7990325942358935963L, -66973655927571943L, 6711831526056107986L, 6355687602622387219L,
+            -4970043528132070422L, 8447308067068926526L, -3175209307592409081L, 1168549559650889386L,
+            -7019102980410903334L, -8099112787509098434L, -8747058224513524589L, 991193686273885165L,
+            7894047573522849379L, -7148021440065325567L, -4034682456845129893L, -7033790899356738755L,
+            -8883283587181242861L, 7317320736406010499L, -8799743361300259074L, -7039391845283359164L,
+            -3634729654126616135L, 793466541107365314L, 8520183983669016888L, -171951253174180577L,
+            8968718335375557423L, -3762945735460334428L, 6666330810291368905L, 256644806661336670L,
+            -786916636160319020L, -5657928547607461459L, 4530967783647776188L, -2093824330808648438L,
+            -8301849103667459950L, -5840726166338491250L, -6770324555433030871L, -3442264329744403245L,
+            4154881971029454411L, -675395134987973248L, 1867292667293418641L, -665908141637804671L,
+            -2059350925994802249L, 6084631469556779931L, -5555646502267648448L, -6686527589199193499L,
+            -8576397913793008509L, 7042572632798109879L, 8921025032024058712L, 8216853394684301089L,
+            -304982941301502381L, -2031530251066765837L, -8344427137925831042L, -4678210355961260631L,
+            5197499242972158132L, 8424141784803939476L, -182944419863544798L, 3583299272203070665L,
+            -5086050680219813314L, -5255869709349569140L, 7783833225996582435L, 2468337055440556264L,
+            6628008460760517953L, -5658581169447593505L, 7914609761154996569L, -4599204055695681138L,
+            -5028501477817142168L, 9073836699644797041L, -285963280014152963L, -5294476414004833491L,
+            -574249331795419282L, -1137831722194656777L, -6406213202109004926L, -2930544520113557274L,
+            7351271236175141014L, -4392559470619352370L, -1095613877024543244L, -6381068806289713968L,
+            -1233202137720843595L, -139669671174982341L, -3870689772740689617L, 8650377123165886626L,
+            -2159823928533670702L, -7888233058952333161L, 7209535639142757650L, -5689739892682521290L,
+            -2410515576556065538L, -184716611904117438L, 8801180605306663194L, 6849717611475883625L,
+            -7248877437095563356L, 3908084607735632140L, 7266532689820588623L, 593624448135307900L,
+            -8775098408115583265L, 4262964418839679620L, 9078016280990695245L, -4264437473450163327L,
+            -8288879335463187926L, -1412114405824271245L, 7921265904140223708L, -2168821908379178180L,
+            2289483160174792410L, -1158472944717907245L, -5117388105711111944L, -4192113209422013772L,
+            -4848429035192741218L, 8378218950403567560L, -2221382880446388878L, -3856970482782040544L,
+            -6959169313989946913L, -7062951995631693191L, -5017786365583800985L, 5399472111646912418L,
+            -9034960999378205220L, 3351137168795999573L, 6964631382400593309L, 6063768668113882185L,
+            3553845286511112884L, -8173308290393054849L, 3206726208025452862L, 621960672219381396L,
+            -5905396465706862582L, 5800124123308943563L, 4447158272368220935L, -347029846512346523L,
+            -6443023893302426894L, -3832273828887591373L, -681802173099448875L, -7966168762147832168L,
+            -6414251594959054932L, 2225595653481394504L, -4844296961619175732L, -5493899554320078230L,
+            -5111197871640878462L, -6935905010166362221L, 1269438020640641908L, -920039534022375772L,
+            -6458466570066576403L, -6609832909478010103L, -7572910831165001255L, 195797345092643197L,
+            -8564731054233629842L, -6463401532975304654L, -4053897502420627332L, -2959545270194300495L,
+            -5448351333947309655L, -806782375448992736L, 2530959189360029299L, -1583223520757724565L,
+            972606976148997233L, -1102288090343631080L, 6342647072904673230L, -4208558595980770052L,
+            6984708960986667004L, -4031600859135105141L, 2656753558070132860L, 3685906834983014585L,
+            -4950293615787748363L, 1713982915875232120L, -9003879166226994670L, 3786192717385608928L,
+            -6695080748237373334L, 3707950921139275144L, -151876626897103713L, 3207817347013699588L,
+            -8155943572918198968L, 3478177730759219249L, -3373843502179011618L, -803740081205633237L,
+            4445395288419485482L, -8335211616927663856L, 2483592931009670200L, -6415383606509093344L,
+            -5966923660714040155L, 8850098168776393364L, -5674899527040779519L, 7114195965462187813L,
+            -4333206253138996383L, 9170910505521412804L, -5739566305176165617L, 5372451147908814955L,
+            345521573319301962L, 7181158833198917719L, -3797757209533130392L, -2427376785147471780L,
+            4177657633084420834L, 465851227357186915L, -267470560231713323L, 8577658474128076220L,
+            -2376511775198990722L, 7454716615215889308L, -9163283488236973828L, 1891734192085623201L,
+            2219760325506238567L, 8983759599816910792L, 4678791482777221349L, -4372987693823588267L,
+            -8904697613013403615L, -1541460500665601459L, -7108167292770899420L, -1279975106834058707L,
+            2019115602923394540L, 3313039728756065129L, -6830461920433803586L, 4453325306190384753L,
+            -7024455050025610045L, -2740001544100504651L, -2733846822925428139L, 2927634627199783286L,
+            -2183523748698639770L, -1903827548500503769L, -2450166845156957942L, 9221061418425129028L,
+            -3189287997714835786L, -1837898294347170196L, -5885859775535791131L, -5299608835613978698L,
+            8042173649424633782L, 3153184536310293035L, -868883411594537675L, 9191172730402928806L,
+            2876963060032394670L, 6366983757699898123L, -4199434633062451066L, -8459344117611762491L,
+            2043378946821094043L, 8166417509380131717L, -8332548372237892800L, 666210986496786057L,
+            1622622927413178450L, -7473093456546336843L, 4390998683370628299L, 7798957573444292937L,
+            -7398664582109861842L, -1348522119391445723L, -2955895422342958526L, -7316674700188878874L,
+            -2216165676933070619L, -8468917369869813218L, 5190848577192333454L, 4764310171508189410L,
+            -3230954493588734771L));
+        gameProgessHashes.add(ImmutableList.of(-4540123874070216390L, -2118082990020214398L, -2158909473864331283L,
+            -6533667544833579842L, 2804912519269899808L, -5533959516007823709L, -2838979643560845859L,
+            -8150311163127451594L, -4447336680873924935L, 7877144179837375117L, 1926075168677172054L,
+            6039417420967731369L, 582589561662095540L, -7636154683499952016L, -873066907682163607L,
+            2325257482782113549L, 2210861414654419903L, 2681026490698490983L, -8520068859982678458L,
+            6486521383610453973L, 8451774356046030325L, -4078521828741488230L, -8564181839280761722L,
+            4098717698692748037L, -2294343981300938163L, 5175803300487108317L, -4444052607164908385L,
+            -3843544291845746655L, -9205695821355999938L, -4449232238614976487L, 4755296140847763203L,
+            -1128777187515877697L, -4530904865953305509L, 5105607277232314260L, -8346834940136657589L,
+            3947859220271034685L, 2890611118667778188L, -3159001192254339252L, -7603038591284825857L,
+            -3395603613416999337L, 8329686639336290213L, -1603363806212664982L, 1418830662358898796L,
+            -3347219995786601255L, -4455728279778815601L, 7038327121857174009L, 6630224503949417219L,
+            3187252260178771385L, 5538132220785828032L, -255508816228983336L, -7620733908621241566L,
+            4052217680833607603L, 6396932187330129082L, -5984944140568557886L, 2254654371745382727L,
+            -6213103597266166043L, -6369188808748094050L, 8391286144862375478L, -7871974919822688843L,
+            691175142492897794L, -6186366330687993785L, -4014091038200644478L, 5187921839400476529L,
+            2735459390458829211L, 3876461954180842910L, 6475290857122404986L, 6965844209707627983L,
+            -2528964141176166445L, 7041813747195803889L, 7616114707588172873L, -7999504349984992781L,
+            -5626021237780679911L));
+        gameProgessHashes.add(ImmutableList.of(-4058799593856108643L, 3520384693331967902L, -8437659262223183283L,
+            2532356960911635262L, -6928919479048897831L, 8796986848126883680L, 7096825904173346658L,
+            -919286022106832147L, 5105592329738784296L, -7088513629700393860L, 8559355383183776311L,
+            -7929458383193246021L, -1566693555297691668L, -2439043052823120599L, 2719035823499206892L,
+            -4546499930428003973L, 1656642552413244194L, 5070468098279663583L, -600513067527280984L,
+            2317273126218617517L, 5572898115023531780L, -8990608132539241609L, 7577074240340007662L,
+            5940339680710983213L, 8807549263467062016L, 7727019432235565120L, 2466663945551624581L,
+            -6715497441363128855L, 1522154167307418010L, -8346942529906336210L, -146708071839663397L,
+            1132230196116617979L, -6846146528839653332L, -4143264605507761445L, -2861762918115275734L,
+            1676374519153113204L, 8466626340569702593L, 6278123638594879079L, 4621394491317591361L,
+            -5857970934861901384L, -2559984103345815247L, -7308273027116836041L, 7580488614415111969L,
+            -4598215920988394298L, 8492178198566593890L, 469396988602234110L, 1370254069379975262L,
+            -3508883279247974573L, -8230415147940845209L, 7991678838919804168L, 3642609064376503847L,
+            -7246321300562162009L, 5891924499123322230L, -556519521569788219L, 1730534050527392545L,
+            -3202900709873446556L, 6472245526482738068L, -3373579043036172298L, 4409867118577204079L,
+            2976477229354668880L, 1164839932962129591L, 405183154160007745L, 1582718850345348590L, 1417845506467810159L,
+            7637410147146159340L, 6455415002828840308L, -2142799087176952384L, -4253375073957620635L,
+            3180757790936291445L, -9047417661612292374L, -53338221914761978L, -619201473226812910L,
+            -3611295016482939057L, -5236959546738677540L, 5862499129194617513L, 3308712541126019608L,
+            -8512429804203525838L, -8570062476487679795L, 3104769519461834216L, 7763846752215483473L,
+            1813953310551388243L, -2043360504231844989L, -5529600595394083888L, -1279864540842134956L,
+            -6222320334419604245L, -6495173624438117594L, 1752389329622288762L, 4546499064121289807L,
+            -1336884181877263933L, 8297339790545044675L, 2700436131772673056L, -3348878410094424482L,
+            4085039959660279583L, 6024365726073907644L, 397868344470336118L, -33513807257352123L, -4985435545955997906L,
+            -1167332901713792736L, 7240805743981563294L, -3855036588230211014L, -5971965263083587574L));
+        gameProgessHashes.add(ImmutableList.of(-8853302488802069541L, -8575418668304097805L, 237524173163596949L,
+            7318961100978131050L, 1792041046857434521L, -541795352968987336L, 8511539749809046206L,
+            -7309111122266105740L, -2606135469797723184L, -877024151750574816L, -4561118313460529464L,
+            -763640806040844925L, -6067779579262839128L, -4752037994280358865L, -7034333870079928715L,
+            -4436679046324320385L, 178263968590122721L, 2999864411161653588L, 7845888849179724318L,
+            4400709378309692463L, 1793763637213194796L, 5558395248127450172L, 7133519303558393485L,
+            -1325529261780326232L, 2436751950239501186L, -1534259399107328888L, 8704022400846796420L,
+            -129189763588360493L, 6861164119471454588L, 7722524322019137962L, 6210890562053456662L,
+            6666644905738536127L, -467489727070732750L, 2591434349337170580L, -5843302980487348614L,
+            -7557480522599053176L, 4425519789921905563L, 1588884529291746534L, 5334393098533450505L,
+            -1055808165577904982L, 2020829245357088601L, -1173656079645367808L, 2474720558993114129L,
+            -918535785479421804L, -5986732684955092820L, 3437780520430794905L, 5860159235457455633L,
+            -7352913888776287098L, -376368487161479321L, -5137551245742078423L, 6866627794164566609L,
+            6680934407095160220L, 5948285099874612068L, -5372125683206991014L, -6702274533671644687L,
+            -513817222851855865L, -2854843490051199147L, -9038448378270284598L, 4626757558052872354L,
+            6329447970971373293L, 6815989192557826283L, 4094218898693984837L, 3774191618607895461L,
+            -5891039738856998589L, 2956239074703625816L, 336661336670761440L, -3724099657450223723L,
+            3134981411964946441L, -6671938183558074774L, -1399221662946334597L, -586208286148100456L,
+            -8565946507363589027L, 6395816884879939216L, -495208685329989718L, -1854652138954035032L,
+            -8266443302524188530L, -437118521823308040L, 1045474562565486234L, 9070522461291151793L,
+            2581581718521489125L, 1329167195046228995L, 6466887256074196849L, -1958272555494956152L,
+            423838117163168917L, -6374195059590524025L, 2496202138133496364L, -7023357206262108737L,
+            -8243395818531332849L, 8307434998235411529L, 2274336926626330354L, -4172904555657522113L,
+            -6071430650344288204L, -4463274141787958134L, -390689528150573595L, 6442576992603101760L,
+            -3786782552912314694L, 2453175788214578485L, 7146445587178866061L, 6159766553335551478L,
+            -2322810119731225701L, -7958180466736784654L, 6158708880337461434L, 950832811672370768L,
+            -7759188380089511243L, 5086309425207538152L, -6712360660488617297L, -4507437070935123065L,
+            8454576909611744361L, 791367527018829107L, -3607833763668783149L, 1390002792710181572L,
+            7269392937001249892L, -8170175677660202897L, -3982732110158238100L, 8467507973481873181L,
+            -4575577770813865041L, -17619347072766350L, 3103903645088803595L, -1254284493238230656L,
+            7712378258686698798L, 1857692970436107113L, 7259659647414371523L, 1387683719267895082L, 294383134810234925L,
+            5176456573110810756L, 678141314074715135L, 1825645339584809447L, -6790502126039861538L,
+            -2433028299248488860L, 2060100762314100134L, -6036426477979643207L, -3184090311797427941L,
+            1495136570861106688L, 1565337986431451299L, 7190415025388474491L, -3918766880200745510L,
+            8445518016346723291L, -7941031188757299031L, -6331721614450695482L, -6357334400920164555L,
+            7766673085649903758L, 3945259284884688654L, 5602768485193767848L));
+        gameProgessHashes.add(ImmutableList.of(-2306889876044549276L, 7560526452715408023L, 3905735488046712413L,
+            -2447721948113727545L, -6518025504190703448L, -8350680397969146778L, 4357492308556645605L,
+            -2444196445226560991L, 837143391538792512L, -7077129465704985142L, -8629225520146449939L,
+            -8802793306934420120L, -6496270839791830419L, 8500471108140932832L, 3454635774413743155L,
+            4383229052356784015L, 9028879154545141434L, 9216532507228224801L, -5365389574332438574L,
+            -1771242822750939386L, 7520761453127551928L, -3952198944769878627L, 501933056872273250L,
+            -5968627002942584909L, -4647333571588263862L, -5799809255061603704L, 526253856444781931L,
+            2487138289504739190L, -1110020586605145921L, 2929871614693928417L, -1813788796282217940L,
+            -2496410549913729544L, 1001453076557643196L, -4631437781031430942L, 4627165672143619948L,
+            -3598629353506492708L, 1374759243214504660L, -3511159350649774809L, 3160988266319553171L,
+            6567336287601169454L, 2936342062955737973L, 5740213890485103073L, -673389002961459974L,
+            5459592843151466160L, -4925943709282562281L, 7553919332419575104L, -1788919231644947904L,
+            -7911474098368883834L, -6466569633874758373L, 5796168104280095491L, -1826875984772885612L,
+            -3304058556283894973L, -2406777821324739032L, 6150264729541604252L, -5185140236170989844L,
+            -8561648212483338320L, 7245554670928752486L, 1124741498628687116L, -8542670794536160113L,
+            2188678867432735309L, -6898034783905800966L, -1097572927412175854L, 8818145592482825596L,
+            4123220495164645829L, -6153074820412606326L, 7573174846678912797L, 1291100784999922555L,
+            9024428420923499203L, 4052352399135853135L, -2271723008555518785L, -5615141685585338339L,
+            -9007581365785358681L, -5508262342246280710L, -1752359442726258206L, 9210580660305403008L,
+            -2937611842361836031L, 6799298710933763930L, 7430318974763229232L, -4401327380260906147L,
+            3533058258953776357L, -6195480181420651461L, 587540661085676594L, 6893500447956231180L,
+            5890875152921426091L, 1643436931980095590L, -1892248639811846832L, -4255707779757017488L,
+            -358965883124305342L, -4835782723835322416L, 6199660181307908148L, 8469043091429574598L,
+            2920949134123780485L, -2067640558985213891L, -8603437543670899947L, 8140664059461769817L,
+            -4816268374014062946L, 5471344743615174313L, -8998736561527150790L, -3335261371041970961L,
+            -4463837490261416784L, 7002215590963843016L, 9104793249913476172L, 3653861419825807850L,
+            2689643831184514543L, -1482224236367081720L, -6040717682729858524L, 1165656013318224190L,
+            3025959846518538956L, -7409718580406495567L, -4522333325599253772L, -3350321249846869393L,
+            2354737381810520966L, -4299479073628429510L, -3296131088765203418L, -7982396252624066750L,
+            30170899665007513L, -7898653683381700089L, 6396570603162372464L, 7389823545742087225L,
+            -8594514727027724021L, -4009205561853341912L, -7638270594727249044L, -4315841129413167249L,
+            4181989673391421184L, -4660735941038111599L, -2094144721715651224L, -2851512985978699505L,
+            7936821949675313177L, 2382087250871543949L, 3977448625814322621L, -1644008658485183203L,
+            -5851905864891630770L, 797379226515244947L, -2677538100611395643L, -5382264104785347729L,
+            -1863149812835060996L, 5484786757333018439L, 2494480000954865426L));
+        gameProgessHashes.add(ImmutableList.of(3508701259557933645L, 5908706073911590554L, 7084850683286998533L,
+            -326359916963792273L, 7199478039698299590L, 3440397330507154743L, -7218732216285802405L,
+            -8637968891291907704L, -4859794083826673704L, 8624707821961922378L, 2041689727310089872L,
+            2569959574309691465L, 4301634360586140797L, 3463555025134604892L, -3795503113540232222L,
+            -8078410671935577840L, 3032588563883083807L, 6412322843389687705L, 3372039155971808375L,
+            -7587416271535882788L, 581646593668792225L, 5823937770352600999L, 7974260399800263830L,
+            5640016532354244942L, 8243572769895114779L, 9111120822022452584L, -8795297952067637071L,
+            8022454265498064943L, -2801933257363577038L, 2865328264132681076L, -8346601302806465160L,
+            -4101850625699188331L, -3451809635642787890L, -9152628333227092768L, 5779777135200080829L,
+            5160854049881825341L, 8038734863603416713L, 6247485908689828122L, -9056300854198980034L,
+            -5852815071933459842L, 7907282148368563783L, 5698157646119702154L, 9211151306791478009L,
+            -5852368437323299339L, 4156123285198487958L, 1582829786136984212L, -2701621570963040717L,
+            -4737585456819683804L, 6447034567413584259L, 4323348801569361085L, 248501438103921066L,
+            -5939606237778600563L, -2219912597433767632L, 127801136524344660L, 7751049264373476734L,
+            -3002792958445564433L, -1276792617049394975L, -4280371554395278573L, 6065819746144696476L,
+            5760972047914863551L, -6609905727651578731L, 3825995884073244095L, 3799268599045205377L,
+            4661271092198763055L, -4719529700239633818L, 8220299933728854644L, -19673526349015105L,
+            1797628772253509088L, 2411498823515145623L, 3341737427177345931L, 2023174443676017671L,
+            2203750315519329037L, 6133159319448129522L, -7015385452202149523L, -4943143753223208632L,
+            -8741187602820001649L, 7240491553628748443L, 4566872520194521975L, -2555867762871897529L,
+            -2487600784499131959L, -6628864569670727050L, 4185684134516071741L, 7679501743109748698L,
+            -3205453857350274970L, -3955447871674191832L, 8058161421414109142L, -8735680010240923638L,
+            -4509553518198023155L, 5508616560032198885L, 4422018807197285683L, -4985277312180658769L,
+            -5652324339579783196L, -455285246670121440L, -7647772118405137806L, 4327676098190241524L,
+            -3900508047347760132L, 7297194973309717277L, 7270212538439217335L, -1860772280700765367L,
+            7703898499624899074L, 126256854368885632L, -1263247197858518740L, -2952003421845245450L,
+            -8163707774696464530L, 2664570367311064263L, -3345150297779333985L, -3209806952282655067L,
+            7905431437818448496L, 4317743608979429992L, -2590845715080170519L, -3134423476923997001L,
+            7534956942219304236L, -5167523349649868143L, 5193896229203618052L, -2646630316484504387L,
+            1892039764876270154L, 9032973392824453674L, 4424650500145772138L, -4244560146564982298L,
+            -531521889696335693L, 3213973248783280216L, -1159681262767321803L, 6273987283301027358L,
+            2947218553819790995L, 5196372073515596169L, 8910412994815123889L, -7861092186793145684L,
+            -1706702264219695467L, 1879688986300235702L, -2972689591320938536L));
+        gameProgessHashes.add(ImmutableList.of(-4540123874070216390L, -2118082990020214398L, -2158909473864331283L,
+            -6533667544833579842L, 2804912519269899808L, -5533959516007823709L, -2838979643560845859L,
+            -8150311163127451594L, -4447336680873924935L, 7877144179837375117L, 1926075168677172054L,
+            6039417420967731369L, 582589561662095540L, -7636154683499952016L, -873066907682163607L,
+            2325257482782113549L, 2210861414654419903L, 2681026490698490983L, -8520068859982678458L,
+            6486521383610453973L, 8451774356046030325L, -4078521828741488230L, -8564181839280761722L,
+            4098717698692748037L, -2294343981300938163L, 5175803300487108317L, -4444052607164908385L,
+            -3843544291845746655L, -9205695821355999938L, -4449232238614976487L, 4755296140847763203L,
+            -1128777187515877697L, -4530904865953305509L, 5105607277232314260L, -8346834940136657589L,
+            3947859220271034685L, 2890611118667778188L, -3159001192254339252L, -7603038591284825857L,
+            -3395603613416999337L, 8329686639336290213L, -1603363806212664982L, 1418830662358898796L,
+            -3347219995786601255L, -4455728279778815601L, 7038327121857174009L, 6630224503949417219L,
+            3187252260178771385L, 5538132220785828032L, -255508816228983336L, -7620733908621241566L,
+            4052217680833607603L, 6396932187330129082L, -5984944140568557886L, 2254654371745382727L,
+            -6213103597266166043L, -6369188808748094050L, 8391286144862375478L, -7871974919822688843L,
+            691175142492897794L, -6186366330687993785L, -4014091038200644478L, 5187921839400476529L,
+            2735459390458829211L, 3876461954180842910L, 6475290857122404986L, 6965844209707627983L,
+            -2528964141176166445L, 7041813747195803889L, 7616114707588172873L, -7999504349984992781L,
+            -5626021237780679911L));
+        gameProgessHashes.add(ImmutableList.of(-4058799593856108643L, 3520384693331967902L, -8437659262223183283L,
+            2532356960911635262L, -6928919479048897831L, 8796986848126883680L, 7096825904173346658L,
+            -919286022106832147L, 5105592329738784296L, -7088513629700393860L, 8559355383183776311L,
+            -7929458383193246021L, -1566693555297691668L, -2439043052823120599L, 2719035823499206892L,
+            -4546499930428003973L, 1656642552413244194L, 5070468098279663583L, -600513067527280984L,
+            2317273126218617517L, 5572898115023531780L, -8990608132539241609L, 7577074240340007662L,
+            5940339680710983213L, 8807549263467062016L, 7727019432235565120L, 2466663945551624581L,
+            -6715497441363128855L, 1522154167307418010L, -8346942529906336210L, -146708071839663397L,
+            1132230196116617979L, -6846146528839653332L, -4143264605507761445L, -2861762918115275734L,
+            1676374519153113204L, 8466626340569702593L, 6278123638594879079L, 4621394491317591361L,
+            -5857970934861901384L, -2559984103345815247L, -7308273027116836041L, 7580488614415111969L,
+            -4598215920988394298L, 8492178198566593890L, 469396988602234110L, 1370254069379975262L,
+            -3508883279247974573L, -8230415147940845209L, 7991678838919804168L, 3642609064376503847L,
+            -7246321300562162009L, 5891924499123322230L, -556519521569788219L, 1730534050527392545L,
+            -3202900709873446556L, 6472245526482738068L, -3373579043036172298L, 4409867118577204079L,
+            2976477229354668880L, 1164839932962129591L, 405183154160007745L, 1582718850345348590L, 1417845506467810159L,
+            7637410147146159340L, 6455415002828840308L, -2142799087176952384L, -4253375073957620635L,
+            3180757790936291445L, -9047417661612292374L, -53338221914761978L, -619201473226812910L,
+            -3611295016482939057L, -5236959546738677540L, 5862499129194617513L, 3308712541126019608L,
+            -8512429804203525838L, -8570062476487679795L, 3104769519461834216L, 7763846752215483473L,
+            1813953310551388243L, -2043360504231844989L, -5529600595394083888L, -1279864540842134956L,
+            -6222320334419604245L, -6495173624438117594L, 1752389329622288762L, 4546499064121289807L,
+            -1336884181877263933L, 8297339790545044675L, 2700436131772673056L, -3348878410094424482L,
+            4085039959660279583L, 6024365726073907644L, 397868344470336118L, -33513807257352123L, -4985435545955997906L,
+            -1167332901713792736L, 7240805743981563294L, -3855036588230211014L, -5971965263083587574L));
+        gameProgessHashes.add(ImmutableList.of(-8853302488802069541L, -8575418668304097805L, 237524173163596949L,
+            7318961100978131050L, 1792041046857434521L, -541795352968987336L, 8511539749809046206L,
+            -7309111122266105740L, -2606135469797723184L, -877024151750574816L, -4561118313460529464L,
+            -763640806040844925L, -6067779579262839128L, -4752037994280358865L, -7034333870079928715L,
+            -4436679046324320385L, 178263968590122721L, 2999864411161653588L, 7845888849179724318L,
+            4400709378309692463L, 1793763637213194796L, 5558395248127450172L, 7133519303558393485L,
+            -1325529261780326232L, 2436751950239501186L, -1534259399107328888L, 8704022400846796420L,
+            -129189763588360493L, 6861164119471454588L, 7722524322019137962L, 6210890562053456662L,
+            6666644905738536127L, -467489727070732750L, 2591434349337170580L, -5843302980487348614L,
+            -7557480522599053176L, 4425519789921905563L, 1588884529291746534L, 5334393098533450505L,
+            -1055808165577904982L, 2020829245357088601L, -1173656079645367808L, 2474720558993114129L,
+            -918535785479421804L, -5986732684955092820L, 3437780520430794905L, 5860159235457455633L,
+            -7352913888776287098L, -376368487161479321L, -5137551245742078423L, 6866627794164566609L,
+            6680934407095160220L, 5948285099874612068L, -5372125683206991014L, -6702274533671644687L,
+            -513817222851855865L, -2854843490051199147L, -9038448378270284598L, 4626757558052872354L,
+            6329447970971373293L, 6815989192557826283L, 4094218898693984837L, 3774191618607895461L,
+            -5891039738856998589L, 2956239074703625816L, 336661336670761440L, -3724099657450223723L,
+            3134981411964946441L, -6671938183558074774L, -1399221662946334597L, -586208286148100456L,
+            -8565946507363589027L, 6395816884879939216L, -495208685329989718L, -1854652138954035032L,
+            -8266443302524188530L, -437118521823308040L, 1045474562565486234L, 9070522461291151793L,
+            2581581718521489125L, 1329167195046228995L, 6466887256074196849L, -1958272555494956152L,
+            423838117163168917L, -6374195059590524025L, 2496202138133496364L, -7023357206262108737L,
+            -8243395818531332849L, 8307434998235411529L, 2274336926626330354L, -4172904555657522113L,
+            -6071430650344288204L, -4463274141787958134L, -390689528150573595L, 6442576992603101760L,
+            -3786782552912314694L, 2453175788214578485L, 7146445587178866061L, 6159766553335551478L,
+            -2322810119731225701L, -7958180466736784654L, 6158708880337461434L, 950832811672370768L,
+            -7759188380089511243L, 5086309425207538152L, -6712360660488617297L, -4507437070935123065L,
+            8454576909611744361L, 791367527018829107L, -3607833763668783149L, 1390002792710181572L,
+            7269392937001249892L, -8170175677660202897L, -3982732110158238100L, 8467507973481873181L,
+            -4575577770813865041L, -17619347072766350L, 3103903645088803595L, -1254284493238230656L,
+            7712378258686698798L, 1857692970436107113L, 7259659647414371523L, 1387683719267895082L, 294383134810234925L,
+            5176456573110810756L, 678141314074715135L, 1825645339584809447L, -6790502126039861538L,
+            -2433028299248488860L, 2060100762314100134L, -6036426477979643207L, -3184090311797427941L,
+            1495136570861106688L, 1565337986431451299L, 7190415025388474491L, -3918766880200745510L,
+            8445518016346723291L, -7941031188757299031L, -6331721614450695482L, -6357334400920164555L,
+            7766673085649903758L, 3945259284884688654L, 5602768485193767848L));
+        gameProgessHashes.add(ImmutableList.of(-2306889876044549276L, 7560526452715408023L, 3905735488046712413L,
+            -2447721948113727545L, -6518025504190703448L, -8350680397969146778L, 4357492308556645605L,
+            -2444196445226560991L, 837143391538792512L, -7077129465704985142L, -8629225520146449939L,
+            -8802793306934420120L, -6496270839791830419L, 8500471108140932832L, 3454635774413743155L,
+            4383229052356784015L, 9028879154545141434L, 9216532507228224801L, -5365389574332438574L,
+            -1771242822750939386L, 7520761453127551928L, -3952198944769878627L, 501933056872273250L,
+            -5968627002942584909L, -4647333571588263862L, -5799809255061603704L, 526253856444781931L,
+            2487138289504739190L, -1110020586605145921L, 2929871614693928417L, -1813788796282217940L,
+            -2496410549913729544L, 1001453076557643196L, -4631437781031430942L, 4627165672143619948L,
+            -3598629353506492708L, 1374759243214504660L, -3511159350649774809L, 3160988266319553171L,
+            6567336287601169454L, 2936342062955737973L, 5740213890485103073L, -673389002961459974L,
+            5459592843151466160L, -4925943709282562281L, 7553919332419575104L, -1788919231644947904L,
+            -7911474098368883834L, -6466569633874758373L, 5796168104280095491L, -1826875984772885612L,
+            -3304058556283894973L, -2406777821324739032L, 6150264729541604252L, -5185140236170989844L,
+            -8561648212483338320L, 7245554670928752486L, 1124741498628687116L, -8542670794536160113L,
+            2188678867432735309L, -6898034783905800966L, -1097572927412175854L, 8818145592482825596L,
+            4123220495164645829L, -6153074820412606326L, 7573174846678912797L, 1291100784999922555L,
+            9024428420923499203L, 4052352399135853135L, -2271723008555518785L, -5615141685585338339L,
+            -9007581365785358681L, -5508262342246280710L, -1752359442726258206L, 9210580660305403008L,
+            -2937611842361836031L, 6799298710933763930L, 7430318974763229232L, -4401327380260906147L,
+            3533058258953776357L, -6195480181420651461L, 587540661085676594L, 6893500447956231180L,
+            5890875152921426091L, 1643436931980095590L, -1892248639811846832L, -4255707779757017488L,
+            -358965883124305342L, -4835782723835322416L, 6199660181307908148L, 8469043091429574598L,
+            2920949134123780485L, -2067640558985213891L, -8603437543670899947L, 8140664059461769817L,
+            -4816268374014062946L, 5471344743615174313L, -8998736561527150790L, -3335261371041970961L,
+            -4463837490261416784L, 7002215590963843016L, 9104793249913476172L, 3653861419825807850L,
+            2689643831184514543L, -1482224236367081720L, -6040717682729858524L, 1165656013318224190L,
+            3025959846518538956L, -7409718580406495567L, -4522333325599253772L, -3350321249846869393L,
+            2354737381810520966L, -4299479073628429510L, -3296131088765203418L, -7982396252624066750L,
+            30170899665007513L, -7898653683381700089L, 6396570603162372464L, 7389823545742087225L,
+            -8594514727027724021L, -4009205561853341912L, -7638270594727249044L, -4315841129413167249L,
+            4181989673391421184L, -4660735941038111599L, -2094144721715651224L, -2851512985978699505L,
+            7936821949675313177L, 2382087250871543949L, 3977448625814322621L, -1644008658485183203L,
+            -5851905864891630770L, 797379226515244947L, -2677538100611395643L, -5382264104785347729L,
+            -1863149812835060996L, 5484786757333018439L, 2494480000954865426L));
+        gameProgessHashes.add(ImmutableList.of(3508701259557933645L, 5908706073911590554L, 7084850683286998533L,
+            -326359916963792273L, 7199478039698299590L, 3440397330507154743L, -7218732216285802405L,
+            -8637968891291907704L, -4859794083826673704L, 8624707821961922378L, 2041689727310089872L,
+            2569959574309691465L, 4301634360586140797L, 3463555025134604892L, -3795503113540232222L,
+            -8078410671935577840L, 3032588563883083807L, 6412322843389687705L, 3372039155971808375L,
+            -7587416271535882788L, 581646593668792225L, 5823937770352600999L, 7974260399800263830L,
+            5640016532354244942L, 8243572769895114779L, 9111120822022452584L, -8795297952067637071L,
+            8022454265498064943L, -2801933257363577038L, 2865328264132681076L, -8346601302806465160L,
+            -4101850625699188331L, -3451809635642787890L, -9152628333227092768L, 5779777135200080829L,
+            5160854049881825341L, 8038734863603416713L, 6247485908689828122L, -9056300854198980034L,
+            -5852815071933459842L, 7907282148368563783L, 5698157646119702154L, 9211151306791478009L,
+            -5852368437323299339L, 4156123285198487958L, 1582829786136984212L, -2701621570963040717L,
+            -4737585456819683804L, 6447034567413584259L, 4323348801569361085L, 248501438103921066L,
+            -5939606237778600563L, -2219912597433767632L, 127801136524344660L, 7751049264373476734L,
+            -3002792958445564433L, -1276792617049394975L, -4280371554395278573L, 6065819746144696476L,
+            5760972047914863551L, -6609905727651578731L, 3825995884073244095L, 3799268599045205377L,
+            4661271092198763055L, -4719529700239633818L, 8220299933728854644L, -19673526349015105L,
+            1797628772253509088L, 2411498823515145623L, 3341737427177345931L, 2023174443676017671L,
+            2203750315519329037L, 6133159319448129522L, -7015385452202149523L, -4943143753223208632L,
+            -8741187602820001649L, 7240491553628748443L, 4566872520194521975L, -2555867762871897529L,
+            -2487600784499131959L, -6628864569670727050L, 4185684134516071741L, 7679501743109748698L,
+            -3205453857350274970L, -3955447871674191832L, 8058161421414109142L, -8735680010240923638L,
+            -4509553518198023155L, 5508616560032198885L, 4422018807197285683L, -4985277312180658769L,
+            -5652324339579783196L, -455285246670121440L, -7647772118405137806L, 4327676098190241524L,
+            -3900508047347760132L, 7297194973309717277L, 7270212538439217335L, -1860772280700765367L,
+            7703898499624899074L, 126256854368885632L, -1263247197858518740L, -2952003421845245450L,
+            -8163707774696464530L, 2664570367311064263L, -3345150297779333985L, -3209806952282655067L,
+            7905431437818448496L, 4317743608979429992L, -2590845715080170519L, -3134423476923997001L,
+            7534956942219304236L, -5167523349649868143L, 5193896229203618052L, -2646630316484504387L,
+            1892039764876270154L, 9032973392824453674L, 4424650500145772138L, -4244560146564982298L,
+            -531521889696335693L, 3213973248783280216L, -1159681262767321803L, 6273987283301027358L,
+            2947218553819790995L, 5196372073515596169L, 8910412994815123889L, -7861092186793145684L,
+            -1706702264219695467L, 1879688986300235702L, -2972689591320938536L));
+        gameProgessHashes.add(ImmutableList.of(-8047586500227026720L, -5141019167580342237L, -1698632615614598516L,
+            -365453364117676189L, -776778482973489676L, -7639112266172345650L, 8992619541465465809L,
+            -5929843123489078928L, 6809394296036903697L, -5565709016479501081L, 2619323362274975801L,
+            928623475855195215L, -4076063860554334398L, -7002225692950606289L, 7059702131687369385L,
+            4778740059866010169L, -682323483099441259L, -15031621298224218L, -561758859883035474L, 3394803698635493684L,
+            -6527583788865218738L, 4292855032255960319L, 8408104555313689826L, 767932827258607795L,
+            -6362236642735878643L, -1480545798294433460L, 3396560405842020626L, -7585322794841572075L,
+            -4229702831744936900L, -4413124684192720687L, -5755187291427234075L, -1881595431707110985L,
+            5603231806440370977L, 2574955761206438756L, -5122792836729330024L, -5288554341966208513L,
+            -2033541579716225330L, -8308446219356044435L, -6447322528214553604L, 355275046754918955L,
+            4456179398272712239L, -4767862848241617672L, 127791602005550302L, 4548469418893743162L,
+            -3465660793014731608L, -5182675331764184760L, -1918231607594579627L, 6796198698931538770L,
+            -8085871434868864073L, -5841165529773241765L, -80904104206594509L, 1499832828229933407L,
+            -2281982581319484567L, -8148819206124000681L, -5368695929072990890L, -3447368885194671323L,
+            -5935129365019204611L, 116781101363352921L, -4668045959778485330L, -1792756862455537410L,
+            -6729456324163593536L, 4292689065553280071L, -4951272815694923694L, 8556495275896973978L,
+            3579528024305218786L, -393254148709712470L, -4558058486558904747L, 6956771539038645744L,
+            4559205348149795692L, -5263646150049564877L, -3406930932879444742L, 1346032218848840278L,
+            -43329369421095564L, -8414719607426767403L, 1043204905047227425L, 7652914850699703064L,
+            -6104266398313843548L, 601991991923250133L, 1929974016646651481L, 4397271611199735961L,
+            -4549539966760653671L, -5520840236116823912L, 8252413256138526212L, -257456297972005584L,
+            -555094418892632373L, -56874668987154716L, 1816758108660217352L, -1478506220114648363L,
+            -383109111347573788L, -7719073782704773021L, -5399965159727821759L, 1718376080386074477L,
+            -1816669449867884352L, -3389611681233927760L, 5654632512481865922L, 5236848597954997071L,
+            1219749727336223757L, -8972590114271210642L, -4438613048301302572L, -1490106240688555587L,
+            1790398490159581750L, -3166747945561116661L, 8186339276471391959L, 5522225427531972269L,
+            7190358625270910033L, 3241712008414380999L, 7756658769004208685L, 5816262451186959090L,
+            3406742966481550384L, -2656428501092116947L, 7613023575984488246L, 6516111117130448688L,
+            -7942283148644319568L, 6210235879931932574L, 3152544993062299482L, 7683407321623982370L,
+            5725475308184420551L, 465352942309256761L, 5924616709870017167L, 930731873933471353L, -5305131007179412070L,
+            -8123189887806380781L, 5876423526812660043L, 982303226586598309L, -6296512763628117110L,
+            3488393453439203495L, 2199780932547454086L, 1969049960714289874L, 970342646669221222L,
+            -4134235493038856260L, -6302983253967792035L, -7835327694473340134L, 452835054215837443L,
+            -2563343214429442250L, -3825603975997305880L, -1832306590522475417L, 562632749322632419L,
+            1196069910833349814L, 3452600573522281419L, 5270619614593813373L, -425409582616291495L,
+            4893939321773407442L, -1649059121707806748L, 232625556102116354L, 2461740606019680962L, 416402687409037616L,
+            -1441764020471018952L, 7399340491587326665L, -1141678880230670976L, -3488033256057957408L,
+            8031622006940198682L, 9129658878675503534L, -1295338656701300125L, -8508839334165599986L,
+            -6914891013351599821L, -9214563095831211305L, 8501848623706055562L, -6640350361118657952L,
+            -830732673832623883L, -1096814734634278390L, -7740701440234499330L, 8991216100709572412L,
+            -5639458913813744322L, -1704104828584127427L, 8412796250441106320L, 4621506908801800838L,
+            -8301252160129395860L, 2736342962863390417L, 358882557229814584L, 5476675044013270817L,
+            1316194789609863138L, -7184300934993415380L, 984163076120280712L, 1729851981250345724L,
+            -1300871009103984058L, -1107626051750989919L, -39417258326259420L, 6270818083359803710L,
+            -5074038759144320761L));
+        gameProgessHashes.add(ImmutableList.of(535378181243392636L, 651773828168695311L, 3293389276103194875L,
+            3661456398467232636L, 7454166910270250035L, -8255989738489073010L, -1501900903464886118L,
+            4479496730632910224L, -6542651831379227275L, 9104052527088943364L, 2037663528806125801L,
+            4132658502108879525L, 3133884985276519760L, 6904905988840224703L, -4858185815948183412L,
+            5411936345363912403L, -6510887977727215240L, -4886232086004713972L, 5836670132935267293L,
+            5770066001674071786L, -1568729415105587168L, -4960528703147000095L, 1735889586793032463L,
+            826926199533830943L, -1428050181080632417L, -1076474742168697150L, 4977473206059975727L,
+            6684640521978476548L, -9079541764115190843L, -4806689742849749684L, 651036501048655825L,
+            3963712336703382030L, -8866571319224886075L, 6626363434387780282L, 5407333009750459046L,
+            3458893268942904333L, 5858113384195134476L, 390614659556141735L, 1107856880100262267L,
+            -8188197981426629171L, -7428118644150383461L, 1116494107600023704L, 3922882238204452153L,
+            2644291840663009753L, -9011765834370180528L, -2714068576530738890L, -2988652797113109936L,
+            -1017153619110383963L, -8679635211972931668L, -7297541439508133930L, 7918557524441060719L,
+            -1427319585367855181L, -2774323478428420594L, 8109342184176193923L, 2254277386840199519L,
+            8609510662912779386L, 4293075383362411002L, 6829001793234286414L, 2300718400746582472L,
+            -7839409277137737293L, 8961680486134953231L, 4706713707549052107L, -5184690092825215897L,
+            8862154043440685584L, 4488716525499988365L, -1543707786947436692L, -6050604716196122001L,
+            -2967258526756861020L, 3967880194678464846L, -7209417572339718358L, -2075687164311917323L,
+            -9060484639988280097L, 2685295197438151828L, -490858683818259176L, -1016777675756210099L,
+            7650451522499561370L, -6313674316815224912L, -585946563766545220L, -7005222175285867771L,
+            -8060020670258307019L, 1060957727580367586L, -8446896918944067471L, -2474308068982919669L,
+            -436412546246187513L, 7991015800871154347L, -9004884761530884326L, 7420716605369034158L,
+            -604805370894653887L, -3067859900231623779L, -4655533411043834331L, -5731459139044042911L,
+            3726649127891332072L, 8561641763407032081L, 72904231696749105L, -3490386672935215432L,
+            -7197345584923804910L, -6337379258368803063L, -7603317418825136220L, -8591904704680939578L,
+            -1468233771363554552L, 4451663172546184145L, 1496924899776060296L, -7377101958004069299L,
+            4447153619597577182L, -4671689237784223920L, -5990300993860047963L, 6793202557569930702L,
+            1331721925156195847L, -2634784508562013917L, 3206666225395384501L, 8198682725405154745L,
+            -1585531660298912549L, -6688160053660474032L, -2136625664553357411L, 4846564352549075916L,
+            -8595816323438094954L, 5412293922164196925L, 6410656546631857577L, -2672974210016123979L,
+            7012123889208198271L, 7944464608044761335L, -8271425183634508597L, 2982307136417799109L,
+            1769854145856799402L, -1488235721786884564L, 442538997403427394L, -8903889588269785512L,
+            -5425229908239903058L, -2966996018260789538L, -2590568687335870016L, -4728807193209100880L,
+            -6134394726071761825L, -913169007243524016L, -4574686456878258932L, -3234798748412556825L,
+            5768292250732038260L, 1606387543589524970L, 1162342588365181631L, -2719018861848003044L,
+            8663527511370795045L, 2792487810463110415L, 8152058961883630227L, 3588442167070436227L,
+            4578731732799697070L, -6900554183078673739L, -5545560333251416545L, 2695769462435226028L,
+            -4750978564776910753L, -6737610625171194861L, 8087458674979770575L, -6065848277095026538L,
+            405328446383937412L, 5816058960222314821L));
+        gameProgessHashes.add(ImmutableList.of(7342044183943492985L, -6028790929408224295L, 6695167674369125538L,
+            -5064292296463247801L, -8917552795885630175L, 4648124195304695948L, -5873146874909442909L,
+            -328516586232298508L, 6974942742410210488L, 1377186152511227372L, 896312695920283479L,
+            -7475920501527932673L, -8523591787308830605L, -1189114186224582175L, 7943330165270059709L,
+            -7035323259372805300L, -2356755485989809993L, 4353215531976298749L, -2876814501274358579L,
+            8587514873621733461L, 2967486580397242756L, 1519688181405345981L, 7800596512091794383L,
+            -7888584558364004509L, 1923316463834416809L, 624794637078130863L, 7042801163187709411L,
+            -8594123642317912981L, 8115022230124208421L, 3184698574072264577L, -5508845620267497912L,
+            8364541708193176549L, 4978024634148221584L, -8117691123759393145L, 8285860153924426789L,
+            -4142742331538187181L, 5464626711890882317L, 6094597316270630488L, 2369593620674156369L,
+            -4758813000874526819L, 9157929380058003794L, 2383302265652585164L, 5498364815603414636L,
+            -6818437943584583100L, 812979595253541980L, -6050915875195824343L, 8345098752984347797L,
+            8000513165614076578L, -1507674268955211747L, 5253542087669806839L, 1844579392783834508L,
+            -1399087079692346163L, -3955011615961994578L, 5065251783891565924L, -3122432946663554356L,
+            -1767404832725005552L, 674509200658511808L, 7098217975478750868L, -8442706457345165404L,
+            5002203050296549977L, -307346841303692912L, -1876009098478740912L, -5815048406360102037L,
+            -5411054216224241159L, 7081193237086000902L, 1820770845210310998L, -3237942490963435107L,
+            8976702701503095122L, 1614487316812513009L, 958757606219143398L, 8413345304712452277L,
+            -8929755286589510871L, -72526623123947199L, -6899277150036511478L, -614348241434235913L,
+            2774922368256068943L, 2513206151359894422L, -1604638546342543289L, -2148645137323306067L,
+            7301126903074794584L, -7848438544613918312L, -7077805365524330181L, -4622250320441920475L,
+            -1083960726807161331L, 4388231180418677050L, 1529599729959178683L, 7314957894991605709L,
+            -5607674195706725285L, -982212534315736687L, -8920993146396125134L, -6588469179401231412L,
+            2430258211746094351L, 3570835309907018598L, -5571237033344465688L, 1623238270826016628L,
+            3128691168343128002L, 3598128213172217974L, -1164779767291806633L, -4046406872554539959L,
+            -5185263986803170102L, 8271585206738009379L, 6291001222515471453L, -3157092317459221466L,
+            4466875295688015396L, -2663399828914746008L, -7286029354493636627L, 405731606568544133L,
+            7895641666534603945L, 7572659550631378313L, -1935309378139159798L, -3163069762945610038L,
+            1163548075126259017L, -7969091382999408606L, 6689010957847536458L, -4312017602422611651L,
+            1025429709003650256L, 435232040205079795L, 6633272900651441332L, -2564128301151478417L,
+            7780160304074571186L, -6996231128499683747L, 6153071506740226179L, -655926485561919631L,
+            -2593767125481107910L, -8719666377866369667L, 6318839451824053866L, 187338089563465349L,
+            -6562902443020421580L, 89378587494976638L, 4204231133517882025L, 4985682174561168736L, 3383128089355617814L,
+            -7136256425794557600L, -2654681676745690596L, -5195268325429231978L, -7053801949750170465L,
+            -2058395289104243167L, 6643191807155460236L, -4480053425006992294L, 674413644465220226L,
+            4452968985566507243L, -2384947396429664939L, 4824021846086746975L, -5404459820063115656L,
+            -986639552249846246L, -1909037444495769863L, 8351406122745829465L, 7628652083862366610L,
+            -9131911961847720059L, -4812224835705255472L, 4964444049539780779L, -8071544417424499621L,
+            802270419734558778L, 3285236062384325960L, 6212808685878430332L, -1668484719879878789L,
+            -8218810110420019038L, 7385990501881974724L, 5776363156272953804L, 7676574463324381254L,
+            -4217901714220091271L, 7043446126268902756L, -5195445025013393852L, -1848967030416505432L,
+            5833047464011913021L, 264039558560319932L, -4667973342920840214L, -7631226159662152326L,
+            8149768271117006833L, 6260677960086744328L, -6784113697219675525L, -9086644301095263816L,
+            -5207458500238155060L, -2109391568087141644L, 1630133778199411131L, -479497089231592223L,
+            -2887679963590050783L));
+        gameProgessHashes.add(ImmutableList.of(-2356657707734681875L, 8301699666505770819L, -3663720369824336528L,
+            -157991287833957552L, 6203919345283433558L, -8646197761496256528L, 2369876621598075341L,
+            -2750542966479049066L, 8089876423986271092L, -1833698707317560036L, -5661961952270550306L,
+            1093420482344210226L, -5062041813698716776L, -2451119842855576095L, 935644257641240787L,
+            -3663794918305113908L, -3667515179894019354L, 2065824288080926467L, -2591293949327448756L,
+            8798779731232317923L, -6472928288600626853L, -8575673081604819439L, -181492585228969245L,
+            -8510984121583550558L, 8514228509387514059L, -3851108226071408290L, -4771160227423581695L,
+            -262036059510451437L, 6026499148642131291L, -7292011047903672620L, 3829578938498005030L,
+            -1978805937325642029L, -1167294983506379597L, -2326568455494440240L, 5955872569823151520L,
+            -2317443204000294380L, 2242676755722190817L, 5693359510018380152L, -819100468287530927L,
+            -7514597207123088551L, -7386402512360875176L, -2773345727316741640L, -6633184087531433091L,
+            7894814377310699646L, 1604042203578489794L, 6978036797328110836L, 8364535393933426430L,
+            7443819499849785640L, 3191622122938183273L, -3842058594070817675L, 704115280868026900L,
+            -5170410316857018718L, 1786336424976897664L, -4150415564188133767L, 1144623302159484335L,
+            -2946052315169341201L, 5791798672008466064L, 2759149011321935278L, 8907898985195760535L,
+            -4830260910987585235L, 195304274193781919L, -4877561241613085371L, -6259675525280180305L,
+            1637105012976757927L, 6927627171500269924L, -6644371709375211291L, 8275047054241918745L,
+            8056520724543314177L, 8859997724149293017L, 6179578698451130055L, -5839916913441682814L,
+            662990685914077391L, -1717879569941459750L, -3556407024153034373L, 8787981082680415126L,
+            -3453787656930982843L, -7331014987583626517L, 8455549139867141836L, 6482960930142682262L,
+            -8140486236194848479L, 2270937423806784299L, 1517605660327627782L, -5448016890797486358L,
+            3440291185984520146L, -7192731408166867095L, 8101931594869295227L, -1142996739478266914L,
+            799240593829604279L, 8612673979792062557L, -5460827757091107290L, -3931137321125012861L,
+            8360770958610537477L, -7267015681833329436L, 4413154352770266011L, 5219061645893723459L,
+            -6065000203479584073L, -4236485943031986034L, 7009113315454568694L, -7251844649545811941L,
+            -5896259879962418810L, -237370886616843078L, -722420392632304897L, 3474640271129400401L,
+            3269218685132481121L, 7689549464578859933L, 6415876372828796386L, 906327256654890650L, 8274599491165556837L,
+            -5662485478183345877L, -5815941269525066542L, 1085055050860662046L, -4429506043764692902L,
+            8740173433200206597L, 6538452867610038436L, -5580718071616855377L, 6711568200292717410L,
+            -2268350209546457305L, 2549743762110883885L, -4708567124686512952L, 659865320107038542L,
+            -3038708285259055438L, 6629545017830303351L, -5717737601829356309L, 669428254600637529L,
+            8729695930542985331L, -601823588994738205L, 686618564835322813L, -8168705053125893321L,
+            9214497813566826808L, 1316547742926999304L, 5570353094163397121L, -4495613651574034140L,
+            -4242587470342822452L, -3033375245396532274L, 5435345991926939515L, 4700833758780117740L,
+            512964861194661056L, -5232879031919241371L, -4835532306359155505L, -8629891556574181443L,
+            -8427878700958507073L, 2101282201569673385L, -8216327564630096770L, 4585018636900002387L));
+        gameProgessHashes.add(ImmutableList.of(8277069380980536106L, 77105074352783319L, -8575456627681037237L,
+            -6614972424378798162L, 3263275435351441621L, -3567984820366122640L, -1051408211954579326L,
+            4348940369712221777L, 4862674754911035196L, 7964807907827815750L, 3732502392014921894L,
+            1908559141658379360L, 2467876445918957931L, 6975012736056997734L, -7902180402909152103L,
+            8052880388642220841L, -2017957966301917398L, 5708765717262047708L, -491729279281939120L,
+            4770213307011240995L, -7355538906652866551L, -1386721050843827482L, 927357268550876207L,
+            -7798181767573288418L, 7374801732012548203L, -162784625675016072L, -939783689647056668L,
+            -4465606227052182535L, 7653421270515349586L, 7105579605930608162L, -618918130286485578L,
+            6573571606098804874L, 1966748929318116494L, -5414809506628273499L, -4733400444201055566L,
+            6431906568864007429L, -2858770745817321411L, -7125830140749951334L, -8730538888077041230L,
+            -6996582628252156674L, -7806790571657913934L, -404431379395612907L, -8659897675622517555L,
+            3853956041733094561L, 8900743460017996672L, -3890702570367150039L, -4694688316116788734L,
+            -1921983574900226931L, -141269638136899572L, 4183242956158361446L, 3167486944794802324L,
+            -4841561982715780007L, 9024280313191331536L, -167463331242854910L, 1403857215162477210L,
+            4000206573973073425L, 9218202353825745199L, 7259152120868343105L, -8601873351109425920L,
+            2843379071177581857L, -5991138111446016549L, -1674537541144864575L, 4599692046608786481L,
+            -5788432904847367037L, -713644006297606259L, -8343898026934759602L, 5815214487464582703L,
+            -3919718661515055611L, -6345219530063467276L, 5125318277714495194L, 8703479289938710183L,
+            -3024275868033592172L, -4052372703731527746L, 6016538464729945875L, 7328104823481642301L,
+            4355819321763755552L, 1315008887609671313L, 5028627792998857424L, 1379428397828437430L,
+            -5461148279483193993L, -3584085697892004117L, -6314227756939235765L, -1346251356846332006L,
+            4861543995357640396L, -1467559478192250002L, 5884099439343282537L, 249778943226830357L,
+            -8754852041497484164L, 3846005707546652722L, 8879165504336192993L, 3218152694601435880L,
+            -7428424927709355748L, 8648014099982514051L, -1688979350192221206L, 7809637015943580085L,
+            5606487906792764721L, -268342269536290395L, -7425760900501853052L, -3896452131342377668L,
+            7222110321755269955L, -3485778858585077643L, 968453316398511625L, 8864970359780918098L,
+            5685465110205261681L, -4006118919963340141L, 1318741425418617765L, -154948609904998327L,
+            6260105513423352199L, -3512566743836077704L, 5985996215739028441L, -3165918200044371243L,
+            -7756052703735534010L, -8029645305193035242L, 1332549352000456336L, -136987715447841043L,
+            -2547757894969089455L, -2674198589116074167L, 2732095258459593486L, 8543850091558538470L,
+            -6346827802201557773L, 8638771071804454031L, -3107232272877997261L, 8446469026866802072L,
+            -1412818895115410080L, 4427839571480908048L, 1024842891087995741L, -7016821970434423225L,
+            3239192402119875678L, 3272120199526223751L, 8508677836091211481L, -2628213441315896835L,
+            4609638158526349398L, -5564440836229948436L, 6632600684616426129L, -8179736532953681330L,
+            -1131191578265111747L, -8594538577635376299L, 4531366786272450113L, 3121377425849659268L,
+            4823214190928397185L, 2474889815924347836L, -7932710550326805395L, 5365289797642080452L,
+            1325125591883477465L, 2506457321070020646L, -6554041886492956637L, 8713467170710862345L,
+            3103731618496374348L, 8862481105367465017L, -8135730808000153407L, 1932423757949095100L,
+            3963150959815840640L, -2848352717428188834L, 1071129809481286125L, 4591446938458389415L,
+            3408668416620696764L, 2534087450857962287L, 4085909506127378852L, 3307289571067940211L,
+            3918312159776258641L, 3486719494131218686L, 1907448669404998718L, 3453677757024251951L,
+            -1612116311362038476L, -2335090432218547177L, -4978294146170322436L, 4546411501385318809L,
+            -8793753244319032574L, 2928162150899691992L, 1284719138225117056L, -630156004628975730L,
+            7473980351993394244L, 192017183084453616L, -5394750099192105153L, -3390330071292750877L,
+            -4048141875727992759L, 5651876551536534372L, 2549300102320040695L, -5355673449923976367L,
+            899251479956824176L, -7625838274665767708L, -5544894265658274294L, -8486486351101897659L,
+            5705729450006946654L, 6984110539797030215L, 7100205058498523464L));
         return gameProgessHashes;
     }
 
@@ -0,0 +1,129 @@
+// SPDX-License-Identifier: GPL-3.0-or-later
+
+package de.sesu8642.feudaltactics.lib.ingame.botai;
+
+import de.sesu8642.feudaltactics.lib.gamestate.GameState;
+import de.sesu8642.feudaltactics.lib.gamestate.GameStateHelper;
+import de.sesu8642.feudaltactics.lib.gamestate.Kingdom;
+import de.sesu8642.feudaltactics.lib.gamestate.Player;
+import de.sesu8642.feudaltactics.lib.gamestate.Player.Type;
+import de.sesu8642.feudaltactics.lib.gamestate.validation.GameStateValidator;
+import de.sesu8642.feudaltactics.lib.ingame.PlayerMove;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for MonteCarloTreeSearch class.
+ */
+class MonteCarloTreeSearchTest {
+
+    private static final int THREAD_COUNT = 4;
+    private static final int MAX_ITERATIONS = 256;
+
+    private final BotAi botAi = new BotAi(null, null, new BotExecutionEngine(THREAD_COUNT));
+    private GameState gameState;
+
+    private static String toString(List<PlayerMove> moves) {
+        return moves.stream().map(PlayerMove::toString).collect(Collectors.joining("; "));
+    }
+
+    @BeforeEach
+    void init() {
+        final List<Player> players = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            players.add(new Player(i, Type.LOCAL_BOT));
+        }
+        gameState = new GameState();
+        gameState.setBotIntelligence(Intelligence.LEVEL_5);
+        GameStateHelper.initializeMap(gameState, players, 200, 0, 0.2F, 24680L);
+        // play a few rounds to get some units
+        for (int i = 0; i < 3 * players.size(); i++) {
+            // conquering can merge or remove kingdoms
+            for (Kingdom kingdom : new ArrayList<>(gameState.getKingdoms())) {
+                if (kingdom.getPlayer() == gameState.getActivePlayer() && gameState.getKingdoms().contains(kingdom)) {
+                    gameState.setActiveKingdom(kingdom);
+                    botAi.doGreedyKingdomMoves(gameState, Intelligence.LEVEL_4, new Random(i), new ArrayList<>());
+                }
+            }
+            GameStateHelper.endTurn(gameState);
+        }
+        gameState.setActiveKingdom(gameState.getKingdoms().stream()
+            .filter(kingdom -> kingdom.getPlayer() == gameState.getActivePlayer())
+            .max(Comparator.comparingInt(kingdom -> kingdom.getTiles().size())).get());
+        // enough to buy something
+        gameState.getActiveKingdom().setSavings(40);
+    }
+
+    private List<PlayerMove> search(GameState gameState, long seed, long deadlineNanos) {
+        return new MonteCarloTreeSearch(botAi, Intelligence.LEVEL_5, THREAD_COUNT, MAX_ITERATIONS)
+            .search(gameState, seed, deadlineNanos);
+    }
+
+    private List<PlayerMove> search(GameState gameState, long seed) {
+        return search(gameState, seed, System.nanoTime() + TimeUnit.HOURS.toNanos(1));
+    }
+
+    @Test
+    void searchIsReproducible() {
+        final GameState otherGameState = GameStateHelper.getCopy(gameState);
+
+        final List<PlayerMove> moves = search(gameState, 13L);
+        final List<PlayerMove> otherMoves = search(otherGameState, 13L);
+
+        assertFalse(moves.isEmpty());
+        assertEquals(toString(moves), toString(otherMoves));
+    }
+
+    @Test
+    void searchIsReproducibleWithDeadlineAfterOverflow() {
+        final GameState otherGameState = GameStateHelper.getCopy(gameState);
+
+        final List<PlayerMove> moves = search(gameState, 13L);
+        // the deadline is a negative number but still in the future
+        final List<PlayerMove> otherMoves = search(otherGameState, 13L, System.nanoTime() + Long.MAX_VALUE);
+
+        assertEquals(toString(moves), toString(otherMoves));
+    }
+
+    @Test
+    void searchStopsAtDeadline() {
+        final GameState copyBefore = GameStateHelper.getCopy(gameState);
+
+        final List<PlayerMove> moves = search(gameState, 13L, System.nanoTime());
+
+        assertTrue(moves.isEmpty());
+        assertEquals(copyBefore, gameState);
+    }
+
+    @Test
+    void searchDoesNotChangeTheGameState() {
+        final GameState copyBefore = GameStateHelper.getCopy(gameState);
+
+        search(gameState, 13L);
+
+        assertEquals(copyBefore, gameState);
+        assertEquals(copyBefore.getFingerprint(), gameState.getFingerprint());
+    }
+
+    @Test
+    void searchedMovesKeepTheGameStateValid() {
+        for (PlayerMove move : search(gameState, 13L)) {
+            GameStateHelper.applyPlayerMove(gameState, move);
+        }
+        botAi.doGreedyKingdomMoves(gameState, Intelligence.LEVEL_5, new Random(13L), new ArrayList<>());
+
+        assertTrue(GameStateValidator.isValid(gameState));
+    }
+
+}
@@ -0,0 +1,103 @@
+// SPDX-License-Identifier: GPL-3.0-or-later
+
+package de.sesu8642.feudaltactics.lib.ingame.botai;
+
+import de.sesu8642.feudaltactics.lib.gamestate.GameState;
+import de.sesu8642.feudaltactics.lib.gamestate.GameStateHelper;
+import de.sesu8642.feudaltactics.lib.gamestate.HexMapHelper;
+import de.sesu8642.feudaltactics.lib.gamestate.HexTile;
+import de.sesu8642.feudaltactics.lib.gamestate.Player;
+import de.sesu8642.feudaltactics.lib.gamestate.Player.Type;
+import de.sesu8642.feudaltactics.lib.gamestate.Tree;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.ToIntFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Tests for TileScoreCache class.
+ */
+class TileScoreCacheTest {
+
+    private final BotExecutionEngine executionEngine = new BotExecutionEngine(4);
+    private GameState gameState;
+    private List<HexTile> tiles;
+
+    @BeforeEach
+    void init() {
+        final List<Player> players = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            players.add(new Player(i, Type.LOCAL_BOT));
+        }
+        gameState = new GameState();
+        gameState.setBotIntelligence(Intelligence.LEVEL_4);
+        GameStateHelper.initializeMap(gameState, players, 300, 0, 0.2F, 13579L);
+        tiles = new ArrayList<>(gameState.getMap().values());
+    }
+
+    // number of empty tiles within two tiles, which only depends on the tiles up to two tiles away
+    private int countEmptyTilesAround(HexTile tile) {
+        int result = 0;
+        for (HexTile neighborTile : HexMapHelper.getNeighborTiles(gameState.getMap(), tile)) {
+            if (neighborTile != null && neighborTile.getContent() == null) {
+                result++;
+            }
+        }
+        for (HexTile neighborsNeighbor : HexMapHelper.getNeighborsNeighborTiles(gameState.getMap(), tile)) {
+            if (neighborsNeighbor != null && neighborsNeighbor.getContent() == null) {
+                result++;
+            }
+        }
+        return result;
+    }
+
+    private TileScoreInfo getBestByRecalculating(ToIntFunction<HexTile> bucketFunction, int maxBucket) {
+        return tiles.stream().filter(tile -> tile.getContent() == null)
+            .filter(tile -> bucketFunction.applyAsInt(tile) <= maxBucket)
+            .map(tile -> new TileScoreInfo(tile, countEmptyTilesAround(tile)))
+            .max(Comparator.comparingInt((TileScoreInfo t) -> t.score).thenComparing(t -> t.tile))
+            .orElse(new TileScoreInfo(null, -1));
+    }
+
+    @Test
+    void cachedScoresMatchRecalculatedOnesAfterChanges() {
+        final ToIntFunction<HexTile> bucketFunction = tile -> tile.getPlayer().getPlayerIndex();
+        final Random random = new Random(2468L);
+        try (TileScoreCache cache = new TileScoreCache(gameState.getMap(), executionEngine, 3,
+            this::countEmptyTilesAround, bucketFunction, tile -> tile.getContent() == null, Comparator.reverseOrder(),
+            tiles)) {
+            for (int i = 0; i < 100; i++) {
+                final HexTile tile = tiles.get(random.nextInt(tiles.size()));
+                tile.setContent(tile.getContent() == null ? new Tree() : null);
+                if (random.nextBoolean()) {
+                    tiles.get(random.nextInt(tiles.size())).setPlayer(gameState.getPlayers().get(random.nextInt(3)));
+                }
+
+                for (int maxBucket = 0; maxBucket < 3; maxBucket++) {
+                    final TileScoreInfo expected = getBestByRecalculating(bucketFunction, maxBucket);
+                    final TileScoreInfo actual = cache.getBest(maxBucket);
+                    assertSame(expected.tile, actual.tile);
+                    assertEquals(expected.score, actual.score);
+                }
+            }
+        }
+    }
+
+    @Test
+    void closingStopsListening() {
+        new TileScoreCache(gameState.getMap(), executionEngine, 1, tile -> 0, tile -> 0, tile -> true,
+            Comparator.naturalOrder(), tiles).close();
+
+        // would throw if the first cache was still listening
+        new TileScoreCache(gameState.getMap(), executionEngine, 1, tile -> 0, tile -> 0, tile -> true,
+            Comparator.naturalOrder(), tiles).close();
+    }
+
+}
@@ -0,0 +1,82 @@
+// SPDX-License-Identifier: GPL-3.0-or-later
+
+package de.sesu8642.feudaltactics.tournament;
+
+import de.sesu8642.feudaltactics.lib.ingame.botai.Intelligence;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Outcome of a single tournament game. Immutable class except for the measurements.
+ */
+public class GameResult {
+
+    @Getter
+    private final int gameIndex;
+
+    /**
+     * Intelligence of every player by player index.
+     */
+    @Getter
+    private final List<Intelligence> playerIntelligences;
+
+    /**
+     * Index of the player who won or null if nobody did before the game was stopped.
+     */
+    @Getter
+    private final Integer winnerIndex;
+
+    /**
+     * Round in which the winner won or null if nobody did.
+     */
+    @Getter
+    private final Integer winningRound;
+
+    /**
+     * Number of rounds that were played.
+     */
+    @Getter
+    private final int rounds;
+
+    /**
+     * Whether the game was played until only one kingdom was left.
+     */
+    @Getter
+    private final boolean finished;
+
+    @Getter
+    private final TurnMeasurements turnMeasurements;
+
+    /**
+     * Constructor.
+     *
+     * @param gameIndex           index of the game
+     * @param playerIntelligences intelligence of every player by player index
+     * @param winnerIndex         index of the winner or null
+     * @param winningRound        round in which the winner won or null
+     * @param rounds              number of rounds that were played
+     * @param finished            whether only one kingdom was left in the end
+     * @param turnMeasurements    measurements of the turns
+     */
+    public GameResult(int gameIndex, List<Intelligence> playerIntelligences, Integer winnerIndex,
+                      Integer winningRound, int rounds, boolean finished, TurnMeasurements turnMeasurements) {
+        this.gameIndex = gameIndex;
+        this.playerIntelligences = playerIntelligences;
+        this.winnerIndex = winnerIndex;
+        this.winningRound = winningRound;
+        this.rounds = rounds;
+        this.finished = finished;
+        this.turnMeasurements = turnMeasurements;
+    }
+
+    /**
+     * Returns the intelligence of the winner.
+     *
+     * @return intelligence or null if nobody won
+     */
+    public Intelligence getWinnerIntelligence() {
+        return winnerIndex == null ? null : playerIntelligences.get(winnerIndex);
+    }
+
+}
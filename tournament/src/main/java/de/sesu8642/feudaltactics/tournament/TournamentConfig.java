@@ -0,0 +1,120 @@
+// SPDX-License-Identifier: GPL-3.0-or-later
+
+package de.sesu8642.feudaltactics.tournament;
+
+import de.sesu8642.feudaltactics.lib.ingame.botai.Intelligence;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Settings of a tournament. Immutable class.
+ */
+public class TournamentConfig {
+
+    /**
+     * Intelligence of every player. The players are rotated between the games so that every intelligence plays in
+     * every position equally often.
+     */
+    @Getter
+    private final List<Intelligence> intelligenceMix;
+
+    /**
+     * Map sizes to use. The games cycle through all combinations of map sizes and densities.
+     */
+    @Getter
+    private final List<Integer> landMasses;
+
+    @Getter
+    private final List<Float> densities;
+
+    @Getter
+    private final int games;
+
+    /**
+     * Map seed of the first game; the following games use the next seeds.
+     */
+    @Getter
+    private final long baseSeed;
+
+    /**
+     * Number of games played in parallel.
+     */
+    @Getter
+    private final int threads;
+
+    /**
+     * Number of rounds after which a game is stopped if there is more than one kingdom left.
+     */
+    @Getter
+    private final int maxRounds;
+
+    /**
+     * Constructor.
+     *
+     * @param intelligenceMix intelligence of every player, 2 to 6 players
+     * @param landMasses      map sizes to use
+     * @param densities       map densities to use
+     * @param games           number of games to play
+     * @param baseSeed        map seed of the first game
+     * @param threads         number of games played in parallel
+     * @param maxRounds       number of rounds after which a game is stopped
+     */
+    public TournamentConfig(List<Intelligence> intelligenceMix, List<Integer> landMasses, List<Float> densities,
+                            int games, long baseSeed, int threads, int maxRounds) {
+        if (intelligenceMix.size() < 2 || intelligenceMix.size() > 6) {
+            throw new IllegalArgumentException("A game needs 2 to 6 players but got " + intelligenceMix.size());
+        }
+        if (landMasses.isEmpty() || densities.isEmpty()) {
+            throw new IllegalArgumentException("At least one map size and density is needed.");
+        }
+        if (games < 1 || threads < 1 || maxRounds < 1) {
+            throw new IllegalArgumentException("Games, threads and max rounds must be positive.");
+        }
+        this.intelligenceMix = Collections.unmodifiableList(new ArrayList<>(intelligenceMix));
+        this.landMasses = Collections.unmodifiableList(new ArrayList<>(landMasses));
+        this.densities = Collections.unmodifiableList(new ArrayList<>(densities));
+        this.games = games;
+        this.baseSeed = baseSeed;
+        this.threads = threads;
+        this.maxRounds = maxRounds;
+    }
+
+    /**
+     * Returns the intelligence of a player in a game.
+     *
+     * @param gameIndex   index of the game
+     * @param playerIndex index of the player
+     * @return intelligence of the player
+     */
+    public Intelligence getIntelligence(int gameIndex, int playerIndex) {
+        return intelligenceMix.get((playerIndex + gameIndex) % intelligenceMix.size());
+    }
+
+    public int getLandMass(int gameIndex) {
+        return landMasses.get(gameIndex % landMasses.size());
+    }
+
+    public float getDensity(int gameIndex) {
+        return densities.get((gameIndex / landMasses.size()) % densities.size());
+    }
+
+    public long getSeed(int gameIndex) {
+        return baseSeed + gameIndex;
+    }
+
+    @Override
+    public String toString() {
+        return "TournamentConfig{" +
+            "intelligenceMix=" + intelligenceMix +
+            ", landMasses=" + landMasses +
+            ", densities=" + densities +
+            ", games=" + games +
+            ", baseSeed=" + baseSeed +
+            ", threads=" + threads +
+            ", maxRounds=" + maxRounds +
+            '}';
+    }
+}
@@ -0,0 +1,97 @@
+// SPDX-License-Identifier: GPL-3.0-or-later
+
+package de.sesu8642.feudaltactics.tournament;
+
+import de.sesu8642.feudaltactics.lib.ingame.botai.Intelligence;
+
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Launches a headless bot tournament. Example: {@code ./gradlew :tournament:run
+ * --args="--games=1000 --intelligences=LEVEL_1,LEVEL_4 --land-masses=100,250 --densities=-3,0,3 --csv=result.csv"}.
+ */
+public class TournamentLauncher {
+
+    private static final String USAGE = "Options (all optional): --games=<number> "
+        + "--intelligences=<comma separated intelligence of every player, 2 to 6 players> "
+        + "--land-masses=<comma separated map sizes> --densities=<comma separated map densities> "
+        + "--seed=<seed of the first map> --threads=<number of games played in parallel> "
+        + "--max-rounds=<rounds after which a game is stopped> --csv=<file> --json=<file>";
+
+    private TournamentLauncher() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Runs the tournament and prints the result as CSV.
+     *
+     * @param args options, see {@link #USAGE}
+     * @throws Exception if the tournament fails
+     */
+    public static void main(String[] args) throws Exception {
+        final Map<String, String> options = parseOptions(args);
+        final TournamentConfig config = new TournamentConfig(
+            parseList(options.getOrDefault("intelligences", "LEVEL_1,LEVEL_2,LEVEL_3,LEVEL_4"), Intelligence::valueOf),
+            parseList(options.getOrDefault("land-masses", "100,250"), Integer::valueOf),
+            parseList(options.getOrDefault("densities", "-3,0,3"), Float::valueOf),
+            Integer.parseInt(options.getOrDefault("games", "1000")),
+            Long.parseLong(options.getOrDefault("seed", "1")),
+            Integer.parseInt(options.getOrDefault("threads",
+                String.valueOf(Runtime.getRuntime().availableProcessors()))),
+            Integer.parseInt(options.getOrDefault("max-rounds", "1000")));
+        System.out.println("running tournament " + config);
+
+        final long startTime = System.currentTimeMillis();
+        final List<GameResult> results = new TournamentRunner(config).run();
+        final TournamentReport report = new TournamentReport(results, System.currentTimeMillis() - startTime);
+
+        System.out.println("played " + report.getGames() + " games in " + report.getWallTimeMs() + " ms, "
+            + report.getFinishedGames() + " of them until only one kingdom was left");
+        final Writer consoleWriter = new OutputStreamWriter(System.out, StandardCharsets.UTF_8);
+        report.writeCsv(consoleWriter);
+        if (options.containsKey("csv")) {
+            try (Writer writer = Files.newBufferedWriter(Paths.get(options.get("csv")), StandardCharsets.UTF_8)) {
+                report.writeCsv(writer);
+            }
+        }
+        if (options.containsKey("json")) {
+            try (Writer writer = Files.newBufferedWriter(Paths.get(options.get("json")), StandardCharsets.UTF_8)) {
+                report.writeJson(writer);
+            }
+        }
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        final List<String> knownOptions = Arrays.asList("games", "intelligences", "land-masses", "densities", "seed",
+            "threads", "max-rounds", "csv", "json");
+        final Map<String, String> result = new HashMap<>();
+        for (String arg : args) {
+            final int separatorIndex = arg.indexOf('=');
+            if (!arg.startsWith("--") || separatorIndex < 0
+                || !knownOptions.contains(arg.substring(2, separatorIndex))) {
+                throw new IllegalArgumentException("Invalid option '" + arg + "'. " + USAGE);
+            }
+            result.put(arg.substring(2, separatorIndex), arg.substring(separatorIndex + 1));
+        }
+        return result;
+    }
+
+    private static <T> List<T> parseList(String value, Function<String, T> parser) {
+        final List<T> result = new ArrayList<>();
+        for (String element : value.split(",")) {
+            result.add(parser.apply(element.trim()));
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,262 @@
+// SPDX-License-Identifier: GPL-3.0-or-later
+
+package de.sesu8642.feudaltactics.tournament;
+
+import com.badlogic.gdx.utils.JsonWriter;
+import com.badlogic.gdx.utils.JsonWriter.OutputType;
+import com.badlogic.gdx.utils.LongArray;
+import de.sesu8642.feudaltactics.lib.ingame.botai.Intelligence;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Summary of the results of a tournament per intelligence level.
+ */
+public class TournamentReport {
+
+    private static final String[] CSV_HEADER = {"intelligence", "players", "wins", "win_rate",
+        "mean_rounds_to_win", "median_rounds_to_win", "turns", "turn_cpu_ms_p50", "turn_cpu_ms_p90",
+        "turn_cpu_ms_p99", "turn_cpu_ms_max", "mean_allocated_kb_per_turn", "allocated_mb_per_cpu_second"};
+
+    @Getter
+    private final int games;
+
+    /**
+     * Number of games that were played until only one kingdom was left.
+     */
+    @Getter
+    private final int finishedGames;
+
+    @Getter
+    private final long wallTimeMs;
+
+    @Getter
+    private final List<Row> rows;
+
+    /**
+     * Constructor.
+     *
+     * @param results    results of all the games
+     * @param wallTimeMs time it took to play all the games
+     */
+    public TournamentReport(List<GameResult> results, long wallTimeMs) {
+        games = results.size();
+        finishedGames = (int) results.stream().filter(GameResult::isFinished).count();
+        this.wallTimeMs = wallTimeMs;
+
+        final Set<Intelligence> intelligences = EnumSet.noneOf(Intelligence.class);
+        final TurnMeasurements allTurnMeasurements = new TurnMeasurements();
+        for (GameResult result : results) {
+            intelligences.addAll(result.getPlayerIntelligences());
+            allTurnMeasurements.addAll(result.getTurnMeasurements());
+        }
+        final List<Row> calculatedRows = new ArrayList<>();
+        for (Intelligence intelligence : intelligences) {
+            calculatedRows.add(new Row(intelligence, results, allTurnMeasurements));
+        }
+        rows = Collections.unmodifiableList(calculatedRows);
+    }
+
+    /**
+     * Writes the report as CSV with one line per intelligence level.
+     *
+     * @param writer writer to write to
+     * @throws IOException if writing fails
+     */
+    public void writeCsv(Writer writer) throws IOException {
+        writer.write(String.join(",", CSV_HEADER));
+        writer.write('\n');
+        for (Row row : rows) {
+            final Object[] values = {row.intelligence, row.players, row.wins, row.winRate, row.meanRoundsToWin,
+                row.medianRoundsToWin, row.turns, row.turnCpuMsP50, row.turnCpuMsP90, row.turnCpuMsP99,
+                row.turnCpuMsMax, row.meanAllocatedKbPerTurn, row.allocatedMbPerCpuSecond};
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(formatCsvValue(values[i]));
+            }
+            writer.write('\n');
+        }
+        writer.flush();
+    }
+
+    /**
+     * Writes the report as JSON.
+     *
+     * @param writer writer to write to
+     * @throws IOException if writing fails
+     */
+    public void writeJson(Writer writer) throws IOException {
+        final JsonWriter jsonWriter = new JsonWriter(writer);
+        jsonWriter.setOutputType(OutputType.json);
+        jsonWriter.object();
+        jsonWriter.set("games", games);
+        jsonWriter.set("finishedGames", finishedGames);
+        jsonWriter.set("wallTimeMs", wallTimeMs);
+        jsonWriter.array("intelligences");
+        for (Row row : rows) {
+            jsonWriter.object();
+            jsonWriter.set("intelligence", row.intelligence.name());
+            jsonWriter.set("players", row.players);
+            jsonWriter.set("wins", row.wins);
+            jsonWriter.set("winRate", row.winRate);
+            jsonWriter.set("meanRoundsToWin", row.meanRoundsToWin);
+            jsonWriter.set("medianRoundsToWin", row.medianRoundsToWin);
+            jsonWriter.set("turns", row.turns);
+            jsonWriter.set("turnCpuMsP50", row.turnCpuMsP50);
+            jsonWriter.set("turnCpuMsP90", row.turnCpuMsP90);
+            jsonWriter.set("turnCpuMsP99", row.turnCpuMsP99);
+            jsonWriter.set("turnCpuMsMax", row.turnCpuMsMax);
+            jsonWriter.set("meanAllocatedKbPerTurn", row.meanAllocatedKbPerTurn);
+            jsonWriter.set("allocatedMbPerCpuSecond", row.allocatedMbPerCpuSecond);
+            jsonWriter.pop();
+        }
+        jsonWriter.pop();
+        jsonWriter.pop();
+        jsonWriter.flush();
+    }
+
+    private static String formatCsvValue(Object value) {
+        if (value == null) {
+            return "";
+        }
+        if (value instanceof Double) {
+            return String.format(Locale.ROOT, "%.4f", (Double) value);
+        }
+        return value.toString();
+    }
+
+    /**
+     * Returns the value below which the given share of the sorted values are.
+     *
+     * @param sortedValues values in ascending order, not empty
+     * @param share        share between 0 and 1
+     * @return percentile using the nearest rank method
+     */
+    static long percentile(long[] sortedValues, double share) {
+        final int rank = (int) Math.ceil(share * sortedValues.length);
+        return sortedValues[Math.max(rank - 1, 0)];
+    }
+
+    /**
+     * Results of one intelligence level. Values that could not be determined are null.
+     */
+    public static class Row {
+
+        @Getter
+        private final Intelligence intelligence;
+
+        /**
+         * Number of players with this intelligence in all the games.
+         */
+        @Getter
+        private final int players;
+
+        @Getter
+        private final int wins;
+
+        @Getter
+        private final double winRate;
+
+        @Getter
+        private final Double meanRoundsToWin;
+
+        @Getter
+        private final Long medianRoundsToWin;
+
+        @Getter
+        private final int turns;
+
+        @Getter
+        private final Double turnCpuMsP50;
+
+        @Getter
+        private final Double turnCpuMsP90;
+
+        @Getter
+        private final Double turnCpuMsP99;
+
+        @Getter
+        private final Double turnCpuMsMax;
+
+        @Getter
+        private final Double meanAllocatedKbPerTurn;
+
+        @Getter
+        private final Double allocatedMbPerCpuSecond;
+
+        private Row(Intelligence intelligence, List<GameResult> results, TurnMeasurements turnMeasurements) {
+            this.intelligence = intelligence;
+            int playerCount = 0;
+            final LongArray roundsToWin = new LongArray();
+            for (GameResult result : results) {
+                playerCount += Collections.frequency(result.getPlayerIntelligences(), intelligence);
+                if (result.getWinnerIntelligence() == intelligence) {
+                    roundsToWin.add(result.getWinningRound());
+                }
+            }
+            players = playerCount;
+            wins = roundsToWin.size;
+            winRate = players == 0 ? 0 : (double) wins / players;
+            if (roundsToWin.size > 0) {
+                final long[] sortedRoundsToWin = roundsToWin.toArray();
+                Arrays.sort(sortedRoundsToWin);
+                meanRoundsToWin = sum(sortedRoundsToWin) / (double) sortedRoundsToWin.length;
+                medianRoundsToWin = percentile(sortedRoundsToWin, 0.5);
+            } else {
+                meanRoundsToWin = null;
+                medianRoundsToWin = null;
+            }
+
+            final long[] sortedCpuNanos = turnMeasurements.getCpuNanos(intelligence).toArray();
+            Arrays.sort(sortedCpuNanos);
+            turns = sortedCpuNanos.length;
+            if (turns > 0) {
+                turnCpuMsP50 = nanosToMs(percentile(sortedCpuNanos, 0.5));
+                turnCpuMsP90 = nanosToMs(percentile(sortedCpuNanos, 0.9));
+                turnCpuMsP99 = nanosToMs(percentile(sortedCpuNanos, 0.99));
+                turnCpuMsMax = nanosToMs(sortedCpuNanos[turns - 1]);
+            } else {
+                turnCpuMsP50 = null;
+                turnCpuMsP90 = null;
+                turnCpuMsP99 = null;
+                turnCpuMsMax = null;
+            }
+
+            final long[] allocatedBytes = turnMeasurements.getAllocatedBytes(intelligence).toArray();
+            final long totalCpuNanos = sum(sortedCpuNanos);
+            if (allocatedBytes.length > 0) {
+                final long totalAllocatedBytes = sum(allocatedBytes);
+                meanAllocatedKbPerTurn = totalAllocatedBytes / 1024D / allocatedBytes.length;
+                allocatedMbPerCpuSecond = totalCpuNanos == 0 ? null
+                    : totalAllocatedBytes / (1024D * 1024D) / (totalCpuNanos / 1E9);
+            } else {
+                meanAllocatedKbPerTurn = null;
+                allocatedMbPerCpuSecond = null;
+            }
+        }
+
+        private static long sum(long[] values) {
+            long result = 0;
+            for (long value : values) {
+                result += value;
+            }
+            return result;
+        }
+
+        private static double nanosToMs(long nanos) {
+            return nanos / 1E6;
+        }
+    }
+
+}
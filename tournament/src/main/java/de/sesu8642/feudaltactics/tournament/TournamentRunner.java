@@ -0,0 +1,170 @@
+// SPDX-License-Identifier: GPL-3.0-or-later
+
+package de.sesu8642.feudaltactics.tournament;
+
+import com.google.common.eventbus.EventBus;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import de.sesu8642.feudaltactics.lib.gamestate.GameState;
+import de.sesu8642.feudaltactics.lib.gamestate.GameStateHelper;
+import de.sesu8642.feudaltactics.lib.gamestate.Player;
+import de.sesu8642.feudaltactics.lib.gamestate.Player.Type;
+import de.sesu8642.feudaltactics.lib.ingame.botai.BotAi;
+import de.sesu8642.feudaltactics.lib.ingame.botai.BotExecutionEngine;
+import de.sesu8642.feudaltactics.lib.ingame.botai.Intelligence;
+import de.sesu8642.feudaltactics.lib.ingame.botai.Speed;
+import de.sesu8642.feudaltactics.localization.SupportedLanguage;
+import de.sesu8642.feudaltactics.menu.preferences.MainGamePreferences;
+import de.sesu8642.feudaltactics.menu.preferences.MainPreferencesDao;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Plays bot-only games without any GUI, several of them in parallel. Every game is played by a single thread, so
+ * the CPU time and allocations of the turns can be measured per thread.
+ */
+public class TournamentRunner {
+
+    private static final float VEGETATION_DENSITY = 0.2F;
+
+    private final Logger logger = LoggerFactory.getLogger(getClass().getName());
+
+    private final TournamentConfig config;
+    private final ThreadMXBean threadMxBean = ManagementFactory.getThreadMXBean();
+    private final boolean cpuTimeSupported;
+    private final boolean allocationsSupported;
+
+    /**
+     * Constructor.
+     *
+     * @param config settings of the tournament
+     */
+    public TournamentRunner(TournamentConfig config) {
+        this.config = config;
+        cpuTimeSupported = threadMxBean.isCurrentThreadCpuTimeSupported();
+        if (cpuTimeSupported && !threadMxBean.isThreadCpuTimeEnabled()) {
+            threadMxBean.setThreadCpuTimeEnabled(true);
+        }
+        allocationsSupported = threadMxBean instanceof com.sun.management.ThreadMXBean
+            && ((com.sun.management.ThreadMXBean) threadMxBean).isThreadAllocatedMemorySupported();
+        if (allocationsSupported) {
+            ((com.sun.management.ThreadMXBean) threadMxBean).setThreadAllocatedMemoryEnabled(true);
+        }
+        if (!cpuTimeSupported) {
+            logger.warn("measuring the CPU time is not supported, using the wall time instead");
+        }
+    }
+
+    /**
+     * Plays all the games.
+     *
+     * @return results ordered by game index
+     * @throws InterruptedException if interrupted while waiting for the games
+     */
+    public List<GameResult> run() throws InterruptedException {
+        final ExecutorService executor = Executors.newFixedThreadPool(config.getThreads(),
+            new ThreadFactoryBuilder().setNameFormat("tournament-%d").setDaemon(true).build());
+        // every thread has its own bot, so that the bots do not share their calculation threads
+        final ThreadLocal<BotAi> botAis = ThreadLocal.withInitial(TournamentRunner::createBotAi);
+        final AtomicInteger finishedGames = new AtomicInteger();
+        try {
+            final List<Future<GameResult>> futures = new ArrayList<>(config.getGames());
+            for (int i = 0; i < config.getGames(); i++) {
+                final int gameIndex = i;
+                futures.add(executor.submit(() -> {
+                    final GameResult result = playGame(botAis.get(), gameIndex);
+                    final int finishedCount = finishedGames.incrementAndGet();
+                    if (finishedCount % 100 == 0) {
+                        logger.info("finished {} of {} games", finishedCount, config.getGames());
+                    }
+                    return result;
+                }));
+            }
+            final List<GameResult> results = new ArrayList<>(futures.size());
+            for (Future<GameResult> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("A tournament game failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Plays a single game until only one kingdom is left or the maximum number of rounds is reached.
+     *
+     * @param botAi     bot to do the turns with
+     * @param gameIndex index of the game
+     * @return result of the game
+     * @throws InterruptedException if interrupted during a turn
+     */
+    GameResult playGame(BotAi botAi, int gameIndex) throws InterruptedException {
+        final List<Player> players = new ArrayList<>();
+        final List<Intelligence> playerIntelligences = new ArrayList<>();
+        for (int i = 0; i < config.getIntelligenceMix().size(); i++) {
+            players.add(new Player(i, Type.LOCAL_BOT));
+            playerIntelligences.add(config.getIntelligence(gameIndex, i));
+        }
+        final GameState gameState = new GameState();
+        GameStateHelper.initializeMap(gameState, players, config.getLandMass(gameIndex),
+            config.getDensity(gameIndex), VEGETATION_DENSITY, config.getSeed(gameIndex));
+
+        final TurnMeasurements turnMeasurements = new TurnMeasurements();
+        while (gameState.getKingdoms().size() > 1 && gameState.getRound() <= config.getMaxRounds()) {
+            final Intelligence intelligence = playerIntelligences.get(gameState.getActivePlayer().getPlayerIndex());
+            final long cpuNanosBefore = getCurrentThreadCpuNanos();
+            final long allocatedBytesBefore = getCurrentThreadAllocatedBytes();
+            botAi.doTurn(gameState, intelligence);
+            final long cpuNanos = getCurrentThreadCpuNanos() - cpuNanosBefore;
+            final long allocatedBytes = allocationsSupported
+                ? getCurrentThreadAllocatedBytes() - allocatedBytesBefore : -1;
+            turnMeasurements.add(intelligence, cpuNanos, allocatedBytes);
+            GameStateHelper.endTurn(gameState);
+        }
+
+        final Player winner = gameState.getWinner();
+        return new GameResult(gameIndex, Collections.unmodifiableList(playerIntelligences),
+            winner == null ? null : winner.getPlayerIndex(), gameState.getWinningRound(),
+            Math.min(gameState.getRound(), config.getMaxRounds()), gameState.getKingdoms().size() <= 1,
+            turnMeasurements);
+    }
+
+    private long getCurrentThreadCpuNanos() {
+        return cpuTimeSupported ? threadMxBean.getCurrentThreadCpuTime() : System.nanoTime();
+    }
+
+    private long getCurrentThreadAllocatedBytes() {
+        if (!allocationsSupported) {
+            return -1;
+        }
+        return ((com.sun.management.ThreadMXBean) threadMxBean).getThreadAllocatedBytes(
+            Thread.currentThread().getId());
+    }
+
+    private static BotAi createBotAi() {
+        // the bots only read the preferences to limit how long they search
+        final MainGamePreferences preferences = new MainGamePreferences(false, false, Speed.NORMAL,
+            SupportedLanguage.AUTO);
+        final MainPreferencesDao preferencesDao = new MainPreferencesDao(null) {
+            @Override
+            public MainGamePreferences getMainPreferences() {
+                return preferences;
+            }
+        };
+        // a single calculation thread means that the calculations happen in the thread playing the game
+        return new BotAi(new EventBus(), preferencesDao, new BotExecutionEngine(1));
+    }
+
+}
@@ -0,0 +1,65 @@
+// SPDX-License-Identifier: GPL-3.0-or-later
+
+package de.sesu8642.feudaltactics.tournament;
+
+import com.badlogic.gdx.utils.LongArray;
+import de.sesu8642.feudaltactics.lib.ingame.botai.Intelligence;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * CPU time and allocated memory of the bot turns, grouped by the intelligence of the bot. Not thread safe.
+ */
+public class TurnMeasurements {
+
+    private final Map<Intelligence, LongArray> cpuNanos = new EnumMap<>(Intelligence.class);
+    private final Map<Intelligence, LongArray> allocatedBytes = new EnumMap<>(Intelligence.class);
+
+    /**
+     * Adds the measurements of a turn.
+     *
+     * @param intelligence   intelligence of the bot
+     * @param cpuNanos       CPU time of the turn
+     * @param allocatedBytes memory allocated during the turn or a negative value if it could not be measured
+     */
+    public void add(Intelligence intelligence, long cpuNanos, long allocatedBytes) {
+        this.cpuNanos.computeIfAbsent(intelligence, key -> new LongArray()).add(cpuNanos);
+        if (allocatedBytes >= 0) {
+            this.allocatedBytes.computeIfAbsent(intelligence, key -> new LongArray()).add(allocatedBytes);
+        }
+    }
+
+    /**
+     * Adds all the measurements of another instance.
+     *
+     * @param other measurements to add
+     */
+    public void addAll(TurnMeasurements other) {
+        other.cpuNanos.forEach((intelligence, values) ->
+            cpuNanos.computeIfAbsent(intelligence, key -> new LongArray()).addAll(values));
+        other.allocatedBytes.forEach((intelligence, values) ->
+            allocatedBytes.computeIfAbsent(intelligence, key -> new LongArray()).addAll(values));
+    }
+
+    /**
+     * Returns the CPU times of the turns of bots with the given intelligence.
+     *
+     * @param intelligence intelligence of the bots
+     * @return CPU times in nanoseconds; must not be modified
+     */
+    public LongArray getCpuNanos(Intelligence intelligence) {
+        return cpuNanos.getOrDefault(intelligence, new LongArray());
+    }
+
+    /**
+     * Returns the memory allocated during the turns of bots with the given intelligence.
+     *
+     * @param intelligence intelligence of the bots
+     * @return allocated bytes; empty if allocations cannot be measured; must not be modified
+     */
+    public LongArray getAllocatedBytes(Intelligence intelligence) {
+        return allocatedBytes.getOrDefault(intelligence, new LongArray());
+    }
+
+}
@@ -0,0 +1,77 @@
+// SPDX-License-Identifier: GPL-3.0-or-later
+
+package de.sesu8642.feudaltactics.tournament;
+
+import de.sesu8642.feudaltactics.lib.ingame.botai.Intelligence;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Tests for TournamentReport class.
+ */
+class TournamentReportTest {
+
+    private static GameResult createResult(int gameIndex, Integer winnerIndex, Integer winningRound,
+                                           long... level1CpuNanos) {
+        final TurnMeasurements turnMeasurements = new TurnMeasurements();
+        for (long cpuNanos : level1CpuNanos) {
+            turnMeasurements.add(Intelligence.LEVEL_1, cpuNanos, 2048);
+        }
+        return new GameResult(gameIndex, Arrays.asList(Intelligence.LEVEL_1, Intelligence.LEVEL_4), winnerIndex,
+            winningRound, 10, winnerIndex != null, turnMeasurements);
+    }
+
+    @Test
+    void percentileUsesTheNearestRank() {
+        final long[] sortedValues = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10};
+
+        assertEquals(5, TournamentReport.percentile(sortedValues, 0.5));
+        assertEquals(9, TournamentReport.percentile(sortedValues, 0.9));
+        assertEquals(10, TournamentReport.percentile(sortedValues, 0.99));
+        assertEquals(1, TournamentReport.percentile(sortedValues, 0));
+    }
+
+    @Test
+    void rowsContainWinRatesAndTurnStatistics() {
+        final List<GameResult> results = Arrays.asList(createResult(0, 0, 4, 3_000_000L, 1_000_000L),
+            createResult(1, 1, 8), createResult(2, 0, 6, 2_000_000L), createResult(3, null, null));
+
+        final TournamentReport report = new TournamentReport(results, 1);
+
+        assertEquals(4, report.getGames());
+        assertEquals(3, report.getFinishedGames());
+        final TournamentReport.Row level1Row = report.getRows().get(0);
+        assertEquals(Intelligence.LEVEL_1, level1Row.getIntelligence());
+        assertEquals(4, level1Row.getPlayers());
+        assertEquals(2, level1Row.getWins());
+        assertEquals(0.5, level1Row.getWinRate());
+        assertEquals(5.0, level1Row.getMeanRoundsToWin());
+        assertEquals(3, level1Row.getTurns());
+        assertEquals(2.0, level1Row.getTurnCpuMsP50());
+        assertEquals(3.0, level1Row.getTurnCpuMsMax());
+        assertEquals(2.0, level1Row.getMeanAllocatedKbPerTurn());
+        final TournamentReport.Row level4Row = report.getRows().get(1);
+        assertEquals(1, level4Row.getWins());
+        assertEquals(0, level4Row.getTurns());
+        assertNull(level4Row.getTurnCpuMsP50());
+    }
+
+    @Test
+    void csvHasOneLinePerIntelligence() throws Exception {
+        final TournamentReport report = new TournamentReport(Arrays.asList(createResult(0, 1, 3, 1_000_000L)), 1);
+        final StringWriter writer = new StringWriter();
+
+        report.writeCsv(writer);
+
+        final String[] lines = writer.toString().split("\n");
+        assertEquals(3, lines.length);
+        assertEquals("LEVEL_4,1,1,1.0000,3.0000,3,0,,,,,,", lines[2]);
+    }
+
+}
@@ -0,0 +1,51 @@
+// SPDX-License-Identifier: GPL-3.0-or-later
+
+package de.sesu8642.feudaltactics.tournament;
+
+import de.sesu8642.feudaltactics.lib.ingame.botai.Intelligence;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for TournamentRunner class.
+ */
+class TournamentRunnerTest {
+
+    private static TournamentConfig createConfig(int threads) {
+        return new TournamentConfig(Arrays.asList(Intelligence.LEVEL_1, Intelligence.LEVEL_4),
+            Collections.singletonList(50), Arrays.asList(-3F, 3F), 4, 42L, threads, 1000);
+    }
+
+    @Test
+    void everyGameIsPlayedWithRotatedPlayers() throws Exception {
+        final List<GameResult> results = new TournamentRunner(createConfig(2)).run();
+
+        assertEquals(4, results.size());
+        for (int i = 0; i < results.size(); i++) {
+            final GameResult result = results.get(i);
+            assertEquals(i, result.getGameIndex());
+            assertTrue(result.isFinished());
+            assertEquals(i % 2 == 0 ? Arrays.asList(Intelligence.LEVEL_1, Intelligence.LEVEL_4)
+                : Arrays.asList(Intelligence.LEVEL_4, Intelligence.LEVEL_1), result.getPlayerIntelligences());
+            assertTrue(result.getTurnMeasurements().getCpuNanos(Intelligence.LEVEL_4).size > 0);
+        }
+    }
+
+    @Test
+    void resultsDoNotDependOnTheNumberOfThreads() throws Exception {
+        final List<Integer> winnersWithOneThread = new TournamentRunner(createConfig(1)).run().stream()
+            .map(GameResult::getWinnerIndex).collect(Collectors.toList());
+        final List<Integer> winnersWithTwoThreads = new TournamentRunner(createConfig(2)).run().stream()
+            .map(GameResult::getWinnerIndex).collect(Collectors.toList());
+
+        assertEquals(winnersWithOneThread, winnersWithTwoThreads);
+    }
+
+}